@@ -28,6 +28,7 @@ POSSIBILITY OF SUCH DAMAGE.
 ================================================================================*/
 
 package com.vmware.vim.cf;
+import java.util.Collections;
 import java.util.Map;
 
 import com.vmware.vim25.ManagedObjectReference;
@@ -44,16 +45,33 @@ public class CacheInstance
   ServiceInstance si = null;
 	ManagedObjectWatcher mom = null;
 	ManagedObjectCache cache = null;
+	ColumnarSnapshotStore store = null;
 	Thread mThread = null;
+	private final static long STOP_TIMEOUT = 10 * 1000;
 	
 	public CacheInstance(ServiceInstance si)
 	{
 	  this.si = si;
-		mom = new ManagedObjectWatcher(si.getPropertyCollector());
+		mom = new ManagedObjectWatcher(si);
 		cache = new ManagedObjectCache(si);
 		mom.addObserver(cache);
 	}
 	
+	/**
+	 * Create a CacheInstance keeping the properties in the columns of the 
+	 * store instead of a map per managed object. Only the properties with a 
+	 * column are kept.
+	 * @param si the ServiceInstance
+	 * @param store the store with the columns added
+	 */
+	public CacheInstance(ServiceInstance si, ColumnarSnapshotStore store)
+	{
+	  this.si = si;
+	  this.store = store;
+		mom = new ManagedObjectWatcher(si);
+		mom.addObserver(store);
+	}
+	
 	/**
 	 * Add the managed objects and their properties to be watched.
 	 * @param mos array of managed objects. 
@@ -74,6 +92,17 @@ public class CacheInstance
 		mom.watch(pfs);
 	}
 
+	/**
+	 * Set how long a wait for updates lasts on the server and how many 
+	 * objects an update carries at most. Called before start().
+	 * @param maxWaitSeconds seconds, by default 60
+	 * @param maxObjectUpdates number of objects, by default 1000
+	 */
+	public void setWaitOptions(int maxWaitSeconds, int maxObjectUpdates)
+	{
+		mom.setWaitOptions(maxWaitSeconds, maxObjectUpdates);
+	}
+
 	/**
 	 * Get a copy of the cached property. You can change the returned
 	 * object as you like
@@ -84,15 +113,7 @@ public class CacheInstance
 	 */
 	public Object getCopy(ManagedObject mo, String propName)
   {
-     Object obj = get(mo.getMOR(), propName);
-     try
-     {
-       obj = DeepCopier.deepCopy(obj);
-     } catch(Exception e)
-     {
-       throw new RuntimeException(e);
-     }
-     return obj;
+     return getCopy(mo.getMOR(), propName);
    }
 
 	/**
@@ -105,7 +126,42 @@ public class CacheInstance
 	 */
   public Object getCopy(ManagedObjectReference mor, String propName)
   {
-    return getCopy(mor, propName);
+    Object obj = get(mor, propName);
+    try
+    {
+      obj = DeepCopier.deepCopy(obj);
+    } catch(Exception e)
+    {
+      throw new RuntimeException(e);
+    }
+    return obj;
+  }
+  
+  /**
+   * Get a read-only view of all the cached properties of a managed object
+   * as of one update, without copying any of them. Later updates don't 
+   * change the view. Like with get(), you should NEVER change the data 
+   * objects in it; use getCopy() for that.
+   * @param mor Managed object reference
+   * @return map of property name to value, with NullObject.NULL for null 
+   * values; an empty map if the managed object is not cached
+   */
+  public Map<String, Object> getSnapshot(ManagedObjectReference mor)
+  {
+    if(store!=null)
+    {
+      return store.getSnapshot(mor);
+    }
+    Map<String, Object> moMap = cache.getCachedItems().get(mor);
+    return moMap==null ? Collections.<String, Object>emptyMap() : moMap;
+  }
+  
+  /**
+   * @see #getSnapshot(ManagedObjectReference)
+   */
+  public Map<String, Object> getSnapshot(ManagedObject mo)
+  {
+    return getSnapshot(mo.getMOR());
   }
    
   /**
@@ -131,6 +187,10 @@ public class CacheInstance
 	 */
 	public Object get(ManagedObjectReference mor, String propName)
 	{
+	  if(store!=null)
+	  {
+	    return store.get(mor, propName);
+	  }
 	  Map<ManagedObjectReference, Map<String, Object>> items = cache.getCachedItems();
 	  
     Map<String, Object> moMap =  items.get(mor);
@@ -157,14 +217,33 @@ public class CacheInstance
 	 */
 	public void destroy()
 	{
+		mom.stop();
+		if(mThread!=null)
+		{
+			try
+			{
+				mThread.join(STOP_TIMEOUT);
+			} catch(InterruptedException ie)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
 		mom.cleanUp();
-		mThread.stop();
 		si = null;
 		mom = null;
 		cache = null;
+		store = null;
 		mThread = null;
 	}
 	
+	/**
+	 * @return the columnar store, null if the properties are kept in maps
+	 */
+	public ColumnarSnapshotStore getStore()
+	{
+	  return store;
+	}
+	
 	/**
 	 * Get the corresponding ServiceInstance
 	 * @return ServiceInstance object
@@ -179,6 +258,6 @@ public class CacheInstance
 	 */
 	public boolean isReady()
 	{
-		return cache.isReady();
+		return store!=null ? store.isReady() : cache.isReady();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,751 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim.cf;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Observable;
+import java.util.Observer;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.ObjectUpdate;
+import com.vmware.vim25.ObjectUpdateKind;
+import com.vmware.vim25.PropertyChange;
+import com.vmware.vim25.PropertyChangeOp;
+import com.vmware.vim25.PropertyFilterUpdate;
+
+import static com.vmware.vim.cf.NullObject.NULL;
+
+/**
+ * A cache backend keeping selected scalar properties in columns of 
+ * primitive arrays instead of a map of boxed values per managed object.
+ * Each managed object gets a row, and each property a column of int, long,
+ * boolean, enum ordinal, or string id into a table of distinct strings.
+ * 
+ * The columns are added before the CacheInstance starts, with the paths 
+ * of the watched properties, for example summary.quickStats.overallCpuUsage.
+ * Changes to other properties are ignored. 
+ * 
+ * A row is found with one lookup of the managed object reference, and the
+ * get*Column methods copy out a whole column for scans over all the objects.
+ * Updates and reads can come from different threads.
+ * 
+ * @author Steve JIN (sjin@vmware.com)
+ */
+
+public class ColumnarSnapshotStore implements Observer
+{
+    private final static int INITIAL_ROWS = 64;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Column> columns = new HashMap<String, Column>();
+    private final Map<ManagedObjectReference, Integer> rows = new HashMap<ManagedObjectReference, Integer>();
+    private ManagedObjectReference[] mors = new ManagedObjectReference[INITIAL_ROWS];
+    private int rowCount = 0;
+    private int[] freeRows = new int[INITIAL_ROWS];
+    private int freeCount = 0;
+    private volatile boolean isReady = false;
+    
+    public void addIntColumn(String propName)
+    {
+        addColumn(propName, new IntColumn());
+    }
+    
+    /**
+     * Add a column of long values. Calendar values are kept as milliseconds.
+     */
+    public void addLongColumn(String propName)
+    {
+        addColumn(propName, new LongColumn());
+    }
+    
+    public void addBooleanColumn(String propName)
+    {
+        addColumn(propName, new BooleanColumn());
+    }
+    
+    public void addEnumColumn(String propName, Class<? extends Enum<?>> enumClass)
+    {
+        addColumn(propName, new EnumColumn(enumClass));
+    }
+    
+    /**
+     * Add a column of strings. Equal strings are kept once in a table, 
+     * which keeps the strings no longer used as well.
+     */
+    public void addStringColumn(String propName)
+    {
+        addColumn(propName, new StringColumn());
+    }
+    
+    private void addColumn(String propName, Column column)
+    {
+        lock.writeLock().lock();
+        try
+        {
+            column.grow(mors.length);
+            columns.put(propName, column);
+        } finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void update(Observable obj, Object arg)
+    {
+        if (arg instanceof PropertyFilterUpdate[])
+        {
+            PropertyFilterUpdate[] pfus = (PropertyFilterUpdate[]) arg;
+            lock.writeLock().lock();
+            try
+            {
+                for(int i=0; pfus!=null && i< pfus.length; i++)
+                {
+                    ObjectUpdate[] ous = pfus[i].getObjectSet();
+                    for(int j=0; ous!=null && j < ous.length; j++)
+                    {
+                        if(ous[j].getKind()==ObjectUpdateKind.leave)
+                        {
+                            removeRow(ous[j].getObj());
+                            continue;
+                        }
+                        PropertyChange[] pcs = ous[j].getChangeSet();
+                        int row = getOrAddRow(ous[j].getObj());
+                        for(int k=0; pcs!=null && k < pcs.length; k++)
+                        {
+                            Column column = columns.get(pcs[k].getName());
+                            if(column==null)
+                            {
+                                continue;
+                            }
+                            Object value = pcs[k].getVal();
+                            PropertyChangeOp op = pcs[k].getOp();
+                            if(value==null || op==PropertyChangeOp.remove || op==PropertyChangeOp.indirectRemove
+                                || !column.put(row, value))
+                            {
+                                column.clear(row);
+                            }
+                        }
+                    }
+                }
+            } finally
+            {
+                lock.writeLock().unlock();
+            }
+        }
+        // the first update may come in truncated pieces
+        if(!(obj instanceof ManagedObjectWatcher) || !((ManagedObjectWatcher) obj).isTruncated())
+        {
+            isReady = true;
+        }
+    }
+    
+    private int getOrAddRow(ManagedObjectReference mor)
+    {
+        Integer row = rows.get(mor);
+        if(row!=null)
+        {
+            return row.intValue();
+        }
+        int r;
+        if(freeCount > 0)
+        {
+            r = freeRows[--freeCount];
+        }
+        else
+        {
+            if(rowCount==mors.length)
+            {
+                int capacity = mors.length * 2;
+                ManagedObjectReference[] newMors = new ManagedObjectReference[capacity];
+                System.arraycopy(mors, 0, newMors, 0, rowCount);
+                mors = newMors;
+                for(Column column : columns.values())
+                {
+                    column.grow(capacity);
+                }
+            }
+            r = rowCount++;
+        }
+        mors[r] = mor;
+        rows.put(mor, new Integer(r));
+        return r;
+    }
+    
+    private void removeRow(ManagedObjectReference mor)
+    {
+        Integer row = rows.remove(mor);
+        if(row==null)
+        {
+            return;
+        }
+        int r = row.intValue();
+        mors[r] = null;
+        for(Column column : columns.values())
+        {
+            column.clear(r);
+        }
+        if(freeCount==freeRows.length)
+        {
+            int[] newFree = new int[freeRows.length * 2];
+            System.arraycopy(freeRows, 0, newFree, 0, freeCount);
+            freeRows = newFree;
+        }
+        freeRows[freeCount++] = r;
+    }
+    
+    /**
+     * @return the row of the managed object, -1 if it's not in the store
+     */
+    public int getRow(ManagedObjectReference mor)
+    {
+        lock.readLock().lock();
+        try
+        {
+            Integer row = rows.get(mor);
+            return row==null ? -1 : row.intValue();
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return the number of rows, including those of the managed objects 
+     * removed which have null as their managed object reference
+     */
+    public int getRowCount()
+    {
+        lock.readLock().lock();
+        try
+        {
+            return rowCount;
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return the managed object references by row, null for an unused row
+     */
+    public ManagedObjectReference[] getMORs()
+    {
+        lock.readLock().lock();
+        try
+        {
+            ManagedObjectReference[] result = new ManagedObjectReference[rowCount];
+            System.arraycopy(mors, 0, result, 0, rowCount);
+            return result;
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Get the value of a property of a managed object, boxed.
+     * @return the value; NullObject.NULL if the property has no value; null
+     * if the managed object or the property isn't in the store
+     */
+    public Object get(ManagedObjectReference mor, String propName)
+    {
+        lock.readLock().lock();
+        try
+        {
+            Integer row = rows.get(mor);
+            Column column = columns.get(propName);
+            if(row==null || column==null)
+            {
+                return null;
+            }
+            int r = row.intValue();
+            return column.isSet(r) ? column.get(r) : NULL;
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Get the values of all the columns of a managed object at once.
+     * @return a new map of property name to boxed value, NullObject.NULL for 
+     * properties without a value; an empty map if the managed object isn't 
+     * in the store
+     */
+    public Map<String, Object> getSnapshot(ManagedObjectReference mor)
+    {
+        lock.readLock().lock();
+        try
+        {
+            Map<String, Object> snapshot = new HashMap<String, Object>();
+            Integer row = rows.get(mor);
+            if(row==null)
+            {
+                return snapshot;
+            }
+            int r = row.intValue();
+            for(Map.Entry<String, Column> e : columns.entrySet())
+            {
+                Column column = e.getValue();
+                snapshot.put(e.getKey(), column.isSet(r) ? column.get(r) : NULL);
+            }
+            return snapshot;
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return true if the property of the managed object at the row has a value
+     */
+    public boolean isSet(int row, String propName)
+    {
+        lock.readLock().lock();
+        try
+        {
+            return getColumn(propName, Column.class).isSet(row);
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return the value at the row, 0 if not set
+     */
+    public int getInt(int row, String propName)
+    {
+        lock.readLock().lock();
+        try
+        {
+            return getColumn(propName, IntColumn.class).values[row];
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return the value at the row, 0 if not set
+     */
+    public long getLong(int row, String propName)
+    {
+        lock.readLock().lock();
+        try
+        {
+            return getColumn(propName, LongColumn.class).values[row];
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return the value at the row, false if not set
+     */
+    public boolean getBoolean(int row, String propName)
+    {
+        lock.readLock().lock();
+        try
+        {
+            return getColumn(propName, BooleanColumn.class).getBit(row);
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return the enum value at the row, null if not set
+     */
+    public Enum<?> getEnum(int row, String propName)
+    {
+        lock.readLock().lock();
+        try
+        {
+            EnumColumn column = getColumn(propName, EnumColumn.class);
+            return column.isSet(row) ? column.constants[column.ordinals[row]] : null;
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return the string at the row, null if not set
+     */
+    public String getString(int row, String propName)
+    {
+        lock.readLock().lock();
+        try
+        {
+            StringColumn column = getColumn(propName, StringColumn.class);
+            return column.isSet(row) ? column.strings.get(column.ids[row]) : null;
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return a copy of the column by row, with 0 for the rows without value
+     */
+    public int[] getIntColumn(String propName)
+    {
+        lock.readLock().lock();
+        try
+        {
+            int[] result = new int[rowCount];
+            System.arraycopy(getColumn(propName, IntColumn.class).values, 0, result, 0, rowCount);
+            return result;
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return a copy of the column by row, with 0 for the rows without value
+     */
+    public long[] getLongColumn(String propName)
+    {
+        lock.readLock().lock();
+        try
+        {
+            long[] result = new long[rowCount];
+            System.arraycopy(getColumn(propName, LongColumn.class).values, 0, result, 0, rowCount);
+            return result;
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return a copy of the ordinals by row, with -1 for the rows without value
+     */
+    public int[] getEnumOrdinalColumn(String propName)
+    {
+        lock.readLock().lock();
+        try
+        {
+            EnumColumn column = getColumn(propName, EnumColumn.class);
+            int[] result = new int[rowCount];
+            for(int i=0; i<rowCount; i++)
+            {
+                result[i] = column.isSet(i) ? column.ordinals[i] : -1;
+            }
+            return result;
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return a copy of the column by row, with null for the rows without value
+     */
+    public String[] getStringColumn(String propName)
+    {
+        lock.readLock().lock();
+        try
+        {
+            StringColumn column = getColumn(propName, StringColumn.class);
+            String[] result = new String[rowCount];
+            for(int i=0; i<rowCount; i++)
+            {
+                result[i] = column.isSet(i) ? column.strings.get(column.ids[i]) : null;
+            }
+            return result;
+        } finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public boolean isReady()
+    {
+        return isReady;
+    }
+    
+    private <T extends Column> T getColumn(String propName, Class<T> type)
+    {
+        Column column = columns.get(propName);
+        if(!type.isInstance(column))
+        {
+            throw new IllegalArgumentException("No " + type.getSimpleName() + " for " + propName);
+        }
+        return type.cast(column);
+    }
+    
+    private abstract static class Column
+    {
+        private long[] set = new long[0];
+        
+        boolean isSet(int row)
+        {
+            return (set[row >>> 6] & (1L << row)) != 0;
+        }
+        
+        void mark(int row)
+        {
+            set[row >>> 6] |= 1L << row;
+        }
+        
+        void clear(int row)
+        {
+            set[row >>> 6] &= ~(1L << row);
+        }
+        
+        void grow(int capacity)
+        {
+            set = grow(set, (capacity + 63) >>> 6);
+        }
+        
+        static long[] grow(long[] array, int length)
+        {
+            long[] result = new long[length];
+            System.arraycopy(array, 0, result, 0, array.length);
+            return result;
+        }
+        
+        /**
+         * @return false if the value isn't of the type of the column
+         */
+        abstract boolean put(int row, Object value);
+        
+        abstract Object get(int row);
+    }
+    
+    private static class IntColumn extends Column
+    {
+        int[] values = new int[0];
+        
+        void grow(int capacity)
+        {
+            super.grow(capacity);
+            int[] result = new int[capacity];
+            System.arraycopy(values, 0, result, 0, values.length);
+            values = result;
+        }
+        
+        void clear(int row)
+        {
+            super.clear(row);
+            values[row] = 0;
+        }
+        
+        boolean put(int row, Object value)
+        {
+            if(!(value instanceof Number))
+            {
+                return false;
+            }
+            values[row] = ((Number) value).intValue();
+            mark(row);
+            return true;
+        }
+        
+        Object get(int row)
+        {
+            return new Integer(values[row]);
+        }
+    }
+    
+    private static class LongColumn extends Column
+    {
+        long[] values = new long[0];
+        
+        void grow(int capacity)
+        {
+            super.grow(capacity);
+            values = grow(values, capacity);
+        }
+        
+        void clear(int row)
+        {
+            super.clear(row);
+            values[row] = 0;
+        }
+        
+        boolean put(int row, Object value)
+        {
+            if(value instanceof Number)
+            {
+                values[row] = ((Number) value).longValue();
+            }
+            else if(value instanceof Calendar)
+            {
+                values[row] = ((Calendar) value).getTimeInMillis();
+            }
+            else
+            {
+                return false;
+            }
+            mark(row);
+            return true;
+        }
+        
+        Object get(int row)
+        {
+            return new Long(values[row]);
+        }
+    }
+    
+    private static class BooleanColumn extends Column
+    {
+        private long[] bits = new long[0];
+        
+        boolean getBit(int row)
+        {
+            return (bits[row >>> 6] & (1L << row)) != 0;
+        }
+        
+        void grow(int capacity)
+        {
+            super.grow(capacity);
+            bits = grow(bits, (capacity + 63) >>> 6);
+        }
+        
+        void clear(int row)
+        {
+            super.clear(row);
+            bits[row >>> 6] &= ~(1L << row);
+        }
+        
+        boolean put(int row, Object value)
+        {
+            if(!(value instanceof Boolean))
+            {
+                return false;
+            }
+            if(((Boolean) value).booleanValue())
+            {
+                bits[row >>> 6] |= 1L << row;
+            }
+            else
+            {
+                bits[row >>> 6] &= ~(1L << row);
+            }
+            mark(row);
+            return true;
+        }
+        
+        Object get(int row)
+        {
+            return Boolean.valueOf(getBit(row));
+        }
+    }
+    
+    private static class EnumColumn extends Column
+    {
+        final Class<?> enumClass;
+        final Enum<?>[] constants;
+        byte[] ordinals = new byte[0];
+        
+        EnumColumn(Class<? extends Enum<?>> enumClass)
+        {
+            this.enumClass = enumClass;
+            this.constants = enumClass.getEnumConstants();
+            if(constants.length > Byte.MAX_VALUE)
+            {
+                throw new IllegalArgumentException("Too many constants in " + enumClass.getName());
+            }
+        }
+        
+        void grow(int capacity)
+        {
+            super.grow(capacity);
+            byte[] result = new byte[capacity];
+            System.arraycopy(ordinals, 0, result, 0, ordinals.length);
+            ordinals = result;
+        }
+        
+        boolean put(int row, Object value)
+        {
+            if(!enumClass.isInstance(value))
+            {
+                return false;
+            }
+            ordinals[row] = (byte) ((Enum<?>) value).ordinal();
+            mark(row);
+            return true;
+        }
+        
+        Object get(int row)
+        {
+            return constants[ordinals[row]];
+        }
+    }
+    
+    private static class StringColumn extends Column
+    {
+        final List<String> strings = new ArrayList<String>();
+        final Map<String, Integer> stringIds = new HashMap<String, Integer>();
+        int[] ids = new int[0];
+        
+        void grow(int capacity)
+        {
+            super.grow(capacity);
+            int[] result = new int[capacity];
+            System.arraycopy(ids, 0, result, 0, ids.length);
+            ids = result;
+        }
+        
+        boolean put(int row, Object value)
+        {
+            if(!(value instanceof String))
+            {
+                return false;
+            }
+            Integer id = stringIds.get(value);
+            if(id==null)
+            {
+                id = new Integer(strings.size());
+                strings.add((String) value);
+                stringIds.put((String) value, id);
+            }
+            ids[row] = id.intValue();
+            mark(row);
+            return true;
+        }
+        
+        Object get(int row)
+        {
+            return strings.get(ids[row]);
+        }
+    }
+}
\ No newline at end of file
@@ -31,15 +31,27 @@ package com.vmware.vim.cf;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.vmware.vim25.ManagedObjectReference;
 
 /**
+ * Deep copies the data objects of VI SDK with a copy plan compiled once per 
+ * class: the public fields are looked up once, primitive fields and arrays 
+ * are copied without boxing, and immutable values are shared instead of 
+ * copied. Immutable are the final classes like String, Integer and the 
+ * enums, and ManagedObjectReference, which the library shares and whose 
+ * instances must not be changed.
  * @author Steve JIN (sjin@vmware.com)
  */
 
 class DeepCopier 
 {
-    private final static Package JAVA_LANG_PKG = String.class.getPackage();
+    private final static Map<Class<?>, CopyPlan> plans = new ConcurrentHashMap<Class<?>, CopyPlan>();
 
     /**
      * This is used to clone an data object in VI SDK. The algorithm used here
@@ -52,53 +64,224 @@ class DeepCopier
     
 	public static Object deepCopy(Object src) throws InstantiationException, IllegalAccessException
 	{
-		Class<?> clazz = src.getClass();
-
-		// Just check if the object is mutable.
-		// We assume the object that is final is likely immutable. 
-		// It's true for String, Integer and other data types.
-		if(Modifier.isFinal(clazz.getModifiers()))
+		if(src == null)
 		{
-          return src; 
+			return null;
 		}
-
-		Object dst = clazz.newInstance();
-		if(src instanceof Calendar)
+		return getPlan(src.getClass()).copy(src);
+	}
+	
+	static CopyPlan getPlan(Class<?> clazz)
+	{
+		CopyPlan plan = plans.get(clazz);
+		if(plan == null)
+		{
+			plan = compile(clazz);
+			plans.put(clazz, plan);
+		}
+		return plan;
+	}
+	
+	private static CopyPlan compile(Class<?> clazz)
+	{
+		if(isImmutable(clazz))
+		{
+			return SHARE;
+		}
+		if(Calendar.class.isAssignableFrom(clazz))
+		{
+			return CALENDAR;
+		}
+		if(clazz.isArray())
+		{
+			Class<?> component = clazz.getComponentType();
+			if(component.isPrimitive())
+			{
+				return PRIMITIVE_ARRAY;
+			}
+			return new ObjectArrayPlan(component, isImmutable(component));
+		}
+		return new ObjectPlan(clazz);
+	}
+	
+	/**
+	 * We assume the object that is final is likely immutable. 
+	 * It's true for String, Integer, NullObject and the enums.
+	 */
+	private static boolean isImmutable(Class<?> clazz)
+	{
+		return Modifier.isFinal(clazz.getModifiers()) && !clazz.isArray() 
+			|| clazz.isEnum() || clazz.isPrimitive()
+			|| clazz == ManagedObjectReference.class;
+	}
+	
+	static abstract class CopyPlan
+	{
+		abstract Object copy(Object src) throws InstantiationException, IllegalAccessException;
+	}
+	
+	private final static CopyPlan SHARE = new CopyPlan()
+	{
+		Object copy(Object src)
+		{
+			return src;
+		}
+	};
+	
+	private final static CopyPlan CALENDAR = new CopyPlan()
+	{
+		Object copy(Object src)
+		{
+			return ((Calendar) src).clone();
+		}
+	};
+	
+	private final static CopyPlan PRIMITIVE_ARRAY = new CopyPlan()
+	{
+		Object copy(Object src)
+		{
+			int len = Array.getLength(src);
+			Object dst = Array.newInstance(src.getClass().getComponentType(), len);
+			System.arraycopy(src, 0, dst, 0, len);
+			return dst;
+		}
+	};
+	
+	private static class ObjectArrayPlan extends CopyPlan
+	{
+		private final Class<?> component;
+		private final boolean immutable;
+		
+		ObjectArrayPlan(Class<?> component, boolean immutable)
+		{
+			this.component = component;
+			this.immutable = immutable;
+		}
+		
+		Object copy(Object src) throws InstantiationException, IllegalAccessException
 		{
-			((Calendar)dst).setTimeInMillis(((Calendar)src).getTimeInMillis());
+			Object[] items = (Object[]) src;
+			Object[] dst = (Object[]) Array.newInstance(component, items.length);
+			if(immutable)
+			{
+				System.arraycopy(items, 0, dst, 0, items.length);
+				return dst;
+			}
+			Class<?> lastClass = null;
+			CopyPlan lastPlan = null;
+			for(int i=0; i<items.length; i++)
+			{
+				Object item = items[i];
+				if(item == null)
+				{
+					continue;
+				}
+				if(item.getClass() != lastClass)
+				{
+					lastClass = item.getClass();
+					lastPlan = getPlan(lastClass);
+				}
+				dst[i] = lastPlan.copy(item);
+			}
 			return dst;
 		}
+	}
+	
+	private static class ObjectPlan extends CopyPlan
+	{
+		private final Class<?> clazz;
+		private final Field[] fields;
+		/** 
+		 * per field: 0 to copy deep by the runtime class of the value, 1 to share
+		 * the value, or the primitive type as Z, B, C, S, I, J, F or D
+		 */
+		private final char[] kinds;
 		
-		Field[] fields = clazz.getFields();
-		for(int i=0; i<fields.length; i++)
+		ObjectPlan(Class<?> clazz)
 		{
-			Object fObj = fields[i].get(src);
-			if(fObj == null)
+			this.clazz = clazz;
+			List<Field> list = new ArrayList<Field>();
+			Field[] all = clazz.getFields();
+			for(int i=0; i<all.length; i++)
 			{
-				continue;
+				int mod = all[i].getModifiers();
+				if(!Modifier.isStatic(mod) && !Modifier.isFinal(mod))
+				{
+					list.add(all[i]);
+				}
 			}
-			Class<?> fRealType = fObj.getClass();
-			if((!fRealType.isPrimitive()) 
-			  || (!fRealType.isEnum())
-			  || fRealType.getPackage() != JAVA_LANG_PKG)
+			fields = list.toArray(new Field[list.size()]);
+			kinds = new char[fields.length];
+			for(int i=0; i<fields.length; i++)
 			{
-				if(fRealType.isArray())
+				Class<?> type = fields[i].getType();
+				if(type.isPrimitive())
 				{
-					Object[] items = (Object[]) fObj;
-					fObj = Array.newInstance(fRealType.getComponentType(), items.length);
-					for(int j=0; j<items.length; j++)
-					{
-						Array.set(fObj, j, deepCopy(items[j]));
-					}
+					kinds[i] = primitiveKind(type);
 				}
 				else
 				{
-					fObj = deepCopy(fObj);
+					kinds[i] = isImmutable(type) ? (char) 1 : (char) 0;
 				}
 			}
-			fields[i].set(dst, fObj);
 		}
 		
-		return dst;
+		Object copy(Object src) throws InstantiationException, IllegalAccessException
+		{
+			Object dst = clazz.newInstance();
+			for(int i=0; i<fields.length; i++)
+			{
+				Field f = fields[i];
+				switch(kinds[i])
+				{
+				case 0:
+					Object v = f.get(src);
+					if(v != null)
+					{
+						f.set(dst, getPlan(v.getClass()).copy(v));
+					}
+					break;
+				case 1:
+					f.set(dst, f.get(src));
+					break;
+				case 'Z':
+					f.setBoolean(dst, f.getBoolean(src));
+					break;
+				case 'B':
+					f.setByte(dst, f.getByte(src));
+					break;
+				case 'C':
+					f.setChar(dst, f.getChar(src));
+					break;
+				case 'S':
+					f.setShort(dst, f.getShort(src));
+					break;
+				case 'I':
+					f.setInt(dst, f.getInt(src));
+					break;
+				case 'J':
+					f.setLong(dst, f.getLong(src));
+					break;
+				case 'F':
+					f.setFloat(dst, f.getFloat(src));
+					break;
+				default:
+					f.setDouble(dst, f.getDouble(src));
+				}
+			}
+			return dst;
+		}
+	}
+	
+	private static char primitiveKind(Class<?> type)
+	{
+		if(type == boolean.class) return 'Z';
+		if(type == byte.class) return 'B';
+		if(type == char.class) return 'C';
+		if(type == short.class) return 'S';
+		if(type == int.class) return 'I';
+		if(type == long.class) return 'J';
+		if(type == float.class) return 'F';
+		return 'D';
 	}
 }
\ No newline at end of file
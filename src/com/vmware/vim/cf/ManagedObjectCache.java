@@ -28,6 +28,8 @@ POSSIBILITY OF SUCH DAMAGE.
 ================================================================================*/
 
 package com.vmware.vim.cf;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Observable;
 import java.util.Observer;
@@ -36,6 +38,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import com.vmware.vim25.ManagedObjectReference;
 import com.vmware.vim25.ObjectUpdate;
 import com.vmware.vim25.PropertyChange;
+import com.vmware.vim25.PropertyChangeOp;
 import com.vmware.vim25.PropertyFilterUpdate;
 import com.vmware.vim25.mo.ManagedObject;
 import com.vmware.vim25.mo.ServiceInstance;
@@ -51,8 +54,10 @@ class ManagedObjectCache implements Observer
 {
     // each value is yet another child HashMap corresponding to a ManagedObject
     // The child HashMap has key -- property name; value -- property value
+    // A child map is never changed once put: each update of a managed object
+    // puts a changed copy, so readers always see a consistent snapshot.
     private Map<ManagedObjectReference, Map<String, Object>> items;
-    private boolean isReady = false;
+    private volatile boolean isReady = false;
     private ServiceInstance si;
 
     ManagedObjectCache(ServiceInstance si)
@@ -78,68 +83,63 @@ class ManagedObjectCache implements Observer
                 for(int j=0; ous!=null && j < ous.length; j++)
                 {
                     ManagedObjectReference mor = ous[j].getObj();
-                    if(! items.containsKey(mor))
-                    {
-                        items.put(mor, new ConcurrentHashMap<String, Object>());
-                    }
-                    Map<String, Object> moMap = items.get(mor);
-                    
+                    Map<String, Object> oldMap = items.get(mor);
                     PropertyChange[] pcs = ous[j].getChangeSet();
                     if(pcs==null)
                     {
+                      if(oldMap==null)
+                      {
+                        items.put(mor, Collections.<String, Object>emptyMap());
+                      }
                       continue;
                     }
+                    
+                    Map<String, Object> moMap = oldMap==null ? new HashMap<String, Object>() 
+                        : new HashMap<String, Object>(oldMap);
                     for(int k=0; k < pcs.length; k++)
                     {
-                    	  Object value = pcs[k].getVal();
-                    	  value = value == null ? NULL : value; //null is not allowed as value in CHM
-                    	  String propName = pcs[k].getName();
-                    	  if(moMap.containsKey(propName))
-                    	  {
-                    	    moMap.put(propName, value);
-                    	  }
-                    	  else
-                    	  {
-                    	    String parentPropName = getExistingParentPropName(moMap, propName);
-                    	    if(parentPropName != null)
-                    	    {
-                    	      ManagedObject mo = MorUtil.createExactManagedObject(si.getServerConnection(), mor);
-                    	      moMap.put(parentPropName, mo.getPropertyByPath(parentPropName));
-                    	    }
-                    	    else
-                    	    { //almost impossible to be here.
-                    	      moMap.put(propName, value);
-                    	    }
-                    	  }
+                    	  applyChange(mor, moMap, pcs[k]);
                     }
+                    items.put(mor, Collections.unmodifiableMap(moMap));
                 }
             }
         }
-        isReady = true;
+        // the first update may come in truncated pieces
+        if(!(obj instanceof ManagedObjectWatcher) || !((ManagedObjectWatcher) obj).isTruncated())
+        {
+            isReady = true;
+        }
     }
     
-    private String getExistingParentPropName(Map<String, Object> moMap, String propName)
+    private void applyChange(ManagedObjectReference mor, Map<String, Object> moMap, PropertyChange pc)
     {
-      //remove everything after the first "["
-      int pos = propName.indexOf("[");
-      if(pos != -1)
-      {
-        propName = propName.substring(0, pos);
-      }
-      
-      while(true)
-      {
-        int lastDot = propName.lastIndexOf(".");
-        if(lastDot==-1)
-        {
-          return null;
-        }
-        propName = propName.substring(0, lastDot);
+        Object value = pc.getVal();
+        String propName = pc.getName();
+        PropertyChangeOp op = pc.getOp();
         if(moMap.containsKey(propName))
         {
-          return propName;
+            boolean removed = op==PropertyChangeOp.remove || op==PropertyChangeOp.indirectRemove;
+            moMap.put(propName, value==null || removed ? NULL : value); //null is reported as NULL
+            return;
+        }
+        
+        PropertyPathIndex.Step[] steps = PropertyPathIndex.compile(propName);
+        int parent = steps==null ? -1 : PropertyPathIndex.findParent(moMap, steps);
+        if(parent == -1)
+        { //almost impossible to be here.
+            moMap.put(propName, value == null ? NULL : value);
+            return;
+        }
+        
+        // the map is a private copy until put, so the parent value stays the same
+        String parentPropName = steps[parent-1].prefix;
+        Object newValue = PropertyPathIndex.apply(moMap.get(parentPropName), steps, parent, op, value);
+        if(newValue == PropertyPathIndex.UNRESOLVED)
+        { // the cached value misses the object holding the property
+            ManagedObject mo = MorUtil.createExactManagedObject(si.getServerConnection(), mor);
+            newValue = mo.getPropertyByPath(parentPropName);
         }
-      }
+        moMap.put(parentPropName, newValue == null ? NULL : newValue);
     }
     
     public boolean isReady()
@@ -32,29 +32,86 @@ import java.rmi.RemoteException;
 import java.util.Observable;
 import java.util.Vector;
 
+import com.vmware.vim25.InvalidCollectorVersion;
 import com.vmware.vim25.NotAuthenticated;
 import com.vmware.vim25.ObjectSpec;
 import com.vmware.vim25.PropertyFilterSpec;
 import com.vmware.vim25.PropertyFilterUpdate;
 import com.vmware.vim25.PropertySpec;
+import com.vmware.vim25.RequestCanceled;
 import com.vmware.vim25.UpdateSet;
+import com.vmware.vim25.WaitOptions;
 import com.vmware.vim25.mo.ManagedObject;
 import com.vmware.vim25.mo.PropertyCollector;
 import com.vmware.vim25.mo.PropertyFilter;
+import com.vmware.vim25.mo.ServiceInstance;
+import com.vmware.vim25.mo.util.PropertyCollectorUtil;
 
 /**
+ * Watches the managed objects with property filters and passes the 
+ * PropertyFilterUpdate[] of each update to the observers.
+ * 
+ * With servers of API 4.1 or later, the watcher uses a PropertyCollector of 
+ * its own, waits with waitForUpdatesEx so that a wait ends after maxWaitSeconds
+ * and a big change is split into updates of at most maxObjectUpdates objects,
+ * and stops by canceling the wait. With older servers it falls back to 
+ * waitForUpdates on the session PropertyCollector.
+ * 
  * @author Steve JIN (sjin@vmware.com)
  */
 
 class ManagedObjectWatcher extends Observable implements Runnable 
 {
+    public final static int DEFAULT_MAX_WAIT_SECONDS = 60;
+    public final static int DEFAULT_MAX_OBJECT_UPDATES = 1000;
+    private final static long MIN_BACKOFF = 1000;
+    private final static long MAX_BACKOFF = 60 * 1000;
+    
     private PropertyCollector pc;
+    private boolean ownCollector = false;
+    private boolean waitEx = false;
     private Vector<PropertyFilter> filters = new Vector<PropertyFilter>();
     private String version = "";
+    private WaitOptions options = new WaitOptions();
+    private volatile boolean running = true;
+    private volatile boolean truncated = false;
+    private volatile Thread thread = null;
     
     public ManagedObjectWatcher(PropertyCollector pc)
     {
         this.pc = pc;
+        options.setMaxWaitSeconds(DEFAULT_MAX_WAIT_SECONDS);
+        options.setMaxObjectUpdates(DEFAULT_MAX_OBJECT_UPDATES);
+    }
+    
+    public ManagedObjectWatcher(ServiceInstance si)
+    {
+        this(si.getPropertyCollector());
+        if(PropertyCollectorUtil.isApiVersionAtLeast(si.getAboutInfo(), 4, 1))
+        {
+            try
+            {
+                pc = pc.createPropertyCollector();
+                ownCollector = true;
+                waitEx = true;
+            } catch(RemoteException re)
+            {
+                throw new RuntimeException(re);
+            }
+        }
+    }
+    
+    /**
+     * @param maxWaitSeconds the seconds a wait lasts at most on the server, 
+     * after which the watcher waits again. Used with servers of API 4.1 or later.
+     * @param maxObjectUpdates the number of objects an update carries at most
+     */
+    public void setWaitOptions(int maxWaitSeconds, int maxObjectUpdates)
+    {
+        WaitOptions wo = new WaitOptions();
+        wo.setMaxWaitSeconds(maxWaitSeconds);
+        wo.setMaxObjectUpdates(maxObjectUpdates);
+        options = wo;
     }
     
     public void watch(ManagedObject[] mos, String[] propNames)
@@ -91,30 +148,106 @@ class ManagedObjectWatcher extends Observable implements Runnable
 
     public void run()
     {
-        while(true)
+        thread = Thread.currentThread();
+        long backoff = MIN_BACKOFF;
+        while(running)
         {
             try
             {
-                UpdateSet update = pc.waitForUpdates(version);
+                UpdateSet update = waitEx ? pc.waitForUpdatesEx(version, options) 
+                    : pc.waitForUpdates(version);
+                backoff = MIN_BACKOFF;
+                if(update==null)
+                { // maxWaitSeconds passed without changes
+                    continue;
+                }
+                // a truncated update is followed right away by the rest
+                truncated = Boolean.TRUE.equals(update.getTruncated());
+                version = update.getVersion();
                 PropertyFilterUpdate[] pfu = update.getFilterSet();
                 this.setChanged();
                 this.notifyObservers(pfu);
-                version = update.getVersion();
             }
             catch(NotAuthenticated na)
             {
-              na.printStackTrace();
-              break;
+                if(running)
+                {
+                    na.printStackTrace();
+                }
+                break;
+            }
+            catch(RequestCanceled rc)
+            {
+                // canceled by stop(), or by another client of the collector
+            }
+            catch(InvalidCollectorVersion icv)
+            {
+                // start over with the full content of the filters
+                version = "";
             }
             catch(Exception e)
             {
-              e.printStackTrace();
+                if(!running)
+                {
+                    break;
+                }
+                e.printStackTrace();
+                try
+                {
+                    Thread.sleep(backoff);
+                } catch(InterruptedException ie)
+                {
+                    break;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF);
             }
         }
     }
     
+    /**
+     * @return true if the last update was truncated and more are on the way
+     */
+    public boolean isTruncated()
+    {
+        return truncated;
+    }
+    
+    /**
+     * Make the thread running the watcher return, canceling the current wait
+     * and interrupting the backoff sleep after an error.
+     */
+    public void stop()
+    {
+        running = false;
+        try
+        {
+            pc.cancelWaitForUpdates();
+        } catch (RemoteException e) 
+        {
+            // nothing waiting
+        }
+        Thread t = thread;
+        if(t!=null && t!=Thread.currentThread())
+        {
+            t.interrupt();
+        }
+    }
+    
     public void cleanUp()
     {
+        if(ownCollector)
+        {
+            try 
+            {
+                // destroys the filters as well
+                pc.destroyPropertyCollector();
+            } catch (RemoteException e) 
+            {
+                e.printStackTrace();
+            }
+            filters.clear();
+            return;
+        }
         for(int i=0; i<filters.size(); i++)
         {
             try 
@@ -125,5 +258,6 @@ class ManagedObjectWatcher extends Observable implements Runnable
                 e.printStackTrace();
             }
         }
+        filters.clear();
     }
 }
\ No newline at end of file
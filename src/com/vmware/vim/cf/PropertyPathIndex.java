@@ -0,0 +1,402 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim.cf;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.PropertyChangeOp;
+
+/**
+ * Applies a PropertyChange on a nested property to the cached value of 
+ * the enclosing property, so that a partial update needs no call to the 
+ * server. A path like config.hardware.device[4000].backing is compiled once
+ * into steps, a field name or an array key, and kept for later updates.
+ * 
+ * The objects along the path are copied, not changed, so that a value 
+ * handed out before keeps what it had.
+ * 
+ * @author Steve JIN (sjin@vmware.com)
+ */
+
+class PropertyPathIndex 
+{
+    /** returned when the path can't be followed in the cached value */
+    final static Object UNRESOLVED = new Object();
+    
+    private final static int MAX_PATHS = 10000;
+    private final static ConcurrentMap<String, Step[]> PATHS = new ConcurrentHashMap<String, Step[]>();
+    private final static ConcurrentMap<Class<?>, Map<String, Field>> FIELDS = new ConcurrentHashMap<Class<?>, Map<String, Field>>();
+    
+    /**
+     * One step of a property path: either the name of a field, or the key 
+     * of an element in an array.
+     */
+    final static class Step
+    {
+        final String name;
+        final String key;
+        /** the path up to and including this step */
+        final String prefix;
+        
+        Step(String name, String key, String prefix)
+        {
+            this.name = name;
+            this.key = key;
+            this.prefix = prefix;
+        }
+    }
+    
+    /**
+     * @return the steps of the path, or null if the path is malformed
+     */
+    static Step[] compile(String path)
+    {
+        Step[] steps = PATHS.get(path);
+        if(steps!=null)
+        {
+            return steps;
+        }
+        steps = parse(path);
+        if(steps!=null && PATHS.size() < MAX_PATHS)
+        {
+            PATHS.put(path, steps);
+        }
+        return steps;
+    }
+    
+    private static Step[] parse(String path)
+    {
+        List<Step> steps = new ArrayList<Step>();
+        int len = path.length();
+        int i = 0;
+        while(i < len)
+        {
+            char c = path.charAt(i);
+            if(c=='.')
+            {
+                i++;
+            }
+            else if(c=='[')
+            {
+                int end;
+                String key;
+                if(i+1 < len && path.charAt(i+1)=='"')
+                {
+                    int quote = path.indexOf('"', i+2);
+                    if(quote==-1)
+                    {
+                        return null;
+                    }
+                    key = path.substring(i+2, quote);
+                    end = path.indexOf(']', quote);
+                }
+                else
+                {
+                    end = path.indexOf(']', i);
+                    key = end==-1 ? null : path.substring(i+1, end);
+                }
+                if(end==-1)
+                {
+                    return null;
+                }
+                i = end + 1;
+                steps.add(new Step(null, key, path.substring(0, i)));
+            }
+            else
+            {
+                int end = i;
+                while(end < len && path.charAt(end)!='.' && path.charAt(end)!='[')
+                {
+                    end++;
+                }
+                steps.add(new Step(path.substring(i, end), null, path.substring(0, end)));
+                i = end;
+            }
+        }
+        return steps.toArray(new Step[steps.size()]);
+    }
+    
+    /**
+     * @return the number of steps of the longest path prefix kept in the map, 
+     * not counting the whole path; -1 if none is
+     */
+    static int findParent(Map<String, Object> moMap, Step[] steps)
+    {
+        for(int i=steps.length-1; i>0; i--)
+        {
+            if(moMap.containsKey(steps[i-1].prefix))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Apply the change to the value found with the steps from the given index on.
+     * @return the new value, or UNRESOLVED if the path can't be followed
+     */
+    static Object apply(Object node, Step[] steps, int index, PropertyChangeOp op, Object val)
+    {
+        try
+        {
+            return applyStep(node, steps, index, op, val);
+        } catch(IllegalAccessException iae)
+        {
+            return UNRESOLVED;
+        } catch(InstantiationException ie)
+        {
+            return UNRESOLVED;
+        } catch(IllegalArgumentException iae)
+        {
+            return UNRESOLVED;
+        }
+    }
+    
+    private static Object applyStep(Object node, Step[] steps, int index, PropertyChangeOp op, Object val) 
+        throws IllegalAccessException, InstantiationException
+    {
+        if(node==null || node==NullObject.NULL)
+        {
+            return UNRESOLVED;
+        }
+        Step step = steps[index];
+        boolean last = index==steps.length-1;
+        
+        if(step.name!=null)
+        {
+            Field f = getFields(node.getClass()).get(step.name);
+            if(f==null)
+            {
+                return UNRESOLVED;
+            }
+            Object value;
+            if(last)
+            {
+                value = isRemove(op) ? null : adapt(val, f.getType());
+                if(value==null && f.getType().isPrimitive())
+                {
+                    return UNRESOLVED;
+                }
+            }
+            else
+            {
+                value = applyStep(f.get(node), steps, index+1, op, val);
+            }
+            if(value==UNRESOLVED)
+            {
+                return UNRESOLVED;
+            }
+            Object copy = shallowCopy(node);
+            f.set(copy, value);
+            return copy;
+        }
+        
+        if(!node.getClass().isArray())
+        { // the ArrayOfXXX holding the array
+            Field af = getArrayOfField(node.getClass());
+            if(af==null)
+            {
+                return UNRESOLVED;
+            }
+            Object array = af.get(node);
+            if(array==null)
+            {
+                array = Array.newInstance(af.getType().getComponentType(), 0);
+            }
+            Object value = applyStep(array, steps, index, op, val);
+            if(value==UNRESOLVED)
+            {
+                return UNRESOLVED;
+            }
+            Object copy = shallowCopy(node);
+            af.set(copy, value);
+            return copy;
+        }
+        
+        int pos = indexOfKey(node, step.key);
+        if(last)
+        {
+            if(isRemove(op))
+            {
+                return pos==-1 ? node : removeElement(node, pos);
+            }
+            Class<?> compType = node.getClass().getComponentType();
+            if(val==null || !compType.isInstance(val))
+            {
+                return UNRESOLVED;
+            }
+            return pos==-1 ? addElement(node, val) : setElement(node, pos, val);
+        }
+        if(pos==-1)
+        {
+            return UNRESOLVED;
+        }
+        Object value = applyStep(Array.get(node, pos), steps, index+1, op, val);
+        return value==UNRESOLVED ? UNRESOLVED : setElement(node, pos, value);
+    }
+    
+    private static boolean isRemove(PropertyChangeOp op)
+    {
+        return op==PropertyChangeOp.remove || op==PropertyChangeOp.indirectRemove;
+    }
+    
+    /** 
+     * @return the value to be set to a field of the type: the array in an 
+     * ArrayOfXXX for an array field.
+     */
+    private static Object adapt(Object val, Class<?> type) throws IllegalAccessException
+    {
+        if(val==null || type.isPrimitive() || type.isInstance(val))
+        {
+            return val;
+        }
+        if(type.isArray())
+        {
+            Field af = getArrayOfField(val.getClass());
+            if(af!=null && type.isAssignableFrom(af.getType()))
+            {
+                return af.get(val);
+            }
+        }
+        return UNRESOLVED;
+    }
+    
+    private static int indexOfKey(Object array, String key) throws IllegalAccessException
+    {
+        int len = Array.getLength(array);
+        for(int i=0; i<len; i++)
+        {
+            Object item = Array.get(array, i);
+            if(item!=null && key.equals(getKey(item)))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private static String getKey(Object item) throws IllegalAccessException
+    {
+        if(item instanceof ManagedObjectReference)
+        {
+            return ((ManagedObjectReference) item).get_value();
+        }
+        Field kf = getFields(item.getClass()).get("key");
+        if(kf==null)
+        {
+            return item.toString();
+        }
+        Object key = kf.get(item);
+        return key==null ? null : key.toString();
+    }
+    
+    private static Object setElement(Object array, int pos, Object item)
+    {
+        int len = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), len);
+        System.arraycopy(array, 0, copy, 0, len);
+        Array.set(copy, pos, item);
+        return copy;
+    }
+    
+    private static Object addElement(Object array, Object item)
+    {
+        int len = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), len + 1);
+        System.arraycopy(array, 0, copy, 0, len);
+        Array.set(copy, len, item);
+        return copy;
+    }
+    
+    private static Object removeElement(Object array, int pos)
+    {
+        int len = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), len - 1);
+        System.arraycopy(array, 0, copy, 0, pos);
+        System.arraycopy(array, pos + 1, copy, pos, len - pos - 1);
+        return copy;
+    }
+    
+    private static Object shallowCopy(Object src) throws IllegalAccessException, InstantiationException
+    {
+        Object dst = src.getClass().newInstance();
+        for(Field f : getFields(src.getClass()).values())
+        {
+            f.set(dst, f.get(src));
+        }
+        return dst;
+    }
+    
+    /**
+     * @return the only field of an ArrayOfXXX class, or null for other classes
+     */
+    private static Field getArrayOfField(Class<?> clazz)
+    {
+        if(!clazz.getSimpleName().startsWith("ArrayOf"))
+        {
+            return null;
+        }
+        Map<String, Field> fields = getFields(clazz);
+        if(fields.size()!=1)
+        {
+            return null;
+        }
+        Field f = fields.values().iterator().next();
+        return f.getType().isArray() ? f : null;
+    }
+    
+    private static Map<String, Field> getFields(Class<?> clazz)
+    {
+        Map<String, Field> fields = FIELDS.get(clazz);
+        if(fields==null)
+        {
+            fields = new HashMap<String, Field>();
+            Field[] fs = clazz.getFields();
+            for(int i=0; i<fs.length; i++)
+            {
+                if(!Modifier.isStatic(fs[i].getModifiers()))
+                {
+                    fields.put(fs[i].getName(), fs[i]);
+                }
+            }
+            FIELDS.put(clazz, fields);
+        }
+        return fields;
+    }
+}
\ No newline at end of file
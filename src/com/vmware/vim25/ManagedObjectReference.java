@@ -77,11 +77,12 @@ public class ManagedObjectReference
 
     ManagedObjectReference mor = (ManagedObjectReference)obj;
     
-    return  mor.getType().equals(getType()) && mor.getVal().equals(getVal());
+    return  mor.getVal().equals(getVal()) && mor.getType().equals(getType());
   }
 
   public int hashCode()
   {
+    // not cached as val and type are public fields; String caches its own
     return val.hashCode() + type.hashCode();
   }
 }
\ No newline at end of file
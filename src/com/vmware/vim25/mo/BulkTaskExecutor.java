@@ -0,0 +1,647 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.vmware.vim25.ConcurrentAccess;
+import com.vmware.vim25.HostCommunication;
+import com.vmware.vim25.LocalizedMethodFault;
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.MethodFault;
+import com.vmware.vim25.ResourceInUse;
+import com.vmware.vim25.TaskInProgress;
+import com.vmware.vim25.TaskInfo;
+import com.vmware.vim25.TaskInfoState;
+import com.vmware.vim25.Timedout;
+import com.vmware.vim25.ws.AsyncCallback;
+
+/**
+ * Runs a large number of *_Task operations, like powering on or reconfiguring
+ * thousands of virtual machines, while bounding the tasks in flight in total 
+ * and per scope, i.e. per host, cluster or datastore the operation touches.
+ * 
+ * Operations start in the given order as soon as the limits of all their 
+ * scopes allow. Task completion is tracked with the TaskTracker of the 
+ * connection, so no polling is done per task. An operation failing with a 
+ * transient fault, by default TaskInProgress, ConcurrentAccess, ResourceInUse, 
+ * Timedout or HostCommunication, is retried with an exponential backoff.
+ * 
+ * <pre>
+ * BulkTaskExecutor executor = new BulkTaskExecutor(64);
+ * executor.setScopeLimit("HostSystem", 4);
+ * executor.setScopeLimit("Datastore", 8);
+ * List&lt;BulkTaskExecutor.Operation&gt; ops = ...;
+ * for(final VirtualMachine vm : vms)
+ * {
+ *   ops.add(new BulkTaskExecutor.Operation(BulkTaskExecutor.getScopes(vm))
+ *   {
+ *     public Task start() throws RemoteException
+ *     {
+ *       return vm.powerOnVM_Task(null);
+ *     }
+ *   });
+ * }
+ * BulkTaskExecutor.Stats stats = executor.execute(ops);
+ * </pre>
+ * @author Steve JIN (sjin@vmware.com)
+ */
+
+public class BulkTaskExecutor
+{
+	public final static int DEFAULT_MAX_IN_FLIGHT = 32;
+	public final static int DEFAULT_START_THREADS = 4;
+	public final static int DEFAULT_MAX_RETRIES = 3;
+	public final static long DEFAULT_RETRY_DELAY = 2000;
+	
+	private final int maxInFlight;
+	private int startThreads = DEFAULT_START_THREADS;
+	private int maxRetries = DEFAULT_MAX_RETRIES;
+	private long retryDelay = DEFAULT_RETRY_DELAY;
+	private final Map<String, Integer> typeLimits = new HashMap<String, Integer>();
+	private final Map<ManagedObjectReference, Integer> scopeLimits = new HashMap<ManagedObjectReference, Integer>();
+	private final List<Class<? extends Throwable>> transientFaults = new ArrayList<Class<? extends Throwable>>();
+	
+	public BulkTaskExecutor()
+	{
+		this(DEFAULT_MAX_IN_FLIGHT);
+	}
+	
+	/**
+	 * @param maxInFlight the maximum number of tasks running at a time
+	 */
+	public BulkTaskExecutor(int maxInFlight)
+	{
+		if(maxInFlight < 1)
+		{
+			throw new IllegalArgumentException("maxInFlight must be positive.");
+		}
+		this.maxInFlight = maxInFlight;
+		transientFaults.add(TaskInProgress.class);
+		transientFaults.add(ConcurrentAccess.class);
+		transientFaults.add(ResourceInUse.class);
+		transientFaults.add(Timedout.class);
+		transientFaults.add(HostCommunication.class);
+	}
+	
+	/**
+	 * Limit the tasks in flight per scope of the type, e.g. "HostSystem",
+	 * "ClusterComputeResource" or "Datastore".
+	 */
+	public synchronized void setScopeLimit(String type, int limit)
+	{
+		if(limit < 1)
+		{
+			throw new IllegalArgumentException("limit must be positive.");
+		}
+		typeLimits.put(type, new Integer(limit));
+	}
+	
+	/**
+	 * Limit the tasks in flight for one scope, overriding the limit of its type.
+	 */
+	public synchronized void setScopeLimit(ManagedObject scope, int limit)
+	{
+		if(limit < 1)
+		{
+			throw new IllegalArgumentException("limit must be positive.");
+		}
+		scopeLimits.put(scope.getMOR(), new Integer(limit));
+	}
+	
+	/**
+	 * Add a fault, or any other exception, on which operations are retried.
+	 */
+	public synchronized void addTransientFault(Class<? extends Throwable> clazz)
+	{
+		transientFaults.add(clazz);
+	}
+	
+	public synchronized void clearTransientFaults()
+	{
+		transientFaults.clear();
+	}
+	
+	/**
+	 * @param maxRetries the number of times a transiently failed operation is retried
+	 * @param retryDelay the delay in milliseconds before the first retry, doubled 
+	 * for each further one
+	 */
+	public synchronized void setRetryPolicy(int maxRetries, long retryDelay)
+	{
+		this.maxRetries = maxRetries;
+		this.retryDelay = retryDelay;
+	}
+	
+	/**
+	 * @param startThreads the number of threads making the *_Task calls
+	 */
+	public synchronized void setStartThreads(int startThreads)
+	{
+		if(startThreads < 1)
+		{
+			throw new IllegalArgumentException("startThreads must be positive.");
+		}
+		this.startThreads = startThreads;
+	}
+	
+	/**
+	 * Run the operations and wait for all of them to complete.
+	 * @return the statistics of the run with the result of every operation
+	 */
+	public Stats execute(Collection<? extends Operation> operations) throws InterruptedException
+	{
+		Run run;
+		synchronized(this)
+		{
+			run = new Run(operations);
+		}
+		return run.execute();
+	}
+	
+	/**
+	 * Get the host, the cluster of the host and the datastores of a virtual 
+	 * machine as its scopes. This reads three or four properties, so consider 
+	 * ManagedObject.prefetch() for runtime.host and datastore beforehand.
+	 */
+	public static ManagedObject[] getScopes(VirtualMachine vm) throws RemoteException
+	{
+		List<ManagedObject> scopes = new ArrayList<ManagedObject>();
+		ManagedObjectReference hostMor = vm.getRuntime().getHost();
+		if(hostMor != null)
+		{
+			HostSystem host = new HostSystem(vm.getServerConnection(), hostMor);
+			scopes.add(host);
+			ManagedEntity parent = host.getParent();
+			if(parent instanceof ClusterComputeResource)
+			{
+				scopes.add(parent);
+			}
+		}
+		Datastore[] dss = vm.getDatastores();
+		if(dss != null)
+		{
+			scopes.addAll(Arrays.asList(dss));
+		}
+		return scopes.toArray(new ManagedObject[scopes.size()]);
+	}
+	
+	/**
+	 * An operation starting one task, throttled by the scopes it touches.
+	 */
+	public static abstract class Operation
+	{
+		private final ManagedObjectReference[] scopes;
+		
+		public Operation(ManagedObject... scopes)
+		{
+			List<ManagedObjectReference> mors = new ArrayList<ManagedObjectReference>(scopes.length);
+			for(int i=0; i<scopes.length; i++)
+			{
+				if(scopes[i] != null)
+				{
+					mors.add(scopes[i].getMOR());
+				}
+			}
+			this.scopes = mors.toArray(new ManagedObjectReference[mors.size()]);
+		}
+		
+		public ManagedObjectReference[] getScopes()
+		{
+			return scopes;
+		}
+		
+		/**
+		 * Start the task, e.g. by calling VirtualMachine.powerOnVM_Task(). 
+		 * Called again for every retry.
+		 */
+		public abstract Task start() throws RemoteException;
+	}
+	
+	/**
+	 * The outcome of one operation.
+	 */
+	public static class Result
+	{
+		private final Operation operation;
+		private TaskInfo taskInfo;
+		private Throwable error;
+		private int attempts;
+		private long latency;
+		
+		Result(Operation operation)
+		{
+			this.operation = operation;
+		}
+		
+		public Operation getOperation()
+		{
+			return operation;
+		}
+		
+		/**
+		 * @return the TaskInfo of the last attempt, or null if its task could not be started
+		 */
+		public TaskInfo getTaskInfo()
+		{
+			return taskInfo;
+		}
+		
+		/**
+		 * @return the exception or fault of a failed operation, null if it succeeded
+		 */
+		public Throwable getError()
+		{
+			return error;
+		}
+		
+		public boolean isSuccess()
+		{
+			return error == null;
+		}
+		
+		public int getAttempts()
+		{
+			return attempts;
+		}
+		
+		/**
+		 * @return the milliseconds from the first start to the completion, retries included
+		 */
+		public long getLatency()
+		{
+			return latency;
+		}
+	}
+	
+	/**
+	 * The statistics of one run.
+	 */
+	public static class Stats
+	{
+		private final Result[] results;
+		private final long[] latencies;
+		private final long elapsed;
+		private final int succeeded;
+		private final int retries;
+		
+		Stats(Result[] results, long elapsed, int retries)
+		{
+			this.results = results;
+			this.elapsed = elapsed;
+			this.retries = retries;
+			latencies = new long[results.length];
+			int ok = 0;
+			for(int i=0; i<results.length; i++)
+			{
+				latencies[i] = results[i].latency;
+				if(results[i].isSuccess())
+				{
+					ok++;
+				}
+			}
+			Arrays.sort(latencies);
+			succeeded = ok;
+		}
+		
+		/**
+		 * @return the results in the order of the operations
+		 */
+		public Result[] getResults()
+		{
+			return results;
+		}
+		
+		public int getSucceededCount()
+		{
+			return succeeded;
+		}
+		
+		public int getFailedCount()
+		{
+			return results.length - succeeded;
+		}
+		
+		public int getRetryCount()
+		{
+			return retries;
+		}
+		
+		public long getElapsedMillis()
+		{
+			return elapsed;
+		}
+		
+		/**
+		 * @return the completed operations per second
+		 */
+		public double getThroughput()
+		{
+			return elapsed == 0 ? 0 : results.length * 1000.0 / elapsed;
+		}
+		
+		/**
+		 * @param percentile between 0 and 100, e.g. 50, 95 or 99
+		 * @return the latency in milliseconds at the percentile, nearest-rank
+		 */
+		public long getLatencyPercentile(double percentile)
+		{
+			if(latencies.length == 0)
+			{
+				return 0;
+			}
+			int rank = (int) Math.ceil(percentile / 100 * latencies.length);
+			return latencies[Math.min(Math.max(rank, 1), latencies.length) - 1];
+		}
+		
+		public String toString()
+		{
+			return results.length + " operations (" + succeeded + " succeeded, " + getFailedCount() 
+				+ " failed, " + retries + " retries) in " + elapsed + "ms, " 
+				+ Math.round(getThroughput() * 10) / 10.0 + " ops/s, latency p50=" 
+				+ getLatencyPercentile(50) + "ms p90=" + getLatencyPercentile(90) + "ms p99=" 
+				+ getLatencyPercentile(99) + "ms max=" + getLatencyPercentile(100) + "ms";
+		}
+	}
+	
+	private static class Entry
+	{
+		final int index;
+		final Operation operation;
+		long firstStart = 0;
+		long notBefore = 0;
+		
+		Entry(int index, Operation operation)
+		{
+			this.index = index;
+			this.operation = operation;
+		}
+	}
+	
+	/**
+	 * The state of one execute() call. All fields are guarded by the Run itself.
+	 */
+	private class Run
+	{
+		private final Result[] results;
+		private final LinkedList<Entry> pending = new LinkedList<Entry>();
+		private final Map<ManagedObjectReference, int[]> inFlightPerScope = new HashMap<ManagedObjectReference, int[]>();
+		private final Map<String, Integer> typeLimits;
+		private final Map<ManagedObjectReference, Integer> scopeLimits;
+		private final List<Class<? extends Throwable>> transientFaults;
+		private final int maxRetries;
+		private final long retryDelay;
+		private final int startThreads;
+		private int inFlight = 0;
+		private int completed = 0;
+		private int retries = 0;
+		
+		Run(Collection<? extends Operation> operations)
+		{
+			results = new Result[operations.size()];
+			int i = 0;
+			for(Iterator<? extends Operation> it = operations.iterator(); it.hasNext(); i++)
+			{
+				Operation op = it.next();
+				results[i] = new Result(op);
+				pending.add(new Entry(i, op));
+			}
+			typeLimits = new HashMap<String, Integer>(BulkTaskExecutor.this.typeLimits);
+			scopeLimits = new HashMap<ManagedObjectReference, Integer>(BulkTaskExecutor.this.scopeLimits);
+			transientFaults = new ArrayList<Class<? extends Throwable>>(BulkTaskExecutor.this.transientFaults);
+			maxRetries = BulkTaskExecutor.this.maxRetries;
+			retryDelay = BulkTaskExecutor.this.retryDelay;
+			startThreads = BulkTaskExecutor.this.startThreads;
+		}
+		
+		Stats execute() throws InterruptedException
+		{
+			ThreadFactory tf = new ThreadFactory()
+			{
+				private int count = 0;
+				
+				public synchronized Thread newThread(Runnable r)
+				{
+					Thread t = new Thread(r, "BulkTaskExecutor-" + (++count));
+					t.setDaemon(true);
+					return t;
+				}
+			};
+			ExecutorService starter = new ThreadPoolExecutor(startThreads, startThreads, 
+					0, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), tf);
+			long begin = System.currentTimeMillis();
+			try
+			{
+				synchronized(this)
+				{
+					while(completed < results.length)
+					{
+						long now = System.currentTimeMillis();
+						long nextRetry = Long.MAX_VALUE;
+						for(Iterator<Entry> it = pending.iterator(); it.hasNext() && inFlight < maxInFlight; )
+						{
+							Entry entry = it.next();
+							if(entry.notBefore > now)
+							{
+								nextRetry = Math.min(nextRetry, entry.notBefore);
+							}
+							else if(acquire(entry.operation.getScopes()))
+							{
+								it.remove();
+								inFlight++;
+								starter.execute(new Starter(entry));
+							}
+						}
+						if(completed < results.length)
+						{
+							wait(nextRetry == Long.MAX_VALUE ? 0 : Math.max(1, nextRetry - now));
+						}
+					}
+				}
+			} 
+			finally
+			{
+				starter.shutdownNow();
+			}
+			return new Stats(results, System.currentTimeMillis() - begin, retries);
+		}
+		
+		private int getLimit(ManagedObjectReference scope)
+		{
+			Integer limit = scopeLimits.get(scope);
+			if(limit == null)
+			{
+				limit = typeLimits.get(scope.getType());
+			}
+			return limit == null ? Integer.MAX_VALUE : limit.intValue();
+		}
+		
+		private boolean acquire(ManagedObjectReference[] scopes)
+		{
+			for(int i=0; i<scopes.length; i++)
+			{
+				int[] count = inFlightPerScope.get(scopes[i]);
+				if(count != null && count[0] >= getLimit(scopes[i]))
+				{
+					return false;
+				}
+			}
+			for(int i=0; i<scopes.length; i++)
+			{
+				int[] count = inFlightPerScope.get(scopes[i]);
+				if(count == null)
+				{
+					count = new int[1];
+					inFlightPerScope.put(scopes[i], count);
+				}
+				count[0]++;
+			}
+			return true;
+		}
+		
+		private void release(ManagedObjectReference[] scopes)
+		{
+			for(int i=0; i<scopes.length; i++)
+			{
+				int[] count = inFlightPerScope.get(scopes[i]);
+				if(--count[0] == 0)
+				{
+					inFlightPerScope.remove(scopes[i]);
+				}
+			}
+		}
+		
+		private boolean isTransient(Throwable t)
+		{
+			for(; t != null; t = t.getCause())
+			{
+				for(int i=0; i<transientFaults.size(); i++)
+				{
+					if(transientFaults.get(i).isInstance(t))
+					{
+						return true;
+					}
+				}
+				if(t.getCause() == t)
+				{
+					break;
+				}
+			}
+			return false;
+		}
+		
+		synchronized void done(Entry entry, TaskInfo info, Throwable error)
+		{
+			release(entry.operation.getScopes());
+			inFlight--;
+			Result result = results[entry.index];
+			result.attempts++;
+			result.taskInfo = info;
+			if(error != null && result.attempts <= maxRetries && isTransient(error))
+			{
+				entry.notBefore = System.currentTimeMillis() + (retryDelay << (result.attempts - 1));
+				pending.addFirst(entry);
+				retries++;
+			}
+			else
+			{
+				result.error = error;
+				result.latency = System.currentTimeMillis() - entry.firstStart;
+				completed++;
+			}
+			notifyAll();
+		}
+		
+		private class Starter implements Runnable, AsyncCallback<TaskInfo>
+		{
+			private final Entry entry;
+			
+			Starter(Entry entry)
+			{
+				this.entry = entry;
+			}
+			
+			public void run()
+			{
+				if(entry.firstStart == 0)
+				{
+					entry.firstStart = System.currentTimeMillis();
+				}
+				Task task;
+				try
+				{
+					task = entry.operation.start();
+				} catch(Throwable t)
+				{
+					done(entry, null, t);
+					return;
+				}
+				try
+				{
+					task.getServerConnection().getTaskTracker().track(task, this);
+				} catch(Throwable t)
+				{
+					done(entry, null, t);
+				}
+			}
+			
+			public void completed(TaskInfo info)
+			{
+				if(info.getState() == TaskInfoState.success)
+				{
+					done(entry, info, null);
+					return;
+				}
+				LocalizedMethodFault lmf = info.getError();
+				MethodFault fault = lmf == null ? null : lmf.getFault();
+				done(entry, info, fault != null ? (Throwable) fault : new RuntimeException("Task failed: " + 
+						(lmf == null ? info.getState() : lmf.getLocalizedMessage())));
+			}
+			
+			public void failed(Throwable t)
+			{
+				done(entry, null, t);
+			}
+		}
+	}
+}
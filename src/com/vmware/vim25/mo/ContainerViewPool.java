@@ -0,0 +1,269 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo;
+
+import java.io.Closeable;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Reuses the ContainerViews of a ServerConnection across searches instead
+ * of creating and destroying a view for each. Views are keyed by container,
+ * types and recursion, and are leased: lease() gives a Lease holding the 
+ * view, and closing the lease gives it back. Threads searching with the 
+ * same container and types share a view.
+ * 
+ * The least recently used views are dropped from the pool when it would 
+ * grow beyond maxViews. A dropped view is destroyed on the server once its
+ * last lease is closed, so a search never loses the view it's paging 
+ * through. With maxViews 0 nothing is pooled and every view is destroyed
+ * when its lease is closed.
+ * 
+ * ServerConnection.getContainerViewPool() gives the pool of a connection;
+ * views left in it go away with the session at logout.
+ * @author Steve JIN (sjin@vmware.com)
+ */
+
+public class ContainerViewPool
+{
+	public final static int DEFAULT_MAX_VIEWS = 16;
+	
+	private final ServerConnection serverConnection;
+	private int maxViews = DEFAULT_MAX_VIEWS;
+	private final LinkedHashMap<String, Entry> views = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+	
+	ContainerViewPool(ServerConnection serverConnection)
+	{
+		this.serverConnection = serverConnection;
+	}
+	
+	/**
+	 * Lease the pooled view of the container and types, creating it if needed.
+	 * The view is created outside the lock of the pool, so searches on other
+	 * views don't wait for it. Close the lease when done with the view.
+	 * @param types the types of the objects in the view, e.g. "VirtualMachine"
+	 * or "ManagedEntity"
+	 */
+	public Lease lease(ManagedEntity container, String[] types, boolean recursive) throws RemoteException
+	{
+		String key = getKey(container, types, recursive);
+		synchronized(this)
+		{
+			Entry entry = views.get(key);
+			if(entry!=null)
+			{
+				entry.leases++;
+				return new Lease(entry);
+			}
+		}
+		
+		ContainerView view = serverConnection.getServiceInstance().getViewManager()
+			.createContainerView(container, types, recursive);
+		Entry entry = new Entry(view);
+		ContainerView duplicate = null;
+		List<Entry> evicted = new ArrayList<Entry>();
+		synchronized(this)
+		{
+			Entry other = views.get(key);
+			if(other!=null)
+			{ // another thread created it meanwhile
+				other.leases++;
+				entry.retired = true;
+				duplicate = view;
+				entry = other;
+			}
+			else
+			{
+				entry.leases++;
+				if(maxViews > 0)
+				{
+					views.put(key, entry);
+				}
+				else
+				{
+					entry.retired = true;
+				}
+				for(Iterator<Entry> it = views.values().iterator(); views.size() > maxViews; )
+				{
+					Entry e = it.next();
+					it.remove();
+					e.retired = true;
+					if(e.leases==0)
+					{
+						evicted.add(e);
+					}
+				}
+			}
+		}
+		if(duplicate!=null)
+		{
+			destroyQuietly(duplicate);
+		}
+		for(int i=0; i<evicted.size(); i++)
+		{
+			destroyQuietly(evicted.get(i).view);
+		}
+		return new Lease(entry);
+	}
+	
+	/**
+	 * Drop all the views from the pool. The views not leased are destroyed
+	 * on the server now, the others when their last lease is closed.
+	 */
+	public void destroyAll()
+	{
+		List<Entry> idle = new ArrayList<Entry>();
+		synchronized(this)
+		{
+			for(Iterator<Entry> it = views.values().iterator(); it.hasNext(); )
+			{
+				Entry e = it.next();
+				e.retired = true;
+				if(e.leases==0)
+				{
+					idle.add(e);
+				}
+			}
+			views.clear();
+		}
+		for(int i=0; i<idle.size(); i++)
+		{
+			destroyQuietly(idle.get(i).view);
+		}
+	}
+	
+	/**
+	 * @param maxViews the number of views kept, 0 to destroy every view 
+	 * when its lease is closed
+	 */
+	public synchronized void setMaxViews(int maxViews)
+	{
+		if(maxViews < 0)
+		{
+			throw new IllegalArgumentException("maxViews must not be negative.");
+		}
+		this.maxViews = maxViews;
+	}
+	
+	/**
+	 * @return the number of views in the pool
+	 */
+	public synchronized int size()
+	{
+		return views.size();
+	}
+	
+	private void release(Entry entry)
+	{
+		synchronized(this)
+		{
+			entry.leases--;
+			if(!entry.retired || entry.leases > 0)
+			{
+				return;
+			}
+		}
+		destroyQuietly(entry.view);
+	}
+	
+	private static String getKey(ManagedEntity container, String[] types, boolean recursive)
+	{
+		String[] sorted = types==null ? new String[0] : types.clone();
+		Arrays.sort(sorted);
+		StringBuffer sb = new StringBuffer();
+		sb.append(container.getMOR().getType()).append(':').append(container.getMOR().get_value());
+		sb.append(recursive ? "|r" : "|n");
+		for(int i=0; i<sorted.length; i++)
+		{
+			sb.append('|').append(sorted[i]);
+		}
+		return sb.toString();
+	}
+	
+	private static void destroyQuietly(ContainerView view)
+	{
+		try
+		{
+			view.destroyView();
+		} catch(RemoteException re)
+		{
+			// the session may be gone already
+		}
+	}
+	
+	private static class Entry
+	{
+		final ContainerView view;
+		int leases = 0;
+		// out of the pool, destroyed with the last lease
+		boolean retired = false;
+		
+		Entry(ContainerView view)
+		{
+			this.view = view;
+		}
+	}
+	
+	/**
+	 * A view in use. Closing it more than once is harmless.
+	 */
+	public class Lease implements Closeable
+	{
+		private final Entry entry;
+		private boolean closed = false;
+		
+		private Lease(Entry entry)
+		{
+			this.entry = entry;
+		}
+		
+		public ContainerView getView()
+		{
+			return entry.view;
+		}
+		
+		public void close()
+		{
+			synchronized(this)
+			{
+				if(closed)
+				{
+					return;
+				}
+				closed = true;
+			}
+			release(entry);
+		}
+	}
+}
@@ -0,0 +1,576 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.vmware.vim25.Event;
+import com.vmware.vim25.EventFilterSpec;
+import com.vmware.vim25.EventFilterSpecByTime;
+
+/**
+ * Reads the events of a time range with several EventHistoryCollectors in 
+ * parallel and passes them to a consumer on the calling thread.
+ * 
+ * The range is split into equal partitions of time, each read by its own 
+ * collector from the oldest event on. The number of events per 
+ * readNextEvents() call adapts to the time the calls take. The readers put 
+ * the events into a bounded queue, so they wait when the consumer falls 
+ * behind. Events are delivered once by their key, even where partitions 
+ * overlap at their boundaries.
+ * 
+ * With a checkpoint file the harvester saves the time and key of the last 
+ * event up to which all events have been consumed, and a later harvest of 
+ * the same range resumes from there. Events of later partitions consumed
+ * before the checkpoint was saved are delivered again after a resume.
+ * @author Steve JIN (sjin@vmware.com)
+ */
+
+public class EventHarvester
+{
+	public final static int DEFAULT_PARTITIONS = 4;
+	public final static int DEFAULT_QUEUE_CAPACITY = 10000;
+	public final static int MIN_PAGE_SIZE = 10;
+	/** the most events readNextEvents() returns at once */
+	public final static int MAX_PAGE_SIZE = 1000;
+	public final static long DEFAULT_TARGET_READ_MILLIS = 1000;
+	public final static int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+	
+	private final EventManager eventManager;
+	private final EventFilterSpec filter;
+	private int partitions = DEFAULT_PARTITIONS;
+	private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+	private long targetReadMillis = DEFAULT_TARGET_READ_MILLIS;
+	private File checkpointFile = null;
+	private int checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+	private volatile long duplicates = 0;
+	
+	/**
+	 * Receives the harvested events, in time order per partition.
+	 */
+	public static interface Consumer
+	{
+		void event(Event event) throws Exception;
+	}
+	
+	/**
+	 * @param filter the filter of the events, whose time is set per partition; 
+	 * null for all events
+	 */
+	public EventHarvester(EventManager eventManager, EventFilterSpec filter)
+	{
+		if(eventManager==null)
+		{
+			throw new IllegalArgumentException("eventManager must not be null.");
+		}
+		this.eventManager = eventManager;
+		this.filter = filter==null ? new EventFilterSpec() : filter;
+	}
+	
+	/**
+	 * @param partitions the number of collectors reading in parallel, within 
+	 * EventManager.maxCollector of the session
+	 */
+	public synchronized void setPartitions(int partitions)
+	{
+		if(partitions < 1)
+		{
+			throw new IllegalArgumentException("partitions must be positive.");
+		}
+		this.partitions = partitions;
+	}
+	
+	/**
+	 * @param queueCapacity the number of events read ahead of the consumer
+	 */
+	public synchronized void setQueueCapacity(int queueCapacity)
+	{
+		if(queueCapacity < 1)
+		{
+			throw new IllegalArgumentException("queueCapacity must be positive.");
+		}
+		this.queueCapacity = queueCapacity;
+	}
+	
+	/**
+	 * @param targetReadMillis the time a readNextEvents() call should take; the 
+	 * page size grows while calls are faster and shrinks when they are slower
+	 */
+	public synchronized void setTargetReadMillis(long targetReadMillis)
+	{
+		this.targetReadMillis = targetReadMillis;
+	}
+	
+	/**
+	 * @param checkpointFile the file to save the progress to and resume from, null for none
+	 * @param checkpointInterval the number of consumed events between two saves
+	 */
+	public synchronized void setCheckpoint(File checkpointFile, int checkpointInterval)
+	{
+		if(checkpointInterval < 1)
+		{
+			throw new IllegalArgumentException("checkpointInterval must be positive.");
+		}
+		this.checkpointFile = checkpointFile;
+		this.checkpointInterval = checkpointInterval;
+	}
+	
+	/**
+	 * @return the number of events dropped as duplicates in the last harvest
+	 */
+	public long getDuplicateCount()
+	{
+		return duplicates;
+	}
+	
+	/**
+	 * Read the events of the time range and pass them to the consumer. If the
+	 * consumer throws, the harvest stops and the exception is rethrown 
+	 * wrapped in a RuntimeException, unless it is a RemoteException.
+	 * @param beginTime the beginning of the range, null for the oldest event, 
+	 * in which case the range is not partitioned
+	 * @param endTime the end of the range, null for the current server time
+	 * @return the number of events consumed
+	 */
+	public long harvest(Calendar beginTime, Calendar endTime, Consumer consumer) 
+		throws RemoteException, IOException, InterruptedException
+	{
+		if(consumer==null)
+		{
+			throw new IllegalArgumentException("consumer must not be null.");
+		}
+		int nParts;
+		int capacity;
+		long target;
+		File file;
+		int interval;
+		synchronized(this)
+		{
+			nParts = partitions;
+			capacity = queueCapacity;
+			target = targetReadMillis;
+			file = checkpointFile;
+			interval = checkpointInterval;
+		}
+		duplicates = 0;
+		
+		if(endTime==null)
+		{
+			endTime = eventManager.getServerConnection().getServiceInstance().currentTime();
+		}
+		long resumeTime = Long.MIN_VALUE;
+		int resumeKey = -1;
+		if(file!=null && file.exists())
+		{
+			Properties cp = loadCheckpoint(file);
+			resumeTime = Long.parseLong(cp.getProperty("time"));
+			resumeKey = Integer.parseInt(cp.getProperty("key"));
+			if(beginTime==null || resumeTime > beginTime.getTimeInMillis())
+			{
+				beginTime = (Calendar) endTime.clone();
+				beginTime.setTimeInMillis(resumeTime);
+			}
+		}
+		
+		Partition[] parts = split(beginTime, endTime, beginTime==null ? 1 : nParts);
+		BlockingQueue<Item> queue = new ArrayBlockingQueue<Item>(capacity);
+		ExecutorService pool = createPool(parts.length);
+		List<EventHistoryCollector> collectors = new ArrayList<EventHistoryCollector>();
+		try
+		{
+			for(int i=0; i<parts.length; i++)
+			{
+				EventHistoryCollector collector = eventManager.createCollectorForEvents(copyFilter(parts[i]));
+				collectors.add(collector);
+				pool.execute(new Reader(collector, i, queue, target));
+			}
+			
+			IntSet seen = new IntSet();
+			long count = 0;
+			int first = 0;
+			int running = parts.length;
+			while(running > 0)
+			{
+				Item item = queue.take();
+				if(item.error!=null)
+				{
+					if(item.error instanceof RemoteException)
+					{
+						throw (RemoteException) item.error;
+					}
+					throw new RuntimeException(item.error);
+				}
+				Partition part = parts[item.partition];
+				if(item.event==null)
+				{
+					part.done = true;
+					running--;
+				}
+				else
+				{
+					Event event = item.event;
+					long time = event.getCreatedTime().getTimeInMillis();
+					if(!seen.add(event.getKey()) || time < resumeTime 
+							|| (time == resumeTime && event.getKey() <= resumeKey))
+					{
+						duplicates++;
+						continue;
+					}
+					try
+					{
+						consumer.event(event);
+					} catch(RuntimeException re)
+					{
+						throw re;
+					} catch(RemoteException re)
+					{
+						throw re;
+					} catch(Exception e)
+					{
+						throw new RuntimeException(e);
+					}
+					part.lastTime = time;
+					part.lastKey = event.getKey();
+					count++;
+				}
+				
+				boolean advanced = false;
+				while(first < parts.length - 1 && parts[first].done)
+				{
+					first++;
+					advanced = true;
+				}
+				if(file!=null && (advanced || count % interval == 0))
+				{
+					saveCheckpoint(file, parts, first);
+				}
+			}
+			if(file!=null)
+			{
+				saveCheckpoint(file, parts, first);
+			}
+			return count;
+		} 
+		finally
+		{
+			pool.shutdownNow();
+			for(int i=0; i<collectors.size(); i++)
+			{
+				try
+				{
+					collectors.get(i).destroyCollector();
+				} catch(RemoteException re)
+				{ // the collector goes with the session anyway
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Save the time and key of the last event up to which all events have 
+	 * been consumed: those of the first partition not done.
+	 */
+	private static void saveCheckpoint(File file, Partition[] parts, int first) throws IOException
+	{
+		Partition part = parts[first];
+		long time = part.lastTime;
+		int key = part.lastKey;
+		if(time == Long.MIN_VALUE)
+		{
+			if(part.begin == null)
+			{
+				return;
+			}
+			time = part.begin.getTimeInMillis();
+			key = -1;
+		}
+		Properties cp = new Properties();
+		cp.setProperty("time", String.valueOf(time));
+		cp.setProperty("key", String.valueOf(key));
+		File tmp = new File(file.getPath() + ".tmp");
+		OutputStream os = new FileOutputStream(tmp);
+		try
+		{
+			cp.store(os, "EventHarvester checkpoint");
+		} 
+		finally
+		{
+			os.close();
+		}
+		if(!tmp.renameTo(file))
+		{
+			file.delete();
+			if(!tmp.renameTo(file))
+			{
+				throw new IOException("Cannot rename " + tmp + " to " + file);
+			}
+		}
+	}
+	
+	private static Properties loadCheckpoint(File file) throws IOException
+	{
+		Properties cp = new Properties();
+		InputStream is = new FileInputStream(file);
+		try
+		{
+			cp.load(is);
+		} 
+		finally
+		{
+			is.close();
+		}
+		if(cp.getProperty("time")==null || cp.getProperty("key")==null)
+		{
+			throw new IOException("Invalid checkpoint file: " + file);
+		}
+		return cp;
+	}
+	
+	private static Partition[] split(Calendar beginTime, Calendar endTime, int n)
+	{
+		if(beginTime==null)
+		{
+			return new Partition[] { new Partition(null, endTime) };
+		}
+		long begin = beginTime.getTimeInMillis();
+		long span = Math.max(0, endTime.getTimeInMillis() - begin);
+		n = (int) Math.max(1, Math.min(n, span / 1000));
+		Partition[] parts = new Partition[n];
+		Calendar b = beginTime;
+		for(int i=0; i<n; i++)
+		{
+			Calendar e = endTime;
+			if(i < n - 1)
+			{
+				e = (Calendar) endTime.clone();
+				e.setTimeInMillis(begin + span * (i + 1) / n);
+			}
+			parts[i] = new Partition(b, e);
+			b = e;
+		}
+		return parts;
+	}
+	
+	private EventFilterSpec copyFilter(Partition part)
+	{
+		EventFilterSpec spec = new EventFilterSpec();
+		spec.setEntity(filter.getEntity());
+		spec.setUserName(filter.getUserName());
+		spec.setEventChainId(filter.getEventChainId());
+		spec.setAlarm(filter.getAlarm());
+		spec.setScheduledTask(filter.getScheduledTask());
+		spec.setDisableFullMessage(filter.getDisableFullMessage());
+		spec.setCategory(filter.getCategory());
+		spec.setType(filter.getType());
+		spec.setTag(filter.getTag());
+		spec.setEventTypeId(filter.getEventTypeId());
+		EventFilterSpecByTime time = new EventFilterSpecByTime();
+		time.setBeginTime(part.begin);
+		time.setEndTime(part.end);
+		spec.setTime(time);
+		return spec;
+	}
+	
+	private static ExecutorService createPool(int size)
+	{
+		ThreadFactory tf = new ThreadFactory()
+		{
+			private int count = 0;
+			
+			public synchronized Thread newThread(Runnable r)
+			{
+				Thread t = new Thread(r, "EventHarvester-" + (++count));
+				t.setDaemon(true);
+				return t;
+			}
+		};
+		return new ThreadPoolExecutor(size, size, 0, TimeUnit.SECONDS, 
+				new LinkedBlockingQueue<Runnable>(), tf);
+	}
+	
+	private static class Partition
+	{
+		final Calendar begin;
+		final Calendar end;
+		/** the last consumed event, guarded by the harvesting thread */
+		long lastTime = Long.MIN_VALUE;
+		int lastKey = -1;
+		boolean done = false;
+		
+		Partition(Calendar begin, Calendar end)
+		{
+			this.begin = begin;
+			this.end = end;
+		}
+	}
+	
+	/**
+	 * An event, the end of a partition when the event is null, or a failure.
+	 */
+	private static class Item
+	{
+		final int partition;
+		final Event event;
+		final Throwable error;
+		
+		Item(int partition, Event event, Throwable error)
+		{
+			this.partition = partition;
+			this.event = event;
+			this.error = error;
+		}
+	}
+	
+	private static class Reader implements Runnable
+	{
+		private final EventHistoryCollector collector;
+		private final int partition;
+		private final BlockingQueue<Item> queue;
+		private final long target;
+		
+		Reader(EventHistoryCollector collector, int partition, BlockingQueue<Item> queue, long target)
+		{
+			this.collector = collector;
+			this.partition = partition;
+			this.queue = queue;
+			this.target = target;
+		}
+		
+		public void run()
+		{
+			try
+			{
+				try
+				{
+					collector.rewindCollector();
+					int pageSize = 100;
+					while(true)
+					{
+						long start = System.currentTimeMillis();
+						Event[] events = collector.readNextEvents(pageSize);
+						long time = System.currentTimeMillis() - start;
+						if(events==null || events.length==0)
+						{
+							break;
+						}
+						for(int i=0; i<events.length; i++)
+						{
+							queue.put(new Item(partition, events[i], null));
+						}
+						if(events.length == pageSize && time < target / 2)
+						{
+							pageSize = Math.min(pageSize * 2, MAX_PAGE_SIZE);
+						}
+						else if(time > target)
+						{
+							pageSize = Math.max(pageSize / 2, MIN_PAGE_SIZE);
+						}
+					}
+					queue.put(new Item(partition, null, null));
+				} catch(InterruptedException ie)
+				{
+					throw ie;
+				} catch(Throwable t)
+				{
+					queue.put(new Item(partition, null, t));
+				}
+			} catch(InterruptedException ie)
+			{ // the harvest has stopped
+			}
+		}
+	}
+	
+	/**
+	 * A set of int keys with open addressing, to remember millions of event
+	 * keys without an Integer each.
+	 */
+	private static class IntSet
+	{
+		private int[] keys = new int[1024];
+		private boolean[] used = new boolean[1024];
+		private int size = 0;
+		
+		boolean add(int key)
+		{
+			if(size * 2 >= keys.length)
+			{
+				grow();
+			}
+			int mask = keys.length - 1;
+			int h = key * 0x9E3779B9;
+			int i = (h ^ h >>> 16) & mask;
+			while(used[i])
+			{
+				if(keys[i] == key)
+				{
+					return false;
+				}
+				i = (i + 1) & mask;
+			}
+			used[i] = true;
+			keys[i] = key;
+			size++;
+			return true;
+		}
+		
+		private void grow()
+		{
+			int[] oldKeys = keys;
+			boolean[] oldUsed = used;
+			keys = new int[oldKeys.length * 2];
+			used = new boolean[oldKeys.length * 2];
+			size = 0;
+			for(int i=0; i<oldKeys.length; i++)
+			{
+				if(oldUsed[i])
+				{
+					add(oldKeys[i]);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,584 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.vmware.vim25.InvalidCollectorVersion;
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.NotAuthenticated;
+import com.vmware.vim25.ObjectSpec;
+import com.vmware.vim25.ObjectUpdate;
+import com.vmware.vim25.ObjectUpdateKind;
+import com.vmware.vim25.PropertyChange;
+import com.vmware.vim25.PropertyChangeOp;
+import com.vmware.vim25.PropertyFilterSpec;
+import com.vmware.vim25.PropertyFilterUpdate;
+import com.vmware.vim25.PropertySpec;
+import com.vmware.vim25.RequestCanceled;
+import com.vmware.vim25.UpdateSet;
+import com.vmware.vim25.WaitOptions;
+import com.vmware.vim25.mo.util.MorUtil;
+import com.vmware.vim25.mo.util.PropertyCollectorUtil;
+
+/**
+ * Keeps the name and the parent of every managed entity under a root in 
+ * memory, so that entities are found by name and type, and the tree is 
+ * walked, without calls to the server.
+ * 
+ * The index is built by the first update of one PropertyFilter on name and
+ * parent over the whole inventory, and kept current by a thread waiting for 
+ * the further updates of the filter. Names are matched ignoring case, like 
+ * InventoryNavigator.searchManagedEntity() does; give the index to an 
+ * InventoryNavigator with setInventoryIndex() to have its searches use it.
+ * 
+ * With servers of API 4.1 or later the index uses a PropertyCollector of 
+ * its own and waitForUpdatesEx, otherwise waitForUpdates on the session 
+ * PropertyCollector.
+ * @author Steve JIN (sjin@vmware.com)
+ */
+
+public class InventoryIndex implements Runnable
+{
+	public final static int DEFAULT_MAX_WAIT_SECONDS = 60;
+	private final static long MIN_BACKOFF = 1000;
+	private final static long MAX_BACKOFF = 60 * 1000;
+	private final static ManagedObjectReference[] NO_MORS = new ManagedObjectReference[0];
+	
+	private final ManagedEntity root;
+	private final ServerConnection serverConnection;
+	private PropertyCollector pc = null;
+	private boolean ownCollector = false;
+	private PropertyFilter filter = null;
+	private final WaitOptions options = new WaitOptions();
+	private volatile Thread thread = null;
+	private volatile boolean running = false;
+	/** while start() builds the index or close() cleans up */
+	private boolean starting = false;
+	private String version = "";
+	
+	/** name and parent per entity, all guarded by this */
+	private final Map<ManagedObjectReference, String> names = new HashMap<ManagedObjectReference, String>();
+	private final Map<ManagedObjectReference, ManagedObjectReference> parents = new HashMap<ManagedObjectReference, ManagedObjectReference>();
+	private final Map<ManagedObjectReference, Set<ManagedObjectReference>> children = new HashMap<ManagedObjectReference, Set<ManagedObjectReference>>();
+	/** the entities by lower case name */
+	private final Map<String, List<ManagedObjectReference>> byName = new HashMap<String, List<ManagedObjectReference>>();
+	
+	/** whether a managed object type is the type searched for or a subtype of it */
+	private final static Map<String, Boolean> subtypes = new ConcurrentHashMap<String, Boolean>();
+	
+	/**
+	 * @param root the root of the entities to index, usually the root folder
+	 */
+	public InventoryIndex(ManagedEntity root)
+	{
+		if(root==null)
+		{
+			throw new IllegalArgumentException("root must not be null.");
+		}
+		this.root = root;
+		this.serverConnection = root.getServerConnection();
+		options.setMaxWaitSeconds(DEFAULT_MAX_WAIT_SECONDS);
+	}
+	
+	/**
+	 * Build the index and start keeping it current. Returns once the index 
+	 * holds all the entities. A call made while another builds the index 
+	 * waits for it. If building fails, the collector or filter created is 
+	 * destroyed and start() can be called again.
+	 */
+	public void start() throws RemoteException
+	{
+		synchronized(this)
+		{
+			while(starting)
+			{
+				try
+				{
+					wait();
+				} catch(InterruptedException ie)
+				{
+					Thread.currentThread().interrupt();
+					throw new RuntimeException(ie);
+				}
+			}
+			if(running)
+			{
+				return;
+			}
+			starting = true;
+		}
+		
+		boolean started = false;
+		try
+		{
+			ServiceInstance si = serverConnection.getServiceInstance();
+			pc = si.getPropertyCollector();
+			if(PropertyCollectorUtil.isApiVersionAtLeast(si.getAboutInfo(), 4, 1))
+			{
+				pc = pc.createPropertyCollector();
+				ownCollector = true;
+			}
+			
+			String apiVersion = si.getAboutInfo().getApiVersion();
+			ObjectSpec os = PropertyCollectorUtil.creatObjectSpec(root.getMOR(), false, 
+					apiVersion.startsWith("2") ? PropertyCollectorUtil.buildFullTraversal() 
+						: PropertyCollectorUtil.buildFullTraversalV4());
+			PropertySpec ps = PropertyCollectorUtil.createPropertySpec("ManagedEntity", false, 
+					new String[] { "name", "parent" });
+			PropertyFilterSpec pfs = new PropertyFilterSpec();
+			pfs.setObjectSet(new ObjectSpec[] { os });
+			pfs.setPropSet(new PropertySpec[] { ps });
+			filter = pc.createFilter(pfs, true);
+			
+			// the first update holds all the entities, maybe in truncated pieces
+			UpdateSet update;
+			do
+			{
+				update = waitForUpdates(pc, ownCollector);
+			} while(update != null && Boolean.TRUE.equals(update.getTruncated()));
+			started = true;
+		} finally
+		{
+			if(!started)
+			{
+				destroyCollector(pc, ownCollector, filter);
+			}
+			synchronized(this)
+			{
+				starting = false;
+				if(!started)
+				{
+					detachCollector();
+				}
+				if(started)
+				{
+					running = true;
+					thread = new Thread(this, "InventoryIndex for " + serverConnection.getUrl());
+					thread.setDaemon(true);
+					thread.start();
+				}
+				else
+				{
+					clear();
+				}
+				notifyAll();
+			}
+		}
+	}
+	
+	/**
+	 * Destroy the collector, or the filter on the session collector, if created.
+	 */
+	private static void destroyCollector(PropertyCollector collector, boolean own, PropertyFilter pf)
+	{
+		try
+		{
+			if(own)
+			{
+				collector.destroyPropertyCollector();
+			}
+			else if(pf != null)
+			{
+				pf.destroyPropertyFilter();
+			}
+		} catch(RemoteException re)
+		{
+			// the session may be gone already
+		}
+	}
+	
+	/**
+	 * Forget the collector and filter; called holding the lock.
+	 */
+	private void detachCollector()
+	{
+		pc = null;
+		filter = null;
+		ownCollector = false;
+	}
+	
+	/**
+	 * Forget the entities of a failed build; called holding the lock.
+	 */
+	private void clear()
+	{
+		names.clear();
+		parents.clear();
+		children.clear();
+		byName.clear();
+		version = "";
+	}
+	
+	@SuppressWarnings("deprecation")
+	private UpdateSet waitForUpdates(PropertyCollector collector, boolean own) throws RemoteException
+	{
+		UpdateSet update = own ? collector.waitForUpdatesEx(version, options) 
+				: collector.waitForUpdates(version);
+		if(update != null)
+		{
+			version = update.getVersion();
+			applyUpdate(update.getFilterSet());
+		}
+		return update;
+	}
+	
+	public void run()
+	{
+		PropertyCollector collector;
+		boolean own;
+		synchronized(this)
+		{
+			collector = pc;
+			own = ownCollector;
+		}
+		long backoff = MIN_BACKOFF;
+		// a thread left behind by a close() timing out stops once another runs
+		while(running && thread == Thread.currentThread())
+		{
+			try
+			{
+				waitForUpdates(collector, own);
+				backoff = MIN_BACKOFF;
+			}
+			catch(NotAuthenticated na)
+			{
+				running = false;
+				break;
+			}
+			catch(RequestCanceled rc)
+			{
+				// canceled by close()
+			}
+			catch(InvalidCollectorVersion icv)
+			{
+				version = "";
+			}
+			catch(Exception e)
+			{
+				if(!running || thread != Thread.currentThread())
+				{
+					break;
+				}
+				e.printStackTrace();
+				try
+				{
+					Thread.sleep(backoff);
+				} catch(InterruptedException ie)
+				{
+					break;
+				}
+				backoff = Math.min(backoff * 2, MAX_BACKOFF);
+			}
+		}
+	}
+	
+	/**
+	 * @return true while the index is kept current
+	 */
+	public boolean isRunning()
+	{
+		return running;
+	}
+	
+	private synchronized void applyUpdate(PropertyFilterUpdate[] pfus)
+	{
+		for(int i=0; pfus!=null && i<pfus.length; i++)
+		{
+			ObjectUpdate[] ous = pfus[i].getObjectSet();
+			for(int j=0; ous!=null && j<ous.length; j++)
+			{
+				ManagedObjectReference mor = ous[j].getObj();
+				if(ous[j].getKind() == ObjectUpdateKind.leave)
+				{
+					setName(mor, null);
+					setParent(mor, null);
+					names.remove(mor);
+					parents.remove(mor);
+					continue;
+				}
+				if(!names.containsKey(mor))
+				{
+					names.put(mor, null);
+				}
+				PropertyChange[] pcs = ous[j].getChangeSet();
+				for(int k=0; pcs!=null && k<pcs.length; k++)
+				{
+					boolean removed = pcs[k].getOp() == PropertyChangeOp.remove 
+						|| pcs[k].getOp() == PropertyChangeOp.indirectRemove;
+					Object val = removed ? null : pcs[k].getVal();
+					if("name".equals(pcs[k].getName()))
+					{
+						setName(mor, (String) val);
+					}
+					else if("parent".equals(pcs[k].getName()))
+					{
+						setParent(mor, (ManagedObjectReference) val);
+					}
+				}
+			}
+		}
+	}
+	
+	private void setName(ManagedObjectReference mor, String name)
+	{
+		String old = names.get(mor);
+		if(old != null)
+		{
+			String key = old.toLowerCase(Locale.ENGLISH);
+			List<ManagedObjectReference> mors = byName.get(key);
+			mors.remove(mor);
+			if(mors.isEmpty())
+			{
+				byName.remove(key);
+			}
+		}
+		names.put(mor, name);
+		if(name != null)
+		{
+			String key = name.toLowerCase(Locale.ENGLISH);
+			List<ManagedObjectReference> mors = byName.get(key);
+			if(mors == null)
+			{
+				mors = new ArrayList<ManagedObjectReference>(1);
+				byName.put(key, mors);
+			}
+			mors.add(mor);
+		}
+	}
+	
+	private void setParent(ManagedObjectReference mor, ManagedObjectReference parent)
+	{
+		ManagedObjectReference old = parents.get(mor);
+		if(old != null)
+		{
+			Set<ManagedObjectReference> siblings = children.get(old);
+			siblings.remove(mor);
+			if(siblings.isEmpty())
+			{
+				children.remove(old);
+			}
+		}
+		parents.put(mor, parent);
+		if(parent != null)
+		{
+			Set<ManagedObjectReference> siblings = children.get(parent);
+			if(siblings == null)
+			{
+				siblings = new LinkedHashSet<ManagedObjectReference>();
+				children.put(parent, siblings);
+			}
+			siblings.add(mor);
+		}
+	}
+	
+	/**
+	 * Find an entity by type and name, ignoring case.
+	 * @param type the type, like "VirtualMachine" or "ComputeResource", which 
+	 * also matches its subtypes; null for any managed entity
+	 * @return the first entity found, null if none
+	 */
+	public ManagedEntity find(String type, String name)
+	{
+		ManagedObjectReference[] mors = findMORs(type, name, null, true);
+		return mors.length == 0 ? null : MorUtil.createExactManagedEntity(serverConnection, mors[0]);
+	}
+	
+	/**
+	 * Find all the entities of a type with a name, ignoring case.
+	 * @see #find(String, String)
+	 */
+	public ManagedEntity[] findAll(String type, String name)
+	{
+		return MorUtil.createManagedEntities(serverConnection, findMORs(type, name, null, false));
+	}
+	
+	/**
+	 * @param ancestor the entity under which to search, null for all
+	 * @param first whether to stop at the first match
+	 * @return the matching entities
+	 */
+	public synchronized ManagedObjectReference[] findMORs(String type, String name, 
+			ManagedObjectReference ancestor, boolean first)
+	{
+		List<ManagedObjectReference> mors = name == null ? null : byName.get(name.toLowerCase(Locale.ENGLISH));
+		if(mors == null)
+		{
+			return NO_MORS;
+		}
+		List<ManagedObjectReference> found = new ArrayList<ManagedObjectReference>(1);
+		for(int i=0; i<mors.size(); i++)
+		{
+			ManagedObjectReference mor = mors.get(i);
+			if(isOfType(mor.getType(), type) && name.equalsIgnoreCase(names.get(mor))
+					&& (ancestor == null || isUnder(mor, ancestor)))
+			{
+				found.add(mor);
+				if(first)
+				{
+					break;
+				}
+			}
+		}
+		return found.toArray(new ManagedObjectReference[found.size()]);
+	}
+	
+	/**
+	 * @return the name of the entity, null if it is not in the index
+	 */
+	public synchronized String getName(ManagedObjectReference mor)
+	{
+		return names.get(mor);
+	}
+	
+	/**
+	 * @return the parent of the entity, null for the root or if it is not in the index
+	 */
+	public synchronized ManagedObjectReference getParent(ManagedObjectReference mor)
+	{
+		return parents.get(mor);
+	}
+	
+	/**
+	 * @return the children of the entity in the inventory tree
+	 */
+	public synchronized ManagedObjectReference[] getChildren(ManagedObjectReference mor)
+	{
+		Set<ManagedObjectReference> mors = children.get(mor);
+		return mors == null ? NO_MORS : mors.toArray(new ManagedObjectReference[mors.size()]);
+	}
+	
+	/**
+	 * @return whether the entity is the ancestor or in its subtree
+	 */
+	public synchronized boolean isUnder(ManagedObjectReference mor, ManagedObjectReference ancestor)
+	{
+		for(int depth = 0; mor != null && depth <= names.size(); depth++)
+		{
+			if(mor.equals(ancestor))
+			{
+				return true;
+			}
+			mor = parents.get(mor);
+		}
+		return false;
+	}
+	
+	/**
+	 * @return the number of entities in the index
+	 */
+	public synchronized int size()
+	{
+		return names.size();
+	}
+	
+	private static boolean isOfType(String moType, String type)
+	{
+		if(type == null || type.equals(moType) || "ManagedEntity".equals(type))
+		{
+			return true;
+		}
+		String key = moType + ":" + type;
+		Boolean is = subtypes.get(key);
+		if(is == null)
+		{
+			try
+			{
+				Class<?> clazz = Class.forName(MorUtil.moPackageName + "." + type);
+				is = Boolean.valueOf(clazz.isAssignableFrom(Class.forName(MorUtil.moPackageName + "." + moType)));
+			} catch(ClassNotFoundException cnfe)
+			{
+				is = Boolean.FALSE;
+			}
+			subtypes.put(key, is);
+		}
+		return is.booleanValue();
+	}
+	
+	/**
+	 * Stop keeping the index current and remove the filter from the server.
+	 */
+	public void close()
+	{
+		Thread t;
+		PropertyCollector collector;
+		boolean own;
+		PropertyFilter pf;
+		synchronized(this)
+		{
+			if(!running)
+			{
+				return;
+			}
+			running = false;
+			t = thread;
+			thread = null;
+			// a start() meanwhile waits for the clean up
+			starting = true;
+			collector = pc;
+			own = ownCollector;
+			pf = filter;
+		}
+		try
+		{
+			try
+			{
+				collector.cancelWaitForUpdates();
+			} catch(RemoteException re)
+			{
+				// nothing waiting
+			}
+			try
+			{
+				t.join(10 * 1000);
+			} catch(InterruptedException ie)
+			{
+				Thread.currentThread().interrupt();
+			}
+			destroyCollector(collector, own, pf);
+		} finally
+		{
+			synchronized(this)
+			{
+				detachCollector();
+				starting = false;
+				notifyAll();
+			}
+		}
+	}
+}
@@ -1,20 +1,47 @@
 package com.vmware.vim25.mo;
 
 import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import com.vmware.vim25.*;
 import com.vmware.vim25.mo.util.*;
+import com.vmware.vim25.mo.util.ObjectContentIterator;
 import com.vmware.vim25.mo.util.PropertyCollectorUtil;
 
 public class InventoryNavigator
 {
 	private ManagedEntity rootEntity = null;
 	private SelectionSpec[] selectionSpecs = null;
+	private InventoryIndex index = null;
+	private boolean useContainerView = false;
 
 	public InventoryNavigator(ManagedEntity rootEntity)
 	{
 		this.rootEntity = rootEntity;
 	}
+	
+	/**
+	 * Have searchManagedEntity() look entities up in the index instead of 
+	 * retrieving the names of all entities, as long as the index is running.
+	 * @param index the started index, null to search on the server again
+	 */
+	public void setInventoryIndex(InventoryIndex index)
+	{
+		this.index = index;
+	}
+	
+	/**
+	 * Have recursive searches read a ContainerView of the requested types 
+	 * under the root entity, taken from the pool of the connection, instead 
+	 * of having the server walk the whole tree with a full traversal. 
+	 * Ignored with servers without a ViewManager.
+	 */
+	public void setUseContainerView(boolean useContainerView)
+	{
+		this.useContainerView = useContainerView;
+	}
 
 	/**
 	 * Retrieve container contents from specified parent recursively if requested.
@@ -62,12 +89,81 @@ public class InventoryNavigator
 		{
 			return null;
 		}
+		
+		ObjectContentIterator it = iterateObjectContents(typeinfo, recurse, ObjectContentIterator.DEFAULT_MAX_OBJECTS);
+		List<ObjectContent> ocs = new ArrayList<ObjectContent>();
+		try
+		{
+			ObjectContent[] page = null;
+			while((page = it.nextPage()) != null)
+			{
+				ocs.addAll(Arrays.asList(page));
+			}
+		} catch(RuntimeException re)
+		{
+			throw unwrap(re);
+		} finally
+		{
+			it.close();
+		}
+		return ocs.toArray(new ObjectContent[ocs.size()]);
+	}
 	
-		PropertyCollector pc = rootEntity.getServerConnection().getServiceInstance().getPropertyCollector();
+	/**
+	 * Retrieve content recursively with multiple properties page by page, 
+	 * holding one page at a time. Close the iterator when stopping early.
+	 * 
+	 * @param typeinfo 2D array of properties for each typename
+	 * @param recurse retrieve contents recursively from the root down
+	 * @param maxObjects the most objects per page
+	 * @return the iterator over the object contents
+	 */
+	public ObjectContentIterator iterateObjectContents(String[][] typeinfo, boolean recurse, int maxObjects)
+	{
+		ServiceInstance si = rootEntity.getServerConnection().getServiceInstance();
+		PropertyCollector pc = si.getPropertyCollector();
+		PropertySpec[] propspecary = PropertyCollectorUtil.buildPropertySpecArray(typeinfo);
+		
+		if (recurse && useContainerView && si.getServiceContent().getViewManager()!=null)
+		{
+			String[] types = new String[typeinfo.length];
+			for(int i=0; i<typeinfo.length; i++)
+			{
+				types[i] = typeinfo[i][0];
+			}
+			ContainerViewPool.Lease lease;
+			try
+			{
+				lease = rootEntity.getServerConnection().getContainerViewPool().lease(rootEntity, types, true);
+			} catch(RemoteException re)
+			{
+				throw new RuntimeException(re);
+			}
+			
+			// the view holds what is under the root, so the root is added
+			ObjectSpec vs = PropertyCollectorUtil.creatObjectSpec(lease.getView().getMOR(), true, 
+					PropertyCollectorUtil.buildContainerViewTraversal());
+			ObjectSpec rs = PropertyCollectorUtil.creatObjectSpec(rootEntity.getMOR(), false, null);
+			PropertyFilterSpec spec = new PropertyFilterSpec();
+			spec.setObjectSet(new ObjectSpec[] { rs, vs });
+			spec.setPropSet(propspecary);
+			ObjectContentIterator it;
+			try
+			{
+				it = new ObjectContentIterator(pc, new PropertyFilterSpec[] { spec }, maxObjects);
+			} catch(RuntimeException re)
+			{
+				lease.close();
+				throw re;
+			}
+			// the view goes back to the pool when the iteration ends
+			it.setResource(lease);
+			return it;
+		}
 	
 		if (recurse && selectionSpecs==null) 
 		{
-		  AboutInfo ai = rootEntity.getServerConnection().getServiceInstance().getAboutInfo();
+		  AboutInfo ai = si.getAboutInfo();
 		  
 		  /* The apiVersion values in all the shipped products
 		  "2.0.0"    VI 3.0
@@ -80,8 +176,6 @@ public class InventoryNavigator
 			    PropertyCollectorUtil.buildFullTraversal();
 		}
 	
-		PropertySpec[] propspecary = PropertyCollectorUtil.buildPropertySpecArray(typeinfo);
-	
 		ObjectSpec os = new ObjectSpec();
 		os.setObj(rootEntity.getMOR());
 		os.setSkip(Boolean.FALSE);
@@ -91,7 +185,20 @@ public class InventoryNavigator
 		spec.setObjectSet(new ObjectSpec[] { os });
 		spec.setPropSet(propspecary);
 		
-		return pc.retrieveProperties(new PropertyFilterSpec[] { spec } );
+		return new ObjectContentIterator(pc, new PropertyFilterSpec[] { spec }, maxObjects);
+	}
+	
+	/**
+	 * @return the RemoteException wrapped by the iterator; other runtime 
+	 * exceptions are rethrown as they are
+	 */
+	private static RemoteException unwrap(RuntimeException re)
+	{
+		if(re.getCause() instanceof RemoteException)
+		{
+			return (RemoteException) re.getCause();
+		}
+		throw re;
 	}
 			
 	private ManagedEntity[] createManagedEntities(ObjectContent[] ocs) 
@@ -133,28 +240,40 @@ public class InventoryNavigator
 			type = "ManagedEntity";
 		}
 		
-		String[][] typeinfo = new String[][] { new String[] { type,  "name",}, };
-
-		ObjectContent[] ocs = retrieveObjectContents(typeinfo, true);
-
-		if (ocs==null || ocs.length == 0) 
+		InventoryIndex idx = index;
+		if(idx!=null && idx.isRunning())
 		{
-			return null;
+			ManagedObjectReference[] mors = idx.findMORs(type, name, rootEntity.getMOR(), true);
+			return mors.length==0 ? null : MorUtil.createExactManagedEntity(rootEntity.getServerConnection(), mors[0]);
 		}
+		
+		String[][] typeinfo = new String[][] { new String[] { type,  "name",}, };
 
-		for (int i = 0; i < ocs.length; i++) 
+		// stop at the first match, cancelling the remaining pages
+		ObjectContentIterator it = iterateObjectContents(typeinfo, true, ObjectContentIterator.DEFAULT_MAX_OBJECTS);
+		try
 		{
-			DynamicProperty[] propSet = ocs[i].getPropSet();
-			
-			if (propSet.length > 0) 
+			while (it.hasNext()) 
 			{
-				String nameInPropSet = (String) propSet[0].getVal();
-				if(name.equalsIgnoreCase(nameInPropSet))
+				ObjectContent oc = it.next();
+				DynamicProperty[] propSet = oc.getPropSet();
+				
+				if (propSet!=null && propSet.length > 0) 
 				{
-					ManagedObjectReference mor = ocs[i].getObj();
-					return MorUtil.createExactManagedEntity(rootEntity.getServerConnection(), mor);
+					String nameInPropSet = (String) propSet[0].getVal();
+					if(name.equalsIgnoreCase(nameInPropSet))
+					{
+						ManagedObjectReference mor = oc.getObj();
+						return MorUtil.createExactManagedEntity(rootEntity.getServerConnection(), mor);
+					}
 				}
 			}
+		} catch(RuntimeException re)
+		{
+			throw unwrap(re);
+		} finally
+		{
+			it.close();
 		}
 		return null;
 	}
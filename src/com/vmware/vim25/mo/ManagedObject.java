@@ -32,7 +32,15 @@ package com.vmware.vim25.mo;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.vmware.vim25.DynamicProperty;
 import com.vmware.vim25.InvalidProperty;
@@ -49,6 +57,7 @@ import com.vmware.vim25.RuntimeFault;
 import com.vmware.vim25.UpdateSet;
 import com.vmware.vim25.VimPortType;
 import com.vmware.vim25.mo.util.MorUtil;
+import com.vmware.vim25.mo.util.ObjectContentIterator;
 import com.vmware.vim25.mo.util.PropertyCollectorUtil;
 
 /**
@@ -72,6 +81,8 @@ abstract public class ManagedObject
 	private ServerConnection serverConnection = null;
 	/** holds the ExtensionManager managed object reference */
 	private ManagedObjectReference mor =  null;
+	/** the property values kept by prefetch(), replaced as a whole when changed */
+	private volatile Map<String, Object> prefetched = null;
 	
 	protected ManagedObject()
 	{
@@ -176,6 +187,25 @@ abstract public class ManagedObject
 	
 	protected Object getCurrentProperty(String propertyName)  
 	{
+		Map<String, Object> snapshot = prefetched;
+		if(snapshot!=null && snapshot.containsKey(propertyName))
+		{
+			Object value = snapshot.get(propertyName);
+			return value==PropertyCollectorUtil.NULL ? null : value;
+		}
+		
+		PropertyReadCoalescer coalescer = getServerConnection().getPropertyReadCoalescer();
+		if(coalescer!=null)
+		{
+			try
+			{
+				return coalescer.read(getMOR(), propertyName);
+			} catch(RemoteException re)
+			{
+				throw new RuntimeException(re);
+			}
+		}
+		
 		ObjectContent objContent = retrieveObjectProperties(new String[] { propertyName });
 		      
 		Object propertyValue = null;
@@ -192,6 +222,156 @@ abstract public class ManagedObject
 		return propertyValue;
 	}
 	
+	/**
+	 * Fetch properties of many managed objects with one property filter, and 
+	 * keep the values in each of the objects. The getters of these properties
+	 * then return the kept values without calling the server, until 
+	 * invalidatePrefetched() is called. The values are those of the time of 
+	 * the fetch, and the same instances are returned by every call.
+	 * 
+	 * The objects can be of different types as long as each type has all the
+	 * properties. They must come from the same ServerConnection. An object 
+	 * the server doesn't return, e.g. deleted, keeps calling the server.
+	 * @param mos the managed objects, for example the VirtualMachine objects
+	 * @param propPaths the property paths, for example "name", "runtime.powerState"
+	 * @throws InvalidProperty
+	 * @throws RuntimeFault
+	 * @throws RemoteException
+	 */
+	public static void prefetch(ManagedObject[] mos, String... propPaths) 
+		throws InvalidProperty, RuntimeFault, RemoteException
+	{
+		if(mos==null || mos.length==0 || propPaths==null || propPaths.length==0)
+		{
+			return;
+		}
+		
+		ServerConnection sc = null;
+		Set<String> types = new LinkedHashSet<String>();
+		List<ObjectSpec> oss = new ArrayList<ObjectSpec>(mos.length);
+		Set<String> keys = new HashSet<String>(mos.length * 2);
+		for(int i=0; i<mos.length; i++)
+		{
+			if(mos[i]==null)
+			{
+				continue;
+			}
+			sc = mos[i].getServerConnection();
+			ManagedObjectReference mor = mos[i].getMOR();
+			types.add(mor.getType());
+			if(keys.add(getKey(mor)))
+			{
+				ObjectSpec os = new ObjectSpec();
+				os.setObj(mor);
+				oss.add(os);
+			}
+		}
+		if(sc==null)
+		{
+			return;
+		}
+		
+		PropertySpec[] pss = new PropertySpec[types.size()];
+		Iterator<String> typeIt = types.iterator();
+		for(int i=0; i<pss.length; i++)
+		{
+			pss[i] = PropertyCollectorUtil.createPropertySpec(typeIt.next(), false, propPaths);
+		}
+		PropertyFilterSpec pfs = new PropertyFilterSpec();
+		pfs.setObjectSet(oss.toArray(new ObjectSpec[oss.size()]));
+		pfs.setPropSet(pss);
+		
+		Map<String, Map<String, Object>> results = new HashMap<String, Map<String, Object>>(oss.size() * 2);
+		PropertyCollector pc = sc.getServiceInstance().getPropertyCollector();
+		ObjectContentIterator it = new ObjectContentIterator(pc, new PropertyFilterSpec[] { pfs });
+		try
+		{
+			while(it.hasNext())
+			{
+				ObjectContent oc = it.next();
+				DynamicProperty[] props = oc.getPropSet();
+				Map<String, Object> values = new HashMap<String, Object>();
+				for(int j=0; props!=null && j<props.length; j++)
+				{
+					Object val = props[j].getVal();
+					values.put(props[j].getName(), 
+							val==null ? PropertyCollectorUtil.NULL : PropertyCollectorUtil.convertProperty(val));
+				}
+				results.put(getKey(oc.getObj()), values);
+			}
+		} catch(RuntimeException re)
+		{
+			// the iterator wraps the remote exceptions
+			if(re.getCause() instanceof RemoteException)
+				throw (RemoteException) re.getCause();
+			throw re;
+		} finally
+		{
+			it.close();
+		}
+		
+		for(int i=0; i<mos.length; i++)
+		{
+			if(mos[i]==null)
+			{
+				continue;
+			}
+			// an object missing from the result, deleted or not visible to 
+			// the user, keeps asking the server
+			Map<String, Object> values = results.get(getKey(mos[i].getMOR()));
+			if(values==null)
+			{
+				continue;
+			}
+			Map<String, Object> snapshot = new HashMap<String, Object>();
+			Map<String, Object> old = mos[i].prefetched;
+			if(old!=null)
+			{
+				snapshot.putAll(old);
+			}
+			// the properties not set come without a value
+			for(int j=0; j<propPaths.length; j++)
+			{
+				snapshot.put(propPaths[j], PropertyCollectorUtil.NULL);
+			}
+			snapshot.putAll(values);
+			mos[i].prefetched = snapshot;
+		}
+	}
+	
+	private static String getKey(ManagedObjectReference mor)
+	{
+		return mor.getType() + ":" + mor.get_value();
+	}
+	
+	/**
+	 * Drop the property values kept by prefetch() so the getters call the server again.
+	 */
+	public void invalidatePrefetched()
+	{
+		prefetched = null;
+	}
+	
+	public static void invalidatePrefetched(ManagedObject[] mos)
+	{
+		for(int i=0; mos!=null && i<mos.length; i++)
+		{
+			if(mos[i]!=null)
+			{
+				mos[i].invalidatePrefetched();
+			}
+		}
+	}
+	
+	/**
+	 * @return true if the getter of the property returns a prefetched value
+	 */
+	public boolean isPrefetched(String propPath)
+	{
+		Map<String, Object> snapshot = prefetched;
+		return snapshot!=null && snapshot.containsKey(propPath);
+	}
+	
 	public Object getPropertyByPath(String propPath)
 	{
 		return getCurrentProperty(propPath);
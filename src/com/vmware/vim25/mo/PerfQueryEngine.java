@@ -0,0 +1,427 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.PerfEntityMetric;
+import com.vmware.vim25.PerfEntityMetricBase;
+import com.vmware.vim25.PerfEntityMetricCSV;
+import com.vmware.vim25.PerfMetricId;
+import com.vmware.vim25.PerfMetricIntSeries;
+import com.vmware.vim25.PerfMetricSeries;
+import com.vmware.vim25.PerfMetricSeriesCSV;
+import com.vmware.vim25.PerfQuerySpec;
+import com.vmware.vim25.PerfSampleInfo;
+import com.vmware.vim25.mo.util.PerfCSVDecoder;
+
+/**
+ * Collects performance statistics of many entities without sending one huge 
+ * QueryPerf call and holding all its results in memory at once.
+ * 
+ * A query is split into batches of entities and, when a time window is set,
+ * into windows of time. The resulting QueryPerf calls run in parallel on a 
+ * bounded number of threads, and the series of each call are passed to a 
+ * SeriesHandler as primitive arrays as soon as the call returns, so only the 
+ * results of the calls in flight are held at any time.
+ * 
+ * By default the calls ask for the csv format, whose responses are several 
+ * times smaller than those of the normal format and are decoded by 
+ * PerfCSVDecoder without intermediate objects per sample.
+ * 
+ * <pre>
+ * PerfQueryEngine engine = new PerfQueryEngine(si.getPerformanceManager());
+ * engine.setEntityBatchSize(50);
+ * engine.setTimeWindow(60 * 60 * 1000);
+ * engine.query(vms, metricIds, start, end, new Integer(20), new PerfQueryEngine.SeriesHandler() 
+ * {
+ *   public void series(ManagedObjectReference entity, int counterId, String instance, 
+ *       long[] timestamps, int[] intervals, long[] values)
+ *   {
+ *     ...
+ *   }
+ * });
+ * </pre>
+ * @author Steve JIN (sjin@vmware.com)
+ */
+
+public class PerfQueryEngine
+{
+	public final static int DEFAULT_ENTITY_BATCH_SIZE = 50;
+	public final static int DEFAULT_THREADS = 4;
+	
+	private final PerformanceManager perfMgr;
+	private int entityBatchSize = DEFAULT_ENTITY_BATCH_SIZE;
+	private long timeWindow = 0;
+	private int threads = DEFAULT_THREADS;
+	private boolean csvFormat = true;
+	
+	/**
+	 * Receives the series of a query. It is called from the threads of the 
+	 * engine, concurrently for different calls, and must be thread safe.
+	 */
+	public static interface SeriesHandler
+	{
+		/**
+		 * @param entity the entity of the series
+		 * @param counterId the counter of the series
+		 * @param instance the instance of the series, "" for the aggregate
+		 * @param timestamps the sample times in milliseconds since the epoch, shared 
+		 * by all series of the entity in the same call and not to be modified
+		 * @param intervals the sample intervals in seconds, shared like the timestamps
+		 * @param values the sample values, -1 where no value was collected
+		 */
+		void series(ManagedObjectReference entity, int counterId, String instance, 
+				long[] timestamps, int[] intervals, long[] values);
+	}
+	
+	public PerfQueryEngine(PerformanceManager perfMgr)
+	{
+		if(perfMgr==null)
+		{
+			throw new IllegalArgumentException("perfMgr must not be null.");
+		}
+		this.perfMgr = perfMgr;
+	}
+	
+	/**
+	 * @param entityBatchSize the maximum number of entities in one QueryPerf call
+	 */
+	public synchronized void setEntityBatchSize(int entityBatchSize)
+	{
+		if(entityBatchSize < 1)
+		{
+			throw new IllegalArgumentException("entityBatchSize must be positive.");
+		}
+		this.entityBatchSize = entityBatchSize;
+	}
+	
+	/**
+	 * @param timeWindow the maximum time span in milliseconds of one QueryPerf
+	 * call, 0 not to split by time. Only applies to queries with both start 
+	 * and end time.
+	 */
+	public synchronized void setTimeWindow(long timeWindow)
+	{
+		if(timeWindow < 0)
+		{
+			throw new IllegalArgumentException("timeWindow must not be negative.");
+		}
+		this.timeWindow = timeWindow;
+	}
+	
+	/**
+	 * @param threads the maximum number of QueryPerf calls in flight
+	 */
+	public synchronized void setThreads(int threads)
+	{
+		if(threads < 1)
+		{
+			throw new IllegalArgumentException("threads must be positive.");
+		}
+		this.threads = threads;
+	}
+	
+	/**
+	 * @param csvFormat true to query in the csv format, false in the normal format
+	 */
+	public synchronized void setCsvFormat(boolean csvFormat)
+	{
+		this.csvFormat = csvFormat;
+	}
+	
+	/**
+	 * Query the metrics of the entities and pass every series to the handler.
+	 * Once a call fails no further calls are started and the failure is thrown
+	 * after the calls in flight are done.
+	 * @param metricIds the metrics to query, null for all available ones
+	 * @param startTime exclusive start, null for the oldest sample
+	 * @param endTime inclusive end, null for the latest sample
+	 * @param intervalId the sampling period in seconds, null for the default
+	 * @return the number of series passed to the handler
+	 */
+	public long query(ManagedEntity[] entities, PerfMetricId[] metricIds, Calendar startTime, 
+			Calendar endTime, Integer intervalId, SeriesHandler handler) throws RemoteException, InterruptedException
+	{
+		return query(entities, metricIds, startTime, endTime, intervalId, null, handler);
+	}
+	
+	/**
+	 * Query the metrics of the entities and pass every series to the handler.
+	 * @param maxSample the maximum number of samples per entity and call, 
+	 * typically 1 for the latest realtime sample, null for no limit
+	 * @see #query(ManagedEntity[], PerfMetricId[], Calendar, Calendar, Integer, SeriesHandler)
+	 */
+	public long query(ManagedEntity[] entities, PerfMetricId[] metricIds, Calendar startTime, 
+			Calendar endTime, Integer intervalId, Integer maxSample, SeriesHandler handler) 
+		throws RemoteException, InterruptedException
+	{
+		if(entities==null || handler==null)
+		{
+			throw new IllegalArgumentException("entities and handler must not be null.");
+		}
+		int batchSize, nThreads;
+		long window;
+		String format;
+		synchronized(this)
+		{
+			batchSize = entityBatchSize;
+			nThreads = threads;
+			window = timeWindow;
+			format = csvFormat ? "csv" : "normal";
+		}
+		
+		List<Calendar[]> windows = splitTime(startTime, endTime, window);
+		final AtomicLong count = new AtomicLong();
+		final AtomicBoolean failed = new AtomicBoolean();
+		List<Callable<Object>> calls = new ArrayList<Callable<Object>>();
+		for(int i=0; i<entities.length; i+=batchSize)
+		{
+			int n = Math.min(batchSize, entities.length - i);
+			for(int j=0; j<windows.size(); j++)
+			{
+				final PerfQuerySpec[] specs = new PerfQuerySpec[n];
+				for(int k=0; k<n; k++)
+				{
+					PerfQuerySpec qs = new PerfQuerySpec();
+					qs.setEntity(entities[i+k].getMOR());
+					qs.setMetricId(metricIds);
+					qs.setStartTime(windows.get(j)[0]);
+					qs.setEndTime(windows.get(j)[1]);
+					qs.setIntervalId(intervalId);
+					qs.setMaxSample(maxSample);
+					qs.setFormat(format);
+					specs[k] = qs;
+				}
+				final SeriesHandler h = handler;
+				calls.add(new Callable<Object>()
+				{
+					public Object call() throws Exception
+					{
+						if(failed.get())
+						{
+							return null;
+						}
+						try
+						{
+							PerfEntityMetricBase[] pems = perfMgr.queryPerf(specs);
+							for(int i=0; pems!=null && i<pems.length; i++)
+							{
+								count.addAndGet(dispatch(pems[i], h));
+								// let the entity be collected once passed
+								pems[i] = null;
+							}
+						} catch(Exception e)
+						{
+							failed.set(true);
+							throw e;
+						}
+						return null;
+					}
+				});
+			}
+		}
+		
+		if(calls.size()==1)
+		{
+			try
+			{
+				calls.get(0).call();
+			} catch(RemoteException re)
+			{
+				throw re;
+			} catch(Exception e)
+			{
+				throw new RuntimeException(e);
+			}
+			return count.get();
+		}
+		
+		ExecutorService pool = createPool(Math.min(nThreads, calls.size()));
+		try
+		{
+			List<Future<Object>> futures = pool.invokeAll(calls);
+			for(int i=0; i<futures.size(); i++)
+			{
+				try
+				{
+					futures.get(i).get();
+				} catch(ExecutionException ee)
+				{
+					Throwable cause = ee.getCause();
+					if(cause instanceof RemoteException)
+					{
+						throw (RemoteException) cause;
+					}
+					if(cause instanceof RuntimeException)
+					{
+						throw (RuntimeException) cause;
+					}
+					throw new RuntimeException(cause);
+				}
+			}
+		} 
+		finally
+		{
+			pool.shutdownNow();
+		}
+		return count.get();
+	}
+	
+	/**
+	 * Pass the series of the metrics returned by QueryPerf, in the normal or 
+	 * the csv format, to the handler.
+	 * @return the number of series passed
+	 */
+	public static int dispatch(PerfEntityMetricBase[] pems, SeriesHandler handler)
+	{
+		int count = 0;
+		for(int i=0; pems!=null && i<pems.length; i++)
+		{
+			count += dispatch(pems[i], handler);
+		}
+		return count;
+	}
+	
+	private static int dispatch(PerfEntityMetricBase pemb, SeriesHandler handler)
+	{
+		if(pemb instanceof PerfEntityMetricCSV)
+		{
+			return dispatchCSV((PerfEntityMetricCSV) pemb, handler);
+		}
+		if(!(pemb instanceof PerfEntityMetric))
+		{
+			return 0;
+		}
+		PerfEntityMetric pem = (PerfEntityMetric) pemb;
+		PerfMetricSeries[] vals = pem.getValue();
+		if(vals==null)
+		{
+			return 0;
+		}
+		PerfSampleInfo[] infos = pem.getSampleInfo();
+		int n = infos==null ? 0 : infos.length;
+		long[] timestamps = new long[n];
+		int[] intervals = new int[n];
+		for(int j=0; j<n; j++)
+		{
+			timestamps[j] = infos[j].getTimestamp().getTimeInMillis();
+			intervals[j] = infos[j].getInterval();
+		}
+		int count = 0;
+		for(int j=0; j<vals.length; j++)
+		{
+			if(vals[j] instanceof PerfMetricIntSeries)
+			{
+				PerfMetricId id = vals[j].getId();
+				long[] values = ((PerfMetricIntSeries) vals[j]).getValue();
+				handler.series(pem.getEntity(), id.getCounterId(), id.getInstance(), 
+						timestamps, intervals, values==null ? new long[0] : values);
+				count++;
+			}
+		}
+		return count;
+	}
+	
+	private static int dispatchCSV(PerfEntityMetricCSV pem, SeriesHandler handler)
+	{
+		PerfMetricSeriesCSV[] vals = pem.getValue();
+		if(vals==null)
+		{
+			return 0;
+		}
+		int n = PerfCSVDecoder.countSamples(pem.getSampleInfoCSV());
+		long[] timestamps = new long[n];
+		int[] intervals = new int[n];
+		PerfCSVDecoder.decodeSampleInfo(pem.getSampleInfoCSV(), timestamps, intervals);
+		for(int j=0; j<vals.length; j++)
+		{
+			PerfMetricId id = vals[j].getId();
+			handler.series(pem.getEntity(), id.getCounterId(), id.getInstance(), 
+					timestamps, intervals, PerfCSVDecoder.decodeValues(vals[j].getValue()));
+		}
+		return vals.length;
+	}
+	
+	private static List<Calendar[]> splitTime(Calendar startTime, Calendar endTime, long window)
+	{
+		List<Calendar[]> windows = new ArrayList<Calendar[]>();
+		if(window==0 || startTime==null || endTime==null)
+		{
+			windows.add(new Calendar[] { startTime, endTime });
+			return windows;
+		}
+		long end = endTime.getTimeInMillis();
+		for(long t = startTime.getTimeInMillis(); t < end; t += window)
+		{
+			Calendar s = (Calendar) startTime.clone();
+			s.setTimeInMillis(t);
+			Calendar e = (Calendar) endTime.clone();
+			e.setTimeInMillis(Math.min(t + window, end));
+			windows.add(new Calendar[] { s, e });
+		}
+		if(windows.isEmpty())
+		{
+			windows.add(new Calendar[] { startTime, endTime });
+		}
+		return windows;
+	}
+	
+	private static ExecutorService createPool(int size)
+	{
+		ThreadFactory tf = new ThreadFactory()
+		{
+			private int count = 0;
+			
+			public synchronized Thread newThread(Runnable r)
+			{
+				Thread t = new Thread(r, "PerfQueryEngine-" + (++count));
+				t.setDaemon(true);
+				return t;
+			}
+		};
+		return new ThreadPoolExecutor(size, size, 0, TimeUnit.SECONDS, 
+				new LinkedBlockingQueue<Runnable>(), tf);
+	}
+}
@@ -88,6 +88,38 @@ public class PerformanceManager extends ManagedObject
 		return getVimService().queryPerf(getMOR(), querySpec);
 	}
 	
+	/**
+	 * Query the statistics and pass every series to the handler as primitive 
+	 * arrays. Specs without a format are sent in the csv format, which is 
+	 * decoded without intermediate objects per sample.
+	 * @return the number of series passed to the handler
+	 * @see PerfQueryEngine
+	 */
+	public int queryPerf(PerfQuerySpec[] querySpec, PerfQueryEngine.SeriesHandler handler) throws RuntimeFault, RemoteException 
+	{
+		if(querySpec==null || handler==null)
+		{
+			throw new IllegalArgumentException("querySpec and handler must not be null.");
+		}
+		PerfQuerySpec[] specs = new PerfQuerySpec[querySpec.length];
+		for(int i=0; i<querySpec.length; i++)
+		{
+			specs[i] = querySpec[i];
+			if(querySpec[i].getFormat()==null)
+			{
+				specs[i] = new PerfQuerySpec();
+				specs[i].setEntity(querySpec[i].getEntity());
+				specs[i].setStartTime(querySpec[i].getStartTime());
+				specs[i].setEndTime(querySpec[i].getEndTime());
+				specs[i].setMaxSample(querySpec[i].getMaxSample());
+				specs[i].setMetricId(querySpec[i].getMetricId());
+				specs[i].setIntervalId(querySpec[i].getIntervalId());
+				specs[i].setFormat("csv");
+			}
+		}
+		return PerfQueryEngine.dispatch(queryPerf(specs), handler);
+	}
+	
 	public PerfCompositeMetric queryPerfComposite(PerfQuerySpec querySpec) throws RuntimeFault, RemoteException 
 	{
 		return getVimService().queryPerfComposite(getMOR(), querySpec);
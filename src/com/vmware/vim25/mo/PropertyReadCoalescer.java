@@ -0,0 +1,369 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.vmware.vim25.DynamicProperty;
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.ObjectContent;
+import com.vmware.vim25.ObjectSpec;
+import com.vmware.vim25.PropertyFilterSpec;
+import com.vmware.vim25.PropertySpec;
+import com.vmware.vim25.mo.util.PropertyCollectorUtil;
+
+/**
+ * Merges the property reads of managed objects that arrive on a 
+ * ServerConnection at about the same time into one RetrieveProperties call.
+ * 
+ * The first read of a batch waits up to the window for others to join, 
+ * or until the batch has maxBatchSize reads, then retrieves all of them with 
+ * one PropertySpec per managed object type and one ObjectSpec per managed 
+ * object, and hands each waiting read its value. If the batch fails, for 
+ * example because one of the objects has been deleted, each read is retried 
+ * on its own so that only the faulty ones fail.
+ * 
+ * Enabled with ServerConnection.setPropertyReadCoalescer(), it serves the 
+ * getters of all the managed objects of the connection.
+ * @author Steve JIN (sjin@vmware.com)
+ */
+
+public class PropertyReadCoalescer
+{
+	private final ServerConnection serverConnection;
+	private final long windowMillis;
+	private final int maxBatchSize;
+	
+	private Batch current = null;
+	
+	private final AtomicLong reads = new AtomicLong();
+	private final AtomicLong batches = new AtomicLong();
+	private final AtomicLong retries = new AtomicLong();
+	private final AtomicLong maxBatch = new AtomicLong();
+	
+	/**
+	 * @param windowMillis how long the first read of a batch waits for others
+	 * @param maxBatchSize the number of reads after which a batch goes at once
+	 */
+	public PropertyReadCoalescer(ServerConnection serverConnection, long windowMillis, int maxBatchSize)
+	{
+		if(windowMillis < 0 || maxBatchSize < 1)
+		{
+			throw new IllegalArgumentException("windowMillis must not be negative and maxBatchSize must be positive.");
+		}
+		this.serverConnection = serverConnection;
+		this.windowMillis = windowMillis;
+		this.maxBatchSize = maxBatchSize;
+	}
+	
+	/**
+	 * Read a property of a managed object together with the other reads of 
+	 * the window.
+	 * @return the value converted like ManagedObject.getCurrentProperty does, 
+	 * null if the property has no value
+	 */
+	public Object read(ManagedObjectReference mor, String propertyName) throws RemoteException
+	{
+		reads.incrementAndGet();
+		Read read = new Read(mor, propertyName);
+		Batch toRun = null;
+		synchronized(this)
+		{
+			if(current == null)
+			{
+				current = new Batch();
+			}
+			Batch batch = current;
+			batch.reads.add(read);
+			if(batch.reads.size() >= maxBatchSize)
+			{
+				current = null;
+				toRun = batch;
+				notifyAll();
+			}
+			else if(batch.reads.size() == 1)
+			{ // the first read waits for the window to pass
+				long deadline = System.currentTimeMillis() + windowMillis;
+				long remaining = windowMillis;
+				while(current == batch && remaining > 0)
+				{
+					try
+					{
+						wait(remaining);
+					} catch(InterruptedException ie)
+					{
+						Thread.currentThread().interrupt();
+						break;
+					}
+					remaining = deadline - System.currentTimeMillis();
+				}
+				if(current == batch)
+				{
+					current = null;
+					toRun = batch;
+				}
+			}
+		}
+		
+		if(toRun != null)
+		{
+			execute(toRun);
+		}
+		read.await();
+		if(read.retryAlone)
+		{
+			retries.incrementAndGet();
+			return retrieve(mor, propertyName);
+		}
+		if(read.error != null)
+		{
+			throw read.error;
+		}
+		return read.value;
+	}
+	
+	private void execute(Batch batch)
+	{
+		batches.incrementAndGet();
+		long size = batch.reads.size();
+		long max = maxBatch.get();
+		while(size > max && !maxBatch.compareAndSet(max, size))
+		{
+			max = maxBatch.get();
+		}
+		
+		Map<String, Set<String>> typePaths = new LinkedHashMap<String, Set<String>>();
+		Map<ManagedObjectReference, Map<String, Object>> values = new LinkedHashMap<ManagedObjectReference, Map<String, Object>>();
+		for(int i=0; i<batch.reads.size(); i++)
+		{
+			Read read = batch.reads.get(i);
+			Set<String> paths = typePaths.get(read.mor.getType());
+			if(paths == null)
+			{
+				paths = new LinkedHashSet<String>();
+				typePaths.put(read.mor.getType(), paths);
+			}
+			paths.add(read.propertyName);
+			values.put(read.mor, new HashMap<String, Object>());
+		}
+		
+		try
+		{
+			ObjectContent[] ocs = retrieve(values.keySet(), typePaths);
+			for(int i=0; ocs!=null && i<ocs.length; i++)
+			{
+				Map<String, Object> moValues = values.get(ocs[i].getObj());
+				DynamicProperty[] props = ocs[i].getPropSet();
+				for(int j=0; moValues!=null && props!=null && j<props.length; j++)
+				{
+					moValues.put(props[j].getName(), props[j].getVal());
+				}
+			}
+			for(int i=0; i<batch.reads.size(); i++)
+			{
+				Read read = batch.reads.get(i);
+				Object val = values.get(read.mor).get(read.propertyName);
+				read.value = val==null ? null : PropertyCollectorUtil.convertProperty(val);
+			}
+		} catch(RemoteException re)
+		{
+			boolean retryAlone = batch.reads.size() > 1;
+			for(int i=0; i<batch.reads.size(); i++)
+			{
+				batch.reads.get(i).error = re;
+				batch.reads.get(i).retryAlone = retryAlone;
+			}
+		} catch(RuntimeException re)
+		{
+			for(int i=0; i<batch.reads.size(); i++)
+			{
+				batch.reads.get(i).error = new RemoteException("Failed to read properties", re);
+			}
+		} finally
+		{
+			for(int i=0; i<batch.reads.size(); i++)
+			{
+				batch.reads.get(i).done.countDown();
+			}
+		}
+	}
+	
+	private Object retrieve(ManagedObjectReference mor, String propertyName) throws RemoteException
+	{
+		Set<String> paths = new LinkedHashSet<String>();
+		paths.add(propertyName);
+		Map<String, Set<String>> typePaths = new HashMap<String, Set<String>>();
+		typePaths.put(mor.getType(), paths);
+		List<ManagedObjectReference> mors = new ArrayList<ManagedObjectReference>(1);
+		mors.add(mor);
+		ObjectContent[] ocs = retrieve(mors, typePaths);
+		if(ocs==null || ocs.length==0 || ocs[0].getPropSet()==null || ocs[0].getPropSet().length==0)
+		{
+			return null;
+		}
+		Object val = ocs[0].getPropSet()[0].getVal();
+		return val==null ? null : PropertyCollectorUtil.convertProperty(val);
+	}
+	
+	@SuppressWarnings("deprecation")
+	private ObjectContent[] retrieve(Collection<ManagedObjectReference> mors, 
+			Map<String, Set<String>> typePaths) throws RemoteException
+	{
+		ObjectSpec[] oss = new ObjectSpec[mors.size()];
+		int i = 0;
+		for(ManagedObjectReference mor : mors)
+		{
+			oss[i] = new ObjectSpec();
+			oss[i].setObj(mor);
+			oss[i].setSkip(Boolean.FALSE);
+			i++;
+		}
+		PropertySpec[] pss = new PropertySpec[typePaths.size()];
+		i = 0;
+		for(Map.Entry<String, Set<String>> e : typePaths.entrySet())
+		{
+			Set<String> paths = e.getValue();
+			pss[i++] = PropertyCollectorUtil.createPropertySpec(e.getKey(), false, 
+					paths.toArray(new String[paths.size()]));
+		}
+		PropertyFilterSpec pfs = new PropertyFilterSpec();
+		pfs.setObjectSet(oss);
+		pfs.setPropSet(pss);
+		
+		PropertyCollector pc = serverConnection.getServiceInstance().getPropertyCollector();
+		return pc.retrieveProperties(new PropertyFilterSpec[] { pfs });
+	}
+	
+	public long getWindowMillis()
+	{
+		return windowMillis;
+	}
+	
+	public int getMaxBatchSize()
+	{
+		return maxBatchSize;
+	}
+	
+	/** @return the number of property reads */
+	public long getReadCount()
+	{
+		return reads.get();
+	}
+	
+	/** @return the number of RetrieveProperties calls made for the batches */
+	public long getBatchCount()
+	{
+		return batches.get();
+	}
+	
+	/** @return the number of reads retried on their own after their batch failed */
+	public long getRetryCount()
+	{
+		return retries.get();
+	}
+	
+	/** @return the largest number of reads in a batch */
+	public long getLargestBatchSize()
+	{
+		return maxBatch.get();
+	}
+	
+	/** @return the average number of reads in a batch */
+	public double getAverageBatchSize()
+	{
+		long b = batches.get();
+		return b == 0 ? 0 : (double) (reads.get() - retries.get()) / b;
+	}
+	
+	/** @return the round trips saved compared to one call per read */
+	public long getSavedRoundTrips()
+	{
+		return reads.get() - batches.get() - retries.get();
+	}
+	
+	public void resetMetrics()
+	{
+		reads.set(0);
+		batches.set(0);
+		retries.set(0);
+		maxBatch.set(0);
+	}
+	
+	private static class Batch
+	{
+		final List<Read> reads = new ArrayList<Read>();
+	}
+	
+	private static class Read
+	{
+		final ManagedObjectReference mor;
+		final String propertyName;
+		final CountDownLatch done = new CountDownLatch(1);
+		volatile Object value;
+		volatile RemoteException error;
+		volatile boolean retryAlone = false;
+		
+		Read(ManagedObjectReference mor, String propertyName)
+		{
+			this.mor = mor;
+			this.propertyName = propertyName;
+		}
+		
+		void await()
+		{
+			boolean interrupted = false;
+			while(true)
+			{
+				try
+				{
+					done.await();
+					break;
+				} catch(InterruptedException ie)
+				{
+					interrupted = true;
+				}
+			}
+			if(interrupted)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -32,6 +32,8 @@ package com.vmware.vim25.mo;
 import java.net.URL;
 
 import com.vmware.vim25.*;
+import com.vmware.vim25.ws.MorInterner;
+import com.vmware.vim25.ws.VimStubAsync;
 import com.vmware.vim25.ws.WSClient;
 
 /**
@@ -44,6 +46,10 @@ final public class ServerConnection
 	private UserSession userSession = null;
 	private ServiceInstance serviceInstance = null;
 	private VimPortType vimService = null;
+	private VimStubAsync vimServiceAsync = null;
+	private volatile PropertyReadCoalescer propertyReadCoalescer = null;
+	private TaskTracker taskTracker = null;
+	private ContainerViewPool viewPool = null;
 	
 	public ServerConnection(URL url, VimPortType vimService, ServiceInstance serviceInstance)
 	{
@@ -69,6 +75,15 @@ final public class ServerConnection
 	{
 		if(vimService!=null)
 		{
+			synchronized(this)
+			{
+				if(taskTracker!=null)
+				{
+					taskTracker.close();
+					taskTracker = null;
+				}
+				viewPool = null;
+			}
 			try
 			{
 				serviceInstance.getSessionManager().logout();
@@ -76,7 +91,9 @@ final public class ServerConnection
 			{
 				System.err.println("Failed to disconnect...");
 			}
+			vimService.getWsc().close();
 			vimService =null;
+			vimServiceAsync = null;
 			serviceInstance = null;
 		}
 	}
@@ -91,6 +108,66 @@ final public class ServerConnection
 		return vimService;
 	}
 	
+	/**
+	 * @return the asynchronous stub sharing the WSClient of getVimService()
+	 */
+	public synchronized VimStubAsync getVimServiceAsync()
+	{
+		if(vimServiceAsync==null && vimService!=null)
+		{
+			vimServiceAsync = new VimStubAsync(vimService.getWsc());
+		}
+		return vimServiceAsync;
+	}
+	
+	/**
+	 * @return the tracker of the tasks of this connection, created on the first call
+	 */
+	public synchronized TaskTracker getTaskTracker()
+	{
+		if(taskTracker==null)
+		{
+			taskTracker = new TaskTracker(this);
+		}
+		return taskTracker;
+	}
+	
+	/**
+	 * @return the pool of the ContainerViews of this connection, created on the first call
+	 */
+	public synchronized ContainerViewPool getContainerViewPool()
+	{
+		if(viewPool==null)
+		{
+			viewPool = new ContainerViewPool(this);
+		}
+		return viewPool;
+	}
+	
+	/**
+	 * Merge the property reads of the managed objects of this connection 
+	 * arriving at about the same time into one call.
+	 * @param propertyReadCoalescer the coalescer, or null to read each property on its own
+	 */
+	public void setPropertyReadCoalescer(PropertyReadCoalescer propertyReadCoalescer)
+	{
+		this.propertyReadCoalescer = propertyReadCoalescer;
+	}
+	
+	public PropertyReadCoalescer getPropertyReadCoalescer()
+	{
+		return propertyReadCoalescer;
+	}
+	
+	/**
+	 * @return the interner of the ManagedObjectReferences read on this 
+	 * connection, null if they are not interned
+	 */
+	public MorInterner getMorInterner()
+	{
+		return vimService==null ? null : vimService.getWsc().getMorInterner();
+	}
+	
 	public URL getUrl() 
 	{
 		return url;
@@ -36,6 +36,7 @@ import java.util.Calendar;
 
 import com.vmware.vim25.*;
 import com.vmware.vim25.mo.util.*;
+import com.vmware.vim25.ws.SoapTransport;
 import com.vmware.vim25.ws.WSClient;
 
 /**
@@ -78,6 +79,16 @@ public class ServiceInstance extends ManagedObject
 	public ServiceInstance(URL url, String username, String password, boolean ignoreCert, String namespace, 
 	                       Integer connectTimeoutMillis, Integer readTimeoutMillis)
 	        throws RemoteException, MalformedURLException 
+	{
+		this(url, username, password, ignoreCert, namespace, connectTimeoutMillis, readTimeoutMillis, null);
+	}
+	
+	/**
+	 * @param transport how SOAP requests are sent, for example a PooledTransport; null for the default
+	 */
+	public ServiceInstance(URL url, String username, String password, boolean ignoreCert, String namespace, 
+	                       Integer connectTimeoutMillis, Integer readTimeoutMillis, SoapTransport transport)
+	        throws RemoteException, MalformedURLException 
 	{
 		if(url == null || username==null)
 		{
@@ -88,6 +99,9 @@ public class ServiceInstance extends ManagedObject
 
 		VimPortType vimService = new VimPortType(url.toString(), ignoreCert);
 		vimService.getWsc().setVimNameSpace(namespace);
+		if (transport != null) {
+			vimService.getWsc().setTransport(transport);
+		}
 		if (connectTimeoutMillis != null) {
 			vimService.getWsc().setConnectTimeout(connectTimeoutMillis);
 		}
@@ -127,6 +141,16 @@ public class ServiceInstance extends ManagedObject
 	public ServiceInstance(URL url, String sessionStr, boolean ignoreCert, String namespace,
 	                       Integer connectTimeoutMillis, Integer readTimeoutMillis)
 		throws RemoteException, MalformedURLException
+	{
+		this(url, sessionStr, ignoreCert, namespace, connectTimeoutMillis, readTimeoutMillis, null);
+	}
+	
+	/**
+	 * @param transport how SOAP requests are sent, for example a PooledTransport; null for the default
+	 */
+	public ServiceInstance(URL url, String sessionStr, boolean ignoreCert, String namespace,
+	                       Integer connectTimeoutMillis, Integer readTimeoutMillis, SoapTransport transport)
+		throws RemoteException, MalformedURLException
 	{
 		if(url == null || sessionStr ==null)
 		{
@@ -139,6 +163,9 @@ public class ServiceInstance extends ManagedObject
 		WSClient wsc = vimService.getWsc();
 		wsc.setCookie(sessionStr);
 		wsc.setVimNameSpace(namespace);
+		if (transport != null) {
+			wsc.setTransport(transport);
+		}
 		if (connectTimeoutMillis != null) {
 			vimService.getWsc().setConnectTimeout(connectTimeoutMillis);
 		}
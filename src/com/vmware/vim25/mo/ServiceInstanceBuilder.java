@@ -4,6 +4,10 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.rmi.RemoteException;
 
+import com.vmware.vim25.ws.MorInterner;
+import com.vmware.vim25.ws.PooledTransport;
+import com.vmware.vim25.ws.SoapTransport;
+
 /**
  * This class builds ServiceInstances using the builder pattern
  * @author Michael Matczynski (mjm@alum.mit.edu)
@@ -24,6 +28,11 @@ public class ServiceInstanceBuilder
 	private Integer connectTimeoutMillis;
 	private Integer readTimeoutMillis;
 	
+	private SoapTransport transport;
+	private Integer virtualThreadMaxConnections;
+	private boolean compression = false;
+	private boolean internMors = false;
+	
 	public ServiceInstanceBuilder(URL url, String username, String password)
 	{
 		this.url = url;
@@ -61,6 +70,54 @@ public class ServiceInstanceBuilder
 		return this;
 	}
 	
+	/**
+	 * Use the given transport, for example a PooledTransport, to send the SOAP requests.
+	 * The transport belongs to the ServiceInstance built with it from then on 
+	 * and is closed at its logout, so give each build() a transport of its own.
+	 */
+	public ServiceInstanceBuilder transport(SoapTransport transport)
+	{
+		this.transport = transport;
+		return this;
+	}
+	
+	/**
+	 * Prepare the ServiceInstance for callers running on virtual threads 
+	 * (Java 21 and later). Unless a transport is set, the SOAP requests go 
+	 * through a PooledTransport, which doesn't hold any monitor during I/O and 
+	 * so doesn't pin the carrier threads. The connections are capped at 
+	 * maxConnections; the other virtual threads park until one is free.
+	 * 
+	 * Nothing else is needed in the managed object layer: waiting there, like
+	 * Task.waitForTask, uses Thread.sleep, which unmounts a virtual thread.
+	 */
+	public ServiceInstanceBuilder virtualThreadMode(int maxConnections)
+	{
+		this.virtualThreadMaxConnections = maxConnections;
+		return this;
+	}
+	
+	/**
+	 * Ask the server to compress the SOAP responses once connected. The 
+	 * WSClient counts the bytes on the wire and after decompression.
+	 */
+	public ServiceInstanceBuilder compression(boolean compression)
+	{
+		this.compression = compression;
+		return this;
+	}
+	
+	/**
+	 * Share one ManagedObjectReference instance per managed object among 
+	 * the responses of the connection. The references returned are then 
+	 * canonical and must not be changed.
+	 */
+	public ServiceInstanceBuilder internMors(boolean internMors)
+	{
+		this.internMors = internMors;
+		return this;
+	}
+	
 	public ServiceInstance build() throws RemoteException, MalformedURLException
 	{
 		// apply defaults
@@ -70,12 +127,25 @@ public class ServiceInstanceBuilder
 		if (namespace == null) {
 			namespace = ServiceInstance.VIM25_NAMESPACE;
 		}
+		// a pool per build, as each connection closes its own at logout
+		SoapTransport st = transport;
+		if (st == null && virtualThreadMaxConnections != null) {
+			st = new PooledTransport(virtualThreadMaxConnections);
+		}
 		
 		// create ServiceInstance using either session String or username/password
+		ServiceInstance si;
 		if (sessionStr != null) {
-			return new ServiceInstance(url, sessionStr, ignoreCert, namespace, connectTimeoutMillis, readTimeoutMillis);			
+			si = new ServiceInstance(url, sessionStr, ignoreCert, namespace, connectTimeoutMillis, readTimeoutMillis, st);			
 		} else {
-			return new ServiceInstance(url, username, password, ignoreCert, namespace, connectTimeoutMillis, readTimeoutMillis);
+			si = new ServiceInstance(url, username, password, ignoreCert, namespace, connectTimeoutMillis, readTimeoutMillis, st);
+		}
+		if (compression) {
+			si.getServerConnection().getVimService().getWsc().setAcceptCompressed(true);
+		}
+		if (internMors) {
+			si.getServerConnection().getVimService().getWsc().setMorInterner(new MorInterner());
 		}
+		return si;
 	}
 }
@@ -30,6 +30,7 @@ POSSIBILITY OF SUCH DAMAGE.
 package com.vmware.vim25.mo;
 
 import java.rmi.RemoteException;
+import java.util.concurrent.Future;
 
 import com.vmware.vim25.InvalidProperty;
 import com.vmware.vim25.InvalidState;
@@ -93,6 +94,16 @@ public class Task extends ExtensibleManagedObject
 	  getVimService().setTaskDescription(getMOR(), description);
 	}
 	
+	/**
+	 * Track the task with the TaskTracker of its connection, which waits for 
+	 * all the tracked tasks with one property filter.
+	 * @return the future completed with the TaskInfo once the task succeeded or failed
+	 */
+	public Future<TaskInfo> trackCompletion()
+	{
+		return getServerConnection().getTaskTracker().track(this);
+	}
+	
 	/**
 	 * If there is another thread or client calling waitForUpdate(), the behavior of this
 	 * method is not predictable. This usually happens with VI Client plug-in which shares
@@ -0,0 +1,614 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import com.vmware.vim25.DynamicProperty;
+import com.vmware.vim25.InvalidCollectorVersion;
+import com.vmware.vim25.ManagedObjectNotFound;
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.NotAuthenticated;
+import com.vmware.vim25.ObjectContent;
+import com.vmware.vim25.ObjectSpec;
+import com.vmware.vim25.ObjectUpdate;
+import com.vmware.vim25.ObjectUpdateKind;
+import com.vmware.vim25.PropertyChange;
+import com.vmware.vim25.PropertyFilterSpec;
+import com.vmware.vim25.PropertyFilterUpdate;
+import com.vmware.vim25.PropertySpec;
+import com.vmware.vim25.RequestCanceled;
+import com.vmware.vim25.SelectionSpec;
+import com.vmware.vim25.TaskInfo;
+import com.vmware.vim25.TaskInfoState;
+import com.vmware.vim25.UpdateSet;
+import com.vmware.vim25.WaitOptions;
+import com.vmware.vim25.mo.util.PropertyCollectorUtil;
+import com.vmware.vim25.ws.AsyncCallback;
+
+/**
+ * Tracks the completion of any number of tasks of a ServerConnection with 
+ * one PropertyFilter and one waiting thread, instead of a filter or a 
+ * polling loop per task. 
+ * 
+ * The filter reports info.state of the tasks in TaskManager.recentTask. 
+ * When tracked tasks reach success or error, their TaskInfo is read in one
+ * call and their futures complete with it. A tracked task the filter never
+ * reported, like one no longer among the recent tasks, is checked directly 
+ * after each wait, which lasts at most maxWaitSeconds.
+ * 
+ * With servers of API 4.1 or later the tracker uses a PropertyCollector of 
+ * its own and waitForUpdatesEx, otherwise waitForUpdates on the session 
+ * PropertyCollector.
+ * @author Steve JIN (sjin@vmware.com)
+ */
+
+public class TaskTracker implements Runnable
+{
+	public final static int DEFAULT_MAX_WAIT_SECONDS = 10;
+	private final static long MIN_BACKOFF = 1000;
+	private final static long MAX_BACKOFF = 60 * 1000;
+	
+	private final ServerConnection serverConnection;
+	private PropertyCollector pc = null;
+	private boolean ownCollector = false;
+	private PropertyFilter filter = null;
+	private WaitOptions options = new WaitOptions();
+	private volatile Thread thread = null;
+	private volatile boolean running = false;
+	
+	/** the futures of the tracked tasks */
+	private final Map<ManagedObjectReference, List<TaskFuture>> tracked = new HashMap<ManagedObjectReference, List<TaskFuture>>();
+	/** the tracked tasks not reported by the filter yet */
+	private final Map<ManagedObjectReference, Boolean> unseen = new HashMap<ManagedObjectReference, Boolean>();
+	/** the last state of the recent tasks */
+	private final Map<ManagedObjectReference, TaskInfoState> states = new HashMap<ManagedObjectReference, TaskInfoState>();
+	
+	TaskTracker(ServerConnection serverConnection)
+	{
+		this.serverConnection = serverConnection;
+		options.setMaxWaitSeconds(DEFAULT_MAX_WAIT_SECONDS);
+	}
+	
+	/**
+	 * Track the task until it succeeds or fails.
+	 * @return the future completed with the TaskInfo of the task once done,
+	 * whose state is success or error
+	 */
+	public Future<TaskInfo> track(Task task)
+	{
+		return track(task, null);
+	}
+	
+	/**
+	 * Track the task until it succeeds or fails.
+	 * @param callback called with the TaskInfo from the tracker thread, can be null
+	 * @return the future completed with the TaskInfo of the task once done,
+	 * whose state is success or error
+	 */
+	public Future<TaskInfo> track(Task task, AsyncCallback<TaskInfo> callback)
+	{
+		TaskFuture future = new TaskFuture(callback);
+		ManagedObjectReference mor = task.getMOR();
+		boolean done;
+		synchronized(this)
+		{
+			start();
+			List<TaskFuture> futures = tracked.get(mor);
+			if(futures == null)
+			{
+				futures = new ArrayList<TaskFuture>(1);
+				tracked.put(mor, futures);
+			}
+			futures.add(future);
+			TaskInfoState state = states.get(mor);
+			done = isDone(state);
+			if(state == null)
+			{
+				unseen.put(mor, Boolean.TRUE);
+			}
+		}
+		if(done)
+		{
+			List<ManagedObjectReference> mors = new ArrayList<ManagedObjectReference>(1);
+			mors.add(mor);
+			complete(mors);
+		}
+		return future;
+	}
+	
+	/**
+	 * @return the number of tasks being tracked
+	 */
+	public synchronized int getTrackedCount()
+	{
+		return tracked.size();
+	}
+	
+	public synchronized void setMaxWaitSeconds(int maxWaitSeconds)
+	{
+		WaitOptions wo = new WaitOptions();
+		wo.setMaxWaitSeconds(maxWaitSeconds);
+		options = wo;
+	}
+	
+	private void start()
+	{
+		if(running)
+		{
+			return;
+		}
+		PropertyCollector collector = null;
+		boolean own = false;
+		PropertyFilter pf = null;
+		try
+		{
+			ServiceInstance si = serverConnection.getServiceInstance();
+			collector = si.getPropertyCollector();
+			if(PropertyCollectorUtil.isApiVersionAtLeast(si.getAboutInfo(), 4, 1))
+			{
+				collector = collector.createPropertyCollector();
+				own = true;
+			}
+			
+			SelectionSpec toTasks = PropertyCollectorUtil.createTraversalSpec("tmToTask", 
+					"TaskManager", "recentTask", new SelectionSpec[] {});
+			ObjectSpec os = PropertyCollectorUtil.creatObjectSpec(si.getTaskManager().getMOR(), true, 
+					new SelectionSpec[] { toTasks });
+			PropertySpec ps = PropertyCollectorUtil.createPropertySpec("Task", false, new String[] { "info.state" });
+			PropertyFilterSpec pfs = new PropertyFilterSpec();
+			pfs.setObjectSet(new ObjectSpec[] { os });
+			pfs.setPropSet(new PropertySpec[] { ps });
+			pf = collector.createFilter(pfs, false);
+		} catch(RemoteException re)
+		{
+			throw new RuntimeException(re);
+		} finally
+		{
+			if(pf == null && own)
+			{ // don't leave the collector created behind
+				destroyCollector(collector, true, null);
+			}
+		}
+		
+		pc = collector;
+		ownCollector = own;
+		filter = pf;
+		running = true;
+		thread = new Thread(this, "TaskTracker for " + serverConnection.getUrl());
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	@SuppressWarnings("deprecation")
+	public void run()
+	{
+		PropertyCollector collector;
+		boolean own;
+		synchronized(this)
+		{
+			collector = pc;
+			own = ownCollector;
+		}
+		String version = "";
+		long backoff = MIN_BACKOFF;
+		Throwable cause = null;
+		// a thread left behind by a close() timing out stops once another runs
+		while(running && thread == Thread.currentThread())
+		{
+			try
+			{
+				UpdateSet update = own ? collector.waitForUpdatesEx(version, options) 
+						: collector.waitForUpdates(version);
+				backoff = MIN_BACKOFF;
+				if(update != null)
+				{
+					version = update.getVersion();
+					complete(applyUpdate(update.getFilterSet()));
+				}
+				checkUnseen();
+			}
+			catch(NotAuthenticated na)
+			{
+				cause = na;
+				break;
+			}
+			catch(RequestCanceled rc)
+			{
+				// canceled by close()
+			}
+			catch(InvalidCollectorVersion icv)
+			{
+				version = "";
+			}
+			catch(Exception e)
+			{
+				if(!running)
+				{
+					break;
+				}
+				try
+				{
+					Thread.sleep(backoff);
+				} catch(InterruptedException ie)
+				{
+					cause = ie;
+					break;
+				}
+				backoff = Math.min(backoff * 2, MAX_BACKOFF);
+			}
+		}
+		if(cause != null)
+		{
+			exit(cause);
+		}
+	}
+	
+	/**
+	 * Stop after the thread quit on its own, so that the next track() starts
+	 * a new one, and fail the futures left.
+	 */
+	private void exit(Throwable cause)
+	{
+		List<TaskFuture> futures;
+		PropertyCollector collector;
+		boolean own;
+		PropertyFilter pf;
+		synchronized(this)
+		{
+			if(thread != Thread.currentThread())
+			{ // closed meanwhile
+				return;
+			}
+			running = false;
+			thread = null;
+			futures = removeAll();
+			collector = pc;
+			own = ownCollector;
+			pf = filter;
+			detachCollector();
+		}
+		destroyCollector(collector, own, pf);
+		for(int i=0; i<futures.size(); i++)
+		{
+			futures.get(i).fail(cause);
+		}
+	}
+	
+	/**
+	 * @return the tracked tasks done according to the update
+	 */
+	private synchronized List<ManagedObjectReference> applyUpdate(PropertyFilterUpdate[] pfus)
+	{
+		List<ManagedObjectReference> done = new ArrayList<ManagedObjectReference>();
+		for(int i=0; pfus!=null && i<pfus.length; i++)
+		{
+			ObjectUpdate[] ous = pfus[i].getObjectSet();
+			for(int j=0; ous!=null && j<ous.length; j++)
+			{
+				ManagedObjectReference mor = ous[j].getObj();
+				if(ous[j].getKind() == ObjectUpdateKind.leave)
+				{
+					states.remove(mor);
+					continue;
+				}
+				PropertyChange[] pcs = ous[j].getChangeSet();
+				for(int k=0; pcs!=null && k<pcs.length; k++)
+				{
+					if(pcs[k].getVal() instanceof TaskInfoState)
+					{
+						TaskInfoState state = (TaskInfoState) pcs[k].getVal();
+						states.put(mor, state);
+						unseen.remove(mor);
+						if(isDone(state) && tracked.containsKey(mor))
+						{
+							done.add(mor);
+						}
+					}
+				}
+			}
+		}
+		return done;
+	}
+	
+	/**
+	 * Check the tracked tasks the filter hasn't reported in one call.
+	 */
+	private void checkUnseen()
+	{
+		List<ManagedObjectReference> mors;
+		synchronized(this)
+		{
+			if(unseen.isEmpty())
+			{
+				return;
+			}
+			mors = new ArrayList<ManagedObjectReference>(unseen.keySet());
+		}
+		complete(mors);
+	}
+	
+	/**
+	 * Read the TaskInfo of the tasks and complete the futures of those done.
+	 * A task the server no longer knows fails its futures; with any other 
+	 * error the task is checked again after the next wait.
+	 */
+	@SuppressWarnings("deprecation")
+	private void complete(List<ManagedObjectReference> mors)
+	{
+		if(mors.isEmpty())
+		{
+			return;
+		}
+		Map<ManagedObjectReference, TaskInfo> infos = new HashMap<ManagedObjectReference, TaskInfo>();
+		RemoteException error = null;
+		try
+		{
+			ObjectSpec[] oss = new ObjectSpec[mors.size()];
+			for(int i=0; i<oss.length; i++)
+			{
+				oss[i] = PropertyCollectorUtil.creatObjectSpec(mors.get(i), false, null);
+			}
+			PropertyFilterSpec pfs = new PropertyFilterSpec();
+			pfs.setObjectSet(oss);
+			pfs.setPropSet(new PropertySpec[] { PropertyCollectorUtil.createPropertySpec("Task", false, 
+					new String[] { Task.PROPNAME_INFO }) });
+			ObjectContent[] ocs = serverConnection.getServiceInstance().getPropertyCollector().retrieveProperties(
+					new PropertyFilterSpec[] { pfs });
+			for(int i=0; ocs!=null && i<ocs.length; i++)
+			{
+				DynamicProperty[] props = ocs[i].getPropSet();
+				if(props!=null && props.length>0 && props[0].getVal() instanceof TaskInfo)
+				{
+					infos.put(ocs[i].getObj(), (TaskInfo) props[0].getVal());
+				}
+			}
+		} catch(RemoteException re)
+		{
+			if(mors.size() > 1)
+			{ // so that a task deleted meanwhile only fails its own futures
+				for(int i=0; i<mors.size(); i++)
+				{
+					complete(mors.subList(i, i+1));
+				}
+				return;
+			}
+			if(!(re instanceof ManagedObjectNotFound))
+			{ // the task may still be running; check it again after the next wait
+				synchronized(this)
+				{
+					if(tracked.containsKey(mors.get(0)))
+					{
+						unseen.put(mors.get(0), Boolean.TRUE);
+					}
+				}
+				return;
+			}
+			error = re;
+		}
+		
+		List<TaskFuture> toComplete = new ArrayList<TaskFuture>();
+		List<TaskInfo> results = new ArrayList<TaskInfo>();
+		synchronized(this)
+		{
+			for(int i=0; i<mors.size(); i++)
+			{
+				ManagedObjectReference mor = mors.get(i);
+				TaskInfo info = infos.get(mor);
+				if(error == null && (info == null || !isDone(info.getState())))
+				{ // still running, or gone which a later check reports
+					continue;
+				}
+				unseen.remove(mor);
+				List<TaskFuture> futures = tracked.remove(mor);
+				for(int j=0; futures!=null && j<futures.size(); j++)
+				{
+					toComplete.add(futures.get(j));
+					results.add(info);
+				}
+			}
+		}
+		for(int i=0; i<toComplete.size(); i++)
+		{
+			if(error != null)
+			{
+				toComplete.get(i).fail(error);
+			}
+			else
+			{
+				toComplete.get(i).complete(results.get(i));
+			}
+		}
+	}
+	
+	/**
+	 * Stop tracking all the tasks; called holding the lock.
+	 * @return the futures of the tasks
+	 */
+	private List<TaskFuture> removeAll()
+	{
+		List<TaskFuture> futures = new ArrayList<TaskFuture>();
+		Iterator<List<TaskFuture>> it = tracked.values().iterator();
+		while(it.hasNext())
+		{
+			futures.addAll(it.next());
+		}
+		tracked.clear();
+		unseen.clear();
+		return futures;
+	}
+	
+	private static boolean isDone(TaskInfoState state)
+	{
+		return state == TaskInfoState.success || state == TaskInfoState.error;
+	}
+	
+	/**
+	 * Stop tracking, canceling the futures not completed yet.
+	 */
+	public void close()
+	{
+		Thread t;
+		List<TaskFuture> futures;
+		PropertyCollector collector;
+		boolean own;
+		PropertyFilter pf;
+		synchronized(this)
+		{
+			if(!running)
+			{
+				return;
+			}
+			running = false;
+			t = thread;
+			thread = null;
+			futures = removeAll();
+			// a track() from now on starts over with a collector of its own
+			collector = pc;
+			own = ownCollector;
+			pf = filter;
+			detachCollector();
+		}
+		try
+		{
+			collector.cancelWaitForUpdates();
+		} catch(RemoteException re)
+		{
+			// nothing waiting
+		}
+		try
+		{
+			t.join(10 * 1000);
+		} catch(InterruptedException ie)
+		{
+			Thread.currentThread().interrupt();
+		}
+		destroyCollector(collector, own, pf);
+		for(int i=0; i<futures.size(); i++)
+		{
+			futures.get(i).cancel(false);
+		}
+	}
+	
+	/**
+	 * Forget the collector and filter; called holding the lock.
+	 */
+	private void detachCollector()
+	{
+		pc = null;
+		ownCollector = false;
+		filter = null;
+	}
+	
+	private static void destroyCollector(PropertyCollector collector, boolean own, PropertyFilter pf)
+	{
+		try
+		{
+			if(own)
+			{
+				collector.destroyPropertyCollector();
+			}
+			else if(pf != null)
+			{
+				pf.destroyPropertyFilter();
+			}
+		} catch(RemoteException re)
+		{
+			// the session may be gone already
+		}
+	}
+	
+	private static class TaskFuture extends FutureTask<TaskInfo>
+	{
+		private final static Callable<TaskInfo> NO_CALL = new Callable<TaskInfo>()
+		{
+			public TaskInfo call()
+			{
+				throw new IllegalStateException("Completed by the TaskTracker only");
+			}
+		};
+		private final AsyncCallback<TaskInfo> callback;
+		
+		TaskFuture(AsyncCallback<TaskInfo> callback)
+		{
+			super(NO_CALL);
+			this.callback = callback;
+		}
+		
+		void complete(TaskInfo info)
+		{
+			set(info);
+		}
+		
+		void fail(Throwable cause)
+		{
+			setException(cause);
+		}
+		
+		public void run()
+		{
+			// completed by the tracker, never run
+		}
+		
+		protected void done()
+		{
+			if(callback==null)
+			{
+				return;
+			}
+			try
+			{
+				callback.completed(get());
+			}
+			catch(ExecutionException ee)
+			{
+				callback.failed(ee.getCause());
+			}
+			catch(CancellationException ce)
+			{
+				callback.failed(ce);
+			}
+			catch(InterruptedException ie)
+			{ // not possible as the task is done
+				callback.failed(ie);
+			}
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.samples.bench;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.mo.ServiceInstance;
+import com.vmware.vim25.ws.AsyncCallback;
+import com.vmware.vim25.ws.PooledTransport;
+import com.vmware.vim25.ws.VimStubAsync;
+import com.vmware.vim25.ws.WSClient;
+
+/**
+ * Fans out CurrentTime calls to a local StubSoapServer with VimStubAsync,
+ * waiting on the futures first and then using callbacks, and compares them 
+ * with the same calls made one by one.
+ * 
+ * Usage: java AsyncInvokeBench [calls] [maxInFlight] [latencyMillis]
+ * @author Steve Jin (sjin@vmware.com)
+ */
+
+public class AsyncInvokeBench 
+{
+  public static void main(String[] args) throws Exception
+  {
+    int calls = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+    int maxInFlight = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+    int latency = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+    
+    StubSoapServer server = new StubSoapServer(new StubSoapServer.Handler()
+    {
+      public String handle(String methodName, String request)
+      {
+        return "<" + methodName + "Response xmlns=\"urn:vim25\"><returnval>2010-06-01T12:00:00.000Z</returnval></" 
+          + methodName + "Response>";
+      }
+    });
+    server.start(0);
+    server.setLatency(latency);
+    
+    WSClient wsc = new WSClient(server.getUrl().toString());
+    wsc.setVimNameSpace(ServiceInstance.VIM25_NAMESPACE);
+    wsc.setTransport(new PooledTransport(maxInFlight));
+    wsc.setMaxAsyncRequests(maxInFlight);
+    VimStubAsync stub = new VimStubAsync(wsc);
+    
+    ManagedObjectReference si = new ManagedObjectReference();
+    si.setType("ServiceInstance");
+    si.set_value("ServiceInstance");
+    
+    try
+    {
+      int serialCalls = Math.min(calls, 500);
+      long start = System.currentTimeMillis();
+      for(int i = 0; i < serialCalls; i++)
+      {
+        stub.currentTimeAsync(si).get();
+      }
+      long time = System.currentTimeMillis() - start;
+      System.out.println("One by one: " + serialCalls + " calls in " + time + "ms, " 
+          + (serialCalls * 1000L / Math.max(time, 1)) + " calls/s");
+      
+      start = System.currentTimeMillis();
+      List<Future<Calendar>> futures = new ArrayList<Future<Calendar>>(calls);
+      for(int i = 0; i < calls; i++)
+      {
+        futures.add(stub.currentTimeAsync(si));
+      }
+      for(Future<Calendar> f : futures)
+      {
+        f.get();
+      }
+      time = System.currentTimeMillis() - start;
+      System.out.println("Futures, " + maxInFlight + " in flight: " + calls + " calls in " + time + "ms, " 
+          + (calls * 1000L / Math.max(time, 1)) + " calls/s");
+      
+      final CountDownLatch done = new CountDownLatch(calls);
+      final AtomicInteger failures = new AtomicInteger();
+      AsyncCallback<Calendar> callback = new AsyncCallback<Calendar>()
+      {
+        public void completed(Calendar result)
+        {
+          done.countDown();
+        }
+        
+        public void failed(Throwable cause)
+        {
+          failures.incrementAndGet();
+          done.countDown();
+        }
+      };
+      start = System.currentTimeMillis();
+      for(int i = 0; i < calls; i++)
+      {
+        stub.currentTimeAsync(si, callback);
+      }
+      done.await();
+      time = System.currentTimeMillis() - start;
+      System.out.println("Callbacks, " + maxInFlight + " in flight: " + calls + " calls in " + time + "ms, failures: " 
+          + failures.get() + ", server connections: " + server.getConnectionCount());
+    }
+    finally
+    {
+      wsc.close();
+      server.stop();
+    }
+  }
+}
@@ -0,0 +1,239 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.samples.bench;
+
+import java.util.Calendar;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.vmware.vim.cf.ColumnarSnapshotStore;
+import com.vmware.vim25.ManagedEntityStatus;
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.ObjectUpdate;
+import com.vmware.vim25.ObjectUpdateKind;
+import com.vmware.vim25.PropertyChange;
+import com.vmware.vim25.PropertyChangeOp;
+import com.vmware.vim25.PropertyFilterUpdate;
+import com.vmware.vim25.VirtualMachineConnectionState;
+import com.vmware.vim25.VirtualMachinePowerState;
+
+/**
+ * Compares the heap used by the map per managed object of the cf cache with
+ * that of ColumnarSnapshotStore, for VMs with 30 scalar properties fed as 
+ * the property collector reports them, then times a scan summing one property.
+ * Run with a heap large enough for the maps, for example -Xmx2g.
+ * 
+ * Usage: java CacheMemoryBench [numOfVMs]
+ * @author Steve Jin (sjin@vmware.com)
+ */
+
+public class CacheMemoryBench 
+{
+  private final static String[] INT_PROPS = new String[] {
+    "summary.quickStats.overallCpuUsage", "summary.quickStats.overallCpuDemand",
+    "summary.quickStats.guestMemoryUsage", "summary.quickStats.hostMemoryUsage",
+    "summary.quickStats.distributedCpuEntitlement", "summary.quickStats.distributedMemoryEntitlement",
+    "summary.quickStats.staticCpuEntitlement", "summary.quickStats.staticMemoryEntitlement",
+    "summary.quickStats.privateMemory", "summary.quickStats.sharedMemory",
+    "summary.quickStats.swappedMemory", "summary.quickStats.balloonedMemory",
+    "summary.quickStats.consumedOverheadMemory", "summary.quickStats.uptimeSeconds",
+    "config.hardware.numCPU", "config.hardware.memoryMB", "summary.config.numEthernetCards",
+    "summary.config.numVirtualDisks" };
+  private final static String[] LONG_PROPS = new String[] { 
+    "summary.storage.committed", "summary.storage.uncommitted", "runtime.bootTime" };
+  private final static String[] STRING_PROPS = new String[] { 
+    "name", "guest.guestState", "guest.toolsRunningStatus", "config.guestId" };
+  private final static String[] GUEST_IDS = new String[] { 
+    "rhel5_64Guest", "windows7Server64Guest", "sles11_64Guest", "ubuntu64Guest" };
+  
+  public static void main(String[] args) throws Exception
+  {
+    int numOfVMs = args.length > 0 ? Integer.parseInt(args[0]) : 40000;
+    
+    ColumnarSnapshotStore store = new ColumnarSnapshotStore();
+    for(int i = 0; i < INT_PROPS.length; i++)
+    {
+      store.addIntColumn(INT_PROPS[i]);
+    }
+    for(int i = 0; i < LONG_PROPS.length; i++)
+    {
+      store.addLongColumn(LONG_PROPS[i]);
+    }
+    for(int i = 0; i < STRING_PROPS.length; i++)
+    {
+      store.addStringColumn(STRING_PROPS[i]);
+    }
+    store.addEnumColumn("runtime.powerState", VirtualMachinePowerState.class);
+    store.addEnumColumn("runtime.connectionState", VirtualMachineConnectionState.class);
+    store.addEnumColumn("overallStatus", ManagedEntityStatus.class);
+    store.addEnumColumn("summary.quickStats.guestHeartbeatStatus", ManagedEntityStatus.class);
+    store.addBooleanColumn("config.template");
+    
+    long base = usedMemory();
+    Map<ManagedObjectReference, Map<String, Object>> items = fillMaps(numOfVMs);
+    long mapBytes = usedMemory() - base;
+    
+    base = usedMemory();
+    fillStore(store, numOfVMs);
+    long storeBytes = usedMemory() - base;
+    
+    System.out.println(numOfVMs + " VMs, " + (INT_PROPS.length + LONG_PROPS.length + STRING_PROPS.length + 5) + " properties each");
+    System.out.println("maps:   " + mapBytes / 1024 + " KB, " + mapBytes / numOfVMs + " bytes per VM");
+    System.out.println("store:  " + storeBytes / 1024 + " KB, " + storeBytes / numOfVMs + " bytes per VM");
+    
+    String prop = "summary.quickStats.overallCpuUsage";
+    for(int round = 0; round < 3; round++)
+    {
+      long start = System.nanoTime();
+      long mapSum = 0;
+      for(Map<String, Object> moMap : items.values())
+      {
+        Object value = moMap.get(prop);
+        if(value instanceof Integer)
+        {
+          mapSum += ((Integer) value).intValue();
+        }
+      }
+      long mapTime = System.nanoTime() - start;
+      
+      start = System.nanoTime();
+      long storeSum = 0;
+      int[] column = store.getIntColumn(prop);
+      for(int i = 0; i < column.length; i++)
+      {
+        storeSum += column[i];
+      }
+      long storeTime = System.nanoTime() - start;
+      System.out.println("scan " + prop + ": maps " + mapTime / 1000 + "us, store " + storeTime / 1000 
+          + "us" + (mapSum == storeSum ? "" : " MISMATCH " + mapSum + " vs " + storeSum));
+    }
+    // keep the maps reachable until measured
+    System.out.println(items.size() + " " + store.getRowCount());
+  }
+  
+  /**
+   * Keeps the values the way ManagedObjectCache does.
+   */
+  private static Map<ManagedObjectReference, Map<String, Object>> fillMaps(int numOfVMs)
+  {
+    Map<ManagedObjectReference, Map<String, Object>> items = 
+      new ConcurrentHashMap<ManagedObjectReference, Map<String, Object>>();
+    for(int from = 0; from < numOfVMs; from += 1000)
+    {
+      PropertyFilterUpdate[] pfus = createUpdate(from, Math.min(numOfVMs, from + 1000));
+      ObjectUpdate[] ous = pfus[0].getObjectSet();
+      for(int j = 0; j < ous.length; j++)
+      {
+        Map<String, Object> moMap = new ConcurrentHashMap<String, Object>();
+        items.put(ous[j].getObj(), moMap);
+        PropertyChange[] pcs = ous[j].getChangeSet();
+        for(int k = 0; k < pcs.length; k++)
+        {
+          moMap.put(pcs[k].getName(), pcs[k].getVal());
+        }
+      }
+    }
+    return items;
+  }
+  
+  private static void fillStore(ColumnarSnapshotStore store, int numOfVMs)
+  {
+    for(int from = 0; from < numOfVMs; from += 1000)
+    {
+      store.update(null, createUpdate(from, Math.min(numOfVMs, from + 1000)));
+    }
+  }
+  
+  /**
+   * @return the update of the VMs with new objects for every value, as 
+   * they come out of a SOAP response
+   */
+  private static PropertyFilterUpdate[] createUpdate(int from, int to)
+  {
+    Random random = new Random(from);
+    ObjectUpdate[] ous = new ObjectUpdate[to - from];
+    for(int i = from; i < to; i++)
+    {
+      PropertyChange[] pcs = new PropertyChange[INT_PROPS.length + LONG_PROPS.length + STRING_PROPS.length + 5];
+      int n = 0;
+      for(int j = 0; j < INT_PROPS.length; j++)
+      {
+        pcs[n++] = change(INT_PROPS[j], new Integer(random.nextInt(100000)));
+      }
+      pcs[n++] = change(LONG_PROPS[0], new Long(random.nextInt(Integer.MAX_VALUE) * 16L));
+      pcs[n++] = change(LONG_PROPS[1], new Long(random.nextInt(Integer.MAX_VALUE) * 4L));
+      Calendar bootTime = Calendar.getInstance();
+      bootTime.setTimeInMillis(1275393600000L - random.nextInt(Integer.MAX_VALUE));
+      pcs[n++] = change(LONG_PROPS[2], bootTime);
+      pcs[n++] = change(STRING_PROPS[0], "VM-" + i);
+      pcs[n++] = change(STRING_PROPS[1], new String("running"));
+      pcs[n++] = change(STRING_PROPS[2], new String("guestToolsRunning"));
+      pcs[n++] = change(STRING_PROPS[3], new String(GUEST_IDS[i % GUEST_IDS.length]));
+      pcs[n++] = change("runtime.powerState", VirtualMachinePowerState.poweredOn);
+      pcs[n++] = change("runtime.connectionState", VirtualMachineConnectionState.connected);
+      pcs[n++] = change("overallStatus", ManagedEntityStatus.green);
+      pcs[n++] = change("summary.quickStats.guestHeartbeatStatus", ManagedEntityStatus.green);
+      pcs[n++] = change("config.template", Boolean.FALSE);
+      
+      ManagedObjectReference mor = new ManagedObjectReference();
+      mor.setType(new String("VirtualMachine"));
+      mor.set_value("vm-" + i);
+      ObjectUpdate ou = new ObjectUpdate();
+      ou.setKind(ObjectUpdateKind.enter);
+      ou.setObj(mor);
+      ou.setChangeSet(pcs);
+      ous[i - from] = ou;
+    }
+    PropertyFilterUpdate pfu = new PropertyFilterUpdate();
+    pfu.setObjectSet(ous);
+    return new PropertyFilterUpdate[] { pfu };
+  }
+  
+  private static PropertyChange change(String name, Object val)
+  {
+    PropertyChange pc = new PropertyChange();
+    pc.setName(name);
+    pc.setOp(PropertyChangeOp.assign);
+    pc.setVal(val);
+    return pc;
+  }
+  
+  private static long usedMemory() throws InterruptedException
+  {
+    Runtime rt = Runtime.getRuntime();
+    for(int i = 0; i < 4; i++)
+    {
+      System.gc();
+      Thread.sleep(50);
+    }
+    return rt.totalMemory() - rt.freeMemory();
+  }
+}
@@ -0,0 +1,136 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.samples.bench;
+
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.ObjectContent;
+import com.vmware.vim25.ObjectSpec;
+import com.vmware.vim25.PropertyFilterSpec;
+import com.vmware.vim25.PropertySpec;
+import com.vmware.vim25.mo.ServiceInstance;
+import com.vmware.vim25.ws.PooledTransport;
+import com.vmware.vim25.ws.SoapTransport;
+import com.vmware.vim25.ws.UrlConnectionTransport;
+import com.vmware.vim25.ws.VimStub;
+import com.vmware.vim25.ws.WSClient;
+
+/**
+ * Retrieves a large RetrieveProperties response from a local StubSoapServer
+ * without compression, with gzip and with deflate, and prints the bytes on 
+ * the wire versus after decompression as counted by WSClient. The request is
+ * also sent compressed in the last round.
+ * 
+ * Usage: java CompressionBench [numOfVMs] [rounds]
+ * @author Steve Jin (sjin@vmware.com)
+ */
+
+public class CompressionBench 
+{
+  public static void main(String[] args) throws Exception
+  {
+    int numOfVMs = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+    int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+    
+    String resp = new String(RetrievePropertiesBench.createResponse(numOfVMs), "UTF-8");
+    final String content = resp.substring(resp.indexOf("<RetrievePropertiesResponse"), 
+        resp.indexOf("</soapenv:Body>"));
+    StubSoapServer server = new StubSoapServer(new StubSoapServer.Handler()
+    {
+      public String handle(String methodName, String request)
+      {
+        return content;
+      }
+    });
+    server.start(0);
+    
+    PropertyFilterSpec spec = createSpec(numOfVMs);
+    try
+    {
+      String[] encodings = new String[] { null, "gzip", "deflate" };
+      for(int t = 0; t < 2; t++)
+      {
+        for(int i = 0; i < encodings.length; i++)
+        {
+          SoapTransport transport = t == 0 ? (SoapTransport) new UrlConnectionTransport() : new PooledTransport(2);
+          server.setCompression(encodings[i]);
+          WSClient wsc = new WSClient(server.getUrl().toString());
+          wsc.setVimNameSpace(ServiceInstance.VIM25_NAMESPACE);
+          wsc.setTransport(transport);
+          wsc.setAcceptCompressed(encodings[i] != null);
+          wsc.setCompressRequests(i == encodings.length - 1);
+          VimStub stub = new VimStub(wsc);
+          ManagedObjectReference pc = new ManagedObjectReference();
+          pc.setType("PropertyCollector");
+          pc.set_value("propertyCollector");
+          
+          long start = System.currentTimeMillis();
+          int objects = 0;
+          for(int r = 0; r < rounds; r++)
+          {
+            ObjectContent[] ocs = stub.retrieveProperties(pc, new PropertyFilterSpec[] { spec });
+            objects += ocs.length;
+          }
+          long time = System.currentTimeMillis() - start;
+          System.out.println(transport.getClass().getSimpleName() + ", " + (encodings[i] == null ? "no compression" : encodings[i]) 
+              + (wsc.isCompressRequests() ? " (requests gzipped)" : "") + ": " + objects + " objects in " + time + "ms");
+          System.out.println("  received: " + wsc.getWireBytesReceived() + " bytes on the wire, " 
+              + wsc.getPayloadBytesReceived() + " decompressed");
+          System.out.println("  sent: " + wsc.getWireBytesSent() + " bytes on the wire, " 
+              + wsc.getPayloadBytesSent() + " uncompressed");
+          wsc.close();
+        }
+      }
+    }
+    finally
+    {
+      server.stop();
+    }
+  }
+  
+  private static PropertyFilterSpec createSpec(int numOfVMs)
+  {
+    ObjectSpec[] oss = new ObjectSpec[numOfVMs];
+    for(int i = 0; i < numOfVMs; i++)
+    {
+      ManagedObjectReference mor = new ManagedObjectReference();
+      mor.setType("VirtualMachine");
+      mor.set_value("vm-" + i);
+      oss[i] = new ObjectSpec();
+      oss[i].setObj(mor);
+    }
+    PropertySpec ps = new PropertySpec();
+    ps.setType("VirtualMachine");
+    ps.setPathSet(new String[] { "name", "network", "runtime.powerState", "summary.quickStats" });
+    PropertyFilterSpec spec = new PropertyFilterSpec();
+    spec.setObjectSet(oss);
+    spec.setPropSet(new PropertySpec[] { ps });
+    return spec;
+  }
+}
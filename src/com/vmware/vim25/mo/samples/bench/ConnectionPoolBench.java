@@ -0,0 +1,150 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.samples.bench;
+
+import java.util.Calendar;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.mo.ServiceInstance;
+import com.vmware.vim25.ws.Argument;
+import com.vmware.vim25.ws.PooledTransport;
+import com.vmware.vim25.ws.SoapTransport;
+import com.vmware.vim25.ws.UrlConnectionTransport;
+import com.vmware.vim25.ws.WSClient;
+
+/**
+ * Sends CurrentTime requests from many threads to a local StubSoapServer, 
+ * first over HttpURLConnection and then over a PooledTransport, and prints 
+ * the throughput, the connections opened and the pool wait times.
+ * 
+ * Usage: java ConnectionPoolBench [threads] [requestsPerThread] [maxConnections] [latencyMillis]
+ * @author Steve Jin (sjin@vmware.com)
+ */
+
+public class ConnectionPoolBench 
+{
+  public static void main(String[] args) throws Exception
+  {
+    int threads = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+    int requests = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+    int maxConnections = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+    int latency = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+    
+    StubSoapServer server = new StubSoapServer(new StubSoapServer.Handler()
+    {
+      public String handle(String methodName, String request)
+      {
+        return "<" + methodName + "Response xmlns=\"urn:vim25\"><returnval>2010-06-01T12:00:00.000Z</returnval></" 
+          + methodName + "Response>";
+      }
+    });
+    server.start(0);
+    server.setLatency(latency);
+    
+    try
+    {
+      for(int round = 0; round < 2; round++)
+      {
+        server.setChunked(round == 1);
+        System.out.println((round == 1 ? "Chunked" : "Content-Length") + " responses, " + threads + " threads x " + requests + " requests:");
+
+        long conns = server.getConnectionCount();
+        long time = run(server, new UrlConnectionTransport(), threads, requests);
+        System.out.println("  HttpURLConnection: " + time + "ms, connections opened: " + (server.getConnectionCount() - conns));
+        
+        PooledTransport pool = new PooledTransport(maxConnections);
+        conns = server.getConnectionCount();
+        time = run(server, pool, threads, requests);
+        System.out.println("  PooledTransport(" + maxConnections + "): " + time + "ms, connections opened: " 
+            + (server.getConnectionCount() - conns) + ", reused: " + pool.getReusedConnections() 
+            + ", idle: " + pool.getIdleConnections());
+        System.out.println("    pool waits: " + pool.getAcquireCount() + " acquires, total " + pool.getTotalWaitMillis() 
+            + "ms, max " + pool.getMaxWaitMillis() + "ms");
+        pool.close();
+      }
+    }
+    finally
+    {
+      server.stop();
+    }
+  }
+  
+  private static long run(StubSoapServer server, SoapTransport transport, int threads, final int requests) throws Exception
+  {
+    final WSClient wsc = new WSClient(server.getUrl().toString());
+    wsc.setVimNameSpace(ServiceInstance.VIM25_NAMESPACE);
+    wsc.setTransport(transport);
+    final ManagedObjectReference si = new ManagedObjectReference();
+    si.setType("ServiceInstance");
+    si.set_value("ServiceInstance");
+    
+    final CountDownLatch done = new CountDownLatch(threads);
+    final AtomicInteger errors = new AtomicInteger();
+    long start = System.currentTimeMillis();
+    for(int i = 0; i < threads; i++)
+    {
+      new Thread()
+      {
+        public void run()
+        {
+          try
+          {
+            for(int j = 0; j < requests; j++)
+            {
+              Argument[] paras = new Argument[] { new Argument("_this", "ManagedObjectReference", si) };
+              Calendar time = (Calendar) wsc.invoke("CurrentTime", paras, "Calendar");
+              if(time == null)
+              {
+                errors.incrementAndGet();
+              }
+            }
+          }
+          catch(Exception e)
+          {
+            errors.incrementAndGet();
+            e.printStackTrace();
+          }
+          finally
+          {
+            done.countDown();
+          }
+        }
+      }.start();
+    }
+    done.await();
+    if(errors.get() > 0)
+    {
+      System.out.println("  errors: " + errors.get());
+    }
+    return System.currentTimeMillis() - start;
+  }
+}
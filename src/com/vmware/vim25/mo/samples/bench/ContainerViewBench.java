@@ -0,0 +1,248 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.samples.bench;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.vmware.vim25.mo.Folder;
+import com.vmware.vim25.mo.InventoryNavigator;
+import com.vmware.vim25.mo.ManagedEntity;
+import com.vmware.vim25.mo.ServiceInstance;
+import com.vmware.vim25.mo.ServiceInstanceBuilder;
+
+/**
+ * Searches the VMs and the hosts of a synthetic inventory served by a local
+ * StubSoapServer, first with the full traversal of InventoryNavigator, then
+ * with pooled ContainerViews, and prints per search the request and response
+ * bytes, the time, and the objects the server visits. The stub models the 
+ * visits: a full traversal walks every entity, a container view only lists 
+ * the objects of its types.
+ * 
+ * Usage: java ContainerViewBench [datacenters] [hostsPerDatacenter] [vmsPerHost] [searches]
+ * @author Steve Jin (sjin@vmware.com)
+ */
+
+public class ContainerViewBench 
+{
+  public static void main(String[] args) throws Exception
+  {
+    int dcs = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+    int hosts = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+    int vmsPerHost = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+    int searches = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+    
+    final InventoryHandler handler = new InventoryHandler(dcs, hosts, vmsPerHost);
+    StubSoapServer server = new StubSoapServer(handler);
+    server.start(0);
+    ServiceInstance si = new ServiceInstanceBuilder(server.getUrl(), "vmware_soap_session=\"stub\"").build();
+    Folder root = si.getRootFolder();
+    System.out.println("inventory of " + handler.total + " entities, " + handler.count("VirtualMachine") 
+      + " VMs, " + handler.count("HostSystem") + " hosts");
+    
+    try
+    {
+      String[] types = new String[] { "VirtualMachine", "HostSystem" };
+      for(int mode = 0; mode < 2; mode++)
+      {
+        for(int t = 0; t < types.length; t++)
+        {
+          handler.reset();
+          long begin = System.nanoTime();
+          int found = 0;
+          for(int i = 0; i < searches; i++)
+          {
+            InventoryNavigator nav = new InventoryNavigator(root);
+            nav.setUseContainerView(mode == 1);
+            found = nav.searchManagedEntities(types[t]).length;
+          }
+          long time = (System.nanoTime() - begin) / 1000 / searches;
+          System.out.println((mode == 0 ? "full traversal: " : "container view: ") + types[t] + " x" + found 
+            + ", request " + handler.requestBytes.get() / searches + " B, response " 
+            + handler.responseBytes.get() / searches / 1024 + " KB, visited " + handler.visited.get() / searches 
+            + " objects, " + time / 1000.0 + " ms per search, views created " + handler.viewsCreated.get());
+        }
+      }
+      si.getServerConnection().getContainerViewPool().destroyAll();
+      System.out.println("views left after destroyAll: " + handler.views.size());
+    }
+    finally
+    {
+      si.getServerConnection().logout();
+      server.stop();
+    }
+  }
+  
+  /**
+   * A flat inventory: datacenters with a host folder, a cluster, hosts, a 
+   * resource pool, a VM folder with the VMs, datastores and networks.
+   */
+  static class InventoryHandler extends StubSoapServer.BasicVimHandler
+  {
+    final Map<String, List<String>> byType = new HashMap<String, List<String>>();
+    final Map<String, String[]> views = new HashMap<String, String[]>();
+    final AtomicLong requestBytes = new AtomicLong();
+    final AtomicLong responseBytes = new AtomicLong();
+    final AtomicLong visited = new AtomicLong();
+    final AtomicLong viewsCreated = new AtomicLong();
+    int total = 0;
+    private int viewSeq = 0;
+    
+    InventoryHandler(int dcs, int hosts, int vmsPerHost)
+    {
+      for(int d = 0; d < dcs; d++)
+      {
+        add("Datacenter", "datacenter-" + d);
+        add("Folder", "group-h" + d);
+        add("Folder", "group-v" + d);
+        add("Folder", "group-s" + d);
+        add("Folder", "group-n" + d);
+        add("ClusterComputeResource", "domain-c" + d);
+        add("ResourcePool", "resgroup-" + d);
+        for(int h = 0; h < hosts; h++)
+        {
+          add("HostSystem", "host-" + d + "-" + h);
+          add("Datastore", "datastore-" + d + "-" + h);
+          for(int v = 0; v < vmsPerHost; v++)
+          {
+            add("VirtualMachine", "vm-" + d + "-" + h + "-" + v);
+          }
+        }
+        for(int n = 0; n < 8; n++)
+        {
+          add("Network", "network-" + d + "-" + n);
+        }
+      }
+    }
+    
+    private void add(String type, String value)
+    {
+      List<String> list = byType.get(type);
+      if(list == null)
+      {
+        list = new ArrayList<String>();
+        byType.put(type, list);
+      }
+      list.add(value);
+      total++;
+    }
+    
+    int count(String type)
+    {
+      return byType.get(type).size();
+    }
+    
+    synchronized void reset()
+    {
+      requestBytes.set(0);
+      responseBytes.set(0);
+      visited.set(0);
+    }
+    
+    public String handle(String methodName, String request)
+    {
+      String response = dispatch(methodName, request);
+      if(methodName.startsWith("RetrieveProperties") || methodName.startsWith("ContinueRetrieve"))
+      {
+        requestBytes.addAndGet(request.length());
+        responseBytes.addAndGet(response.length());
+      }
+      return response;
+    }
+    
+    private String dispatch(String methodName, String request)
+    {
+      if("CreateContainerView".equals(methodName))
+      {
+        List<String> types = new ArrayList<String>();
+        for(int from = 0; (from = request.indexOf("<type>", from)) != -1; from++)
+        {
+          types.add(request.substring(from + 6, request.indexOf("</type>", from)));
+        }
+        String view;
+        synchronized(this)
+        {
+          view = "session[stub]view-" + (++viewSeq);
+          views.put(view, types.toArray(new String[types.size()]));
+        }
+        viewsCreated.incrementAndGet();
+        return "<CreateContainerViewResponse xmlns=\"urn:vim25\"><returnval type=\"ContainerView\">" 
+          + view + "</returnval></CreateContainerViewResponse>";
+      }
+      if("DestroyView".equals(methodName))
+      {
+        synchronized(this)
+        {
+          views.remove(request.substring(request.indexOf("\">", request.indexOf("<_this")) + 2, 
+              request.indexOf("</_this>")));
+        }
+        return "<DestroyViewResponse xmlns=\"urn:vim25\"></DestroyViewResponse>";
+      }
+      if(!"RetrievePropertiesEx".equals(methodName))
+      {
+        return super.handle(methodName, request);
+      }
+      
+      String propSet = request.substring(request.indexOf("<propSet>"), request.lastIndexOf("</propSet>"));
+      String type = propSet.substring(propSet.indexOf("<type>") + 6, propSet.indexOf("</type>"));
+      int viewAt = request.indexOf("<obj type=\"ContainerView\">");
+      if(viewAt != -1)
+      {
+        String view = request.substring(viewAt + 26, request.indexOf("</obj>", viewAt));
+        String[] types;
+        synchronized(this)
+        {
+          types = views.get(view);
+        }
+        for(int i = 0; i < types.length; i++)
+        {
+          visited.addAndGet(count(types[i]));
+        }
+      }
+      else
+      {
+        visited.addAndGet(total);
+      }
+      
+      StringBuffer sb = new StringBuffer("<RetrievePropertiesExResponse xmlns=\"urn:vim25\"><returnval>");
+      List<String> objs = byType.get(type);
+      for(int i = 0; objs != null && i < objs.size(); i++)
+      {
+        sb.append("<objects><obj type=\"").append(type).append("\">").append(objs.get(i))
+          .append("</obj><propSet><name>name</name><val xsi:type=\"xsd:string\">").append(objs.get(i))
+          .append("</val></propSet></objects>");
+      }
+      return sb.append("</returnval></RetrievePropertiesExResponse>").toString();
+    }
+  }
+}
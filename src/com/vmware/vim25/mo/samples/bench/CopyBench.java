@@ -0,0 +1,336 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.samples.bench;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+
+import com.vmware.vim.cf.CacheInstance;
+import com.vmware.vim25.Description;
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.OptionValue;
+import com.vmware.vim25.ResourceAllocationInfo;
+import com.vmware.vim25.SharesInfo;
+import com.vmware.vim25.SharesLevel;
+import com.vmware.vim25.VirtualDevice;
+import com.vmware.vim25.VirtualDeviceConnectInfo;
+import com.vmware.vim25.VirtualDisk;
+import com.vmware.vim25.VirtualDiskFlatVer2BackingInfo;
+import com.vmware.vim25.VirtualEthernetCardNetworkBackingInfo;
+import com.vmware.vim25.VirtualHardware;
+import com.vmware.vim25.VirtualMachineConfigInfo;
+import com.vmware.vim25.VirtualMachineFileInfo;
+import com.vmware.vim25.VirtualPCNet32;
+import com.vmware.vim25.mo.ManagedObject;
+import com.vmware.vim25.mo.ServiceInstance;
+import com.vmware.vim25.mo.ServiceInstanceBuilder;
+import com.vmware.vim25.mo.VirtualMachine;
+import com.vmware.vim25.ws.XmlGen;
+
+/**
+ * Has a CacheInstance watch the config of a VM with many devices and extra
+ * config options, served by a local StubSoapServer, and times three ways of
+ * reading it: a deep copy reflecting on every call as the cache did before,
+ * getCopy() with its compiled copy plans, and the zero-copy getSnapshot().
+ * It checks the copies serialize the same as the cached config.
+ * 
+ * Usage: java CopyBench [devices] [extraConfigs] [iterations]
+ * @author Steve Jin (sjin@vmware.com)
+ */
+
+public class CopyBench 
+{
+  public static void main(String[] args) throws Exception
+  {
+    int devices = args.length > 0 ? Integer.parseInt(args[0]) : 40;
+    int options = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+    int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 20000;
+    
+    final String config = XmlGen.toXML("val", "VirtualMachineConfigInfo", createConfig(devices, options))
+      .replaceFirst("<val", "<val xsi:type=\"VirtualMachineConfigInfo\"");
+    StubSoapServer server = new StubSoapServer(new StubSoapServer.BasicVimHandler()
+    {
+      private boolean sent = false;
+      
+      public String handle(String methodName, String request)
+      {
+        if("CreatePropertyCollector".equals(methodName))
+        {
+          return "<CreatePropertyCollectorResponse xmlns=\"urn:vim25\"><returnval type=\"PropertyCollector\">pc-1</returnval></CreatePropertyCollectorResponse>";
+        }
+        if("CreateFilter".equals(methodName))
+        {
+          return "<CreateFilterResponse xmlns=\"urn:vim25\"><returnval type=\"PropertyFilter\">filter-1</returnval></CreateFilterResponse>";
+        }
+        if("WaitForUpdatesEx".equals(methodName))
+        {
+          synchronized(this)
+          {
+            if(!sent)
+            {
+              sent = true;
+              return "<WaitForUpdatesExResponse xmlns=\"urn:vim25\"><returnval><version>1</version><filterSet>"
+                + "<filter type=\"PropertyFilter\">filter-1</filter><objectSet><kind>enter</kind>"
+                + "<obj type=\"VirtualMachine\">vm-1</obj><changeSet><name>config</name><op>assign</op>" 
+                + config + "</changeSet></objectSet></filterSet></returnval></WaitForUpdatesExResponse>";
+            }
+          }
+          try
+          {
+            Thread.sleep(200);
+          } catch(InterruptedException ie)
+          {
+            Thread.currentThread().interrupt();
+          }
+          return "<WaitForUpdatesExResponse xmlns=\"urn:vim25\"></WaitForUpdatesExResponse>";
+        }
+        if("CancelWaitForUpdates".equals(methodName) || "DestroyPropertyCollector".equals(methodName))
+        {
+          return "<" + methodName + "Response xmlns=\"urn:vim25\"></" + methodName + "Response>";
+        }
+        return super.handle(methodName, request);
+      }
+    });
+    server.start(0);
+    ServiceInstance si = new ServiceInstanceBuilder(server.getUrl(), "vmware_soap_session=\"stub\"").build();
+    ManagedObjectReference mor = new ManagedObjectReference();
+    mor.setType("VirtualMachine");
+    mor.set_value("vm-1");
+    VirtualMachine vm = new VirtualMachine(si.getServerConnection(), mor);
+    
+    CacheInstance cache = new CacheInstance(si);
+    cache.watch(new ManagedObject[] { vm }, new String[] { "config" });
+    cache.start();
+    try
+    {
+      while(!cache.isReady())
+      {
+        Thread.sleep(10);
+      }
+      Object cached = cache.get(vm, "config");
+      String expected = XmlGen.toXML("val", "VirtualMachineConfigInfo", cached);
+      boolean same = expected.equals(XmlGen.toXML("val", "VirtualMachineConfigInfo", reflectiveCopy(cached)))
+        && expected.equals(XmlGen.toXML("val", "VirtualMachineConfigInfo", cache.getCopy(vm, "config")));
+      System.out.println("config of " + devices + " devices and " + options + " options, " 
+        + config.length() / 1024 + " KB as XML, copies " + (same ? "equal" : "DIFFER"));
+      
+      for(int round = 0; round < 3; round++)
+      {
+        long begin = System.nanoTime();
+        int n = 0;
+        for(int i = 0; i < iterations; i++)
+        {
+          n += ((VirtualMachineConfigInfo) reflectiveCopy(cache.get(vm, "config"))).getHardware().getDevice().length;
+        }
+        long reflective = System.nanoTime() - begin;
+        
+        begin = System.nanoTime();
+        for(int i = 0; i < iterations; i++)
+        {
+          n += ((VirtualMachineConfigInfo) cache.getCopy(vm, "config")).getHardware().getDevice().length;
+        }
+        long planned = System.nanoTime() - begin;
+        
+        begin = System.nanoTime();
+        for(int i = 0; i < iterations; i++)
+        {
+          Map<String, Object> snapshot = cache.getSnapshot(vm);
+          n += ((VirtualMachineConfigInfo) snapshot.get("config")).getHardware().getDevice().length;
+        }
+        long snapshot = System.nanoTime() - begin;
+        
+        System.out.println("round " + round + ": reflective copy " + reflective / 1000 / iterations 
+          + " us, copy plan " + planned / 1000 / iterations + " us, snapshot " 
+          + snapshot / iterations + " ns per read (" + n + ")");
+      }
+    }
+    finally
+    {
+      cache.destroy();
+      si.getServerConnection().logout();
+      server.stop();
+    }
+  }
+  
+  private static VirtualMachineConfigInfo createConfig(int devices, int options)
+  {
+    VirtualMachineConfigInfo cfg = new VirtualMachineConfigInfo();
+    cfg.setChangeVersion("2010-06-01T12:00:00.123456Z");
+    cfg.setModified(Calendar.getInstance());
+    cfg.setName("bench-vm");
+    cfg.setGuestFullName("Red Hat Enterprise Linux 5 (64-bit)");
+    cfg.setVersion("vmx-07");
+    cfg.setUuid("4206f0b4-5d3c-6c1e-3b4a-1d8c9e0f1a2b");
+    cfg.setInstanceUuid("5006f0b4-5d3c-6c1e-3b4a-1d8c9e0f1a2b");
+    cfg.setNpivNodeWorldWideName(new long[] { 0x28c2000c29000001L });
+    cfg.setNpivPortWorldWideName(new long[] { 0x28c2000c29000002L, 0x28c2000c29000003L });
+    cfg.setTemplate(false);
+    cfg.setGuestId("rhel5_64Guest");
+    cfg.setAnnotation("benchmark VM");
+    VirtualMachineFileInfo files = new VirtualMachineFileInfo();
+    files.setVmPathName("[datastore1] bench-vm/bench-vm.vmx");
+    files.setLogDirectory("[datastore1] bench-vm");
+    cfg.setFiles(files);
+    cfg.setCpuAllocation(createAllocation(0));
+    cfg.setMemoryAllocation(createAllocation(1024));
+    
+    ManagedObjectReference ds = new ManagedObjectReference();
+    ds.setType("Datastore");
+    ds.set_value("datastore-1");
+    ManagedObjectReference net = new ManagedObjectReference();
+    net.setType("Network");
+    net.set_value("network-1");
+    VirtualHardware hw = new VirtualHardware();
+    hw.setNumCPU(4);
+    hw.setMemoryMB(8192);
+    VirtualDevice[] devs = new VirtualDevice[devices];
+    for(int i = 0; i < devices; i++)
+    {
+      VirtualDevice dev;
+      if(i % 2 == 0)
+      {
+        VirtualDisk disk = new VirtualDisk();
+        disk.setCapacityInKB(10L * 1024 * 1024 * (i + 1));
+        SharesInfo shares = new SharesInfo();
+        shares.setShares(1000);
+        shares.setLevel(SharesLevel.normal);
+        disk.setShares(shares);
+        VirtualDiskFlatVer2BackingInfo backing = new VirtualDiskFlatVer2BackingInfo();
+        backing.setFileName("[datastore1] bench-vm/bench-vm_" + i + ".vmdk");
+        backing.setDatastore(ds);
+        backing.setDiskMode("persistent");
+        backing.setThinProvisioned(Boolean.TRUE);
+        backing.setUuid("6000C29" + i);
+        disk.setBacking(backing);
+        dev = disk;
+      }
+      else
+      {
+        VirtualPCNet32 nic = new VirtualPCNet32();
+        nic.setAddressType("assigned");
+        nic.setMacAddress("00:50:56:00:00:" + (i < 16 ? "0" : "") + Integer.toHexString(i));
+        VirtualEthernetCardNetworkBackingInfo backing = new VirtualEthernetCardNetworkBackingInfo();
+        backing.setDeviceName("VM Network");
+        backing.setNetwork(net);
+        nic.setBacking(backing);
+        VirtualDeviceConnectInfo connectable = new VirtualDeviceConnectInfo();
+        connectable.setStartConnected(true);
+        connectable.setConnected(true);
+        connectable.setStatus("ok");
+        nic.setConnectable(connectable);
+        dev = nic;
+      }
+      dev.setKey(2000 + i);
+      Description desc = new Description();
+      desc.setLabel("Device " + i);
+      desc.setSummary("Summary of device " + i);
+      dev.setDeviceInfo(desc);
+      dev.setControllerKey(new Integer(1000));
+      dev.setUnitNumber(new Integer(i));
+      devs[i] = dev;
+    }
+    hw.setDevice(devs);
+    cfg.setHardware(hw);
+    
+    OptionValue[] extra = new OptionValue[options];
+    for(int i = 0; i < options; i++)
+    {
+      extra[i] = new OptionValue();
+      extra[i].setKey("guestinfo.bench." + i);
+      extra[i].setValue("value " + i);
+    }
+    cfg.setExtraConfig(extra);
+    return cfg;
+  }
+  
+  private static ResourceAllocationInfo createAllocation(long reservation)
+  {
+    ResourceAllocationInfo alloc = new ResourceAllocationInfo();
+    alloc.setReservation(new Long(reservation));
+    alloc.setExpandableReservation(Boolean.FALSE);
+    alloc.setLimit(new Long(-1));
+    SharesInfo shares = new SharesInfo();
+    shares.setShares(4000);
+    shares.setLevel(SharesLevel.normal);
+    alloc.setShares(shares);
+    return alloc;
+  }
+  
+  /**
+   * The deep copy as the cache did it before, reflecting on every call, with
+   * primitive arrays copied element by element.
+   */
+  private static Object reflectiveCopy(Object src) throws Exception
+  {
+    Class<?> clazz = src.getClass();
+    if(Modifier.isFinal(clazz.getModifiers()))
+    {
+      return src;
+    }
+    Object dst = clazz.newInstance();
+    if(src instanceof Calendar)
+    {
+      ((Calendar) dst).setTimeInMillis(((Calendar) src).getTimeInMillis());
+      return dst;
+    }
+    Field[] fields = clazz.getFields();
+    for(int i = 0; i < fields.length; i++)
+    {
+      Object fObj = fields[i].get(src);
+      if(fObj == null || Modifier.isStatic(fields[i].getModifiers()))
+      {
+        continue;
+      }
+      if(fObj.getClass().isArray())
+      {
+        int len = Array.getLength(fObj);
+        Object items = fObj;
+        fObj = Array.newInstance(fObj.getClass().getComponentType(), len);
+        boolean primitive = fObj.getClass().getComponentType().isPrimitive();
+        for(int j = 0; j < len; j++)
+        {
+          Object item = Array.get(items, j);
+          Array.set(fObj, j, primitive || item == null ? item : reflectiveCopy(item));
+        }
+      }
+      else
+      {
+        fObj = reflectiveCopy(fObj);
+      }
+      fields[i].set(dst, fObj);
+    }
+    return dst;
+  }
+}
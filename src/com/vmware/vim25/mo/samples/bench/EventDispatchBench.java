@@ -0,0 +1,486 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.samples.bench;
+
+import java.util.Random;
+
+import com.vmware.vim25.AlarmCreatedEvent;
+import com.vmware.vim25.AlarmStatusChangedEvent;
+import com.vmware.vim25.ClusterReconfiguredEvent;
+import com.vmware.vim25.DatastoreRenamedEvent;
+import com.vmware.vim25.DrsVmMigratedEvent;
+import com.vmware.vim25.DrsVmPoweredOnEvent;
+import com.vmware.vim25.EnteredMaintenanceModeEvent;
+import com.vmware.vim25.Event;
+import com.vmware.vim25.ExitMaintenanceModeEvent;
+import com.vmware.vim25.HostConnectedEvent;
+import com.vmware.vim25.HostConnectionLostEvent;
+import com.vmware.vim25.HostDisconnectedEvent;
+import com.vmware.vim25.TaskEvent;
+import com.vmware.vim25.UserLoginSessionEvent;
+import com.vmware.vim25.UserLogoutSessionEvent;
+import com.vmware.vim25.VmBeingClonedEvent;
+import com.vmware.vim25.VmClonedEvent;
+import com.vmware.vim25.VmConnectedEvent;
+import com.vmware.vim25.VmCreatedEvent;
+import com.vmware.vim25.VmDeployedEvent;
+import com.vmware.vim25.VmDisconnectedEvent;
+import com.vmware.vim25.VmFailedToPowerOnEvent;
+import com.vmware.vim25.VmGuestRebootEvent;
+import com.vmware.vim25.VmGuestShutdownEvent;
+import com.vmware.vim25.VmMessageEvent;
+import com.vmware.vim25.VmMigratedEvent;
+import com.vmware.vim25.VmPoweredOffEvent;
+import com.vmware.vim25.VmPoweredOnEvent;
+import com.vmware.vim25.VmReconfiguredEvent;
+import com.vmware.vim25.VmRelocatedEvent;
+import com.vmware.vim25.VmRemovedEvent;
+import com.vmware.vim25.VmRenamedEvent;
+import com.vmware.vim25.VmResettingEvent;
+import com.vmware.vim25.VmResourceReallocatedEvent;
+import com.vmware.vim25.VmStartingEvent;
+import com.vmware.vim25.VmStoppingEvent;
+import com.vmware.vim25.VmSuspendedEvent;
+import com.vmware.vim25.mo.util.EventRouter;
+
+/**
+ * Dispatches a million events of 36 Event subclasses, drawn at random, 
+ * with a chain of instanceof checks stopping at the first match, most 
+ * specific class first; with a chain checking all classes, which is what 
+ * calling the handlers of superclasses too takes; and with an EventRouter 
+ * having a handler per class. It prints the time of each, and the router 
+ * must count the same events per class as the full chain.
+ * 
+ * Usage: java EventDispatchBench [events] [rounds]
+ * @author Steve Jin (sjin@vmware.com)
+ */
+
+public class EventDispatchBench 
+{
+  private final static Class<?>[] CLASSES = new Class<?>[] {
+    DrsVmMigratedEvent.class,
+    DrsVmPoweredOnEvent.class,
+    VmPoweredOnEvent.class,
+    VmPoweredOffEvent.class,
+    VmSuspendedEvent.class,
+    VmResettingEvent.class,
+    VmMigratedEvent.class,
+    VmRelocatedEvent.class,
+    VmReconfiguredEvent.class,
+    VmCreatedEvent.class,
+    VmRemovedEvent.class,
+    VmRenamedEvent.class,
+    VmBeingClonedEvent.class,
+    VmClonedEvent.class,
+    VmDeployedEvent.class,
+    VmGuestShutdownEvent.class,
+    VmGuestRebootEvent.class,
+    VmStartingEvent.class,
+    VmStoppingEvent.class,
+    VmResourceReallocatedEvent.class,
+    VmMessageEvent.class,
+    VmFailedToPowerOnEvent.class,
+    VmDisconnectedEvent.class,
+    VmConnectedEvent.class,
+    HostConnectedEvent.class,
+    HostDisconnectedEvent.class,
+    HostConnectionLostEvent.class,
+    EnteredMaintenanceModeEvent.class,
+    ExitMaintenanceModeEvent.class,
+    AlarmStatusChangedEvent.class,
+    AlarmCreatedEvent.class,
+    UserLoginSessionEvent.class,
+    UserLogoutSessionEvent.class,
+    TaskEvent.class,
+    DatastoreRenamedEvent.class,
+    ClusterReconfiguredEvent.class
+  };
+  
+  public static void main(String[] args) throws Exception
+  {
+    int eventCount = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+    int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+    
+    Random random = new Random(42);
+    Event[] events = new Event[eventCount];
+    for(int i = 0; i < events.length; i++)
+    {
+      events[i] = (Event) CLASSES[random.nextInt(CLASSES.length)].newInstance();
+      events[i].setKey(i);
+    }
+    
+    final int[] routed = new int[CLASSES.length];
+    EventRouter router = new EventRouter();
+    for(int i = 0; i < CLASSES.length; i++)
+    {
+      final int index = i;
+      register(router, CLASSES[i], new EventRouter.Handler<Event>()
+      {
+        public void handle(Event event)
+        {
+          routed[index]++;
+        }
+      });
+    }
+    
+    int[] first = new int[CLASSES.length];
+    int[] cascaded = new int[CLASSES.length];
+    for(int round = 0; round < rounds; round++)
+    {
+      java.util.Arrays.fill(first, 0);
+      java.util.Arrays.fill(cascaded, 0);
+      java.util.Arrays.fill(routed, 0);
+      long begin = System.nanoTime();
+      for(int i = 0; i < events.length; i++)
+      {
+        cascade(events[i], first);
+      }
+      long firstMatch = System.nanoTime() - begin;
+      
+      begin = System.nanoTime();
+      for(int i = 0; i < events.length; i++)
+      {
+        cascadeAll(events[i], cascaded);
+      }
+      long cascade = System.nanoTime() - begin;
+      
+      begin = System.nanoTime();
+      router.route(events);
+      long route = System.nanoTime() - begin;
+      
+      boolean same = java.util.Arrays.equals(cascaded, routed);
+      System.out.println("round " + round + ": first match chain " + firstMatch / events.length 
+        + " ns/event, full chain " + cascade / events.length + " ns/event, router " 
+        + route / events.length + " ns/event" + (same ? "" : ", COUNTS DIFFER"));
+    }
+  }
+  
+  @SuppressWarnings("unchecked")
+  private static void register(EventRouter router, Class<?> clazz, EventRouter.Handler<Event> handler)
+  {
+    router.register((Class<Event>) clazz, handler);
+  }
+  
+  private static void cascade(Event event, int[] counts)
+  {
+    if(event instanceof DrsVmMigratedEvent)
+    {
+      counts[0]++;
+    }
+    else if(event instanceof DrsVmPoweredOnEvent)
+    {
+      counts[1]++;
+    }
+    else if(event instanceof VmPoweredOnEvent)
+    {
+      counts[2]++;
+    }
+    else if(event instanceof VmPoweredOffEvent)
+    {
+      counts[3]++;
+    }
+    else if(event instanceof VmSuspendedEvent)
+    {
+      counts[4]++;
+    }
+    else if(event instanceof VmResettingEvent)
+    {
+      counts[5]++;
+    }
+    else if(event instanceof VmMigratedEvent)
+    {
+      counts[6]++;
+    }
+    else if(event instanceof VmRelocatedEvent)
+    {
+      counts[7]++;
+    }
+    else if(event instanceof VmReconfiguredEvent)
+    {
+      counts[8]++;
+    }
+    else if(event instanceof VmCreatedEvent)
+    {
+      counts[9]++;
+    }
+    else if(event instanceof VmRemovedEvent)
+    {
+      counts[10]++;
+    }
+    else if(event instanceof VmRenamedEvent)
+    {
+      counts[11]++;
+    }
+    else if(event instanceof VmBeingClonedEvent)
+    {
+      counts[12]++;
+    }
+    else if(event instanceof VmClonedEvent)
+    {
+      counts[13]++;
+    }
+    else if(event instanceof VmDeployedEvent)
+    {
+      counts[14]++;
+    }
+    else if(event instanceof VmGuestShutdownEvent)
+    {
+      counts[15]++;
+    }
+    else if(event instanceof VmGuestRebootEvent)
+    {
+      counts[16]++;
+    }
+    else if(event instanceof VmStartingEvent)
+    {
+      counts[17]++;
+    }
+    else if(event instanceof VmStoppingEvent)
+    {
+      counts[18]++;
+    }
+    else if(event instanceof VmResourceReallocatedEvent)
+    {
+      counts[19]++;
+    }
+    else if(event instanceof VmMessageEvent)
+    {
+      counts[20]++;
+    }
+    else if(event instanceof VmFailedToPowerOnEvent)
+    {
+      counts[21]++;
+    }
+    else if(event instanceof VmDisconnectedEvent)
+    {
+      counts[22]++;
+    }
+    else if(event instanceof VmConnectedEvent)
+    {
+      counts[23]++;
+    }
+    else if(event instanceof HostConnectedEvent)
+    {
+      counts[24]++;
+    }
+    else if(event instanceof HostDisconnectedEvent)
+    {
+      counts[25]++;
+    }
+    else if(event instanceof HostConnectionLostEvent)
+    {
+      counts[26]++;
+    }
+    else if(event instanceof EnteredMaintenanceModeEvent)
+    {
+      counts[27]++;
+    }
+    else if(event instanceof ExitMaintenanceModeEvent)
+    {
+      counts[28]++;
+    }
+    else if(event instanceof AlarmStatusChangedEvent)
+    {
+      counts[29]++;
+    }
+    else if(event instanceof AlarmCreatedEvent)
+    {
+      counts[30]++;
+    }
+    else if(event instanceof UserLoginSessionEvent)
+    {
+      counts[31]++;
+    }
+    else if(event instanceof UserLogoutSessionEvent)
+    {
+      counts[32]++;
+    }
+    else if(event instanceof TaskEvent)
+    {
+      counts[33]++;
+    }
+    else if(event instanceof DatastoreRenamedEvent)
+    {
+      counts[34]++;
+    }
+    else if(event instanceof ClusterReconfiguredEvent)
+    {
+      counts[35]++;
+    }
+  }
+  
+  private static void cascadeAll(Event event, int[] counts)
+  {
+    if(event instanceof DrsVmMigratedEvent)
+    {
+      counts[0]++;
+    }
+    if(event instanceof DrsVmPoweredOnEvent)
+    {
+      counts[1]++;
+    }
+    if(event instanceof VmPoweredOnEvent)
+    {
+      counts[2]++;
+    }
+    if(event instanceof VmPoweredOffEvent)
+    {
+      counts[3]++;
+    }
+    if(event instanceof VmSuspendedEvent)
+    {
+      counts[4]++;
+    }
+    if(event instanceof VmResettingEvent)
+    {
+      counts[5]++;
+    }
+    if(event instanceof VmMigratedEvent)
+    {
+      counts[6]++;
+    }
+    if(event instanceof VmRelocatedEvent)
+    {
+      counts[7]++;
+    }
+    if(event instanceof VmReconfiguredEvent)
+    {
+      counts[8]++;
+    }
+    if(event instanceof VmCreatedEvent)
+    {
+      counts[9]++;
+    }
+    if(event instanceof VmRemovedEvent)
+    {
+      counts[10]++;
+    }
+    if(event instanceof VmRenamedEvent)
+    {
+      counts[11]++;
+    }
+    if(event instanceof VmBeingClonedEvent)
+    {
+      counts[12]++;
+    }
+    if(event instanceof VmClonedEvent)
+    {
+      counts[13]++;
+    }
+    if(event instanceof VmDeployedEvent)
+    {
+      counts[14]++;
+    }
+    if(event instanceof VmGuestShutdownEvent)
+    {
+      counts[15]++;
+    }
+    if(event instanceof VmGuestRebootEvent)
+    {
+      counts[16]++;
+    }
+    if(event instanceof VmStartingEvent)
+    {
+      counts[17]++;
+    }
+    if(event instanceof VmStoppingEvent)
+    {
+      counts[18]++;
+    }
+    if(event instanceof VmResourceReallocatedEvent)
+    {
+      counts[19]++;
+    }
+    if(event instanceof VmMessageEvent)
+    {
+      counts[20]++;
+    }
+    if(event instanceof VmFailedToPowerOnEvent)
+    {
+      counts[21]++;
+    }
+    if(event instanceof VmDisconnectedEvent)
+    {
+      counts[22]++;
+    }
+    if(event instanceof VmConnectedEvent)
+    {
+      counts[23]++;
+    }
+    if(event instanceof HostConnectedEvent)
+    {
+      counts[24]++;
+    }
+    if(event instanceof HostDisconnectedEvent)
+    {
+      counts[25]++;
+    }
+    if(event instanceof HostConnectionLostEvent)
+    {
+      counts[26]++;
+    }
+    if(event instanceof EnteredMaintenanceModeEvent)
+    {
+      counts[27]++;
+    }
+    if(event instanceof ExitMaintenanceModeEvent)
+    {
+      counts[28]++;
+    }
+    if(event instanceof AlarmStatusChangedEvent)
+    {
+      counts[29]++;
+    }
+    if(event instanceof AlarmCreatedEvent)
+    {
+      counts[30]++;
+    }
+    if(event instanceof UserLoginSessionEvent)
+    {
+      counts[31]++;
+    }
+    if(event instanceof UserLogoutSessionEvent)
+    {
+      counts[32]++;
+    }
+    if(event instanceof TaskEvent)
+    {
+      counts[33]++;
+    }
+    if(event instanceof DatastoreRenamedEvent)
+    {
+      counts[34]++;
+    }
+    if(event instanceof ClusterReconfiguredEvent)
+    {
+      counts[35]++;
+    }
+  }
+}
@@ -0,0 +1,212 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.samples.bench;
+
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.PerfMetricId;
+import com.vmware.vim25.mo.ManagedEntity;
+import com.vmware.vim25.mo.PerfQueryEngine;
+import com.vmware.vim25.mo.PerformanceManager;
+import com.vmware.vim25.mo.ServiceInstance;
+import com.vmware.vim25.mo.ServiceInstanceBuilder;
+import com.vmware.vim25.mo.VirtualMachine;
+
+/**
+ * Queries an hour of 20 second realtime statistics of many VMs from a local 
+ * StubSoapServer with PerfQueryEngine, in the normal and in the csv format, 
+ * and prints the time, the response bytes and a checksum of each format.
+ * The server caches its responses, so the time is mostly the client's.
+ * 
+ * Usage: java PerfFormatBench [vms] [seriesPerVm] [samples] [rounds]
+ * @author Steve Jin (sjin@vmware.com)
+ */
+
+public class PerfFormatBench 
+{
+  public static void main(String[] args) throws Exception
+  {
+    int vmCount = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+    final int series = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+    final int samples = args.length > 2 ? Integer.parseInt(args[2]) : 180;
+    int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+    
+    final AtomicLong bytes = new AtomicLong();
+    StubSoapServer server = new StubSoapServer(new StubSoapServer.BasicVimHandler()
+    {
+      private Map<String, String> responses = new HashMap<String, String>();
+      
+      public String handle(String methodName, String request)
+      {
+        if(!"QueryPerf".equals(methodName))
+        {
+          return super.handle(methodName, request);
+        }
+        String response;
+        synchronized(responses)
+        {
+          response = responses.get(request);
+          if(response == null)
+          {
+            response = queryPerf(request, series, samples);
+            responses.put(request, response);
+          }
+        }
+        bytes.addAndGet(response.length());
+        return response;
+      }
+    });
+    server.start(0);
+    ServiceInstance si = new ServiceInstanceBuilder(server.getUrl(), "vmware_soap_session=\"stub\"").build();
+    ManagedObjectReference pmMor = new ManagedObjectReference();
+    pmMor.setType("PerformanceManager");
+    pmMor.set_value("PerfMgr");
+    PerfQueryEngine engine = new PerfQueryEngine(new PerformanceManager(si.getServerConnection(), pmMor));
+    ManagedEntity[] vms = new ManagedEntity[vmCount];
+    for(int i = 0; i < vms.length; i++)
+    {
+      ManagedObjectReference mor = new ManagedObjectReference();
+      mor.setType("VirtualMachine");
+      mor.set_value("vm-" + i);
+      vms[i] = new VirtualMachine(si.getServerConnection(), mor);
+    }
+    Calendar end = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    end.set(2010, 5, 1, 13, 0, 0);
+    Calendar start = (Calendar) end.clone();
+    start.add(Calendar.SECOND, -20 * samples);
+    PerfMetricId[] metricIds = new PerfMetricId[] { new PerfMetricId() };
+    metricIds[0].setInstance("*");
+    
+    try
+    {
+      for(int round = 0; round < rounds; round++)
+      {
+        for(int csv = 0; csv < 2; csv++)
+        {
+          engine.setCsvFormat(csv == 1);
+          final AtomicLong checksum = new AtomicLong();
+          bytes.set(0);
+          long begin = System.nanoTime();
+          long n = engine.query(vms, metricIds, start, end, new Integer(20), new PerfQueryEngine.SeriesHandler()
+          {
+            public void series(ManagedObjectReference entity, int counterId, String instance, 
+                long[] timestamps, int[] intervals, long[] values)
+            {
+              long sum = 0;
+              for(int i = 0; i < values.length; i++)
+              {
+                sum += values[i] + timestamps[i] / 1000 + intervals[i];
+              }
+              checksum.addAndGet(sum);
+            }
+          });
+          long time = (System.nanoTime() - begin) / 1000000;
+          System.out.println("round " + round + (csv == 1 ? " csv:    " : " normal: ") + n + " series in " 
+              + time + "ms, " + bytes.get() / 1024 + " KB, checksum " + checksum.get());
+        }
+      }
+    }
+    finally
+    {
+      si.getServerConnection().logout();
+      server.stop();
+    }
+  }
+  
+  private static String queryPerf(String request, int series, int samples)
+  {
+    boolean csv = request.indexOf("<format>csv</format>") >= 0;
+    StringBuffer sb = new StringBuffer("<QueryPerfResponse xmlns=\"urn:vim25\">");
+    int pos = 0;
+    while((pos = request.indexOf("<entity", pos)) >= 0)
+    {
+      String vm = request.substring(request.indexOf('>', pos) + 1, request.indexOf("</entity>", pos));
+      pos++;
+      int seed = vm.hashCode();
+      sb.append("<returnval xsi:type=\"").append(csv ? "PerfEntityMetricCSV" : "PerfEntityMetric")
+        .append("\"><entity type=\"VirtualMachine\">").append(vm).append("</entity>");
+      if(csv)
+      {
+        sb.append("<sampleInfoCSV>");
+      }
+      for(int i = 0; i < samples; i++)
+      {
+        String time = "2010-06-01T" + two(12 + (i * 20) / 3600) + ":" + two((i * 20) / 60 % 60) + ":" + two(i * 20 % 60) + "Z";
+        if(csv)
+        {
+          sb.append(i == 0 ? "" : ",").append("20,").append(time);
+        }
+        else
+        {
+          sb.append("<sampleInfo><timestamp>").append(time).append("</timestamp><interval>20</interval></sampleInfo>");
+        }
+      }
+      if(csv)
+      {
+        sb.append("</sampleInfoCSV>");
+      }
+      for(int s = 0; s < series; s++)
+      {
+        sb.append("<value xsi:type=\"").append(csv ? "PerfMetricSeriesCSV" : "PerfMetricIntSeries")
+          .append("\"><id><counterId>").append(2 + s / 2).append("</counterId><instance>")
+          .append(s % 2 == 0 ? "" : String.valueOf(s)).append("</instance></id>");
+        if(csv)
+        {
+          sb.append("<value>");
+        }
+        for(int i = 0; i < samples; i++)
+        {
+          long v = Math.abs((seed + s * 7919L + i * 104729L) % 100000);
+          if(csv)
+          {
+            sb.append(i == 0 ? "" : ",").append(v);
+          }
+          else
+          {
+            sb.append("<value>").append(v).append("</value>");
+          }
+        }
+        sb.append(csv ? "</value></value>" : "</value>");
+      }
+      sb.append("</returnval>");
+    }
+    return sb.append("</QueryPerfResponse>").toString();
+  }
+  
+  private static String two(int n)
+  {
+    return n < 10 ? "0" + n : String.valueOf(n);
+  }
+}
@@ -0,0 +1,135 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.samples.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.mo.PropertyReadCoalescer;
+import com.vmware.vim25.mo.ServiceInstance;
+import com.vmware.vim25.mo.ServiceInstanceBuilder;
+import com.vmware.vim25.mo.VirtualMachine;
+import com.vmware.vim25.ws.PooledTransport;
+
+/**
+ * Has many threads read the names of different VMs at the same time from a 
+ * local StubSoapServer with a latency per request, first one call per read, 
+ * then with a PropertyReadCoalescer, and prints the time, the calls the 
+ * server got and the batch metrics.
+ * 
+ * Usage: java ReadCoalescingBench [threads] [readsPerThread] [latencyMillis] [windowMillis]
+ * @author Steve Jin (sjin@vmware.com)
+ */
+
+public class ReadCoalescingBench 
+{
+  public static void main(String[] args) throws Exception
+  {
+    final int threads = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+    final int reads = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+    int latency = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+    long window = args.length > 3 ? Long.parseLong(args[3]) : 2;
+    
+    StubSoapServer server = new StubSoapServer(new StubSoapServer.BasicVimHandler());
+    server.start(0);
+    server.setLatency(latency);
+    ServiceInstance si = new ServiceInstanceBuilder(server.getUrl(), "vmware_soap_session=\"stub\"")
+      .transport(new PooledTransport(threads)).build();
+    final VirtualMachine[] vms = new VirtualMachine[threads * reads];
+    for(int i = 0; i < vms.length; i++)
+    {
+      ManagedObjectReference mor = new ManagedObjectReference();
+      mor.setType("VirtualMachine");
+      mor.set_value("vm-" + i);
+      vms[i] = new VirtualMachine(si.getServerConnection(), mor);
+    }
+    
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try
+    {
+      for(int mode = 0; mode < 2; mode++)
+      {
+        PropertyReadCoalescer coalescer = mode == 0 ? null 
+            : new PropertyReadCoalescer(si.getServerConnection(), window, threads);
+        si.getServerConnection().setPropertyReadCoalescer(coalescer);
+        long requestsBefore = server.getRequestCount();
+        long start = System.currentTimeMillis();
+        
+        List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+        for(int t = 0; t < threads; t++)
+        {
+          final int first = t * reads;
+          futures.add(pool.submit(new Callable<Integer>()
+          {
+            public Integer call()
+            {
+              int wrong = 0;
+              for(int i = first; i < first + reads; i++)
+              {
+                if(!("name of vm-" + i).equals(vms[i].getName()))
+                {
+                  wrong++;
+                }
+              }
+              return wrong;
+            }
+          }));
+        }
+        int wrong = 0;
+        for(int t = 0; t < futures.size(); t++)
+        {
+          wrong += futures.get(t).get();
+        }
+        
+        long time = System.currentTimeMillis() - start;
+        System.out.println((coalescer == null ? "one call per read" : "coalesced, window " + window + "ms") 
+            + ": " + vms.length + " reads in " + time + "ms, " + (server.getRequestCount() - requestsBefore) 
+            + " calls" + (wrong == 0 ? "" : ", " + wrong + " WRONG VALUES"));
+        if(coalescer != null)
+        {
+          System.out.println("  batches " + coalescer.getBatchCount() + ", average size " 
+              + Math.round(coalescer.getAverageBatchSize() * 10) / 10.0 + ", largest " + coalescer.getLargestBatchSize()
+              + ", saved round trips " + coalescer.getSavedRoundTrips());
+        }
+      }
+    }
+    finally
+    {
+      pool.shutdown();
+      si.getServerConnection().logout();
+      server.stop();
+    }
+  }
+}
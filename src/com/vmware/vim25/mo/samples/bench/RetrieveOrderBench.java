@@ -0,0 +1,241 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.samples.bench;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Random;
+
+import com.vmware.vim25.DynamicProperty;
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.ObjectContent;
+import com.vmware.vim25.mo.ManagedObject;
+import com.vmware.vim25.mo.ServiceInstance;
+import com.vmware.vim25.mo.ServiceInstanceBuilder;
+import com.vmware.vim25.mo.VirtualMachine;
+import com.vmware.vim25.mo.util.ObjectContentIterator;
+import com.vmware.vim25.mo.util.ObjectProperties;
+import com.vmware.vim25.mo.util.PropertyCollectorUtil;
+
+/**
+ * Compares matching the results of PropertyCollectorUtil.retrieveObjectProperties
+ * to the managed objects with a hash table against the former linear search,
+ * when a local StubSoapServer returns the objects in order, shuffled, and 
+ * shuffled with some of them missing as if deleted.
+ * 
+ * Usage: java RetrieveOrderBench [numOfVMs] [rounds]
+ * @author Steve Jin (sjin@vmware.com)
+ */
+
+public class RetrieveOrderBench 
+{
+  private final static String[] PROPS = new String[] { "name", "runtime.powerState" };
+  
+  public static void main(String[] args) throws Exception
+  {
+    int numOfVMs = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+    int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+    
+    final PagingHandler handler = new PagingHandler();
+    StubSoapServer server = new StubSoapServer(handler);
+    server.start(0);
+    ServiceInstance si = new ServiceInstanceBuilder(server.getUrl(), "vmware_soap_session=\"stub\"").build();
+    si.getServerConnection().getVimService().getWsc().setStreamParsing(true);
+    
+    ManagedObject[] vms = new ManagedObject[numOfVMs];
+    for(int i = 0; i < numOfVMs; i++)
+    {
+      ManagedObjectReference mor = new ManagedObjectReference();
+      mor.setType("VirtualMachine");
+      mor.set_value("vm-" + i);
+      vms[i] = new VirtualMachine(si.getServerConnection(), mor);
+    }
+    
+    String[] orders = new String[] { "in order", "shuffled", "shuffled, 5% missing" };
+    try
+    {
+      for(int o = 0; o < orders.length; o++)
+      {
+        handler.setObjects(numOfVMs, o > 0, o == 2 ? 0.05 : 0);
+        long linear = Long.MAX_VALUE;
+        long hashed = Long.MAX_VALUE;
+        int found = 0;
+        for(int r = 0; r < rounds; r++)
+        {
+          long start = System.nanoTime();
+          found = retrieveLinear(vms);
+          linear = Math.min(linear, System.nanoTime() - start);
+          
+          start = System.nanoTime();
+          ObjectProperties[] results = PropertyCollectorUtil.retrieveObjectProperties(vms, "VirtualMachine", PROPS);
+          hashed = Math.min(hashed, System.nanoTime() - start);
+          int count = 0;
+          for(int i = 0; i < results.length; i++)
+          {
+            if(results[i] != null)
+            {
+              count++;
+            }
+          }
+          if(count != found)
+          {
+            System.out.println("MISMATCH " + count + " vs " + found);
+          }
+        }
+        System.out.println(numOfVMs + " VMs " + orders[o] + ", " + found + " returned: linear search " 
+            + linear / 1000000 + "ms, hash table " + hashed / 1000000 + "ms");
+      }
+    }
+    finally
+    {
+      si.getServerConnection().logout();
+      server.stop();
+    }
+  }
+  
+  /**
+   * Matches the results the way retrieveProperties did before.
+   * @return the number of managed objects returned
+   */
+  private static int retrieveLinear(ManagedObject[] mos)
+  {
+    ObjectContentIterator it = PropertyCollectorUtil.iterateProperties(mos, "VirtualMachine", PROPS, 
+        ObjectContentIterator.DEFAULT_MAX_OBJECTS);
+    Hashtable[] results = new Hashtable[mos.length];
+    int count = 0;
+    for(int i = 0; it.hasNext(); i++)
+    {
+      ObjectContent oc = it.next();
+      ManagedObjectReference mor = oc.getObj();
+      int index = -1;
+      if(i < mos.length && mor.getType().equals(mos[i].getMOR().getType()) 
+          && mor.get_value().equals(mos[i].getMOR().get_value()))
+      {
+        index = i;
+      }
+      else
+      {
+        for(int j = 0; j < mos.length; j++)
+        {
+          if(mor.getType().equals(mos[j].getMOR().getType()) 
+              && mor.get_value().equals(mos[j].getMOR().get_value()))
+          {
+            index = j;
+            break;
+          }
+        }
+      }
+      Hashtable table = new Hashtable();
+      DynamicProperty[] props = oc.getPropSet();
+      for(int j = 0; props != null && j < props.length; j++)
+      {
+        table.put(props[j].getName(), PropertyCollectorUtil.convertProperty(props[j].getVal()));
+      }
+      results[index] = table;
+      count++;
+    }
+    return count;
+  }
+  
+  /**
+   * Answers RetrievePropertiesEx and ContinueRetrievePropertiesEx with 
+   * pages of at most maxObjects VMs in the order set.
+   */
+  static class PagingHandler extends StubSoapServer.BasicVimHandler
+  {
+    private volatile List<String> objects = new ArrayList<String>();
+    
+    void setObjects(int numOfVMs, boolean shuffle, double missing)
+    {
+      Random random = new Random(numOfVMs);
+      List<String> list = new ArrayList<String>(numOfVMs);
+      for(int i = 0; i < numOfVMs; i++)
+      {
+        if(random.nextDouble() >= missing)
+        {
+          list.add("<objects><obj type=\"VirtualMachine\">vm-" + i + "</obj>"
+              + "<propSet><name>name</name><val xsi:type=\"xsd:string\">VM" + i + "</val></propSet>"
+              + "<propSet><name>runtime.powerState</name><val xsi:type=\"VirtualMachinePowerState\">poweredOn</val></propSet>"
+              + "</objects>");
+        }
+      }
+      if(shuffle)
+      {
+        Collections.shuffle(list, random);
+      }
+      objects = list;
+    }
+    
+    public String handle(String methodName, String request)
+    {
+      if("RetrievePropertiesEx".equals(methodName))
+      {
+        int max = Integer.parseInt(getElement(request, "maxObjects"));
+        return page(methodName, 0, max);
+      }
+      else if("ContinueRetrievePropertiesEx".equals(methodName))
+      {
+        String[] token = getElement(request, "token").split(":");
+        return page(methodName, Integer.parseInt(token[0]), Integer.parseInt(token[1]));
+      }
+      else if("CancelRetrievePropertiesEx".equals(methodName))
+      {
+        return "<CancelRetrievePropertiesExResponse xmlns=\"urn:vim25\"></CancelRetrievePropertiesExResponse>";
+      }
+      return super.handle(methodName, request);
+    }
+    
+    private String page(String methodName, int from, int max)
+    {
+      List<String> list = objects;
+      int to = Math.min(list.size(), from + max);
+      StringBuffer sb = new StringBuffer();
+      sb.append("<" + methodName + "Response xmlns=\"urn:vim25\"><returnval>");
+      for(int i = from; i < to; i++)
+      {
+        sb.append(list.get(i));
+      }
+      if(to < list.size())
+      {
+        sb.append("<token>" + to + ":" + max + "</token>");
+      }
+      sb.append("</returnval></" + methodName + "Response>");
+      return sb.toString();
+    }
+    
+    private static String getElement(String request, String name)
+    {
+      int from = request.indexOf("<" + name + ">") + name.length() + 2;
+      return request.substring(from, request.indexOf("</" + name + ">", from));
+    }
+  }
+}
@@ -0,0 +1,164 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.samples.bench;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+
+import org.dom4j.Document;
+import org.dom4j.Element;
+import org.dom4j.io.SAXReader;
+
+import com.vmware.vim25.ws.StaxXmlGen;
+import com.vmware.vim25.ws.XmlGen;
+
+/**
+ * Compares the dom4j and the streaming de-serialization of a large 
+ * RetrieveProperties response. No server is needed: the response is 
+ * generated in memory for the given number of virtual machines.
+ * 
+ * Usage: java RetrievePropertiesBench [numOfVMs] [rounds]
+ * @author Steve Jin (sjin@vmware.com)
+ */
+
+public class RetrievePropertiesBench 
+{
+  public static void main(String[] args) throws Exception
+  {
+    int numOfVMs = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+    int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+    
+    byte[] resp = createResponse(numOfVMs);
+    System.out.println("Response size (bytes): " + resp.length + " for " + numOfVMs + " VMs");
+
+    Object domResult = parseWithDom(resp);
+    Object staxResult = StaxXmlGen.fromSoapResponse(new ByteArrayInputStream(resp), "ObjectContent[]");
+    boolean same = XmlGen.toXML("returnval", "ObjectContent[]", domResult).equals(
+        XmlGen.toXML("returnval", "ObjectContent[]", staxResult));
+    System.out.println("Identical results: " + same);
+
+    // warm up
+    for(int i=0; i<rounds; i++)
+    {
+      parseWithDom(resp);
+      StaxXmlGen.fromSoapResponse(new ByteArrayInputStream(resp), "ObjectContent[]");
+    }
+
+    resetPeakHeap();
+    long start = System.nanoTime();
+    for(int i=0; i<rounds; i++)
+    {
+      parseWithDom(resp);
+    }
+    long domTime = (System.nanoTime() - start) / rounds / 1000000;
+    long domPeak = getPeakHeap();
+
+    resetPeakHeap();
+    start = System.nanoTime();
+    for(int i=0; i<rounds; i++)
+    {
+      StaxXmlGen.fromSoapResponse(new ByteArrayInputStream(resp), "ObjectContent[]");
+    }
+    long staxTime = (System.nanoTime() - start) / rounds / 1000000;
+    long staxPeak = getPeakHeap();
+
+    System.out.println("dom4j:     " + domTime + " ms/call, peak heap " + (domPeak >> 20) + " MB");
+    System.out.println("streaming: " + staxTime + " ms/call, peak heap " + (staxPeak >> 20) + " MB");
+  }
+  
+  static Object parseWithDom(byte[] resp) throws Exception
+  {
+    SAXReader reader = new SAXReader();
+    Document doc = reader.read(new ByteArrayInputStream(resp));
+    Element body = (Element) doc.getRootElement().elements().get(0);
+    Element ret = (Element) body.elements().get(0);
+    return XmlGen.fromXML("ObjectContent[]", ret);
+  }
+
+  /**
+   * Create a RetrievePropertiesResponse with name, power state, quick stats,
+   * and networks of the virtual machines, which is typical for inventory 
+   * listings.
+   */
+  static byte[] createResponse(int numOfVMs) throws Exception
+  {
+    StringBuffer sb = new StringBuffer();
+    sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+    sb.append("<soapenv:Envelope xmlns:soapenc=\"http://schemas.xmlsoap.org/soap/encoding/\" xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">");
+    sb.append("<soapenv:Body><RetrievePropertiesResponse xmlns=\"urn:vim25\">");
+    for(int i=0; i<numOfVMs; i++)
+    {
+      sb.append("<returnval><obj type=\"VirtualMachine\">vm-" + i + "</obj>");
+      sb.append("<propSet><name>name</name><val xsi:type=\"xsd:string\">VM " + i + "</val></propSet>");
+      sb.append("<propSet><name>network</name><val xsi:type=\"ArrayOfManagedObjectReference\">");
+      sb.append("<ManagedObjectReference type=\"Network\" xsi:type=\"ManagedObjectReference\">network-" + (i % 16) + "</ManagedObjectReference>");
+      sb.append("<ManagedObjectReference type=\"DistributedVirtualPortgroup\" xsi:type=\"ManagedObjectReference\">dvportgroup-" + (i % 8) + "</ManagedObjectReference>");
+      sb.append("</val></propSet>");
+      sb.append("<propSet><name>runtime.powerState</name><val xsi:type=\"VirtualMachinePowerState\">poweredOn</val></propSet>");
+      sb.append("<propSet><name>summary.quickStats</name><val xsi:type=\"VirtualMachineQuickStats\">");
+      sb.append("<overallCpuUsage>" + (i % 3000) + "</overallCpuUsage><overallCpuDemand>" + (i % 2000) + "</overallCpuDemand>");
+      sb.append("<guestMemoryUsage>" + (i % 4096) + "</guestMemoryUsage><hostMemoryUsage>" + (i % 8192) + "</hostMemoryUsage>");
+      sb.append("<guestHeartbeatStatus>green</guestHeartbeatStatus>");
+      sb.append("<privateMemory>1024</privateMemory><sharedMemory>12</sharedMemory><swappedMemory>0</swappedMemory>");
+      sb.append("<balloonedMemory>0</balloonedMemory><consumedOverheadMemory>35</consumedOverheadMemory>");
+      sb.append("<compressedMemory>0</compressedMemory><uptimeSeconds>" + (i * 7) + "</uptimeSeconds>");
+      sb.append("</val></propSet></returnval>");
+    }
+    sb.append("</RetrievePropertiesResponse></soapenv:Body></soapenv:Envelope>");
+    return sb.toString().getBytes("UTF-8");
+  }
+  
+  static void resetPeakHeap()
+  {
+    System.gc();
+    List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans();
+    for(int i=0; i<pools.size(); i++)
+    {
+      pools.get(i).resetPeakUsage();
+    }
+  }
+  
+  static long getPeakHeap()
+  {
+    long peak = 0;
+    List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans();
+    for(int i=0; i<pools.size(); i++)
+    {
+      if(pools.get(i).getType() == MemoryType.HEAP)
+      {
+        peak += pools.get(i).getPeakUsage().getUsed();
+      }
+    }
+    return peak;
+  }
+}
@@ -0,0 +1,429 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.samples.bench;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A minimal HTTP/1.1 server answering SOAP requests on the loop back interface,
+ * for benchmarking the client without a vCenter. It keeps connections alive,
+ * can compress the responses, and lets a Handler produce the content of the 
+ * response body.
+ * @author Steve Jin (sjin@vmware.com)
+ */
+
+public class StubSoapServer 
+{
+  public final static String SOAP_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><soapenv:Envelope xmlns:soapenc=\"http://schemas.xmlsoap.org/soap/encoding/\" xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"><soapenv:Body>"; 
+  public final static String SOAP_END = "</soapenv:Body></soapenv:Envelope>";
+
+  public interface Handler
+  {
+    /**
+     * @param methodName the name of the first element in the SOAP body
+     * @param request the whole SOAP request
+     * @return the XML put in the SOAP body of the response
+     */
+    String handle(String methodName, String request);
+  }
+  
+  /**
+   * Answers the requests needed to set up a ServiceInstance with a session 
+   * string and to read properties: RetrieveServiceContent, Logout, CurrentTime
+   * and RetrieveProperties, which returns every path asked for each object.
+   * Override getPropertyValue to serve other values.
+   */
+  public static class BasicVimHandler implements Handler
+  {
+    public String handle(String methodName, String request)
+    {
+      if("RetrieveServiceContent".equals(methodName))
+      {
+        return "<RetrieveServiceContentResponse xmlns=\"urn:vim25\"><returnval>" 
+          + "<rootFolder type=\"Folder\">group-d1</rootFolder>"
+          + "<propertyCollector type=\"PropertyCollector\">propertyCollector</propertyCollector>"
+          + "<about><name>StubSoapServer</name><fullName>StubSoapServer</fullName><vendor>VMware, Inc.</vendor>"
+          + "<version>4.1.0</version><build>1</build><localeVersion>INTL</localeVersion><localeBuild>000</localeBuild>"
+          + "<osType>linux-x64</osType><productLineId>vpx</productLineId><apiType>VirtualCenter</apiType>"
+          + "<apiVersion>4.1</apiVersion></about>"
+          + "<sessionManager type=\"SessionManager\">SessionManager</sessionManager>"
+          + "<eventManager type=\"EventManager\">EventManager</eventManager>"
+          + "<taskManager type=\"TaskManager\">TaskManager</taskManager>"
+          + "<perfManager type=\"PerformanceManager\">PerfMgr</perfManager>"
+          + "<viewManager type=\"ViewManager\">ViewMgr</viewManager>"
+          + "</returnval></RetrieveServiceContentResponse>";
+      }
+      else if("Logout".equals(methodName))
+      {
+        return "<LogoutResponse xmlns=\"urn:vim25\"></LogoutResponse>";
+      }
+      else if("CurrentTime".equals(methodName))
+      {
+        return "<CurrentTimeResponse xmlns=\"urn:vim25\"><returnval>2010-06-01T12:00:00.000Z</returnval></CurrentTimeResponse>";
+      }
+      else if("RetrieveProperties".equals(methodName))
+      {
+        StringBuffer sb = new StringBuffer();
+        sb.append("<RetrievePropertiesResponse xmlns=\"urn:vim25\">");
+        int objFrom = 0;
+        while((objFrom = request.indexOf("<obj ", objFrom)) != -1)
+        {
+          String obj = request.substring(objFrom, request.indexOf("</obj>", objFrom));
+          objFrom += obj.length();
+          String type = getText(obj, "type=\"", "\"");
+          String value = obj.substring(obj.indexOf('>') + 1);
+          sb.append("<returnval><obj type=\"" + type + "\">" + value + "</obj>");
+          int from = 0;
+          while((from = request.indexOf("<pathSet>", from)) != -1)
+          {
+            from += "<pathSet>".length();
+            String path = request.substring(from, request.indexOf("</pathSet>", from));
+            sb.append("<propSet><name>" + path + "</name>" + getPropertyValue(type, value, path) + "</propSet>");
+          }
+          sb.append("</returnval>");
+        }
+        sb.append("</RetrievePropertiesResponse>");
+        return sb.toString();
+      }
+      throw new IllegalArgumentException("Unsupported method " + methodName);
+    }
+    
+    /** @return the val element of the property */
+    protected String getPropertyValue(String type, String value, String path)
+    {
+      if("currentSession".equals(path))
+      {
+        return "<val xsi:type=\"UserSession\"><key>stub</key><userName>root</userName><fullName>root</fullName>"
+          + "<locale>en</locale><messageLocale>en</messageLocale></val>";
+      }
+      return "<val xsi:type=\"xsd:string\">" + path + " of " + value + "</val>";
+    }
+    
+    private static String getText(String str, String start, String end)
+    {
+      int from = str.indexOf(start) + start.length();
+      return str.substring(from, str.indexOf(end, from));
+    }
+  }
+  
+  private final Handler handler;
+  private ServerSocket serverSocket;
+  private ExecutorService workers;
+  private volatile boolean running = false;
+  private volatile boolean chunked = false;
+  private volatile int latency = 0;
+  private volatile String compression = null;
+  private final AtomicLong connectionCount = new AtomicLong();
+  private final AtomicLong requestCount = new AtomicLong();
+  
+  public StubSoapServer(Handler handler)
+  {
+    this.handler = handler;
+  }
+  
+  /** @param port the port to listen on, 0 for any free port */
+  public void start(int port) throws IOException
+  {
+    serverSocket = new ServerSocket(port, 1024, InetAddress.getByName("127.0.0.1"));
+    workers = Executors.newCachedThreadPool(new ThreadFactory() 
+    {
+      public Thread newThread(Runnable r)
+      {
+        Thread t = new Thread(r, "StubSoapServer");
+        t.setDaemon(true);
+        return t;
+      }
+    });
+    running = true;
+    workers.execute(new Runnable()
+    {
+      public void run()
+      {
+        accept();
+      }
+    });
+  }
+  
+  public void stop()
+  {
+    running = false;
+    try
+    {
+      serverSocket.close();
+    } 
+    catch (IOException e)
+    {
+    }
+    workers.shutdownNow();
+  }
+  
+  public URL getUrl() throws IOException
+  {
+    return new URL("http://127.0.0.1:" + serverSocket.getLocalPort() + "/sdk");
+  }
+  
+  /** @param chunked whether to send responses in the chunked transfer encoding */
+  public void setChunked(boolean chunked)
+  {
+    this.chunked = chunked;
+  }
+  
+  /** 
+   * @param compression "gzip" or "deflate" to compress the responses when the
+   * client accepts it, null not to compress. Compressed requests are always accepted. 
+   */
+  public void setCompression(String compression)
+  {
+    this.compression = compression;
+  }
+  
+  /** @param latencyMillis how long to wait before answering each request */
+  public void setLatency(int latencyMillis)
+  {
+    this.latency = latencyMillis;
+  }
+  
+  public long getConnectionCount()
+  {
+    return connectionCount.get();
+  }
+  
+  public long getRequestCount()
+  {
+    return requestCount.get();
+  }
+  
+  public static String getMethodName(String request)
+  {
+    int body = request.indexOf("Body>");
+    int start = request.indexOf('<', body) + 1;
+    int end = start;
+    while(end < request.length() && " >/".indexOf(request.charAt(end)) == -1)
+    {
+      end++;
+    }
+    return request.substring(start, end);
+  }
+  
+  private void accept()
+  {
+    while(running)
+    {
+      try
+      {
+        final Socket socket = serverSocket.accept();
+        connectionCount.incrementAndGet();
+        workers.execute(new Runnable()
+        {
+          public void run()
+          {
+            serve(socket);
+          }
+        });
+      } 
+      catch (IOException e)
+      {
+        // closed by stop()
+      }
+    }
+  }
+  
+  private void serve(Socket socket)
+  {
+    try
+    {
+      socket.setTcpNoDelay(true);
+      InputStream in = new BufferedInputStream(socket.getInputStream());
+      OutputStream out = new BufferedOutputStream(socket.getOutputStream(), 16 * 1024);
+      while(running)
+      {
+        String line = readLine(in);
+        if(line == null)
+        {
+          break;
+        }
+        int length = 0;
+        boolean close = false;
+        boolean gzipped = false;
+        String acceptEncoding = "";
+        while((line = readLine(in)) != null && line.length() > 0)
+        {
+          String lower = line.toLowerCase();
+          if(lower.startsWith("content-length:"))
+          {
+            length = Integer.parseInt(line.substring(15).trim());
+          }
+          else if(lower.startsWith("connection:") && lower.indexOf("close") != -1)
+          {
+            close = true;
+          }
+          else if(lower.startsWith("content-encoding:") && lower.indexOf("gzip") != -1)
+          {
+            gzipped = true;
+          }
+          else if(lower.startsWith("accept-encoding:"))
+          {
+            acceptEncoding = lower;
+          }
+        }
+        byte[] body = new byte[length];
+        int read = 0;
+        while(read < length)
+        {
+          int n = in.read(body, read, length - read);
+          if(n == -1)
+          {
+            throw new IOException("Premature end of the request.");
+          }
+          read += n;
+        }
+        requestCount.incrementAndGet();
+        
+        if(latency > 0)
+        {
+          Thread.sleep(latency);
+        }
+        if(gzipped)
+        {
+          body = readAll(new GZIPInputStream(new ByteArrayInputStream(body)));
+        }
+        String request = new String(body, "UTF-8");
+        String content = handler.handle(getMethodName(request), request);
+        byte[] resp = (SOAP_HEADER + content + SOAP_END).getBytes("UTF-8");
+        String encoding = compression != null && acceptEncoding.indexOf(compression) != -1 ? compression : null;
+        writeResponse(out, resp, encoding);
+        if(close)
+        {
+          break;
+        }
+      }
+    }
+    catch(Exception e)
+    {
+      // the client has gone
+    }
+    finally
+    {
+      try
+      {
+        socket.close();
+      } 
+      catch (IOException e)
+      {
+      }
+    }
+  }
+  
+  private void writeResponse(OutputStream out, byte[] resp, String encoding) throws IOException
+  {
+    StringBuffer sb = new StringBuffer();
+    sb.append("HTTP/1.1 200 OK\r\n");
+    sb.append("Content-Type: text/xml; charset=utf-8\r\n");
+    if(encoding != null)
+    {
+      ByteArrayOutputStream bos = new ByteArrayOutputStream(resp.length / 4);
+      OutputStream zos = "gzip".equals(encoding) ? new GZIPOutputStream(bos) : new DeflaterOutputStream(bos);
+      zos.write(resp);
+      zos.close();
+      resp = bos.toByteArray();
+      sb.append("Content-Encoding: " + encoding + "\r\n");
+    }
+    sb.append("Set-Cookie: vmware_soap_session=\"stub\"; Path=/\r\n");
+    if(chunked)
+    {
+      sb.append("Transfer-Encoding: chunked\r\n\r\n");
+      out.write(sb.toString().getBytes("ISO-8859-1"));
+      int chunkSize = 8192;
+      for(int off = 0; off < resp.length; off += chunkSize)
+      {
+        int len = Math.min(chunkSize, resp.length - off);
+        out.write((Integer.toHexString(len) + "\r\n").getBytes("ISO-8859-1"));
+        out.write(resp, off, len);
+        out.write("\r\n".getBytes("ISO-8859-1"));
+      }
+      out.write("0\r\n\r\n".getBytes("ISO-8859-1"));
+    }
+    else
+    {
+      sb.append("Content-Length: ").append(resp.length).append("\r\n\r\n");
+      out.write(sb.toString().getBytes("ISO-8859-1"));
+      out.write(resp);
+    }
+    out.flush();
+  }
+  
+  private static byte[] readAll(InputStream in) throws IOException
+  {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    byte[] buf = new byte[4096];
+    int n;
+    while((n = in.read(buf)) != -1)
+    {
+      bos.write(buf, 0, n);
+    }
+    return bos.toByteArray();
+  }
+  
+  private static String readLine(InputStream in) throws IOException
+  {
+    ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+    int b = in.read();
+    if(b == -1)
+    {
+      return null;
+    }
+    while(b != -1 && b != '\n')
+    {
+      if(b != '\r')
+      {
+        line.write(b);
+      }
+      b = in.read();
+    }
+    return line.toString("ISO-8859-1");
+  }
+}
@@ -0,0 +1,153 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.samples.bench;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.mo.ServiceInstance;
+import com.vmware.vim25.mo.ServiceInstanceBuilder;
+import com.vmware.vim25.mo.VirtualMachine;
+
+/**
+ * Runs many concurrent tasks, each reading VirtualMachine names from a local 
+ * StubSoapServer, on platform threads and then on virtual threads, and prints
+ * the throughput of each. Virtual threads need Java 21 or later; they are 
+ * created by reflection so this compiles with older JDKs and the run skips
+ * them there.
+ * 
+ * Usage: java VirtualThreadBench [tasks] [readsPerTask] [maxConnections] [latencyMillis]
+ * @author Steve Jin (sjin@vmware.com)
+ */
+
+public class VirtualThreadBench 
+{
+  public static void main(String[] args) throws Exception
+  {
+    int tasks = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+    int reads = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+    int maxConnections = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+    int latency = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+    
+    StubSoapServer server = new StubSoapServer(new StubSoapServer.BasicVimHandler());
+    server.start(0);
+    server.setLatency(latency);
+    
+    try
+    {
+      ServiceInstance si = new ServiceInstanceBuilder(server.getUrl(), "vmware_soap_session=\"stub\"")
+        .virtualThreadMode(maxConnections).build();
+      
+      System.out.println(tasks + " tasks x " + reads + " reads, " + maxConnections + " connections, " 
+          + latency + "ms server latency");
+      
+      ExecutorService platform = Executors.newFixedThreadPool(Math.min(tasks, 1000));
+      run("Platform threads (1000)", platform, si, tasks, reads);
+      
+      ExecutorService virtual = newVirtualThreadExecutor();
+      if(virtual == null)
+      {
+        System.out.println("Virtual threads: not supported by this JVM");
+      }
+      else
+      {
+        run("Virtual threads (" + tasks + ")", virtual, si, tasks, reads);
+      }
+      si.getServerConnection().logout();
+    }
+    finally
+    {
+      server.stop();
+    }
+  }
+  
+  private static ExecutorService newVirtualThreadExecutor()
+  {
+    try
+    {
+      Method m = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) m.invoke(null);
+    }
+    catch(Exception e)
+    {
+      return null;
+    }
+  }
+  
+  private static void run(String label, ExecutorService executor, final ServiceInstance si, int tasks, 
+      final int reads) throws Exception
+  {
+    final CountDownLatch done = new CountDownLatch(tasks);
+    final AtomicInteger errors = new AtomicInteger();
+    long start = System.currentTimeMillis();
+    for(int i = 0; i < tasks; i++)
+    {
+      final ManagedObjectReference mor = new ManagedObjectReference();
+      mor.setType("VirtualMachine");
+      mor.set_value("vm-" + i);
+      executor.execute(new Runnable()
+      {
+        public void run()
+        {
+          try
+          {
+            VirtualMachine vm = new VirtualMachine(si.getServerConnection(), mor);
+            for(int j = 0; j < reads; j++)
+            {
+              if(vm.getName() == null)
+              {
+                errors.incrementAndGet();
+              }
+            }
+          }
+          catch(RuntimeException re)
+          {
+            errors.incrementAndGet();
+          }
+          finally
+          {
+            done.countDown();
+          }
+        }
+      });
+    }
+    done.await();
+    long time = System.currentTimeMillis() - start;
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+    System.out.println(label + ": " + time + "ms, " + ((long) tasks * reads * 1000 / Math.max(time, 1)) 
+        + " reads/s, errors: " + errors.get());
+  }
+}
@@ -0,0 +1,189 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.vmware.vim25.Event;
+
+/**
+ * Routes events to the handlers registered for their classes or any of 
+ * their superclasses, instead of a chain of instanceof checks over the 
+ * hundreds of Event subclasses.
+ * 
+ * The handlers of a concrete class, those of the class itself first and 
+ * then those of its superclasses up to Event, are looked up once and cached 
+ * by class, so routing an event is one map lookup. Registering a handler 
+ * clears the cache.
+ * 
+ * <pre>
+ * EventRouter router = new EventRouter();
+ * router.register(VmPoweredOnEvent.class, new EventRouter.Handler&lt;VmPoweredOnEvent&gt;()
+ * {
+ *   public void handle(VmPoweredOnEvent event)
+ *   {
+ *     ...
+ *   }
+ * });
+ * router.route(collector.readNextEvents(1000));
+ * </pre>
+ * @author Steve JIN (sjin@vmware.com)
+ */
+
+public class EventRouter 
+{
+	private final static Handler<?>[] NO_HANDLERS = new Handler<?>[0];
+	
+	public static interface Handler<T extends Event>
+	{
+		void handle(T event);
+	}
+	
+	/** handlers per class as registered, guarded by this */
+	private final Map<Class<?>, List<Handler<?>>> registered = new HashMap<Class<?>, List<Handler<?>>>();
+	private Handler<Event> defaultHandler = null;
+	/** the route of a concrete class */
+	private volatile Map<Class<?>, Route> table = new ConcurrentHashMap<Class<?>, Route>();
+	
+	/**
+	 * Register a handler for the events of the class and its subclasses.
+	 */
+	public synchronized <T extends Event> void register(Class<T> clazz, Handler<? super T> handler)
+	{
+		if(clazz==null || handler==null)
+		{
+			throw new IllegalArgumentException("clazz and handler must not be null.");
+		}
+		List<Handler<?>> handlers = registered.get(clazz);
+		if(handlers==null)
+		{
+			handlers = new ArrayList<Handler<?>>(1);
+			registered.put(clazz, handlers);
+		}
+		handlers.add(handler);
+		table = new ConcurrentHashMap<Class<?>, Route>();
+	}
+	
+	/**
+	 * @param handler called with the events no other handler is registered for, can be null
+	 */
+	public synchronized void setDefaultHandler(Handler<Event> handler)
+	{
+		defaultHandler = handler;
+		table = new ConcurrentHashMap<Class<?>, Route>();
+	}
+	
+	/**
+	 * Pass the event to all the handlers for its class and superclasses.
+	 * @return true if a handler other than the default one got the event
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean route(Event event)
+	{
+		Class<?> clazz = event.getClass();
+		Map<Class<?>, Route> t = table;
+		Route route = t.get(clazz);
+		if(route==null)
+		{
+			route = lookup(clazz);
+			t.put(clazz, route);
+		}
+		Handler<?>[] handlers = route.handlers;
+		for(int i=0; i<handlers.length; i++)
+		{
+			((Handler<Event>) handlers[i]).handle(event);
+		}
+		return route.registered;
+	}
+	
+	/**
+	 * Route the events in their order.
+	 * @return the number of events a handler other than the default one got
+	 */
+	public int route(Event[] events)
+	{
+		int n = 0;
+		for(int i=0; events!=null && i<events.length; i++)
+		{
+			if(route(events[i]))
+			{
+				n++;
+			}
+		}
+		return n;
+	}
+	
+	/**
+	 * @return the handlers an event of the class is routed to, most specific first
+	 */
+	public synchronized Handler<?>[] getHandlers(Class<? extends Event> clazz)
+	{
+		return lookup(clazz).handlers.clone();
+	}
+	
+	private synchronized Route lookup(Class<?> clazz)
+	{
+		List<Handler<?>> all = new ArrayList<Handler<?>>();
+		for(Class<?> c = clazz; c != null && Event.class.isAssignableFrom(c); c = c.getSuperclass())
+		{
+			List<Handler<?>> handlers = registered.get(c);
+			if(handlers!=null)
+			{
+				all.addAll(handlers);
+			}
+		}
+		if(!all.isEmpty())
+		{
+			return new Route(all.toArray(new Handler<?>[all.size()]), true);
+		}
+		return new Route(defaultHandler==null ? NO_HANDLERS : new Handler<?>[] { defaultHandler }, false);
+	}
+	
+	/**
+	 * The handlers of a class, with the default handler decided at lookup, 
+	 * so that route() reads nothing else of the router.
+	 */
+	private static class Route
+	{
+		final Handler<?>[] handlers;
+		/** whether the handlers are registered ones, not the default one */
+		final boolean registered;
+		
+		Route(Handler<?>[] handlers, boolean registered)
+		{
+			this.handlers = handlers;
+			this.registered = registered;
+		}
+	}
+}
@@ -0,0 +1,253 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.rmi.RemoteException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.vmware.vim25.ObjectContent;
+import com.vmware.vim25.PropertyFilterSpec;
+import com.vmware.vim25.RetrieveOptions;
+import com.vmware.vim25.RetrieveResult;
+import com.vmware.vim25.mo.PropertyCollector;
+
+/**
+ * Iterates over the result of a property retrieval page by page with 
+ * RetrievePropertiesEx and ContinueRetrievePropertiesEx, so that only one 
+ * page of at most maxObjects objects is held at a time. A page is retrieved
+ * when the previous one has been consumed.
+ * 
+ * Call close() when stopping before the end so the server can drop the rest
+ * of the result; it's done automatically after the last page. With servers 
+ * older than vSphere 4.1 the properties are retrieved in one page with 
+ * RetrieveProperties.
+ * 
+ * The remote exceptions are thrown wrapped in RuntimeException.
+ * @author Steve JIN (sjin@vmware.com)
+ */
+
+public class ObjectContentIterator implements Iterator<ObjectContent>, Closeable
+{
+	public final static int DEFAULT_MAX_OBJECTS = 1000;
+	
+	private PropertyCollector pc = null;
+	private PropertyFilterSpec[] specSet = null;
+	private int maxObjects = DEFAULT_MAX_OBJECTS;
+	private boolean legacy = false;
+	
+	private ObjectContent[] page = null;
+	private int pos = 0;
+	private String token = null;
+	private boolean started = false;
+	private boolean closed = false;
+	private int pageCount = 0;
+	private Closeable resource = null;
+	
+	public ObjectContentIterator(PropertyCollector pc, PropertyFilterSpec[] specSet)
+	{
+		this(pc, specSet, DEFAULT_MAX_OBJECTS);
+	}
+	
+	/**
+	 * @param maxObjects the most objects per page. The server may return less.
+	 */
+	public ObjectContentIterator(PropertyCollector pc, PropertyFilterSpec[] specSet, int maxObjects)
+	{
+		if(maxObjects <= 0)
+		{
+			throw new IllegalArgumentException("maxObjects must be positive.");
+		}
+		this.pc = pc;
+		this.specSet = specSet;
+		this.maxObjects = maxObjects;
+		this.legacy = !PropertyCollectorUtil.isApiVersionAtLeast(
+				pc.getServerConnection().getServiceInstance().getAboutInfo(), 4, 1);
+	}
+	
+	/**
+	 * @param resource closed with the iterator, after the last page or at 
+	 * close(), e.g. the lease of the view the specs read
+	 */
+	public void setResource(Closeable resource)
+	{
+		this.resource = resource;
+	}
+	
+	public boolean hasNext()
+	{
+		while(!closed)
+		{
+			if(page!=null && pos < page.length)
+			{
+				return true;
+			}
+			if(started && token==null)
+			{ // the last page is done
+				closed = true;
+				page = null;
+				closeResource();
+				break;
+			}
+			fetchPage();
+		}
+		return false;
+	}
+	
+	public ObjectContent next()
+	{
+		if(!hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+		ObjectContent oc = page[pos];
+		// let the page be collected as it's consumed
+		page[pos++] = null;
+		return oc;
+	}
+	
+	/**
+	 * @return the rest of the current page, or the next page; null when 
+	 * there are no more objects
+	 */
+	public ObjectContent[] nextPage()
+	{
+		if(!hasNext())
+		{
+			return null;
+		}
+		ObjectContent[] rest = page;
+		if(pos > 0)
+		{
+			rest = new ObjectContent[page.length - pos];
+			System.arraycopy(page, pos, rest, 0, rest.length);
+		}
+		page = null;
+		pos = 0;
+		return rest;
+	}
+	
+	public void remove()
+	{
+		throw new UnsupportedOperationException();
+	}
+	
+	/** @return the number of pages retrieved so far */
+	public int getPageCount()
+	{
+		return pageCount;
+	}
+	
+	/**
+	 * Stop the iteration, and cancel the remaining pages on the server if any.
+	 */
+	public void close()
+	{
+		if(closed)
+		{
+			return;
+		}
+		closed = true;
+		page = null;
+		try
+		{
+			if(token!=null)
+			{
+				String t = token;
+				token = null;
+				pc.cancelRetrievePropertiesEx(t);
+			}
+		} catch(RemoteException re)
+		{
+			throw new RuntimeException(re);
+		} finally
+		{
+			closeResource();
+		}
+	}
+	
+	@SuppressWarnings("deprecation")
+	private void fetchPage()
+	{
+		RetrieveResult rr = null;
+		try
+		{
+			if(!started)
+			{
+				started = true;
+				if(legacy)
+				{
+					page = pc.retrieveProperties(specSet);
+					pos = 0;
+					pageCount++;
+					return;
+				}
+				RetrieveOptions ro = new RetrieveOptions();
+				ro.setMaxObjects(new Integer(maxObjects));
+				rr = pc.retrievePropertiesEx(specSet, ro);
+			}
+			else
+			{
+				String t = token;
+				token = null;
+				rr = pc.continueRetrievePropertiesEx(t);
+			}
+		} catch(RemoteException re)
+		{
+			closed = true;
+			page = null;
+			closeResource();
+			throw new RuntimeException(re);
+		}
+		
+		pageCount++;
+		page = rr==null ? null : rr.getObjects();
+		token = rr==null ? null : rr.getToken();
+		pos = 0;
+	}
+	
+	private void closeResource()
+	{
+		Closeable r = resource;
+		resource = null;
+		if(r!=null)
+		{
+			try
+			{
+				r.close();
+			} catch(IOException ioe)
+			{
+				throw new RuntimeException(ioe);
+			}
+		}
+	}
+}
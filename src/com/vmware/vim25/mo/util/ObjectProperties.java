@@ -0,0 +1,155 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import com.vmware.vim25.ManagedObjectReference;
+
+/**
+ * The properties of one managed object as retrieved by 
+ * PropertyCollectorUtil.retrieveObjectProperties. The values are converted
+ * like those of the getters of the managed objects, for example arrays 
+ * instead of ArrayOfXXX. A property the server left unset has no entry.
+ * @author Steve JIN (sjin@vmware.com)
+ */
+
+public class ObjectProperties
+{
+	private final ManagedObjectReference mor;
+	private final Map<String, Object> props;
+	
+	ObjectProperties(ManagedObjectReference mor, int size)
+	{
+		this.mor = mor;
+		this.props = new HashMap<String, Object>(size * 2);
+	}
+	
+	void put(String propPath, Object value)
+	{
+		props.put(propPath, value);
+	}
+	
+	public ManagedObjectReference getMOR()
+	{
+		return mor;
+	}
+	
+	/**
+	 * @return the value of the property, null if it has no value
+	 */
+	public Object get(String propPath)
+	{
+		return props.get(propPath);
+	}
+	
+	/**
+	 * @return the value of the property cast to the type, null if it has no value
+	 * @throws ClassCastException if the value is of another type
+	 */
+	public <T> T get(String propPath, Class<T> type)
+	{
+		return type.cast(props.get(propPath));
+	}
+	
+	public String getString(String propPath)
+	{
+		return (String) props.get(propPath);
+	}
+	
+	/**
+	 * @return the int value of the property, or the default value if it has no value
+	 */
+	public int getInt(String propPath, int defaultValue)
+	{
+		Object value = props.get(propPath);
+		return value==null ? defaultValue : ((Number) value).intValue();
+	}
+	
+	/**
+	 * @return the long value of the property, or the default value if it has no value
+	 */
+	public long getLong(String propPath, long defaultValue)
+	{
+		Object value = props.get(propPath);
+		return value==null ? defaultValue : ((Number) value).longValue();
+	}
+	
+	/**
+	 * @return the boolean value of the property, or the default value if it has no value
+	 */
+	public boolean getBoolean(String propPath, boolean defaultValue)
+	{
+		Object value = props.get(propPath);
+		return value==null ? defaultValue : ((Boolean) value).booleanValue();
+	}
+	
+	/**
+	 * @return true if the server returned the property with a value
+	 */
+	public boolean isSet(String propPath)
+	{
+		return props.get(propPath)!=null;
+	}
+	
+	/**
+	 * @return the paths of the properties the server returned
+	 */
+	public Set<String> getPropertyPaths()
+	{
+		return Collections.unmodifiableSet(props.keySet());
+	}
+	
+	/**
+	 * @return the properties in a Hashtable with PropertyCollectorUtil.NULL 
+	 * for a null value, as returned by PropertyCollectorUtil.retrieveProperties
+	 */
+	public Hashtable toHashtable()
+	{
+		Hashtable table = new Hashtable(props.size() * 2);
+		Iterator<Map.Entry<String, Object>> it = props.entrySet().iterator();
+		while(it.hasNext())
+		{
+			Map.Entry<String, Object> e = it.next();
+			table.put(e.getKey(), e.getValue()==null ? PropertyCollectorUtil.NULL : e.getValue());
+		}
+		return table;
+	}
+	
+	public String toString()
+	{
+		return mor.getType() + ":" + mor.get_value() + props;
+	}
+}
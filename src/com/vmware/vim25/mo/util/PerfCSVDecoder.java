@@ -0,0 +1,265 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.mo.util;
+
+/**
+ * Decodes the strings of the csv format of PerformanceManager.queryPerf(), 
+ * PerfEntityMetricCSV.sampleInfoCSV and PerfMetricSeriesCSV.value, directly 
+ * into primitive arrays. The strings are scanned once without String.split(), 
+ * substrings or Calendar objects.
+ * 
+ * The values are comma separated integers, with -1 or an empty field where no 
+ * value was collected. The sample info consists of pairs of the interval in 
+ * seconds and the xsd:dateTime timestamp of each sample, like 
+ * "20,2010-06-01T12:00:00Z,20,2010-06-01T12:00:20Z".
+ * @author Steve JIN (sjin@vmware.com)
+ */
+
+public class PerfCSVDecoder 
+{
+	/**
+	 * @return the number of comma separated fields of the string, 0 if it is null or empty
+	 */
+	public static int countFields(String csv)
+	{
+		if(csv==null || csv.length()==0)
+		{
+			return 0;
+		}
+		int n = 1;
+		for(int i=0, len=csv.length(); i<len; i++)
+		{
+			if(csv.charAt(i)==',')
+			{
+				n++;
+			}
+		}
+		return n;
+	}
+	
+	/**
+	 * Decode the value of a PerfMetricSeriesCSV.
+	 */
+	public static long[] decodeValues(String csv)
+	{
+		long[] values = new long[countFields(csv)];
+		decodeValues(csv, values);
+		return values;
+	}
+	
+	/**
+	 * Decode the value of a PerfMetricSeriesCSV of 32 bit counters.
+	 */
+	public static int[] decodeIntValues(String csv)
+	{
+		int n = countFields(csv);
+		int[] values = new int[n];
+		int pos = 0;
+		for(int i=0; i<n; i++)
+		{
+			int end = nextComma(csv, pos);
+			values[i] = (int) parseLong(csv, pos, end);
+			pos = end + 1;
+		}
+		return values;
+	}
+	
+	/**
+	 * Decode the value of a PerfMetricSeriesCSV into an existing array.
+	 * @return the number of values decoded, at most values.length
+	 */
+	public static int decodeValues(String csv, long[] values)
+	{
+		int n = Math.min(countFields(csv), values.length);
+		int pos = 0;
+		for(int i=0; i<n; i++)
+		{
+			int end = nextComma(csv, pos);
+			values[i] = parseLong(csv, pos, end);
+			pos = end + 1;
+		}
+		return n;
+	}
+	
+	/**
+	 * @return the number of samples in the sampleInfoCSV of a PerfEntityMetricCSV
+	 */
+	public static int countSamples(String sampleInfoCSV)
+	{
+		return countFields(sampleInfoCSV) / 2;
+	}
+	
+	/**
+	 * Decode the sampleInfoCSV of a PerfEntityMetricCSV.
+	 * @param timestamps receives the sample times in milliseconds since the epoch
+	 * @param intervals receives the sample intervals in seconds
+	 * @return the number of samples decoded, at most the length of the arrays
+	 */
+	public static int decodeSampleInfo(String sampleInfoCSV, long[] timestamps, int[] intervals)
+	{
+		int n = Math.min(countSamples(sampleInfoCSV), Math.min(timestamps.length, intervals.length));
+		int pos = 0;
+		for(int i=0; i<n; i++)
+		{
+			int end = nextComma(sampleInfoCSV, pos);
+			intervals[i] = (int) parseLong(sampleInfoCSV, pos, end);
+			pos = end + 1;
+			end = nextComma(sampleInfoCSV, pos);
+			timestamps[i] = parseDateTime(sampleInfoCSV, pos, end);
+			pos = end + 1;
+		}
+		return n;
+	}
+	
+	/**
+	 * Parse an xsd:dateTime like 2010-06-01T12:00:20Z, 2010-06-01T12:00:20.5Z 
+	 * or 2010-06-01T20:00:20+08:00. Without a time zone the time is taken as UTC.
+	 * @return the milliseconds since the epoch
+	 */
+	public static long parseDateTime(String s, int start, int end)
+	{
+		try
+		{
+			int p = start;
+			boolean bc = s.charAt(p)=='-';
+			if(bc)
+			{
+				p++;
+			}
+			int dash = s.indexOf('-', p);
+			int year = (int) parseLong(s, p, dash);
+			if(bc)
+			{
+				year = -year;
+			}
+			p = dash + 1;
+			int month = digits(s, p, 2);
+			int day = digits(s, p + 3, 2);
+			int hour = digits(s, p + 6, 2);
+			int minute = digits(s, p + 9, 2);
+			int second = digits(s, p + 12, 2);
+			p += 14;
+			int millis = 0;
+			if(p < end && s.charAt(p)=='.')
+			{
+				int scale = 100;
+				for(p++; p < end && Character.isDigit(s.charAt(p)); p++)
+				{
+					millis += (s.charAt(p) - '0') * scale;
+					scale /= 10;
+				}
+			}
+			int offset = 0;
+			if(p < end && (s.charAt(p)=='+' || s.charAt(p)=='-'))
+			{
+				offset = (digits(s, p + 1, 2) * 60 + digits(s, p + 4, 2)) * 60000;
+				if(s.charAt(p)=='-')
+				{
+					offset = -offset;
+				}
+			}
+			long days = daysFromCivil(year, month, day);
+			return ((days * 24 + hour) * 60 + minute) * 60000L + second * 1000L + millis - offset;
+		} catch(RuntimeException re)
+		{
+			throw new IllegalArgumentException("Invalid dateTime: " + s.substring(start, end));
+		}
+	}
+	
+	private static int nextComma(String s, int pos)
+	{
+		int end = s.indexOf(',', pos);
+		return end < 0 ? s.length() : end;
+	}
+	
+	/**
+	 * Parse a decimal integer, -1 for an empty field.
+	 */
+	private static long parseLong(String s, int start, int end)
+	{
+		while(start < end && s.charAt(start)==' ')
+		{
+			start++;
+		}
+		while(end > start && s.charAt(end-1)==' ')
+		{
+			end--;
+		}
+		if(start==end)
+		{
+			return -1;
+		}
+		boolean negative = s.charAt(start)=='-';
+		int i = negative || s.charAt(start)=='+' ? start + 1 : start;
+		if(i==end)
+		{
+			throw new NumberFormatException("Invalid number: " + s.substring(start, end));
+		}
+		long v = 0;
+		for(; i<end; i++)
+		{
+			int d = s.charAt(i) - '0';
+			if(d < 0 || d > 9)
+			{
+				throw new NumberFormatException("Invalid number: " + s.substring(start, end));
+			}
+			v = v * 10 + d;
+		}
+		return negative ? -v : v;
+	}
+	
+	private static int digits(String s, int pos, int count)
+	{
+		int v = 0;
+		for(int i=pos; i<pos+count; i++)
+		{
+			int d = s.charAt(i) - '0';
+			if(d < 0 || d > 9)
+			{
+				throw new NumberFormatException();
+			}
+			v = v * 10 + d;
+		}
+		return v;
+	}
+	
+	/**
+	 * @return the days since 1970-01-01 of the date in the proleptic Gregorian calendar
+	 */
+	private static long daysFromCivil(int year, int month, int day)
+	{
+		long y = month <= 2 ? year - 1 : year;
+		long era = (y >= 0 ? y : y - 399) / 400;
+		long yoe = y - era * 400;
+		long doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+		return era * 146097 + doe - 719468;
+	}
+}
@@ -32,8 +32,10 @@ package com.vmware.vim25.mo.util;
 import java.lang.reflect.Method;
 import java.rmi.RemoteException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
 
 import com.vmware.vim25.*;
 import com.vmware.vim25.mo.*;
@@ -66,11 +68,133 @@ public class PropertyCollectorUtil
 	public static Hashtable[] retrieveProperties(ManagedObject[] mos, String moType,
 			String[] propPaths) throws InvalidProperty, 
 			RuntimeFault, RemoteException
+	{
+		ObjectProperties[] results = retrieveObjectProperties(mos, moType, propPaths);
+		Hashtable[] pTables = new Hashtable[results.length];
+		for(int i=0; i<results.length; i++)
+		{
+			if(results[i]!=null)
+			{
+				pTables[i] = results[i].toHashtable();
+			}
+		}
+		return pTables;
+	}
+	
+	/**
+	 * Retrieves properties from multiple managed objects.
+	 * The results are matched to the managed objects in constant time each,
+	 * whatever the order the server returns them in.
+	 * @param mos the array of managed objects which could be of single type or mixed types. When they are mix-typed,
+	 * the moType must be super type of all these managed objects.
+	 * @param moType the type of the managed object. This managed object type must have all the properties defined as
+	 * in propPaths. 
+	 * @param propPaths the array of property path which has dot as separator, for example, "name", "guest.toolsStatus".
+	 * @return an array of ObjectProperties whose order is the same as the mos array, with null for a managed object 
+	 * the server didn't return, for example because it has been deleted.
+	 * @throws InvalidProperty
+	 * @throws RuntimeFault
+	 * @throws RemoteException
+	 */
+	public static ObjectProperties[] retrieveObjectProperties(ManagedObject[] mos, String moType,
+			String[] propPaths) throws InvalidProperty, 
+			RuntimeFault, RemoteException
 	{
 		if( mos==null )
 			throw new IllegalArgumentException("Managed object array cannot be null.");
 		if( mos.length ==0 || mos[0]==null )
-			return new Hashtable[] {};
+			return new ObjectProperties[] {};
+		
+		ObjectContentIterator it = iterateProperties(mos, moType, propPaths, 
+				ObjectContentIterator.DEFAULT_MAX_OBJECTS);
+		
+		ObjectProperties[] results = new ObjectProperties[mos.length];
+		// built on the first result out of order
+		Map<ManagedObjectReference, Integer> indexes = null;
+		
+		try
+		{
+			for (int i=0; it.hasNext(); i++)
+			{
+				ObjectContent oc = it.next();
+				DynamicProperty[] props = oc.getPropSet();
+				ManagedObjectReference mor = oc.getObj();
+			
+				int index = -1;
+				if(indexes==null && i<mos.length && mor.equals(mos[i].getMOR()))
+				{
+					index = i;
+				}
+				else
+				{
+					if(indexes==null)
+					{
+						indexes = createIndexes(mos);
+					}
+					Integer pos = indexes.get(mor);
+					if(pos==null)
+						throw new RuntimeException("Unexpected managed object in result: " + mor.getType() +":" + mor.get_value());
+					index = pos.intValue();
+				}
+				ObjectProperties result = new ObjectProperties(mor, props==null ? 0 : props.length);
+				for(int j=0; props!=null && j < props.length; j++)
+				{
+					Object val = props[j].getVal();
+					result.put(props[j].getName(), val==null ? null : convertProperty(val));
+				}
+				results[index] = result;
+			}
+		} catch(RuntimeException re)
+		{
+			// the iterator wraps the remote exceptions
+			if(re.getCause() instanceof RemoteException)
+				throw (RemoteException) re.getCause();
+			throw re;
+		} finally
+		{
+			it.close();
+		}
+		
+		// a managed object listed more than once gets the result of the first
+		for(int i=0; i<mos.length; i++)
+		{
+			if(results[i]==null)
+			{
+				if(indexes==null)
+				{
+					indexes = createIndexes(mos);
+				}
+				results[i] = results[indexes.get(mos[i].getMOR()).intValue()];
+			}
+		}
+		return results;
+	}
+	
+	/**
+	 * @return the index of each managed object reference in the array, the 
+	 * first one for a reference listed more than once
+	 */
+	private static Map<ManagedObjectReference, Integer> createIndexes(ManagedObject[] mos)
+	{
+		Map<ManagedObjectReference, Integer> indexes = new HashMap<ManagedObjectReference, Integer>(mos.length * 2);
+		for(int i=mos.length-1; i>=0; i--)
+		{
+			indexes.put(mos[i].getMOR(), new Integer(i));
+		}
+		return indexes;
+	}
+	
+	/**
+	 * Retrieves properties from multiple managed objects page by page. 
+	 * @param maxObjects the most objects retrieved per page
+	 * @return the iterator over the results, which must be closed if not read to the end
+	 * @see #retrieveProperties(ManagedObject[], String, String[])
+	 */
+	public static ObjectContentIterator iterateProperties(ManagedObject[] mos, String moType,
+			String[] propPaths, int maxObjects)
+	{
+		if( mos==null || mos.length==0 || mos[0]==null )
+			throw new IllegalArgumentException("Managed object array cannot be null or empty.");
 		
 		PropertyCollector pc = mos[0].getServerConnection().getServiceInstance().getPropertyCollector();
 		ObjectSpec[] oss = new ObjectSpec[mos.length]; 
@@ -86,53 +210,37 @@ public class PropertyCollectorUtil
 		pfs.setObjectSet(oss);
 		pfs.setPropSet(new PropertySpec[] {pSpec});
 		
-		ObjectContent[] objs = pc.retrieveProperties(
-				new PropertyFilterSpec[] { pfs } );
-		
-		Hashtable[] pTables = new Hashtable[mos.length];
-		
-		for (int i=0; objs!=null && i<objs.length && objs[i]!= null; i++)
+		return new ObjectContentIterator(pc, new PropertyFilterSpec[] { pfs }, maxObjects);
+	}
+	
+	/**
+	 * @return true if the server's API version is the given one or later, for
+	 * example 4.1 for the methods added in vSphere 4.1
+	 */
+	public static boolean isApiVersionAtLeast(AboutInfo about, int major, int minor)
+	{
+		String ver = about.getApiVersion();
+		int[] nums = new int[2];
+		int n = 0;
+		for(int i=0; i<ver.length() && n<nums.length; i++)
 		{
-			DynamicProperty[] props = objs[i].getPropSet();
-			ManagedObjectReference mor = objs[i].getObj();
-			
-			int index = -1;
-			if(mor.getType().equals(mos[i].getMOR().getType()) && 
-			   mor.get_value().equals(mos[i].getMOR().get_value()))
+			char c = ver.charAt(i);
+			if(Character.isDigit(c))
 			{
-				index = i;
+				nums[n] = nums[n] * 10 + (c - '0');
 			}
-			else
+			else if(c=='.')
 			{
-				index = findIndex(mos, mor);
-				if(index==-1)
-					throw new RuntimeException("Unexpected managed object in result: " + mor.getType() +":" + mor.get_value());
+				n++;
 			}
-			pTables[index] = new Hashtable();
-			for(int j=0; props!=null && j < props.length; j++)
+			else
 			{
-				Object obj = convertProperty(props[j].getVal());
-				if(obj==null)
-				{
-					obj = NULL;
-				}
-				pTables[index].put(props[j].getName(), obj);
+				break;
 			}
 		}
-		return pTables;
+		return nums[0] > major || (nums[0] == major && nums[1] >= minor);
 	}
 	
-	private static int findIndex (ManagedObject[] mos, ManagedObjectReference mor)
-	{
-		for(int i=0; i<mos.length; i++)
-		{
-			if(mor.getType().equals(mos[i].getMOR().getType()) && 
-			   mor.get_value().equals(mos[i].getMOR().get_value()))
-			return i;
-		}
-		return -1;
-	}
-
 	public static Object convertProperty(Object dynaPropVal) 
 	{
 		Object propertyValue = null;
@@ -310,6 +418,20 @@ public class PropertyCollectorUtil
 	    return Arrays.asList(dcToVmf,dcToHf,crToH,crToRp,rpToRp,HToVm, rpToVm);
 	  }
 	
+	 /**
+	  * This method creates a SelectionSpec[] to reach the objects of a 
+	  * ContainerView from the view, in place of a full traversal. 
+	  * Use it with an ObjectSpec of the view that skips the view itself.
+	  * @return The SelectionSpec[]
+	  */
+	  public static SelectionSpec [] buildContainerViewTraversal() 
+	  {
+	    TraversalSpec viewToObject = createTraversalSpec( "viewToObject",
+	        "ContainerView", "view", 
+	        new SelectionSpec[] {});
+	    return new SelectionSpec[] { viewToObject };
+	  }
+	
 	 /**
 	  * This method creates a SelectionSpec[] to traverses the entire
 	  * inventory tree starting at a Folder
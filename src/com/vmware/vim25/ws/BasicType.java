@@ -0,0 +1,180 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.ws;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.bind.DatatypeConverter;
+
+/** 
+ * The basic data types the engine handles, with the parsing of their values 
+ * and arrays. Looking up a type by name replaces the string comparisons 
+ * done for every value.
+ * @author Steve Jin (sjin@vmware.com)
+*/ 
+
+enum BasicType
+{
+  STRING
+  {
+    Object parse(String value)
+    {
+      return value;
+    }
+    Object parseArray(String[] values)
+    {
+      return values;
+    }
+  },
+  INT
+  {
+    Object parse(String value)
+    {
+      return Integer.valueOf(value);
+    }
+    Object parseArray(String[] values)
+    {
+      int[] is = new int[values.length];
+      for(int i=0; i<is.length; i++)
+      {
+        is[i] = Integer.parseInt(values[i]);
+      }
+      return is;
+    }
+  },
+  SHORT
+  {
+    Object parse(String value)
+    {
+      return Short.valueOf(value);
+    }
+    Object parseArray(String[] values)
+    {
+      short[] ss = new short[values.length];
+      for(int i=0; i<ss.length; i++)
+      {
+        ss[i] = Short.parseShort(values[i]);
+      }
+      return ss;
+    }
+  },
+  BYTE
+  {
+    Object parse(String value)
+    {
+      return Byte.valueOf(value);
+    }
+    Object parseArray(String[] values)
+    {
+      byte[] bs = new byte[values.length];
+      for(int i=0; i<bs.length; i++)
+      {
+        bs[i] = Byte.parseByte(values[i]);
+      }
+      return bs;
+    }
+  },
+  LONG
+  {
+    Object parse(String value)
+    {
+      return Long.valueOf(value);
+    }
+    Object parseArray(String[] values)
+    {
+      long[] ls = new long[values.length];
+      for(int i=0; i<ls.length; i++)
+      {
+        ls[i] = Long.parseLong(values[i]);
+      }
+      return ls;
+    }
+  },
+  BOOLEAN
+  {
+    Object parse(String value)
+    {
+      return Boolean.valueOf(value);
+    }
+    Object parseArray(String[] values)
+    {
+      boolean[] bs = new boolean[values.length];
+      for(int i=0; i<bs.length; i++)
+      {
+        bs[i] = Boolean.parseBoolean(values[i]);
+      }
+      return bs;
+    }
+  },
+  CALENDAR
+  {
+    Object parse(String value)
+    {
+      return DatatypeConverter.parseTime(value);
+    }
+    Object parseArray(String[] values)
+    {
+      throw new RuntimeException("Unexpected Type@setField: Calendar[]");
+    }
+  };
+
+  abstract Object parse(String value);
+  
+  abstract Object parseArray(String[] values);
+  
+  private final static Map<String, BasicType> TYPES = new HashMap<String, BasicType>();
+  static
+  {
+    TYPES.put("String", STRING);
+    TYPES.put("string", STRING);
+    TYPES.put("int", INT);
+    TYPES.put("Integer", INT);
+    TYPES.put("short", SHORT);
+    TYPES.put("Short", SHORT);
+    TYPES.put("byte", BYTE);
+    TYPES.put("Byte", BYTE);
+    TYPES.put("long", LONG);
+    TYPES.put("Long", LONG);
+    TYPES.put("boolean", BOOLEAN);
+    TYPES.put("Boolean", BOOLEAN);
+    TYPES.put("Calendar", CALENDAR);
+    TYPES.put("dateTime", CALENDAR);
+  }
+  
+  /**
+   * @param name the type name as used by Java, VimStub or xsd (without the prefix)
+   * @return the basic type, or null if it's not one
+   */
+  static BasicType of(String name)
+  {
+    return TYPES.get(name);
+  }
+}
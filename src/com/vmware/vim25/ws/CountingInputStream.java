@@ -0,0 +1,97 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.ws;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** 
+ * Adds the number of bytes read through it to one or two counters.
+ * @author Steve Jin (sjin@vmware.com)
+*/ 
+
+final class CountingInputStream extends FilterInputStream
+{
+  private final AtomicLong counter;
+  private final AtomicLong counter2;
+
+  /**
+   * @param counter2 a second counter, can be null
+   */
+  CountingInputStream(InputStream in, AtomicLong counter, AtomicLong counter2)
+  {
+    super(in);
+    this.counter = counter;
+    this.counter2 = counter2;
+  }
+  
+  private void count(long n)
+  {
+    counter.addAndGet(n);
+    if(counter2 != null)
+    {
+      counter2.addAndGet(n);
+    }
+  }
+  
+  public int read() throws IOException
+  {
+    int b = in.read();
+    if(b != -1)
+    {
+      count(1);
+    }
+    return b;
+  }
+  
+  public int read(byte[] b, int off, int len) throws IOException
+  {
+    int n = in.read(b, off, len);
+    if(n > 0)
+    {
+      count(n);
+    }
+    return n;
+  }
+  
+  public long skip(long n) throws IOException
+  {
+    long skipped = in.skip(n);
+    count(skipped);
+    return skipped;
+  }
+  
+  public boolean markSupported()
+  {
+    return false;
+  }
+}
@@ -0,0 +1,124 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.ws;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.vmware.vim25.ManagedObjectReference;
+
+/** 
+ * Keeps one canonical ManagedObjectReference per type and value seen on a 
+ * server connection, so that the references deserialized from different 
+ * responses are the same instance while any of them is in use. Equal 
+ * references then compare by identity and their hash code is computed once.
+ * 
+ * The canonical instances are shared and must not be changed.
+ * 
+ * The type strings are deduplicated for all connections, being the names
+ * of a few dozen managed object types.
+ * @author Steve Jin (sjin@vmware.com)
+*/ 
+
+public class MorInterner
+{
+  /** more distinct types than this are not from a vSphere server */
+  private final static int MAX_TYPES = 1024;
+  private final static ConcurrentMap<String, String> TYPES = new ConcurrentHashMap<String, String>();
+  
+  private final Map<ManagedObjectReference, WeakReference<ManagedObjectReference>> mors = 
+    new WeakHashMap<ManagedObjectReference, WeakReference<ManagedObjectReference>>();
+  
+  /**
+   * @return the canonical instance of the type string
+   */
+  public static String internType(String type)
+  {
+    if(type == null)
+    {
+      return null;
+    }
+    String canonical = TYPES.get(type);
+    if(canonical != null)
+    {
+      return canonical;
+    }
+    if(TYPES.size() >= MAX_TYPES)
+    {
+      return type;
+    }
+    canonical = TYPES.putIfAbsent(type, type);
+    return canonical == null ? type : canonical;
+  }
+  
+  /**
+   * @return the canonical reference with the type and value
+   */
+  public ManagedObjectReference intern(String type, String value)
+  {
+    ManagedObjectReference mor = new ManagedObjectReference();
+    mor.type = internType(type);
+    mor.val = value;
+    return intern(mor);
+  }
+  
+  /**
+   * @return the canonical reference equal to the given one, which becomes
+   * the canonical one if there was none
+   */
+  public synchronized ManagedObjectReference intern(ManagedObjectReference mor)
+  {
+    WeakReference<ManagedObjectReference> ref = mors.get(mor);
+    ManagedObjectReference canonical = ref == null ? null : ref.get();
+    if(canonical == null)
+    {
+      mors.put(mor, new WeakReference<ManagedObjectReference>(mor));
+      canonical = mor;
+    }
+    return canonical;
+  }
+  
+  /**
+   * @return the number of canonical references, including those no longer
+   * used but not yet collected
+   */
+  public synchronized int size()
+  {
+    return mors.size();
+  }
+  
+  public synchronized void clear()
+  {
+    mors.clear();
+  }
+}
@@ -0,0 +1,948 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.ws;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/** 
+ * A transport with its own pool of persistent HTTP/1.1 connections. It caps
+ * the number of connections in use, waits for a free one when all are busy,
+ * closes the connections idle for too long, and checks a connection that has
+ * been idle for a while before reusing it. Reusing the connections also reuses
+ * their TLS sessions, saving the handshakes. A request is sent again on a 
+ * new connection only if writing it to a reused connection fails; once it
+ * has been sent, an error is thrown, since the server may have run it.
+ * 
+ * Use one instance per WSClient (and therefore per ServerConnection) so the 
+ * limit applies to each server connection.
+ * 
+ * No monitor is held while doing I/O or waiting for a connection, so the 
+ * transport suits callers running on virtual threads (Java 21 and later), 
+ * which would otherwise pin their carrier threads inside the synchronized
+ * code of HttpURLConnection and the buffered JDK streams.
+ * @author Steve Jin (sjin@vmware.com)
+*/ 
+
+public class PooledTransport implements SoapTransport
+{
+  public final static int DEFAULT_MAX_CONNECTIONS = 10;
+  public final static int DEFAULT_IDLE_TIMEOUT = 30000;
+  /** an idle connection is checked before reuse after this many milliseconds */
+  private final static int VALIDATE_AFTER_IDLE = 2000;
+  /** the most bytes read from an unfinished response to keep its connection */
+  private final static int MAX_DRAIN = 64 * 1024;
+  
+  private final int maxConnections;
+  private final Semaphore permits;
+  private final SSLSocketFactory sslSocketFactory;
+  private final HostnameVerifier hostnameVerifier;
+  private volatile int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+  private volatile int maxWait = 0;
+  private volatile boolean closed = false;
+  
+  /** idle connections by route, the most recently used first */
+  private final Map<String, LinkedList<Connection>> idleConns = new HashMap<String, LinkedList<Connection>>();
+  private int idleCount = 0;
+
+  private final AtomicLong acquireCount = new AtomicLong();
+  private final AtomicLong totalWaitNanos = new AtomicLong();
+  private final AtomicLong maxWaitNanos = new AtomicLong();
+  private final AtomicLong createdCount = new AtomicLong();
+  private final AtomicLong reusedCount = new AtomicLong();
+  
+  public PooledTransport()
+  {
+    this(DEFAULT_MAX_CONNECTIONS);
+  }
+  
+  /**
+   * Create a pool using the default SSL socket factory and host name verifier
+   * of HttpsURLConnection, which WSClient sets up when it ignores certificates.
+   * @param maxConnections the most connections used at the same time
+   */
+  public PooledTransport(int maxConnections)
+  {
+    this(maxConnections, null, null);
+  }
+  
+  /**
+   * @param maxConnections the most connections used at the same time
+   * @param sslSocketFactory the factory for the TLS connections, null for the default
+   * @param hostnameVerifier the verifier of the server host name, null for the default
+   */
+  public PooledTransport(int maxConnections, SSLSocketFactory sslSocketFactory, HostnameVerifier hostnameVerifier)
+  {
+    if(maxConnections <= 0)
+    {
+      throw new IllegalArgumentException("maxConnections must be positive.");
+    }
+    this.maxConnections = maxConnections;
+    this.permits = new Semaphore(maxConnections, true);
+    this.sslSocketFactory = sslSocketFactory;
+    this.hostnameVerifier = hostnameVerifier;
+  }
+  
+  /**
+   * @param idleTimeoutMillis how long a connection may stay idle in the pool before it's closed
+   */
+  public void setIdleTimeout(int idleTimeoutMillis)
+  {
+    this.idleTimeout = idleTimeoutMillis;
+  }
+  
+  public int getIdleTimeout()
+  {
+    return idleTimeout;
+  }
+  
+  /**
+   * @param maxWaitMillis how long a request waits for a connection when all 
+   * are in use before it fails, 0 to wait forever
+   */
+  public void setMaxWait(int maxWaitMillis)
+  {
+    this.maxWait = maxWaitMillis;
+  }
+  
+  public int getMaxWait()
+  {
+    return maxWait;
+  }
+
+  public SoapResponse post(URL url, Map<String, String> headers, byte[] body, int length, 
+      int connectTimeout, int readTimeout) throws IOException
+  {
+    if(closed)
+    {
+      throw new IOException("The transport has been closed.");
+    }
+    acquirePermit();
+    
+    try
+    {
+      String route = getRoute(url);
+      Connection conn = takeIdle(route);
+      if(conn != null)
+      {
+        try
+        {
+          return conn.exchange(url, headers, body, length, readTimeout);
+        }
+        catch(StaleConnectionException sce)
+        { // closed by the server while idle and nothing sent; retry with a new connection
+        }
+      }
+      conn = open(url, route, connectTimeout);
+      return conn.exchange(url, headers, body, length, readTimeout);
+    }
+    catch(IOException ioe)
+    {
+      permits.release();
+      throw ioe;
+    }
+    catch(RuntimeException re)
+    {
+      permits.release();
+      throw re;
+    }
+  }
+  
+  public void close()
+  {
+    closed = true;
+    synchronized(idleConns)
+    {
+      Iterator<LinkedList<Connection>> it = idleConns.values().iterator();
+      while(it.hasNext())
+      {
+        LinkedList<Connection> conns = it.next();
+        while(!conns.isEmpty())
+        {
+          conns.removeFirst().close();
+        }
+      }
+      idleConns.clear();
+      idleCount = 0;
+    }
+  }
+  
+  /**
+   * Close the connections which have been idle longer than the idle timeout.
+   * It's done anyway when connections are taken from or returned to the pool,
+   * but can be called from time to time when the pool is not used.
+   */
+  public void evictIdleConnections()
+  {
+    long now = System.currentTimeMillis();
+    synchronized(idleConns)
+    {
+      Iterator<LinkedList<Connection>> it = idleConns.values().iterator();
+      while(it.hasNext())
+      {
+        LinkedList<Connection> conns = it.next();
+        while(!conns.isEmpty() && now - conns.getLast().lastUsed > idleTimeout)
+        {
+          conns.removeLast().close();
+          idleCount--;
+        }
+      }
+    }
+  }
+  
+  public int getMaxConnections()
+  {
+    return maxConnections;
+  }
+  
+  /** @return the number of connections being used by requests */
+  public int getLeasedConnections()
+  {
+    return maxConnections - permits.availablePermits();
+  }
+
+  public int getIdleConnections()
+  {
+    synchronized(idleConns)
+    {
+      return idleCount;
+    }
+  }
+  
+  public long getCreatedConnections()
+  {
+    return createdCount.get();
+  }
+  
+  /** @return how many requests were sent over a pooled connection */
+  public long getReusedConnections()
+  {
+    return reusedCount.get();
+  }
+  
+  /** @return how many times a connection was requested from the pool */
+  public long getAcquireCount()
+  {
+    return acquireCount.get();
+  }
+  
+  /** @return the total time spent waiting for a free connection */
+  public long getTotalWaitMillis()
+  {
+    return TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get());
+  }
+  
+  /** @return the longest single wait for a free connection */
+  public long getMaxWaitMillis()
+  {
+    return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+  }
+  
+  private void acquirePermit() throws IOException
+  {
+    long start = System.nanoTime();
+    try
+    {
+      if(maxWait > 0)
+      {
+        if(!permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS))
+        {
+          throw new IOException("Timed out after " + maxWait + "ms waiting for a pooled connection.");
+        }
+      }
+      else
+      {
+        permits.acquire();
+      }
+    }
+    catch(InterruptedException ie)
+    {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a pooled connection.");
+    }
+    
+    long waited = System.nanoTime() - start;
+    acquireCount.incrementAndGet();
+    totalWaitNanos.addAndGet(waited);
+    long max = maxWaitNanos.get();
+    while(waited > max && !maxWaitNanos.compareAndSet(max, waited))
+    {
+      max = maxWaitNanos.get();
+    }
+  }
+  
+  private static String getRoute(URL url)
+  {
+    int port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+    return url.getProtocol().toLowerCase() + "://" + url.getHost().toLowerCase() + ":" + port;
+  }
+
+  private Connection takeIdle(String route)
+  {
+    while(true)
+    {
+      Connection conn = null;
+      synchronized(idleConns)
+      {
+        LinkedList<Connection> conns = idleConns.get(route);
+        if(conns == null || conns.isEmpty())
+        {
+          return null;
+        }
+        conn = conns.removeFirst();
+        idleCount--;
+      }
+      
+      long idleFor = System.currentTimeMillis() - conn.lastUsed;
+      if(idleFor > idleTimeout || !conn.isHealthy(idleFor > VALIDATE_AFTER_IDLE))
+      {
+        conn.close();
+        continue;
+      }
+      reusedCount.incrementAndGet();
+      conn.reused = true;
+      return conn;
+    }
+  }
+  
+  /** Called once a response has been closed, to pool or close the connection */
+  private void release(Connection conn, boolean reusable)
+  {
+    try
+    {
+      if(!reusable || closed)
+      {
+        conn.close();
+        return;
+      }
+      conn.lastUsed = System.currentTimeMillis();
+      Connection eldest = null;
+      synchronized(idleConns)
+      {
+        LinkedList<Connection> conns = idleConns.get(conn.route);
+        if(conns == null)
+        {
+          conns = new LinkedList<Connection>();
+          idleConns.put(conn.route, conns);
+        }
+        conns.addFirst(conn);
+        idleCount++;
+        if(idleCount > maxConnections)
+        {
+          eldest = conns.removeLast();
+          idleCount--;
+        }
+      }
+      if(eldest != null)
+      {
+        eldest.close();
+      }
+      evictIdleConnections();
+    }
+    finally
+    {
+      permits.release();
+    }
+  }
+
+  private Connection open(URL url, String route, int connectTimeout) throws IOException
+  {
+    String host = url.getHost();
+    int port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+    
+    Socket socket = new Socket();
+    try
+    {
+      socket.setTcpNoDelay(true);
+      socket.setKeepAlive(true);
+      socket.connect(new InetSocketAddress(host, port), connectTimeout);
+      
+      if("https".equalsIgnoreCase(url.getProtocol()))
+      {
+        SSLSocketFactory factory = sslSocketFactory != null ? 
+            sslSocketFactory : HttpsURLConnection.getDefaultSSLSocketFactory();
+        SSLSocket sslSocket = (SSLSocket) factory.createSocket(socket, host, port, true);
+        socket = sslSocket;
+        sslSocket.startHandshake();
+        HostnameVerifier verifier = hostnameVerifier != null ?
+            hostnameVerifier : HttpsURLConnection.getDefaultHostnameVerifier();
+        if(!verifier.verify(host, sslSocket.getSession()))
+        {
+          throw new SSLPeerUnverifiedException("The host name " + host + " can't be verified.");
+        }
+      }
+    }
+    catch(IOException ioe)
+    {
+      try { socket.close(); } catch(IOException e) {}
+      throw ioe;
+    }
+    
+    createdCount.incrementAndGet();
+    return new Connection(route, socket);
+  }
+  
+  /** Thrown when a pooled connection turns out to be closed while sending the request */
+  private static class StaleConnectionException extends IOException
+  {
+    private static final long serialVersionUID = 1L;
+
+    StaleConnectionException(String message)
+    {
+      super(message);
+    }
+  }
+  
+  private final class Connection
+  {
+    final String route;
+    private final Socket socket;
+    private final InputBuffer in;
+    private final OutputStream out;
+    volatile long lastUsed;
+    boolean reused = false;
+    
+    Connection(String route, Socket socket) throws IOException
+    {
+      this.route = route;
+      this.socket = socket;
+      this.in = new InputBuffer(socket.getInputStream());
+      this.out = socket.getOutputStream();
+      this.lastUsed = System.currentTimeMillis();
+    }
+    
+    /**
+     * @param probe whether to check if the server has closed the connection
+     * by trying a read, which costs up to a millisecond
+     */
+    boolean isHealthy(boolean probe)
+    {
+      if(socket.isClosed() || socket.isInputShutdown() || socket.isOutputShutdown())
+      {
+        return false;
+      }
+      if(!probe)
+      {
+        return true;
+      }
+      try
+      {
+        int timeout = socket.getSoTimeout();
+        socket.setSoTimeout(1);
+        try
+        {
+          if(in.available() == 0)
+          {
+            in.fill();
+          }
+          // either the end of stream or something unexpected
+          return false;
+        }
+        catch(SocketTimeoutException ste)
+        { // nothing to read; alive
+          return true;
+        }
+        finally
+        {
+          socket.setSoTimeout(timeout);
+        }
+      }
+      catch(IOException ioe)
+      {
+        return false;
+      }
+    }
+    
+    SoapResponse exchange(URL url, Map<String, String> headers, byte[] body, int length, 
+        int readTimeout) throws IOException
+    {
+      try
+      {
+        socket.setSoTimeout(readTimeout);
+        writeRequest(url, headers, body, length);
+      }
+      catch(SocketTimeoutException ste)
+      {
+        close();
+        throw ste;
+      }
+      catch(IOException ioe)
+      { // the request didn't get through, so it's safe to send again
+        close();
+        if(reused)
+        {
+          throw new StaleConnectionException(ioe.toString());
+        }
+        throw ioe;
+      }
+      
+      // from here on the server may have run the request, so a failure is 
+      // thrown instead of retried: calls like PowerOnVM_Task aren't idempotent
+      try
+      {
+        String statusLine = readLine();
+        if(statusLine == null)
+        {
+          throw new IOException("Connection closed by the server without a response.");
+        }
+        
+        Map<String, String> respHeaders = new HashMap<String, String>();
+        int status = parseStatus(statusLine);
+        readHeaders(respHeaders);
+        while(status == 100)
+        {
+          statusLine = readLine();
+          if(statusLine == null)
+          {
+            throw new IOException("Connection closed by the server without a response.");
+          }
+          status = parseStatus(statusLine);
+          respHeaders.clear();
+          readHeaders(respHeaders);
+        }
+        
+        String connHeader = respHeaders.get("connection");
+        boolean keepAlive = statusLine.startsWith("HTTP/1.1") ? 
+            !"close".equalsIgnoreCase(connHeader) : "keep-alive".equalsIgnoreCase(connHeader);
+        
+        InputStream bodyStream = null;
+        String te = respHeaders.get("transfer-encoding");
+        String cl = respHeaders.get("content-length");
+        if(te != null && te.toLowerCase().indexOf("chunked") != -1)
+        {
+          bodyStream = new ChunkedInputStream(in);
+        }
+        else if(cl != null)
+        {
+          bodyStream = new ContentLengthInputStream(in, Long.parseLong(cl.trim()));
+        }
+        else
+        { // delimited by the end of the connection
+          bodyStream = in;
+          keepAlive = false;
+        }
+        return new SoapResponse(status, respHeaders, new ResponseStream(this, bodyStream, keepAlive));
+      }
+      catch(IOException ioe)
+      {
+        close();
+        throw ioe;
+      }
+      catch(RuntimeException re)
+      {
+        close();
+        throw new IOException("Invalid HTTP response: " + re);
+      }
+    }
+    
+    private void writeRequest(URL url, Map<String, String> headers, byte[] body, int length) throws IOException
+    {
+      String path = url.getFile();
+      StringBuffer sb = new StringBuffer();
+      sb.append("POST ").append(path.length() == 0 ? "/" : path).append(" HTTP/1.1\r\n");
+      sb.append("Host: ").append(url.getHost());
+      if(url.getPort() != -1 && url.getPort() != url.getDefaultPort())
+      {
+        sb.append(':').append(url.getPort());
+      }
+      sb.append("\r\n");
+      Iterator<Map.Entry<String, String>> it = headers.entrySet().iterator();
+      while(it.hasNext())
+      {
+        Map.Entry<String, String> e = it.next();
+        sb.append(e.getKey()).append(": ").append(e.getValue()).append("\r\n");
+      }
+      sb.append("Content-Length: ").append(length).append("\r\n\r\n");
+      out.write(sb.toString().getBytes("ISO-8859-1"));
+      out.write(body, 0, length);
+    }
+    
+    private int parseStatus(String statusLine) throws IOException
+    {
+      int start = statusLine.indexOf(' ');
+      if(!statusLine.startsWith("HTTP/") || start == -1)
+      {
+        throw new IOException("Invalid HTTP status line: " + statusLine);
+      }
+      int end = statusLine.indexOf(' ', start + 1);
+      return Integer.parseInt(statusLine.substring(start + 1, end == -1 ? statusLine.length() : end));
+    }
+    
+    private void readHeaders(Map<String, String> headers) throws IOException
+    {
+      String line;
+      while((line = readLine()) != null && line.length() != 0)
+      {
+        int colon = line.indexOf(':');
+        if(colon > 0)
+        {
+          String name = line.substring(0, colon).trim().toLowerCase();
+          if(!headers.containsKey(name))
+          {
+            headers.put(name, line.substring(colon + 1).trim());
+          }
+        }
+      }
+    }
+    
+    /** @return the line without CRLF, or null at the end of stream */
+    private String readLine() throws IOException
+    {
+      return PooledTransport.readLine(in);
+    }
+    
+    void close()
+    {
+      try
+      {
+        socket.close();
+      }
+      catch(IOException ioe)
+      {
+      }
+    }
+  }
+  
+  /**
+   * A buffer over the socket stream. Unlike BufferedInputStream it has no
+   * synchronized methods, as a connection is used by one thread at a time.
+   */
+  private static final class InputBuffer extends InputStream
+  {
+    private final InputStream in;
+    private final byte[] buf = new byte[8192];
+    private int pos = 0;
+    private int count = 0;
+    
+    InputBuffer(InputStream in)
+    {
+      this.in = in;
+    }
+    
+    /** @return the bytes read into the empty buffer, or -1 at the end of stream */
+    int fill() throws IOException
+    {
+      pos = 0;
+      count = 0;
+      int n = in.read(buf, 0, buf.length);
+      if(n > 0)
+      {
+        count = n;
+      }
+      return n;
+    }
+    
+    public int read() throws IOException
+    {
+      if(pos >= count && fill() <= 0)
+      {
+        return -1;
+      }
+      return buf[pos++] & 0xff;
+    }
+    
+    public int read(byte[] b, int off, int len) throws IOException
+    {
+      if(len == 0)
+      {
+        return 0;
+      }
+      int avail = count - pos;
+      if(avail <= 0)
+      {
+        if(len >= buf.length)
+        { // no need to copy through the buffer
+          return in.read(b, off, len);
+        }
+        if(fill() <= 0)
+        {
+          return -1;
+        }
+        avail = count;
+      }
+      int n = Math.min(avail, len);
+      System.arraycopy(buf, pos, b, off, n);
+      pos += n;
+      return n;
+    }
+    
+    public int available() throws IOException
+    {
+      return (count - pos) + in.available();
+    }
+  }
+  
+  private static String readLine(InputStream in) throws IOException
+  {
+    ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+    int b = in.read();
+    if(b == -1)
+    {
+      return null;
+    }
+    while(b != -1 && b != '\n')
+    {
+      if(b != '\r')
+      {
+        line.write(b);
+      }
+      if(line.size() > 65536)
+      {
+        throw new IOException("HTTP header line too long.");
+      }
+      b = in.read();
+    }
+    return line.toString("ISO-8859-1");
+  }
+  
+  /**
+   * The response body handed to the caller. Closing it returns the connection 
+   * to the pool when the response was read completely.
+   */
+  private final class ResponseStream extends InputStream
+  {
+    private final Connection conn;
+    private final InputStream body;
+    private final boolean keepAlive;
+    private boolean eof = false;
+    private boolean closed = false;
+    
+    ResponseStream(Connection conn, InputStream body, boolean keepAlive)
+    {
+      this.conn = conn;
+      this.body = body;
+      this.keepAlive = keepAlive;
+    }
+    
+    public int read() throws IOException
+    {
+      if(eof || closed)
+      {
+        return -1;
+      }
+      int b = body.read();
+      if(b == -1)
+      {
+        eof = true;
+      }
+      return b;
+    }
+    
+    public int read(byte[] buf, int off, int len) throws IOException
+    {
+      if(eof || closed)
+      {
+        return -1;
+      }
+      int n = body.read(buf, off, len);
+      if(n == -1)
+      {
+        eof = true;
+      }
+      return n;
+    }
+    
+    public int available() throws IOException
+    {
+      return (eof || closed) ? 0 : body.available();
+    }
+    
+    public void close() throws IOException
+    {
+      if(closed)
+      {
+        return;
+      }
+      closed = true;
+      boolean reusable = keepAlive;
+      if(reusable && !eof)
+      { // a parser may stop at the end of the document before the end of the body
+        try
+        {
+          byte[] buf = new byte[4096];
+          int drained = 0;
+          int n = 0;
+          while(drained <= MAX_DRAIN && (n = body.read(buf, 0, buf.length)) != -1)
+          {
+            drained += n;
+          }
+          reusable = n == -1;
+        }
+        catch(IOException ioe)
+        {
+          reusable = false;
+        }
+      }
+      release(conn, reusable);
+    }
+  }
+  
+  private static class ContentLengthInputStream extends InputStream
+  {
+    private final InputStream in;
+    private long remaining;
+    
+    ContentLengthInputStream(InputStream in, long length)
+    {
+      this.in = in;
+      this.remaining = length;
+    }
+    
+    public int read() throws IOException
+    {
+      if(remaining <= 0)
+      {
+        return -1;
+      }
+      int b = in.read();
+      if(b == -1)
+      {
+        throw new IOException("Premature end of the response body.");
+      }
+      remaining--;
+      return b;
+    }
+    
+    public int read(byte[] buf, int off, int len) throws IOException
+    {
+      if(remaining <= 0)
+      {
+        return -1;
+      }
+      int n = in.read(buf, off, (int) Math.min(len, remaining));
+      if(n == -1)
+      {
+        throw new IOException("Premature end of the response body.");
+      }
+      remaining -= n;
+      return n;
+    }
+    
+    public int available() throws IOException
+    {
+      return (int) Math.min(in.available(), remaining);
+    }
+  }
+
+  private static class ChunkedInputStream extends InputStream
+  {
+    private final InputStream in;
+    private long remaining = 0;
+    private boolean first = true;
+    private boolean eof = false;
+    
+    ChunkedInputStream(InputStream in)
+    {
+      this.in = in;
+    }
+    
+    /** @return false at the last chunk */
+    private boolean nextChunk() throws IOException
+    {
+      if(!first)
+      { // the CRLF after the data of the previous chunk
+        readLine(in);
+      }
+      first = false;
+      String line = readLine(in);
+      if(line == null)
+      {
+        throw new IOException("Premature end of the chunked response body.");
+      }
+      int ext = line.indexOf(';');
+      remaining = Long.parseLong((ext == -1 ? line : line.substring(0, ext)).trim(), 16);
+      if(remaining == 0)
+      { // skip the trailers
+        String trailer;
+        while((trailer = readLine(in)) != null && trailer.length() != 0)
+        {
+        }
+        eof = true;
+        return false;
+      }
+      return true;
+    }
+    
+    public int read() throws IOException
+    {
+      if(eof || (remaining == 0 && !nextChunk()))
+      {
+        return -1;
+      }
+      int b = in.read();
+      if(b == -1)
+      {
+        throw new IOException("Premature end of the chunked response body.");
+      }
+      remaining--;
+      return b;
+    }
+    
+    public int read(byte[] buf, int off, int len) throws IOException
+    {
+      if(eof || (remaining == 0 && !nextChunk()))
+      {
+        return -1;
+      }
+      int n = in.read(buf, off, (int) Math.min(len, remaining));
+      if(n == -1)
+      {
+        throw new IOException("Premature end of the chunked response body.");
+      }
+      remaining -= n;
+      return n;
+    }
+    
+    public int available() throws IOException
+    {
+      return eof ? 0 : (int) Math.min(in.available(), remaining);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.ws;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/** 
+ * The HTTP response returned by a SoapTransport.
+ * @author Steve Jin (sjin@vmware.com)
+*/ 
+
+public class SoapResponse
+{
+  private int statusCode;
+  private Map<String, String> headers = new HashMap<String, String>();
+  private InputStream inputStream;
+  
+  /**
+   * @param statusCode the HTTP status code
+   * @param headers the HTTP headers of the response
+   * @param inputStream the stream of the response body
+   */
+  public SoapResponse(int statusCode, Map<String, String> headers, InputStream inputStream)
+  {
+    this.statusCode = statusCode;
+    this.inputStream = inputStream;
+    Iterator<Map.Entry<String, String>> it = headers.entrySet().iterator();
+    while(it.hasNext())
+    {
+      Map.Entry<String, String> e = it.next();
+      if(e.getKey()!=null)
+      {
+        this.headers.put(e.getKey().toLowerCase(), e.getValue());
+      }
+    }
+  }
+  
+  public int getStatusCode()
+  {
+    return statusCode;
+  }
+  
+  /**
+   * @param name the header name, case insensitive
+   * @return the header value, or null if not present
+   */
+  public String getHeader(String name)
+  {
+    return headers.get(name.toLowerCase());
+  }
+  
+  public InputStream getInputStream()
+  {
+    return inputStream;
+  }
+}
@@ -0,0 +1,65 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.ws;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+
+/** 
+ * The HTTP transport WSClient sends the SOAP requests through. The default 
+ * one is UrlConnectionTransport; PooledTransport keeps its own pool of 
+ * persistent connections. An implementation must be safe for concurrent use.
+ * @author Steve Jin (sjin@vmware.com)
+*/ 
+
+public interface SoapTransport
+{
+  /**
+   * Post one request to the server. The response body is returned no matter 
+   * what the HTTP status is since SOAP faults come with status 500.
+   * @param url the url of the service
+   * @param headers the HTTP headers of the request
+   * @param body the buffer holding the request body
+   * @param length the number of bytes of the body in the buffer
+   * @param connectTimeout the connect timeout in milliseconds, 0 for none
+   * @param readTimeout the read timeout in milliseconds, 0 for none
+   * @return the response whose input stream must be closed by the caller
+   * @throws IOException
+   */
+  SoapResponse post(URL url, Map<String, String> headers, byte[] body, int length, 
+      int connectTimeout, int readTimeout) throws IOException;
+
+  /**
+   * Release the resources like pooled connections. The transport can't be 
+   * used any more afterwards.
+   */
+  void close();
+}
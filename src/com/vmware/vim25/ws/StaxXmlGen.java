@@ -0,0 +1,435 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.ws;
+
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.ws.TypeBinding.FieldBinding;
+
+/** 
+ * The streaming de-serialization engine. It binds a SOAP response into the
+ * data objects straight from the input stream with a StAX pull parser, so
+ * that no dom4j Document is built for the whole response. The objects it 
+ * returns are the same as what XmlGen.fromXML() returns.
+ * @author Steve Jin (sjin@vmware.com)
+*/ 
+
+public final class StaxXmlGen
+{
+  private final static String XSI_NS = "http://www.w3.org/2001/XMLSchema-instance";
+  private final static XMLInputFactory FACTORY = XMLInputFactory.newInstance();
+  static
+  {
+    FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+  }
+
+  /**
+   * Parse a whole SOAP response envelope.
+   * @param is the input stream of the SOAP response
+   * @param returnType the return type of the method, null if there is none 
+   * @return the object bound from the response, or null
+   * @throws RemoteException the fault carried by the response, or a wrapper
+   * of any parsing error
+   */
+  public static Object fromSoapResponse(InputStream is, String returnType) throws RemoteException
+  {
+    XMLStreamReader reader = null;
+    try
+    {
+      reader = FACTORY.createXMLStreamReader(is);
+      // Envelope -> Body -> response
+      nextChild(reader);
+      boolean inBody = false;
+      while(nextChild(reader))
+      {
+        if("Body".equals(reader.getLocalName()))
+        {
+          inBody = true;
+          break;
+        }
+        skipElement(reader);
+      }
+      if(!inBody || !nextChild(reader))
+      {
+        throw new RemoteException("No response found in the SOAP body.");
+      }
+
+      if(reader.getLocalName().indexOf("Fault")!=-1)
+      {
+        SoapFaultException sfe = parseSoapFault(reader);
+        if(sfe.detail!=null)
+        {
+          throw (RemoteException) sfe.detail;
+        }
+        throw sfe;
+      }
+      
+      if(returnType==null)
+      {
+        return null;
+      }
+      return fromXML(returnType, reader);
+    }
+    catch(RemoteException re)
+    {
+      throw re;
+    }
+    catch(Exception e)
+    {
+      throw new RemoteException("Exception in WSClient.invoke:", e);
+    }
+    finally
+    {
+      if(reader!=null)
+        try { reader.close(); } catch(XMLStreamException xse) {}
+    }
+  }
+
+  private static SoapFaultException parseSoapFault(XMLStreamReader reader) throws Exception
+  {
+    SoapFaultException sfe = new SoapFaultException();
+    
+    while(nextChild(reader))
+    {
+      String name = reader.getLocalName();
+      if("faultcode".equals(name))
+      {
+        sfe.setFaultCode(reader.getElementText());
+      }
+      else if("faultstring".equals(name))
+      {
+        sfe.setFaultString(reader.getElementText());
+      }
+      else if("faultactor".equals(name))
+      {
+        sfe.setFaultActor(reader.getElementText());
+      }
+      else if("detail".equals(name))
+      {
+        boolean first = true;
+        while(nextChild(reader))
+        {
+          String faultTypeName = getXsiType(reader);
+          if(first && faultTypeName!=null)
+          {
+            sfe.detail = (Throwable) fromXml(XmlGen.getVimClass(faultTypeName), reader);
+          }
+          else
+          {
+            skipElement(reader);
+          }
+          first = false;
+        }
+      }
+      else
+      {
+        skipElement(reader);
+      }
+    }
+    return sfe;
+  }
+
+  /** The reader is positioned at the start of the response element */
+  private static Object fromXML(String type, XMLStreamReader reader) throws Exception
+  {
+    if(type.startsWith("ManagedObjectReference"))
+    {
+      List<ManagedObjectReference> mors = new ArrayList<ManagedObjectReference>();
+      while(nextChild(reader))
+      {
+        mors.add(createMOR(reader));
+      }
+      if(mors.size()==0)
+      {
+        return null;
+      }
+      if(! type.endsWith("[]"))
+      {
+        return mors.get(0);
+      }
+      return mors.toArray(new ManagedObjectReference[mors.size()]);
+    }
+    else if(XmlGen.isBasicType(type))
+    {
+      List<String> vals = new ArrayList<String>();
+      while(nextChild(reader))
+      {
+        vals.add(reader.getElementText());
+      }
+      if(vals.size()==0)
+      {
+        return null;
+      }
+      return XmlGen.parseValue(type, vals.toArray(new String[vals.size()]));
+    }
+    else if(type.endsWith("[]"))
+    { // array type
+      String arrayItemTypeName = type.substring(0, type.length()-2);
+      List<Object> items = new ArrayList<Object>();
+      while(nextChild(reader))
+      {
+        String xsiType = getXsiType(reader);
+        items.add(fromXml(XmlGen.getVimClass(xsiType==null? arrayItemTypeName : xsiType), reader));
+      }
+      if(items.size()==0)
+      {
+        return null;
+      }
+      Object ao = Array.newInstance(XmlGen.getVimClass(arrayItemTypeName), items.size());
+      for(int i=0; i<items.size(); i++)
+      {
+        Array.set(ao, i, items.get(i));
+      }
+      return ao;
+    }
+    else
+    {
+      Object obj = null;
+      while(nextChild(reader))
+      {
+        if(obj==null)
+        {
+          obj = fromXml(XmlGen.getVimClass(type), reader);
+        }
+        else
+        {
+          skipElement(reader);
+        }
+      }
+      return obj;
+    }
+  }
+
+  /** Handle single VIM Data Object except MOR. The reader is positioned at its start tag. */
+  private static Object fromXml(Class clazz, XMLStreamReader reader) throws Exception
+  {
+    TypeBinding tb = TypeBinding.of(clazz);
+    Object obj = clazz.newInstance();
+    // the same tags in a row make up one array field
+    ArrayCollector pending = null;
+    
+    while(nextChild(reader))
+    {
+      String tagName = reader.getLocalName();
+      if(pending!=null)
+      {
+        if(pending.isFor(tagName))
+        {
+          pending.add(reader);
+          continue;
+        }
+        pending.setField(obj);
+        pending = null;
+      }
+      
+      FieldBinding fb = tb.getField(tagName);
+      Field field = fb.field;
+
+      Class fRealType = fb.type;
+      int kind = fb.kind;
+      String xsiType = getXsiType(reader);
+      if(xsiType!=null && (!xsiType.startsWith("xsd:")))
+      {
+        TypeBinding realTb = TypeBinding.of(XmlGen.getVimClass(xsiType));
+        fRealType = realTb.clazz;
+        kind = realTb.kind;
+      }
+
+      if(fb.isArray)
+      {
+        pending = new ArrayCollector(tagName, fb, fRealType, kind, xsiType);
+        pending.add(reader);
+      }
+      else if(kind == TypeBinding.KIND_MOR)
+      { // MOR
+        field.set(obj, createMOR(reader));
+      }
+      else if(kind == TypeBinding.KIND_ENUM)
+      { // Enum type
+        field.set(obj, Enum.valueOf(fRealType, reader.getElementText()));
+      }
+      else if(kind == TypeBinding.KIND_VIM)
+      { //VIM type
+        field.set(obj, fromXml(fRealType, reader));
+      }
+      else
+      { //basic data type
+        BasicType bt = xsiType!=null ? BasicType.of(xsiType.substring("xsd:".length())) : fb.basicType;
+        XmlGen.setFieldValue(field, obj, bt, reader.getElementText());
+      }
+    }
+    
+    if(pending!=null)
+    {
+      pending.setField(obj);
+    }
+    return obj;
+  }
+
+  /**
+   * Collects the items of an array field while the same tag repeats. The kind
+   * of the items is decided by the first element just like XmlGen does.
+   */
+  private final static class ArrayCollector
+  {
+    private final String tagName;
+    private final FieldBinding fb;
+    private final Class fRealType;
+    private final int kind;
+    private final String xsiType;
+    private final List<Object> items = new ArrayList<Object>();
+    
+    ArrayCollector(String tagName, FieldBinding fb, Class fRealType, int kind, String xsiType)
+    {
+      this.tagName = tagName;
+      this.fb = fb;
+      this.fRealType = fRealType;
+      this.kind = kind;
+      this.xsiType = xsiType;
+    }
+    
+    boolean isFor(String tagName)
+    {
+      return this.tagName.equals(tagName);
+    }
+    
+    void add(XMLStreamReader reader) throws Exception
+    {
+      switch(kind)
+      {
+        case TypeBinding.KIND_MOR:
+          items.add(createMOR(reader));
+          break;
+        case TypeBinding.KIND_ENUM:
+          items.add(Enum.valueOf(fRealType, reader.getElementText()));
+          break;
+        case TypeBinding.KIND_VIM:
+          String elemXsiType = getXsiType(reader);
+          Class elemClass = elemXsiType!=null? XmlGen.getVimClass(elemXsiType) : fb.type;
+          items.add(fromXml(elemClass, reader));
+          break;
+        default:
+          items.add(reader.getElementText());
+      }
+    }
+    
+    void setField(Object obj) throws Exception
+    {
+      int size = items.size();
+      if(kind == TypeBinding.KIND_BASIC || kind == TypeBinding.KIND_CALENDAR)
+      {
+        String[] values = items.toArray(new String[size]);
+        BasicType bt = xsiType!=null ? BasicType.of(xsiType.substring("xsd:".length())) : fb.basicType;
+        XmlGen.setArrayFieldValue(fb.field, obj, bt, values);
+      }
+      else
+      {
+        Object ao = Array.newInstance(kind==TypeBinding.KIND_VIM? fb.type : fRealType, size);
+        for(int i=0; i<size; i++)
+        {
+          Array.set(ao, i, items.get(i));
+        }
+        fb.field.set(obj, ao);
+      }
+    }
+  }
+
+  private static ManagedObjectReference createMOR(XMLStreamReader reader) throws XMLStreamException
+  {
+    String type = null;
+    for(int i=0; i<reader.getAttributeCount(); i++)
+    {
+      String ns = reader.getAttributeNamespace(i);
+      if((ns==null || ns.length()==0) && "type".equals(reader.getAttributeLocalName(i)))
+      {
+        type = reader.getAttributeValue(i);
+        break;
+      }
+    }
+    return XmlGen.createMOR(type, reader.getElementText());
+  }
+  
+  private static String getXsiType(XMLStreamReader reader)
+  {
+    return reader.getAttributeValue(XSI_NS, "type");
+  }
+
+  /**
+   * Move to the next child element of the current element. The reader must be 
+   * at the start tag of the parent or the end tag of the previous child.
+   * @return true if positioned at the start tag of a child; false if at the end 
+   * tag of the parent
+   */
+  private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException
+  {
+    while(reader.hasNext())
+    {
+      int event = reader.next();
+      if(event == XMLStreamConstants.START_ELEMENT)
+      {
+        return true;
+      }
+      else if(event == XMLStreamConstants.END_ELEMENT)
+      {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  /** Skip the current element including all its children, stopping at its end tag */
+  private static void skipElement(XMLStreamReader reader) throws XMLStreamException
+  {
+    int depth = 1;
+    while(depth > 0 && reader.hasNext())
+    {
+      int event = reader.next();
+      if(event == XMLStreamConstants.START_ELEMENT)
+      {
+        depth++;
+      }
+      else if(event == XMLStreamConstants.END_ELEMENT)
+      {
+        depth--;
+      }
+    }
+  }
+}
@@ -0,0 +1,192 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.ws;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.vmware.vim25.ManagedObjectReference;
+
+/** 
+ * The binding table of a class, built once per class with reflection and then
+ * shared by all the (de)serializations. It maps the XML tag names to the 
+ * fields, and keeps what the engine needs to know about each field.
+ * Instances are immutable and therefore safe to share among threads.
+ * @author Steve Jin (sjin@vmware.com)
+*/ 
+
+final class TypeBinding
+{
+  final static int KIND_MOR = 0;
+  final static int KIND_ENUM = 1;
+  final static int KIND_VIM = 2;
+  final static int KIND_CALENDAR = 3;
+  final static int KIND_BASIC = 4;
+  
+  private final static Package VIM_PKG = ManagedObjectReference.class.getPackage();
+  private final static ConcurrentMap<Class, TypeBinding> BINDINGS = new ConcurrentHashMap<Class, TypeBinding>();
+
+  final Class clazz;
+  final int kind;
+  /** the public fields including the inherited ones, super class fields first */
+  final FieldBinding[] fields;
+  private final Map<String, FieldBinding> tagToField = new HashMap<String, FieldBinding>();
+  
+  static TypeBinding of(Class clazz)
+  {
+    TypeBinding tb = BINDINGS.get(clazz);
+    if(tb == null)
+    {
+      tb = new TypeBinding(clazz);
+      TypeBinding existing = BINDINGS.putIfAbsent(clazz, tb);
+      if(existing != null)
+      {
+        tb = existing;
+      }
+    }
+    return tb;
+  }
+
+  private TypeBinding(Class clazz)
+  {
+    this.clazz = clazz;
+    this.kind = kindOf(clazz);
+    
+    if(kind != KIND_VIM)
+    {
+      this.fields = new FieldBinding[0];
+      return;
+    }
+    
+    List<FieldBinding> fbs = new ArrayList<FieldBinding>();
+    collectFields(clazz, fbs);
+    this.fields = fbs.toArray(new FieldBinding[fbs.size()]);
+    for(int i=0; i<fields.length; i++)
+    {
+      String fName = fields[i].name;
+      // the field for a tag like <int> is named _int
+      if(fName.startsWith("_") && XmlGen.PRIMITIVE_DATA_TYPES.contains(fName.substring(1)))
+      {
+        tagToField.put(fName.substring(1), fields[i]);
+      }
+      else
+      {
+        tagToField.put(fName, fields[i]);
+      }
+    }
+  }
+  
+  private static void collectFields(Class<?> clazz, List<FieldBinding> fbs)
+  {
+    Class<?> supClazz = clazz.getSuperclass();
+    if(supClazz!=null)
+    {
+      collectFields(supClazz, fbs);
+    }
+    Field[] fs = clazz.getDeclaredFields();
+    for(int i=0; i<fs.length; i++)
+    {
+      int mod = fs[i].getModifiers();
+      if(Modifier.isPublic(mod) && !Modifier.isStatic(mod))
+      {
+        fbs.add(new FieldBinding(fs[i]));
+      }
+    }
+  }
+  
+  /**
+   * @param tagName the name of a child element
+   * @return the binding of the field the element goes into
+   * @throws NoSuchFieldException if the class has no such field
+   */
+  FieldBinding getField(String tagName) throws NoSuchFieldException
+  {
+    FieldBinding fb = tagToField.get(tagName);
+    if(fb == null)
+    {
+      throw new NoSuchFieldException(clazz.getName() + "." + tagName);
+    }
+    return fb;
+  }
+  
+  private static int kindOf(Class c)
+  {
+    if(c == ManagedObjectReference.class)
+    {
+      return KIND_MOR;
+    }
+    else if(c.isEnum())
+    {
+      return KIND_ENUM;
+    }
+    else if(c.getPackage() == VIM_PKG)
+    {
+      return KIND_VIM;
+    }
+    else if(Calendar.class.isAssignableFrom(c))
+    {
+      return KIND_CALENDAR;
+    }
+    return KIND_BASIC;
+  }
+
+  final static class FieldBinding
+  {
+    final Field field;
+    final String name;
+    /** the tags the field is serialized with */
+    final XmlTag tag;
+    final boolean isArray;
+    /** the declared type, or the component type for an array */
+    final Class type;
+    final int kind;
+    /** the basic type for the declared type, null if not basic */
+    final BasicType basicType;
+    
+    private FieldBinding(Field field)
+    {
+      this.field = field;
+      this.name = field.getName();
+      this.tag = XmlTag.of(name);
+      Class fType = field.getType();
+      this.isArray = fType.isArray();
+      this.type = isArray ? fType.getComponentType() : fType;
+      this.kind = kindOf(type);
+      this.basicType = BasicType.of(type.getSimpleName());
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.ws;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/** 
+ * The default transport built on HttpURLConnection, leaving the persistent 
+ * connections to the keep-alive cache of the JDK.
+ * @author Steve Jin (sjin@vmware.com)
+*/ 
+
+public class UrlConnectionTransport implements SoapTransport
+{
+  public SoapResponse post(URL url, Map<String, String> headers, byte[] body, int length, 
+      int connectTimeout, int readTimeout) throws IOException
+  {
+    HttpURLConnection postCon = (HttpURLConnection) url.openConnection();
+    
+    if(connectTimeout > 0)
+      postCon.setConnectTimeout(connectTimeout);
+    if(readTimeout > 0)
+      postCon.setReadTimeout(readTimeout);
+    
+    postCon.setRequestMethod("POST");
+    postCon.setDoOutput(true);
+    postCon.setDoInput(true);
+    postCon.setFixedLengthStreamingMode(length);
+    Iterator<Map.Entry<String, String>> it = headers.entrySet().iterator();
+    while(it.hasNext())
+    {
+      Map.Entry<String, String> e = it.next();
+      postCon.setRequestProperty(e.getKey(), e.getValue());
+    }
+
+    OutputStream os = postCon.getOutputStream();
+    os.write(body, 0, length);
+    os.close();
+
+    InputStream is;
+    try
+    {
+      is = postCon.getInputStream();
+    } 
+    catch(IOException ioe)
+    {
+      is = postCon.getErrorStream();
+      if(is == null)
+      {
+        throw ioe;
+      }
+    }
+    
+    Map<String, String> respHeaders = new HashMap<String, String>();
+    Iterator<Map.Entry<String, List<String>>> hit = postCon.getHeaderFields().entrySet().iterator();
+    while(hit.hasNext())
+    {
+      Map.Entry<String, List<String>> e = hit.next();
+      if(e.getKey()!=null && e.getValue()!=null && e.getValue().size()>0)
+      {
+        respHeaders.put(e.getKey(), postCon.getHeaderField(e.getKey()));
+      }
+    }
+    return new SoapResponse(postCon.getResponseCode(), respHeaders, is);
+  }
+  
+  public void close()
+  {
+  }
+}
@@ -0,0 +1,214 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.ws;
+
+import java.io.UnsupportedEncodingException;
+
+/** 
+ * A growable byte buffer that encodes what's appended as UTF-8 right away,
+ * so a SOAP request is built as bytes without intermediate Strings. Each 
+ * thread reuses its own buffer through acquire() and release(). 
+ * @author Steve Jin (sjin@vmware.com)
+*/ 
+
+final class Utf8Buffer
+{
+  private final static int INITIAL_SIZE = 8 * 1024;
+  /** a buffer grown beyond this is dropped when released */
+  private final static int MAX_RETAINED_SIZE = 512 * 1024;
+  
+  private final static ThreadLocal<Utf8Buffer> POOL = new ThreadLocal<Utf8Buffer>();
+
+  private byte[] buf;
+  private int count = 0;
+  private boolean inUse = false;
+
+  Utf8Buffer()
+  {
+    this(INITIAL_SIZE);
+  }
+  
+  Utf8Buffer(int size)
+  {
+    buf = new byte[size];
+  }
+  
+  /**
+   * @return the buffer of the current thread, emptied, or a new one if 
+   * that is already in use
+   */
+  static Utf8Buffer acquire()
+  {
+    Utf8Buffer ub = POOL.get();
+    if(ub == null)
+    {
+      ub = new Utf8Buffer();
+      POOL.set(ub);
+    }
+    else if(ub.inUse)
+    {
+      return new Utf8Buffer();
+    }
+    ub.inUse = true;
+    ub.count = 0;
+    return ub;
+  }
+  
+  /** Give the buffer back to the pool of the current thread */
+  void release()
+  {
+    inUse = false;
+    count = 0;
+    if(buf.length > MAX_RETAINED_SIZE)
+    {
+      buf = new byte[INITIAL_SIZE];
+    }
+  }
+  
+  /** @return the internal array, valid up to size() */
+  byte[] getBytes()
+  {
+    return buf;
+  }
+  
+  int size()
+  {
+    return count;
+  }
+  
+  private void ensureCapacity(int extra)
+  {
+    int needed = count + extra;
+    if(needed > buf.length)
+    {
+      byte[] newBuf = new byte[Math.max(needed, buf.length << 1)];
+      System.arraycopy(buf, 0, newBuf, 0, count);
+      buf = newBuf;
+    }
+  }
+  
+  Utf8Buffer append(byte[] bytes)
+  {
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buf, count, bytes.length);
+    count += bytes.length;
+    return this;
+  }
+  
+  /** Append a character below 0x80 */
+  Utf8Buffer appendAscii(char c)
+  {
+    ensureCapacity(1);
+    buf[count++] = (byte) c;
+    return this;
+  }
+  
+  Utf8Buffer append(String str)
+  {
+    int len = str.length();
+    // at most 3 bytes per char; a surrogate pair takes 4 bytes for 2 chars
+    ensureCapacity(len * 3);
+    byte[] b = buf;
+    int pos = count;
+    for(int i=0; i<len; i++)
+    {
+      char c = str.charAt(i);
+      if(c < 0x80)
+      {
+        b[pos++] = (byte) c;
+      }
+      else if(c < 0x800)
+      {
+        b[pos++] = (byte) (0xc0 | (c >> 6));
+        b[pos++] = (byte) (0x80 | (c & 0x3f));
+      }
+      else if(Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(str.charAt(i + 1)))
+      {
+        int cp = Character.toCodePoint(c, str.charAt(++i));
+        b[pos++] = (byte) (0xf0 | (cp >> 18));
+        b[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+        b[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+        b[pos++] = (byte) (0x80 | (cp & 0x3f));
+      }
+      else if(c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE)
+      { // unpaired, as String.getBytes("UTF-8") does
+        b[pos++] = (byte) '?';
+      }
+      else
+      {
+        b[pos++] = (byte) (0xe0 | (c >> 12));
+        b[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        b[pos++] = (byte) (0x80 | (c & 0x3f));
+      }
+    }
+    count = pos;
+    return this;
+  }
+  
+  Utf8Buffer append(long value)
+  {
+    if(value == Long.MIN_VALUE)
+    {
+      return append(Long.toString(value));
+    }
+    ensureCapacity(20);
+    if(value < 0)
+    {
+      buf[count++] = (byte) '-';
+      value = -value;
+    }
+    int start = count;
+    do
+    {
+      buf[count++] = (byte) ('0' + (int) (value % 10));
+      value /= 10;
+    } while(value != 0);
+    // the digits went in backwards
+    for(int i=start, j=count-1; i<j; i++, j--)
+    {
+      byte t = buf[i];
+      buf[i] = buf[j];
+      buf[j] = t;
+    }
+    return this;
+  }
+  
+  public String toString()
+  {
+    try
+    {
+      return new String(buf, 0, count, "UTF-8");
+    } 
+    catch (UnsupportedEncodingException uee)
+    {
+      throw new RuntimeException(uee);
+    }
+  }
+}
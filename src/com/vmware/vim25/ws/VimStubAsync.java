@@ -0,0 +1,5652 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.ws;
+import com.vmware.vim25.*;
+
+import java.util.Calendar;
+import java.util.concurrent.Future;
+
+/**
+ * The asynchronous counterpart of VimStub. Each method sends the same request
+ * as its VimStub namesake through WSClient.invokeAsync and returns at once.
+ * The overloads taking an AsyncCallback have it called with the outcome, so
+ * the callers don't need a thread blocked on each Future.
+@author Steve Jin (sjin@vmware.com)
+*/
+
+public class VimStubAsync
+{
+  private WSClient wsc = null;
+
+  public VimStubAsync(WSClient wsc)
+  {
+    this.wsc = wsc;
+  }
+
+  public WSClient getWsc()
+  {
+    return wsc;
+  }
+
+  public Future<Void> destroyPropertyFilterAsync(ManagedObjectReference _this)
+  {
+    return destroyPropertyFilterAsync(_this, null);
+  }
+  public Future<Void> destroyPropertyFilterAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("DestroyPropertyFilter", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> createFilterAsync(ManagedObjectReference _this, PropertyFilterSpec spec, boolean partialUpdates)
+  {
+    return createFilterAsync(_this, spec, partialUpdates, null);
+  }
+  public Future<ManagedObjectReference> createFilterAsync(ManagedObjectReference _this, PropertyFilterSpec spec, boolean partialUpdates, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "PropertyFilterSpec", spec);
+    paras[2] = new Argument("partialUpdates", "boolean", partialUpdates);
+    return wsc.invokeAsync("CreateFilter", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ObjectContent[]> retrievePropertiesAsync(ManagedObjectReference _this, PropertyFilterSpec[] specSet)
+  {
+    return retrievePropertiesAsync(_this, specSet, null);
+  }
+  public Future<ObjectContent[]> retrievePropertiesAsync(ManagedObjectReference _this, PropertyFilterSpec[] specSet, AsyncCallback<ObjectContent[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("specSet", "PropertyFilterSpec[]", specSet);
+    return wsc.invokeAsync("RetrieveProperties", paras, "ObjectContent[]", callback);
+  }
+  public Future<UpdateSet> checkForUpdatesAsync(ManagedObjectReference _this, String version)
+  {
+    return checkForUpdatesAsync(_this, version, null);
+  }
+  public Future<UpdateSet> checkForUpdatesAsync(ManagedObjectReference _this, String version, AsyncCallback<UpdateSet> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("version", "String", version);
+    return wsc.invokeAsync("CheckForUpdates", paras, "UpdateSet", callback);
+  }
+  public Future<UpdateSet> waitForUpdatesAsync(ManagedObjectReference _this, String version)
+  {
+    return waitForUpdatesAsync(_this, version, null);
+  }
+  public Future<UpdateSet> waitForUpdatesAsync(ManagedObjectReference _this, String version, AsyncCallback<UpdateSet> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("version", "String", version);
+    return wsc.invokeAsync("WaitForUpdates", paras, "UpdateSet", callback);
+  }
+  public Future<Void> cancelWaitForUpdatesAsync(ManagedObjectReference _this)
+  {
+    return cancelWaitForUpdatesAsync(_this, null);
+  }
+  public Future<Void> cancelWaitForUpdatesAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("CancelWaitForUpdates", paras, null, callback);
+  }
+  public Future<UpdateSet> waitForUpdatesExAsync(ManagedObjectReference _this, String version, WaitOptions options)
+  {
+    return waitForUpdatesExAsync(_this, version, options, null);
+  }
+  public Future<UpdateSet> waitForUpdatesExAsync(ManagedObjectReference _this, String version, WaitOptions options, AsyncCallback<UpdateSet> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("version", "String", version);
+    paras[2] = new Argument("options", "WaitOptions", options);
+    return wsc.invokeAsync("WaitForUpdatesEx", paras, "UpdateSet", callback);
+  }
+  public Future<RetrieveResult> retrievePropertiesExAsync(ManagedObjectReference _this, PropertyFilterSpec[] specSet, RetrieveOptions options)
+  {
+    return retrievePropertiesExAsync(_this, specSet, options, null);
+  }
+  public Future<RetrieveResult> retrievePropertiesExAsync(ManagedObjectReference _this, PropertyFilterSpec[] specSet, RetrieveOptions options, AsyncCallback<RetrieveResult> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("specSet", "PropertyFilterSpec[]", specSet);
+    paras[2] = new Argument("options", "RetrieveOptions", options);
+    return wsc.invokeAsync("RetrievePropertiesEx", paras, "RetrieveResult", callback);
+  }
+  public Future<RetrieveResult> continueRetrievePropertiesExAsync(ManagedObjectReference _this, String token)
+  {
+    return continueRetrievePropertiesExAsync(_this, token, null);
+  }
+  public Future<RetrieveResult> continueRetrievePropertiesExAsync(ManagedObjectReference _this, String token, AsyncCallback<RetrieveResult> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("token", "String", token);
+    return wsc.invokeAsync("ContinueRetrievePropertiesEx", paras, "RetrieveResult", callback);
+  }
+  public Future<Void> cancelRetrievePropertiesExAsync(ManagedObjectReference _this, String token)
+  {
+    return cancelRetrievePropertiesExAsync(_this, token, null);
+  }
+  public Future<Void> cancelRetrievePropertiesExAsync(ManagedObjectReference _this, String token, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("token", "String", token);
+    return wsc.invokeAsync("CancelRetrievePropertiesEx", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> createPropertyCollectorAsync(ManagedObjectReference _this)
+  {
+    return createPropertyCollectorAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> createPropertyCollectorAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("CreatePropertyCollector", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> destroyPropertyCollectorAsync(ManagedObjectReference _this)
+  {
+    return destroyPropertyCollectorAsync(_this, null);
+  }
+  public Future<Void> destroyPropertyCollectorAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("DestroyPropertyCollector", paras, null, callback);
+  }
+  public Future<Integer> addAuthorizationRoleAsync(ManagedObjectReference _this, String name, String[] privIds)
+  {
+    return addAuthorizationRoleAsync(_this, name, privIds, null);
+  }
+  public Future<Integer> addAuthorizationRoleAsync(ManagedObjectReference _this, String name, String[] privIds, AsyncCallback<Integer> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("privIds", "String[]", privIds);
+    return wsc.invokeAsync("AddAuthorizationRole", paras, "int", callback);
+  }
+  public Future<Void> removeAuthorizationRoleAsync(ManagedObjectReference _this, int roleId, boolean failIfUsed)
+  {
+    return removeAuthorizationRoleAsync(_this, roleId, failIfUsed, null);
+  }
+  public Future<Void> removeAuthorizationRoleAsync(ManagedObjectReference _this, int roleId, boolean failIfUsed, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("roleId", "int", roleId);
+    paras[2] = new Argument("failIfUsed", "boolean", failIfUsed);
+    return wsc.invokeAsync("RemoveAuthorizationRole", paras, null, callback);
+  }
+  public Future<Void> updateAuthorizationRoleAsync(ManagedObjectReference _this, int roleId, String newName, String[] privIds)
+  {
+    return updateAuthorizationRoleAsync(_this, roleId, newName, privIds, null);
+  }
+  public Future<Void> updateAuthorizationRoleAsync(ManagedObjectReference _this, int roleId, String newName, String[] privIds, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("roleId", "int", roleId);
+    paras[2] = new Argument("newName", "String", newName);
+    paras[3] = new Argument("privIds", "String[]", privIds);
+    return wsc.invokeAsync("UpdateAuthorizationRole", paras, null, callback);
+  }
+  public Future<Void> mergePermissionsAsync(ManagedObjectReference _this, int srcRoleId, int dstRoleId)
+  {
+    return mergePermissionsAsync(_this, srcRoleId, dstRoleId, null);
+  }
+  public Future<Void> mergePermissionsAsync(ManagedObjectReference _this, int srcRoleId, int dstRoleId, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("srcRoleId", "int", srcRoleId);
+    paras[2] = new Argument("dstRoleId", "int", dstRoleId);
+    return wsc.invokeAsync("MergePermissions", paras, null, callback);
+  }
+  public Future<Permission[]> retrieveRolePermissionsAsync(ManagedObjectReference _this, int roleId)
+  {
+    return retrieveRolePermissionsAsync(_this, roleId, null);
+  }
+  public Future<Permission[]> retrieveRolePermissionsAsync(ManagedObjectReference _this, int roleId, AsyncCallback<Permission[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("roleId", "int", roleId);
+    return wsc.invokeAsync("RetrieveRolePermissions", paras, "Permission[]", callback);
+  }
+  public Future<Permission[]> retrieveEntityPermissionsAsync(ManagedObjectReference _this, ManagedObjectReference entity, boolean inherited)
+  {
+    return retrieveEntityPermissionsAsync(_this, entity, inherited, null);
+  }
+  public Future<Permission[]> retrieveEntityPermissionsAsync(ManagedObjectReference _this, ManagedObjectReference entity, boolean inherited, AsyncCallback<Permission[]> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    paras[2] = new Argument("inherited", "boolean", inherited);
+    return wsc.invokeAsync("RetrieveEntityPermissions", paras, "Permission[]", callback);
+  }
+  public Future<Permission[]> retrieveAllPermissionsAsync(ManagedObjectReference _this)
+  {
+    return retrieveAllPermissionsAsync(_this, null);
+  }
+  public Future<Permission[]> retrieveAllPermissionsAsync(ManagedObjectReference _this, AsyncCallback<Permission[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RetrieveAllPermissions", paras, "Permission[]", callback);
+  }
+  public Future<Void> setEntityPermissionsAsync(ManagedObjectReference _this, ManagedObjectReference entity, Permission[] permission)
+  {
+    return setEntityPermissionsAsync(_this, entity, permission, null);
+  }
+  public Future<Void> setEntityPermissionsAsync(ManagedObjectReference _this, ManagedObjectReference entity, Permission[] permission, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    paras[2] = new Argument("permission", "Permission[]", permission);
+    return wsc.invokeAsync("SetEntityPermissions", paras, null, callback);
+  }
+  public Future<Void> resetEntityPermissionsAsync(ManagedObjectReference _this, ManagedObjectReference entity, Permission[] permission)
+  {
+    return resetEntityPermissionsAsync(_this, entity, permission, null);
+  }
+  public Future<Void> resetEntityPermissionsAsync(ManagedObjectReference _this, ManagedObjectReference entity, Permission[] permission, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    paras[2] = new Argument("permission", "Permission[]", permission);
+    return wsc.invokeAsync("ResetEntityPermissions", paras, null, callback);
+  }
+  public Future<Void> removeEntityPermissionAsync(ManagedObjectReference _this, ManagedObjectReference entity, String user, boolean isGroup)
+  {
+    return removeEntityPermissionAsync(_this, entity, user, isGroup, null);
+  }
+  public Future<Void> removeEntityPermissionAsync(ManagedObjectReference _this, ManagedObjectReference entity, String user, boolean isGroup, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    paras[2] = new Argument("user", "String", user);
+    paras[3] = new Argument("isGroup", "boolean", isGroup);
+    return wsc.invokeAsync("RemoveEntityPermission", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> reconfigureCluster_TaskAsync(ManagedObjectReference _this, ClusterConfigSpec spec, boolean modify)
+  {
+    return reconfigureCluster_TaskAsync(_this, spec, modify, null);
+  }
+  public Future<ManagedObjectReference> reconfigureCluster_TaskAsync(ManagedObjectReference _this, ClusterConfigSpec spec, boolean modify, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "ClusterConfigSpec", spec);
+    paras[2] = new Argument("modify", "boolean", modify);
+    return wsc.invokeAsync("ReconfigureCluster_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> applyRecommendationAsync(ManagedObjectReference _this, String key)
+  {
+    return applyRecommendationAsync(_this, key, null);
+  }
+  public Future<Void> applyRecommendationAsync(ManagedObjectReference _this, String key, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("key", "String", key);
+    return wsc.invokeAsync("ApplyRecommendation", paras, null, callback);
+  }
+  public Future<Void> cancelRecommendationAsync(ManagedObjectReference _this, String key)
+  {
+    return cancelRecommendationAsync(_this, key, null);
+  }
+  public Future<Void> cancelRecommendationAsync(ManagedObjectReference _this, String key, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("key", "String", key);
+    return wsc.invokeAsync("CancelRecommendation", paras, null, callback);
+  }
+  public Future<ClusterHostRecommendation[]> recommendHostsForVmAsync(ManagedObjectReference _this, ManagedObjectReference vm, ManagedObjectReference pool)
+  {
+    return recommendHostsForVmAsync(_this, vm, pool, null);
+  }
+  public Future<ClusterHostRecommendation[]> recommendHostsForVmAsync(ManagedObjectReference _this, ManagedObjectReference vm, ManagedObjectReference pool, AsyncCallback<ClusterHostRecommendation[]> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vm", "ManagedObjectReference", vm);
+    paras[2] = new Argument("pool", "ManagedObjectReference", pool);
+    return wsc.invokeAsync("RecommendHostsForVm", paras, "ClusterHostRecommendation[]", callback);
+  }
+  public Future<ManagedObjectReference> addHost_TaskAsync(ManagedObjectReference _this, HostConnectSpec spec, boolean asConnected, ManagedObjectReference resourcePool, String license)
+  {
+    return addHost_TaskAsync(_this, spec, asConnected, resourcePool, license, null);
+  }
+  public Future<ManagedObjectReference> addHost_TaskAsync(ManagedObjectReference _this, HostConnectSpec spec, boolean asConnected, ManagedObjectReference resourcePool, String license, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "HostConnectSpec", spec);
+    paras[2] = new Argument("asConnected", "boolean", asConnected);
+    paras[3] = new Argument("resourcePool", "ManagedObjectReference", resourcePool);
+    paras[4] = new Argument("license", "String", license);
+    return wsc.invokeAsync("AddHost_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> moveInto_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] host)
+  {
+    return moveInto_TaskAsync(_this, host, null);
+  }
+  public Future<ManagedObjectReference> moveInto_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] host, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference[]", host);
+    return wsc.invokeAsync("MoveInto_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> moveHostInto_TaskAsync(ManagedObjectReference _this, ManagedObjectReference host, ManagedObjectReference resourcePool)
+  {
+    return moveHostInto_TaskAsync(_this, host, resourcePool, null);
+  }
+  public Future<ManagedObjectReference> moveHostInto_TaskAsync(ManagedObjectReference _this, ManagedObjectReference host, ManagedObjectReference resourcePool, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    paras[2] = new Argument("resourcePool", "ManagedObjectReference", resourcePool);
+    return wsc.invokeAsync("MoveHostInto_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> refreshRecommendationAsync(ManagedObjectReference _this)
+  {
+    return refreshRecommendationAsync(_this, null);
+  }
+  public Future<Void> refreshRecommendationAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RefreshRecommendation", paras, null, callback);
+  }
+  public Future<ClusterDasAdvancedRuntimeInfo> retrieveDasAdvancedRuntimeInfoAsync(ManagedObjectReference _this)
+  {
+    return retrieveDasAdvancedRuntimeInfoAsync(_this, null);
+  }
+  public Future<ClusterDasAdvancedRuntimeInfo> retrieveDasAdvancedRuntimeInfoAsync(ManagedObjectReference _this, AsyncCallback<ClusterDasAdvancedRuntimeInfo> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RetrieveDasAdvancedRuntimeInfo", paras, "ClusterDasAdvancedRuntimeInfo", callback);
+  }
+  public Future<ManagedObjectReference> reconfigureComputeResource_TaskAsync(ManagedObjectReference _this, ComputeResourceConfigSpec spec, boolean modify)
+  {
+    return reconfigureComputeResource_TaskAsync(_this, spec, modify, null);
+  }
+  public Future<ManagedObjectReference> reconfigureComputeResource_TaskAsync(ManagedObjectReference _this, ComputeResourceConfigSpec spec, boolean modify, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "ComputeResourceConfigSpec", spec);
+    paras[2] = new Argument("modify", "boolean", modify);
+    return wsc.invokeAsync("ReconfigureComputeResource_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<CustomFieldDef> addCustomFieldDefAsync(ManagedObjectReference _this, String name, String moType, PrivilegePolicyDef fieldDefPolicy, PrivilegePolicyDef fieldPolicy)
+  {
+    return addCustomFieldDefAsync(_this, name, moType, fieldDefPolicy, fieldPolicy, null);
+  }
+  public Future<CustomFieldDef> addCustomFieldDefAsync(ManagedObjectReference _this, String name, String moType, PrivilegePolicyDef fieldDefPolicy, PrivilegePolicyDef fieldPolicy, AsyncCallback<CustomFieldDef> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("moType", "String", moType);
+    paras[3] = new Argument("fieldDefPolicy", "PrivilegePolicyDef", fieldDefPolicy);
+    paras[4] = new Argument("fieldPolicy", "PrivilegePolicyDef", fieldPolicy);
+    return wsc.invokeAsync("AddCustomFieldDef", paras, "CustomFieldDef", callback);
+  }
+  public Future<Void> removeCustomFieldDefAsync(ManagedObjectReference _this, int key)
+  {
+    return removeCustomFieldDefAsync(_this, key, null);
+  }
+  public Future<Void> removeCustomFieldDefAsync(ManagedObjectReference _this, int key, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("key", "int", key);
+    return wsc.invokeAsync("RemoveCustomFieldDef", paras, null, callback);
+  }
+  public Future<Void> renameCustomFieldDefAsync(ManagedObjectReference _this, int key, String name)
+  {
+    return renameCustomFieldDefAsync(_this, key, name, null);
+  }
+  public Future<Void> renameCustomFieldDefAsync(ManagedObjectReference _this, int key, String name, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("key", "int", key);
+    paras[2] = new Argument("name", "String", name);
+    return wsc.invokeAsync("RenameCustomFieldDef", paras, null, callback);
+  }
+  public Future<Void> setFieldAsync(ManagedObjectReference _this, ManagedObjectReference entity, int key, String value)
+  {
+    return setFieldAsync(_this, entity, key, value, null);
+  }
+  public Future<Void> setFieldAsync(ManagedObjectReference _this, ManagedObjectReference entity, int key, String value, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    paras[2] = new Argument("key", "int", key);
+    paras[3] = new Argument("value", "String", value);
+    return wsc.invokeAsync("SetField", paras, null, callback);
+  }
+  public Future<Boolean> doesCustomizationSpecExistAsync(ManagedObjectReference _this, String name)
+  {
+    return doesCustomizationSpecExistAsync(_this, name, null);
+  }
+  public Future<Boolean> doesCustomizationSpecExistAsync(ManagedObjectReference _this, String name, AsyncCallback<Boolean> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    return wsc.invokeAsync("DoesCustomizationSpecExist", paras, "boolean", callback);
+  }
+  public Future<CustomizationSpecItem> getCustomizationSpecAsync(ManagedObjectReference _this, String name)
+  {
+    return getCustomizationSpecAsync(_this, name, null);
+  }
+  public Future<CustomizationSpecItem> getCustomizationSpecAsync(ManagedObjectReference _this, String name, AsyncCallback<CustomizationSpecItem> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    return wsc.invokeAsync("GetCustomizationSpec", paras, "CustomizationSpecItem", callback);
+  }
+  public Future<Void> createCustomizationSpecAsync(ManagedObjectReference _this, CustomizationSpecItem item)
+  {
+    return createCustomizationSpecAsync(_this, item, null);
+  }
+  public Future<Void> createCustomizationSpecAsync(ManagedObjectReference _this, CustomizationSpecItem item, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("item", "CustomizationSpecItem", item);
+    return wsc.invokeAsync("CreateCustomizationSpec", paras, null, callback);
+  }
+  public Future<Void> overwriteCustomizationSpecAsync(ManagedObjectReference _this, CustomizationSpecItem item)
+  {
+    return overwriteCustomizationSpecAsync(_this, item, null);
+  }
+  public Future<Void> overwriteCustomizationSpecAsync(ManagedObjectReference _this, CustomizationSpecItem item, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("item", "CustomizationSpecItem", item);
+    return wsc.invokeAsync("OverwriteCustomizationSpec", paras, null, callback);
+  }
+  public Future<Void> deleteCustomizationSpecAsync(ManagedObjectReference _this, String name)
+  {
+    return deleteCustomizationSpecAsync(_this, name, null);
+  }
+  public Future<Void> deleteCustomizationSpecAsync(ManagedObjectReference _this, String name, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    return wsc.invokeAsync("DeleteCustomizationSpec", paras, null, callback);
+  }
+  public Future<Void> duplicateCustomizationSpecAsync(ManagedObjectReference _this, String name, String newName)
+  {
+    return duplicateCustomizationSpecAsync(_this, name, newName, null);
+  }
+  public Future<Void> duplicateCustomizationSpecAsync(ManagedObjectReference _this, String name, String newName, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("newName", "String", newName);
+    return wsc.invokeAsync("DuplicateCustomizationSpec", paras, null, callback);
+  }
+  public Future<Void> renameCustomizationSpecAsync(ManagedObjectReference _this, String name, String newName)
+  {
+    return renameCustomizationSpecAsync(_this, name, newName, null);
+  }
+  public Future<Void> renameCustomizationSpecAsync(ManagedObjectReference _this, String name, String newName, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("newName", "String", newName);
+    return wsc.invokeAsync("RenameCustomizationSpec", paras, null, callback);
+  }
+  public Future<String> customizationSpecItemToXmlAsync(ManagedObjectReference _this, CustomizationSpecItem item)
+  {
+    return customizationSpecItemToXmlAsync(_this, item, null);
+  }
+  public Future<String> customizationSpecItemToXmlAsync(ManagedObjectReference _this, CustomizationSpecItem item, AsyncCallback<String> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("item", "CustomizationSpecItem", item);
+    return wsc.invokeAsync("CustomizationSpecItemToXml", paras, "String", callback);
+  }
+  public Future<CustomizationSpecItem> xmlToCustomizationSpecItemAsync(ManagedObjectReference _this, String specItemXml)
+  {
+    return xmlToCustomizationSpecItemAsync(_this, specItemXml, null);
+  }
+  public Future<CustomizationSpecItem> xmlToCustomizationSpecItemAsync(ManagedObjectReference _this, String specItemXml, AsyncCallback<CustomizationSpecItem> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("specItemXml", "String", specItemXml);
+    return wsc.invokeAsync("XmlToCustomizationSpecItem", paras, "CustomizationSpecItem", callback);
+  }
+  public Future<Void> checkCustomizationResourcesAsync(ManagedObjectReference _this, String guestOs)
+  {
+    return checkCustomizationResourcesAsync(_this, guestOs, null);
+  }
+  public Future<Void> checkCustomizationResourcesAsync(ManagedObjectReference _this, String guestOs, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("guestOs", "String", guestOs);
+    return wsc.invokeAsync("CheckCustomizationResources", paras, null, callback);
+  }
+  public Future<HostConnectInfo> queryConnectionInfoAsync(ManagedObjectReference _this, String hostname, int port, String username, String password, String sslThumbprint)
+  {
+    return queryConnectionInfoAsync(_this, hostname, port, username, password, sslThumbprint, null);
+  }
+  public Future<HostConnectInfo> queryConnectionInfoAsync(ManagedObjectReference _this, String hostname, int port, String username, String password, String sslThumbprint, AsyncCallback<HostConnectInfo> callback)
+  {
+    Argument[] paras = new Argument[6];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("hostname", "String", hostname);
+    paras[2] = new Argument("port", "int", port);
+    paras[3] = new Argument("username", "String", username);
+    paras[4] = new Argument("password", "String", password);
+    paras[5] = new Argument("sslThumbprint", "String", sslThumbprint);
+    return wsc.invokeAsync("QueryConnectionInfo", paras, "HostConnectInfo", callback);
+  }
+  public Future<ManagedObjectReference> powerOnMultiVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] vm, OptionValue[] option)
+  {
+    return powerOnMultiVM_TaskAsync(_this, vm, option, null);
+  }
+  public Future<ManagedObjectReference> powerOnMultiVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] vm, OptionValue[] option, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vm", "ManagedObjectReference[]", vm);
+    paras[2] = new Argument("option", "OptionValue[]", option);
+    return wsc.invokeAsync("PowerOnMultiVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> refreshDatastoreAsync(ManagedObjectReference _this)
+  {
+    return refreshDatastoreAsync(_this, null);
+  }
+  public Future<Void> refreshDatastoreAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RefreshDatastore", paras, null, callback);
+  }
+  public Future<Void> refreshDatastoreStorageInfoAsync(ManagedObjectReference _this)
+  {
+    return refreshDatastoreStorageInfoAsync(_this, null);
+  }
+  public Future<Void> refreshDatastoreStorageInfoAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RefreshDatastoreStorageInfo", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> updateVirtualMachineFiles_TaskAsync(ManagedObjectReference _this, DatastoreMountPathDatastorePair[] mountPathDatastoreMapping)
+  {
+    return updateVirtualMachineFiles_TaskAsync(_this, mountPathDatastoreMapping, null);
+  }
+  public Future<ManagedObjectReference> updateVirtualMachineFiles_TaskAsync(ManagedObjectReference _this, DatastoreMountPathDatastorePair[] mountPathDatastoreMapping, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("mountPathDatastoreMapping", "DatastoreMountPathDatastorePair[]", mountPathDatastoreMapping);
+    return wsc.invokeAsync("UpdateVirtualMachineFiles_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> renameDatastoreAsync(ManagedObjectReference _this, String newName)
+  {
+    return renameDatastoreAsync(_this, newName, null);
+  }
+  public Future<Void> renameDatastoreAsync(ManagedObjectReference _this, String newName, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("newName", "String", newName);
+    return wsc.invokeAsync("RenameDatastore", paras, null, callback);
+  }
+  public Future<Void> destroyDatastoreAsync(ManagedObjectReference _this)
+  {
+    return destroyDatastoreAsync(_this, null);
+  }
+  public Future<Void> destroyDatastoreAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("DestroyDatastore", paras, null, callback);
+  }
+  public Future<DiagnosticManagerLogDescriptor[]> queryDescriptionsAsync(ManagedObjectReference _this, ManagedObjectReference host)
+  {
+    return queryDescriptionsAsync(_this, host, null);
+  }
+  public Future<DiagnosticManagerLogDescriptor[]> queryDescriptionsAsync(ManagedObjectReference _this, ManagedObjectReference host, AsyncCallback<DiagnosticManagerLogDescriptor[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("QueryDescriptions", paras, "DiagnosticManagerLogDescriptor[]", callback);
+  }
+  public Future<DiagnosticManagerLogHeader> browseDiagnosticLogAsync(ManagedObjectReference _this, ManagedObjectReference host, String key, int start, int lines)
+  {
+    return browseDiagnosticLogAsync(_this, host, key, start, lines, null);
+  }
+  public Future<DiagnosticManagerLogHeader> browseDiagnosticLogAsync(ManagedObjectReference _this, ManagedObjectReference host, String key, int start, int lines, AsyncCallback<DiagnosticManagerLogHeader> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    paras[2] = new Argument("key", "String", key);
+    paras[3] = new Argument("start", "int", start);
+    paras[4] = new Argument("lines", "int", lines);
+    return wsc.invokeAsync("BrowseDiagnosticLog", paras, "DiagnosticManagerLogHeader", callback);
+  }
+  public Future<ManagedObjectReference> generateLogBundles_TaskAsync(ManagedObjectReference _this, boolean includeDefault, ManagedObjectReference[] host)
+  {
+    return generateLogBundles_TaskAsync(_this, includeDefault, host, null);
+  }
+  public Future<ManagedObjectReference> generateLogBundles_TaskAsync(ManagedObjectReference _this, boolean includeDefault, ManagedObjectReference[] host, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("includeDefault", "boolean", includeDefault);
+    paras[2] = new Argument("host", "ManagedObjectReference[]", host);
+    return wsc.invokeAsync("GenerateLogBundles_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<String[]> fetchDVPortKeysAsync(ManagedObjectReference _this, DistributedVirtualSwitchPortCriteria criteria)
+  {
+    return fetchDVPortKeysAsync(_this, criteria, null);
+  }
+  public Future<String[]> fetchDVPortKeysAsync(ManagedObjectReference _this, DistributedVirtualSwitchPortCriteria criteria, AsyncCallback<String[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("criteria", "DistributedVirtualSwitchPortCriteria", criteria);
+    return wsc.invokeAsync("FetchDVPortKeys", paras, "String[]", callback);
+  }
+  public Future<DistributedVirtualPort[]> fetchDVPortsAsync(ManagedObjectReference _this, DistributedVirtualSwitchPortCriteria criteria)
+  {
+    return fetchDVPortsAsync(_this, criteria, null);
+  }
+  public Future<DistributedVirtualPort[]> fetchDVPortsAsync(ManagedObjectReference _this, DistributedVirtualSwitchPortCriteria criteria, AsyncCallback<DistributedVirtualPort[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("criteria", "DistributedVirtualSwitchPortCriteria", criteria);
+    return wsc.invokeAsync("FetchDVPorts", paras, "DistributedVirtualPort[]", callback);
+  }
+  public Future<int[]> queryUsedVlanIdInDvsAsync(ManagedObjectReference _this)
+  {
+    return queryUsedVlanIdInDvsAsync(_this, null);
+  }
+  public Future<int[]> queryUsedVlanIdInDvsAsync(ManagedObjectReference _this, AsyncCallback<int[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryUsedVlanIdInDvs", paras, "int[]", callback);
+  }
+  public Future<ManagedObjectReference> reconfigureDvs_TaskAsync(ManagedObjectReference _this, DVSConfigSpec spec)
+  {
+    return reconfigureDvs_TaskAsync(_this, spec, null);
+  }
+  public Future<ManagedObjectReference> reconfigureDvs_TaskAsync(ManagedObjectReference _this, DVSConfigSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "DVSConfigSpec", spec);
+    return wsc.invokeAsync("ReconfigureDvs_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> performDvsProductSpecOperation_TaskAsync(ManagedObjectReference _this, String operation, DistributedVirtualSwitchProductSpec productSpec)
+  {
+    return performDvsProductSpecOperation_TaskAsync(_this, operation, productSpec, null);
+  }
+  public Future<ManagedObjectReference> performDvsProductSpecOperation_TaskAsync(ManagedObjectReference _this, String operation, DistributedVirtualSwitchProductSpec productSpec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("operation", "String", operation);
+    paras[2] = new Argument("productSpec", "DistributedVirtualSwitchProductSpec", productSpec);
+    return wsc.invokeAsync("PerformDvsProductSpecOperation_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> mergeDvs_TaskAsync(ManagedObjectReference _this, ManagedObjectReference dvs)
+  {
+    return mergeDvs_TaskAsync(_this, dvs, null);
+  }
+  public Future<ManagedObjectReference> mergeDvs_TaskAsync(ManagedObjectReference _this, ManagedObjectReference dvs, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("dvs", "ManagedObjectReference", dvs);
+    return wsc.invokeAsync("MergeDvs_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> addDVPortgroup_TaskAsync(ManagedObjectReference _this, DVPortgroupConfigSpec[] spec)
+  {
+    return addDVPortgroup_TaskAsync(_this, spec, null);
+  }
+  public Future<ManagedObjectReference> addDVPortgroup_TaskAsync(ManagedObjectReference _this, DVPortgroupConfigSpec[] spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "DVPortgroupConfigSpec[]", spec);
+    return wsc.invokeAsync("AddDVPortgroup_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> moveDVPort_TaskAsync(ManagedObjectReference _this, String[] portKey, String destinationPortgroupKey)
+  {
+    return moveDVPort_TaskAsync(_this, portKey, destinationPortgroupKey, null);
+  }
+  public Future<ManagedObjectReference> moveDVPort_TaskAsync(ManagedObjectReference _this, String[] portKey, String destinationPortgroupKey, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("portKey", "String[]", portKey);
+    paras[2] = new Argument("destinationPortgroupKey", "String", destinationPortgroupKey);
+    return wsc.invokeAsync("MoveDVPort_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> updateDvsCapabilityAsync(ManagedObjectReference _this, DVSCapability capability)
+  {
+    return updateDvsCapabilityAsync(_this, capability, null);
+  }
+  public Future<Void> updateDvsCapabilityAsync(ManagedObjectReference _this, DVSCapability capability, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("capability", "DVSCapability", capability);
+    return wsc.invokeAsync("UpdateDvsCapability", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> reconfigureDVPort_TaskAsync(ManagedObjectReference _this, DVPortConfigSpec[] port)
+  {
+    return reconfigureDVPort_TaskAsync(_this, port, null);
+  }
+  public Future<ManagedObjectReference> reconfigureDVPort_TaskAsync(ManagedObjectReference _this, DVPortConfigSpec[] port, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("port", "DVPortConfigSpec[]", port);
+    return wsc.invokeAsync("ReconfigureDVPort_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> refreshDVPortStateAsync(ManagedObjectReference _this, String[] portKeys)
+  {
+    return refreshDVPortStateAsync(_this, portKeys, null);
+  }
+  public Future<Void> refreshDVPortStateAsync(ManagedObjectReference _this, String[] portKeys, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("portKeys", "String[]", portKeys);
+    return wsc.invokeAsync("RefreshDVPortState", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> rectifyDvsHost_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] hosts)
+  {
+    return rectifyDvsHost_TaskAsync(_this, hosts, null);
+  }
+  public Future<ManagedObjectReference> rectifyDvsHost_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] hosts, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("hosts", "ManagedObjectReference[]", hosts);
+    return wsc.invokeAsync("RectifyDvsHost_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> updateNetworkResourcePoolAsync(ManagedObjectReference _this, DVSNetworkResourcePoolConfigSpec[] configSpec)
+  {
+    return updateNetworkResourcePoolAsync(_this, configSpec, null);
+  }
+  public Future<Void> updateNetworkResourcePoolAsync(ManagedObjectReference _this, DVSNetworkResourcePoolConfigSpec[] configSpec, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("configSpec", "DVSNetworkResourcePoolConfigSpec[]", configSpec);
+    return wsc.invokeAsync("UpdateNetworkResourcePool", paras, null, callback);
+  }
+  public Future<Void> enableNetworkResourceManagementAsync(ManagedObjectReference _this, boolean enable)
+  {
+    return enableNetworkResourceManagementAsync(_this, enable, null);
+  }
+  public Future<Void> enableNetworkResourceManagementAsync(ManagedObjectReference _this, boolean enable, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("enable", "boolean", enable);
+    return wsc.invokeAsync("EnableNetworkResourceManagement", paras, null, callback);
+  }
+  public Future<VirtualMachineConfigOptionDescriptor[]> queryConfigOptionDescriptorAsync(ManagedObjectReference _this)
+  {
+    return queryConfigOptionDescriptorAsync(_this, null);
+  }
+  public Future<VirtualMachineConfigOptionDescriptor[]> queryConfigOptionDescriptorAsync(ManagedObjectReference _this, AsyncCallback<VirtualMachineConfigOptionDescriptor[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryConfigOptionDescriptor", paras, "VirtualMachineConfigOptionDescriptor[]", callback);
+  }
+  public Future<VirtualMachineConfigOption> queryConfigOptionAsync(ManagedObjectReference _this, String key, ManagedObjectReference host)
+  {
+    return queryConfigOptionAsync(_this, key, host, null);
+  }
+  public Future<VirtualMachineConfigOption> queryConfigOptionAsync(ManagedObjectReference _this, String key, ManagedObjectReference host, AsyncCallback<VirtualMachineConfigOption> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("key", "String", key);
+    paras[2] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("QueryConfigOption", paras, "VirtualMachineConfigOption", callback);
+  }
+  public Future<ConfigTarget> queryConfigTargetAsync(ManagedObjectReference _this, ManagedObjectReference host)
+  {
+    return queryConfigTargetAsync(_this, host, null);
+  }
+  public Future<ConfigTarget> queryConfigTargetAsync(ManagedObjectReference _this, ManagedObjectReference host, AsyncCallback<ConfigTarget> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("QueryConfigTarget", paras, "ConfigTarget", callback);
+  }
+  public Future<HostCapability> queryTargetCapabilitiesAsync(ManagedObjectReference _this, ManagedObjectReference host)
+  {
+    return queryTargetCapabilitiesAsync(_this, host, null);
+  }
+  public Future<HostCapability> queryTargetCapabilitiesAsync(ManagedObjectReference _this, ManagedObjectReference host, AsyncCallback<HostCapability> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("QueryTargetCapabilities", paras, "HostCapability", callback);
+  }
+  public Future<Void> setCustomValueAsync(ManagedObjectReference _this, String key, String value)
+  {
+    return setCustomValueAsync(_this, key, value, null);
+  }
+  public Future<Void> setCustomValueAsync(ManagedObjectReference _this, String key, String value, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("key", "String", key);
+    paras[2] = new Argument("value", "String", value);
+    return wsc.invokeAsync("setCustomValue", paras, null, callback);
+  }
+  public Future<Void> unregisterExtensionAsync(ManagedObjectReference _this, String extensionKey)
+  {
+    return unregisterExtensionAsync(_this, extensionKey, null);
+  }
+  public Future<Void> unregisterExtensionAsync(ManagedObjectReference _this, String extensionKey, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("extensionKey", "String", extensionKey);
+    return wsc.invokeAsync("UnregisterExtension", paras, null, callback);
+  }
+  public Future<Extension> findExtensionAsync(ManagedObjectReference _this, String extensionKey)
+  {
+    return findExtensionAsync(_this, extensionKey, null);
+  }
+  public Future<Extension> findExtensionAsync(ManagedObjectReference _this, String extensionKey, AsyncCallback<Extension> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("extensionKey", "String", extensionKey);
+    return wsc.invokeAsync("FindExtension", paras, "Extension", callback);
+  }
+  public Future<Void> registerExtensionAsync(ManagedObjectReference _this, Extension extension)
+  {
+    return registerExtensionAsync(_this, extension, null);
+  }
+  public Future<Void> registerExtensionAsync(ManagedObjectReference _this, Extension extension, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("extension", "Extension", extension);
+    return wsc.invokeAsync("RegisterExtension", paras, null, callback);
+  }
+  public Future<Void> updateExtensionAsync(ManagedObjectReference _this, Extension extension)
+  {
+    return updateExtensionAsync(_this, extension, null);
+  }
+  public Future<Void> updateExtensionAsync(ManagedObjectReference _this, Extension extension, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("extension", "Extension", extension);
+    return wsc.invokeAsync("UpdateExtension", paras, null, callback);
+  }
+  public Future<String> getPublicKeyAsync(ManagedObjectReference _this)
+  {
+    return getPublicKeyAsync(_this, null);
+  }
+  public Future<String> getPublicKeyAsync(ManagedObjectReference _this, AsyncCallback<String> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("GetPublicKey", paras, "String", callback);
+  }
+  public Future<Void> setPublicKeyAsync(ManagedObjectReference _this, String extensionKey, String publicKey)
+  {
+    return setPublicKeyAsync(_this, extensionKey, publicKey, null);
+  }
+  public Future<Void> setPublicKeyAsync(ManagedObjectReference _this, String extensionKey, String publicKey, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("extensionKey", "String", extensionKey);
+    paras[2] = new Argument("publicKey", "String", publicKey);
+    return wsc.invokeAsync("SetPublicKey", paras, null, callback);
+  }
+  public Future<Void> setExtensionCertificateAsync(ManagedObjectReference _this, String extensionKey, String certificatePem)
+  {
+    return setExtensionCertificateAsync(_this, extensionKey, certificatePem, null);
+  }
+  public Future<Void> setExtensionCertificateAsync(ManagedObjectReference _this, String extensionKey, String certificatePem, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("extensionKey", "String", extensionKey);
+    paras[2] = new Argument("certificatePem", "String", certificatePem);
+    return wsc.invokeAsync("SetExtensionCertificate", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> moveDatastoreFile_TaskAsync(ManagedObjectReference _this, String sourceName, ManagedObjectReference sourceDatacenter, String destinationName, ManagedObjectReference destinationDatacenter, Boolean force)
+  {
+    return moveDatastoreFile_TaskAsync(_this, sourceName, sourceDatacenter, destinationName, destinationDatacenter, force, null);
+  }
+  public Future<ManagedObjectReference> moveDatastoreFile_TaskAsync(ManagedObjectReference _this, String sourceName, ManagedObjectReference sourceDatacenter, String destinationName, ManagedObjectReference destinationDatacenter, Boolean force, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[6];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("sourceName", "String", sourceName);
+    paras[2] = new Argument("sourceDatacenter", "ManagedObjectReference", sourceDatacenter);
+    paras[3] = new Argument("destinationName", "String", destinationName);
+    paras[4] = new Argument("destinationDatacenter", "ManagedObjectReference", destinationDatacenter);
+    paras[5] = new Argument("force", "Boolean", force);
+    return wsc.invokeAsync("MoveDatastoreFile_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> copyDatastoreFile_TaskAsync(ManagedObjectReference _this, String sourceName, ManagedObjectReference sourceDatacenter, String destinationName, ManagedObjectReference destinationDatacenter, Boolean force)
+  {
+    return copyDatastoreFile_TaskAsync(_this, sourceName, sourceDatacenter, destinationName, destinationDatacenter, force, null);
+  }
+  public Future<ManagedObjectReference> copyDatastoreFile_TaskAsync(ManagedObjectReference _this, String sourceName, ManagedObjectReference sourceDatacenter, String destinationName, ManagedObjectReference destinationDatacenter, Boolean force, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[6];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("sourceName", "String", sourceName);
+    paras[2] = new Argument("sourceDatacenter", "ManagedObjectReference", sourceDatacenter);
+    paras[3] = new Argument("destinationName", "String", destinationName);
+    paras[4] = new Argument("destinationDatacenter", "ManagedObjectReference", destinationDatacenter);
+    paras[5] = new Argument("force", "Boolean", force);
+    return wsc.invokeAsync("CopyDatastoreFile_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> deleteDatastoreFile_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter)
+  {
+    return deleteDatastoreFile_TaskAsync(_this, name, datacenter, null);
+  }
+  public Future<ManagedObjectReference> deleteDatastoreFile_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    return wsc.invokeAsync("DeleteDatastoreFile_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> makeDirectoryAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, Boolean createParentDirectories)
+  {
+    return makeDirectoryAsync(_this, name, datacenter, createParentDirectories, null);
+  }
+  public Future<Void> makeDirectoryAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, Boolean createParentDirectories, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    paras[3] = new Argument("createParentDirectories", "Boolean", createParentDirectories);
+    return wsc.invokeAsync("MakeDirectory", paras, null, callback);
+  }
+  public Future<Void> changeOwnerAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, String owner)
+  {
+    return changeOwnerAsync(_this, name, datacenter, owner, null);
+  }
+  public Future<Void> changeOwnerAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, String owner, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    paras[3] = new Argument("owner", "String", owner);
+    return wsc.invokeAsync("ChangeOwner", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> createFolderAsync(ManagedObjectReference _this, String name)
+  {
+    return createFolderAsync(_this, name, null);
+  }
+  public Future<ManagedObjectReference> createFolderAsync(ManagedObjectReference _this, String name, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    return wsc.invokeAsync("CreateFolder", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> moveIntoFolder_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] list)
+  {
+    return moveIntoFolder_TaskAsync(_this, list, null);
+  }
+  public Future<ManagedObjectReference> moveIntoFolder_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] list, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("list", "ManagedObjectReference[]", list);
+    return wsc.invokeAsync("MoveIntoFolder_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> createVM_TaskAsync(ManagedObjectReference _this, VirtualMachineConfigSpec config, ManagedObjectReference pool, ManagedObjectReference host)
+  {
+    return createVM_TaskAsync(_this, config, pool, host, null);
+  }
+  public Future<ManagedObjectReference> createVM_TaskAsync(ManagedObjectReference _this, VirtualMachineConfigSpec config, ManagedObjectReference pool, ManagedObjectReference host, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("config", "VirtualMachineConfigSpec", config);
+    paras[2] = new Argument("pool", "ManagedObjectReference", pool);
+    paras[3] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("CreateVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> registerVM_TaskAsync(ManagedObjectReference _this, String path, String name, boolean asTemplate, ManagedObjectReference pool, ManagedObjectReference host)
+  {
+    return registerVM_TaskAsync(_this, path, name, asTemplate, pool, host, null);
+  }
+  public Future<ManagedObjectReference> registerVM_TaskAsync(ManagedObjectReference _this, String path, String name, boolean asTemplate, ManagedObjectReference pool, ManagedObjectReference host, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[6];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("path", "String", path);
+    paras[2] = new Argument("name", "String", name);
+    paras[3] = new Argument("asTemplate", "boolean", asTemplate);
+    paras[4] = new Argument("pool", "ManagedObjectReference", pool);
+    paras[5] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("RegisterVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> createClusterAsync(ManagedObjectReference _this, String name, ClusterConfigSpec spec)
+  {
+    return createClusterAsync(_this, name, spec, null);
+  }
+  public Future<ManagedObjectReference> createClusterAsync(ManagedObjectReference _this, String name, ClusterConfigSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("spec", "ClusterConfigSpec", spec);
+    return wsc.invokeAsync("CreateCluster", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> createClusterExAsync(ManagedObjectReference _this, String name, ClusterConfigSpecEx spec)
+  {
+    return createClusterExAsync(_this, name, spec, null);
+  }
+  public Future<ManagedObjectReference> createClusterExAsync(ManagedObjectReference _this, String name, ClusterConfigSpecEx spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("spec", "ClusterConfigSpecEx", spec);
+    return wsc.invokeAsync("CreateClusterEx", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> addStandaloneHost_TaskAsync(ManagedObjectReference _this, HostConnectSpec spec, ComputeResourceConfigSpec compResSpec, boolean addConnected, String license)
+  {
+    return addStandaloneHost_TaskAsync(_this, spec, compResSpec, addConnected, license, null);
+  }
+  public Future<ManagedObjectReference> addStandaloneHost_TaskAsync(ManagedObjectReference _this, HostConnectSpec spec, ComputeResourceConfigSpec compResSpec, boolean addConnected, String license, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "HostConnectSpec", spec);
+    paras[2] = new Argument("compResSpec", "ComputeResourceConfigSpec", compResSpec);
+    paras[3] = new Argument("addConnected", "boolean", addConnected);
+    paras[4] = new Argument("license", "String", license);
+    return wsc.invokeAsync("AddStandaloneHost_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> createDatacenterAsync(ManagedObjectReference _this, String name)
+  {
+    return createDatacenterAsync(_this, name, null);
+  }
+  public Future<ManagedObjectReference> createDatacenterAsync(ManagedObjectReference _this, String name, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    return wsc.invokeAsync("CreateDatacenter", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> unregisterAndDestroy_TaskAsync(ManagedObjectReference _this)
+  {
+    return unregisterAndDestroy_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> unregisterAndDestroy_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("UnregisterAndDestroy_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> createDVS_TaskAsync(ManagedObjectReference _this, DVSCreateSpec spec)
+  {
+    return createDVS_TaskAsync(_this, spec, null);
+  }
+  public Future<ManagedObjectReference> createDVS_TaskAsync(ManagedObjectReference _this, DVSCreateSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "DVSCreateSpec", spec);
+    return wsc.invokeAsync("CreateDVS_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> setCollectorPageSizeAsync(ManagedObjectReference _this, int maxCount)
+  {
+    return setCollectorPageSizeAsync(_this, maxCount, null);
+  }
+  public Future<Void> setCollectorPageSizeAsync(ManagedObjectReference _this, int maxCount, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("maxCount", "int", maxCount);
+    return wsc.invokeAsync("SetCollectorPageSize", paras, null, callback);
+  }
+  public Future<Void> rewindCollectorAsync(ManagedObjectReference _this)
+  {
+    return rewindCollectorAsync(_this, null);
+  }
+  public Future<Void> rewindCollectorAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RewindCollector", paras, null, callback);
+  }
+  public Future<Void> resetCollectorAsync(ManagedObjectReference _this)
+  {
+    return resetCollectorAsync(_this, null);
+  }
+  public Future<Void> resetCollectorAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("ResetCollector", paras, null, callback);
+  }
+  public Future<Void> destroyCollectorAsync(ManagedObjectReference _this)
+  {
+    return destroyCollectorAsync(_this, null);
+  }
+  public Future<Void> destroyCollectorAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("DestroyCollector", paras, null, callback);
+  }
+  public Future<HostConnectInfo> queryHostConnectionInfoAsync(ManagedObjectReference _this)
+  {
+    return queryHostConnectionInfoAsync(_this, null);
+  }
+  public Future<HostConnectInfo> queryHostConnectionInfoAsync(ManagedObjectReference _this, AsyncCallback<HostConnectInfo> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryHostConnectionInfo", paras, "HostConnectInfo", callback);
+  }
+  public Future<Void> updateSystemResourcesAsync(ManagedObjectReference _this, HostSystemResourceInfo resourceInfo)
+  {
+    return updateSystemResourcesAsync(_this, resourceInfo, null);
+  }
+  public Future<Void> updateSystemResourcesAsync(ManagedObjectReference _this, HostSystemResourceInfo resourceInfo, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("resourceInfo", "HostSystemResourceInfo", resourceInfo);
+    return wsc.invokeAsync("UpdateSystemResources", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> reconnectHost_TaskAsync(ManagedObjectReference _this, HostConnectSpec cnxSpec)
+  {
+    return reconnectHost_TaskAsync(_this, cnxSpec, null);
+  }
+  public Future<ManagedObjectReference> reconnectHost_TaskAsync(ManagedObjectReference _this, HostConnectSpec cnxSpec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("cnxSpec", "HostConnectSpec", cnxSpec);
+    return wsc.invokeAsync("ReconnectHost_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> disconnectHost_TaskAsync(ManagedObjectReference _this)
+  {
+    return disconnectHost_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> disconnectHost_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("DisconnectHost_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> enterMaintenanceMode_TaskAsync(ManagedObjectReference _this, int timeout, Boolean evacuatePoweredOffVms)
+  {
+    return enterMaintenanceMode_TaskAsync(_this, timeout, evacuatePoweredOffVms, null);
+  }
+  public Future<ManagedObjectReference> enterMaintenanceMode_TaskAsync(ManagedObjectReference _this, int timeout, Boolean evacuatePoweredOffVms, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("timeout", "int", timeout);
+    paras[2] = new Argument("evacuatePoweredOffVms", "Boolean", evacuatePoweredOffVms);
+    return wsc.invokeAsync("EnterMaintenanceMode_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> exitMaintenanceMode_TaskAsync(ManagedObjectReference _this, int timeout)
+  {
+    return exitMaintenanceMode_TaskAsync(_this, timeout, null);
+  }
+  public Future<ManagedObjectReference> exitMaintenanceMode_TaskAsync(ManagedObjectReference _this, int timeout, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("timeout", "int", timeout);
+    return wsc.invokeAsync("ExitMaintenanceMode_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> rebootHost_TaskAsync(ManagedObjectReference _this, boolean force)
+  {
+    return rebootHost_TaskAsync(_this, force, null);
+  }
+  public Future<ManagedObjectReference> rebootHost_TaskAsync(ManagedObjectReference _this, boolean force, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("force", "boolean", force);
+    return wsc.invokeAsync("RebootHost_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> shutdownHost_TaskAsync(ManagedObjectReference _this, boolean force)
+  {
+    return shutdownHost_TaskAsync(_this, force, null);
+  }
+  public Future<ManagedObjectReference> shutdownHost_TaskAsync(ManagedObjectReference _this, boolean force, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("force", "boolean", force);
+    return wsc.invokeAsync("ShutdownHost_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> powerDownHostToStandBy_TaskAsync(ManagedObjectReference _this, int timeoutSec, Boolean evacuatePoweredOffVms)
+  {
+    return powerDownHostToStandBy_TaskAsync(_this, timeoutSec, evacuatePoweredOffVms, null);
+  }
+  public Future<ManagedObjectReference> powerDownHostToStandBy_TaskAsync(ManagedObjectReference _this, int timeoutSec, Boolean evacuatePoweredOffVms, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("timeoutSec", "int", timeoutSec);
+    paras[2] = new Argument("evacuatePoweredOffVms", "Boolean", evacuatePoweredOffVms);
+    return wsc.invokeAsync("PowerDownHostToStandBy_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> powerUpHostFromStandBy_TaskAsync(ManagedObjectReference _this, int timeoutSec)
+  {
+    return powerUpHostFromStandBy_TaskAsync(_this, timeoutSec, null);
+  }
+  public Future<ManagedObjectReference> powerUpHostFromStandBy_TaskAsync(ManagedObjectReference _this, int timeoutSec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("timeoutSec", "int", timeoutSec);
+    return wsc.invokeAsync("PowerUpHostFromStandBy_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Long> queryMemoryOverheadAsync(ManagedObjectReference _this, long memorySize, int videoRamSize, int numVcpus)
+  {
+    return queryMemoryOverheadAsync(_this, memorySize, videoRamSize, numVcpus, null);
+  }
+  public Future<Long> queryMemoryOverheadAsync(ManagedObjectReference _this, long memorySize, int videoRamSize, int numVcpus, AsyncCallback<Long> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("memorySize", "long", memorySize);
+    paras[2] = new Argument("videoRamSize", "int", videoRamSize);
+    paras[3] = new Argument("numVcpus", "int", numVcpus);
+    return wsc.invokeAsync("QueryMemoryOverhead", paras, "long", callback);
+  }
+  public Future<Long> queryMemoryOverheadExAsync(ManagedObjectReference _this, VirtualMachineConfigInfo vmConfigInfo)
+  {
+    return queryMemoryOverheadExAsync(_this, vmConfigInfo, null);
+  }
+  public Future<Long> queryMemoryOverheadExAsync(ManagedObjectReference _this, VirtualMachineConfigInfo vmConfigInfo, AsyncCallback<Long> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vmConfigInfo", "VirtualMachineConfigInfo", vmConfigInfo);
+    return wsc.invokeAsync("QueryMemoryOverheadEx", paras, "long", callback);
+  }
+  public Future<ManagedObjectReference> reconfigureHostForDAS_TaskAsync(ManagedObjectReference _this)
+  {
+    return reconfigureHostForDAS_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> reconfigureHostForDAS_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("ReconfigureHostForDAS_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> updateFlagsAsync(ManagedObjectReference _this, HostFlagInfo flagInfo)
+  {
+    return updateFlagsAsync(_this, flagInfo, null);
+  }
+  public Future<Void> updateFlagsAsync(ManagedObjectReference _this, HostFlagInfo flagInfo, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("flagInfo", "HostFlagInfo", flagInfo);
+    return wsc.invokeAsync("UpdateFlags", paras, null, callback);
+  }
+  public Future<Void> enterLockdownModeAsync(ManagedObjectReference _this)
+  {
+    return enterLockdownModeAsync(_this, null);
+  }
+  public Future<Void> enterLockdownModeAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("EnterLockdownMode", paras, null, callback);
+  }
+  public Future<Void> exitLockdownModeAsync(ManagedObjectReference _this)
+  {
+    return exitLockdownModeAsync(_this, null);
+  }
+  public Future<Void> exitLockdownModeAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("ExitLockdownMode", paras, null, callback);
+  }
+  public Future<HostServiceTicket> acquireCimServicesTicketAsync(ManagedObjectReference _this)
+  {
+    return acquireCimServicesTicketAsync(_this, null);
+  }
+  public Future<HostServiceTicket> acquireCimServicesTicketAsync(ManagedObjectReference _this, AsyncCallback<HostServiceTicket> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("AcquireCimServicesTicket", paras, "HostServiceTicket", callback);
+  }
+  public Future<Void> updateIpmiAsync(ManagedObjectReference _this, HostIpmiInfo ipmiInfo)
+  {
+    return updateIpmiAsync(_this, ipmiInfo, null);
+  }
+  public Future<Void> updateIpmiAsync(ManagedObjectReference _this, HostIpmiInfo ipmiInfo, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("ipmiInfo", "HostIpmiInfo", ipmiInfo);
+    return wsc.invokeAsync("UpdateIpmi", paras, null, callback);
+  }
+  public Future<Long> retrieveHardwareUptimeAsync(ManagedObjectReference _this)
+  {
+    return retrieveHardwareUptimeAsync(_this, null);
+  }
+  public Future<Long> retrieveHardwareUptimeAsync(ManagedObjectReference _this, AsyncCallback<Long> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RetrieveHardwareUptime", paras, "long", callback);
+  }
+  public Future<HttpNfcLeaseManifestEntry[]> httpNfcLeaseGetManifestAsync(ManagedObjectReference _this)
+  {
+    return httpNfcLeaseGetManifestAsync(_this, null);
+  }
+  public Future<HttpNfcLeaseManifestEntry[]> httpNfcLeaseGetManifestAsync(ManagedObjectReference _this, AsyncCallback<HttpNfcLeaseManifestEntry[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("HttpNfcLeaseGetManifest", paras, "HttpNfcLeaseManifestEntry[]", callback);
+  }
+  public Future<Void> httpNfcLeaseCompleteAsync(ManagedObjectReference _this)
+  {
+    return httpNfcLeaseCompleteAsync(_this, null);
+  }
+  public Future<Void> httpNfcLeaseCompleteAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("HttpNfcLeaseComplete", paras, null, callback);
+  }
+  public Future<Void> httpNfcLeaseAbortAsync(ManagedObjectReference _this, LocalizedMethodFault fault)
+  {
+    return httpNfcLeaseAbortAsync(_this, fault, null);
+  }
+  public Future<Void> httpNfcLeaseAbortAsync(ManagedObjectReference _this, LocalizedMethodFault fault, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("fault", "LocalizedMethodFault", fault);
+    return wsc.invokeAsync("HttpNfcLeaseAbort", paras, null, callback);
+  }
+  public Future<Void> httpNfcLeaseProgressAsync(ManagedObjectReference _this, int percent)
+  {
+    return httpNfcLeaseProgressAsync(_this, percent, null);
+  }
+  public Future<Void> httpNfcLeaseProgressAsync(ManagedObjectReference _this, int percent, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("percent", "int", percent);
+    return wsc.invokeAsync("HttpNfcLeaseProgress", paras, null, callback);
+  }
+  public Future<IpPool[]> queryIpPoolsAsync(ManagedObjectReference _this, ManagedObjectReference dc)
+  {
+    return queryIpPoolsAsync(_this, dc, null);
+  }
+  public Future<IpPool[]> queryIpPoolsAsync(ManagedObjectReference _this, ManagedObjectReference dc, AsyncCallback<IpPool[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("dc", "ManagedObjectReference", dc);
+    return wsc.invokeAsync("QueryIpPools", paras, "IpPool[]", callback);
+  }
+  public Future<Integer> createIpPoolAsync(ManagedObjectReference _this, ManagedObjectReference dc, IpPool pool)
+  {
+    return createIpPoolAsync(_this, dc, pool, null);
+  }
+  public Future<Integer> createIpPoolAsync(ManagedObjectReference _this, ManagedObjectReference dc, IpPool pool, AsyncCallback<Integer> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("dc", "ManagedObjectReference", dc);
+    paras[2] = new Argument("pool", "IpPool", pool);
+    return wsc.invokeAsync("CreateIpPool", paras, "int", callback);
+  }
+  public Future<Void> updateIpPoolAsync(ManagedObjectReference _this, ManagedObjectReference dc, IpPool pool)
+  {
+    return updateIpPoolAsync(_this, dc, pool, null);
+  }
+  public Future<Void> updateIpPoolAsync(ManagedObjectReference _this, ManagedObjectReference dc, IpPool pool, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("dc", "ManagedObjectReference", dc);
+    paras[2] = new Argument("pool", "IpPool", pool);
+    return wsc.invokeAsync("UpdateIpPool", paras, null, callback);
+  }
+  public Future<Void> destroyIpPoolAsync(ManagedObjectReference _this, ManagedObjectReference dc, int id, boolean force)
+  {
+    return destroyIpPoolAsync(_this, dc, id, force, null);
+  }
+  public Future<Void> destroyIpPoolAsync(ManagedObjectReference _this, ManagedObjectReference dc, int id, boolean force, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("dc", "ManagedObjectReference", dc);
+    paras[2] = new Argument("id", "int", id);
+    paras[3] = new Argument("force", "boolean", force);
+    return wsc.invokeAsync("DestroyIpPool", paras, null, callback);
+  }
+  public Future<LicenseManagerLicenseInfo> updateAssignedLicenseAsync(ManagedObjectReference _this, String entity, String licenseKey, String entityDisplayName)
+  {
+    return updateAssignedLicenseAsync(_this, entity, licenseKey, entityDisplayName, null);
+  }
+  public Future<LicenseManagerLicenseInfo> updateAssignedLicenseAsync(ManagedObjectReference _this, String entity, String licenseKey, String entityDisplayName, AsyncCallback<LicenseManagerLicenseInfo> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "String", entity);
+    paras[2] = new Argument("licenseKey", "String", licenseKey);
+    paras[3] = new Argument("entityDisplayName", "String", entityDisplayName);
+    return wsc.invokeAsync("UpdateAssignedLicense", paras, "LicenseManagerLicenseInfo", callback);
+  }
+  public Future<Void> removeAssignedLicenseAsync(ManagedObjectReference _this, String entityId)
+  {
+    return removeAssignedLicenseAsync(_this, entityId, null);
+  }
+  public Future<Void> removeAssignedLicenseAsync(ManagedObjectReference _this, String entityId, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entityId", "String", entityId);
+    return wsc.invokeAsync("RemoveAssignedLicense", paras, null, callback);
+  }
+  public Future<LicenseAssignmentManagerLicenseAssignment[]> queryAssignedLicensesAsync(ManagedObjectReference _this, String entityId)
+  {
+    return queryAssignedLicensesAsync(_this, entityId, null);
+  }
+  public Future<LicenseAssignmentManagerLicenseAssignment[]> queryAssignedLicensesAsync(ManagedObjectReference _this, String entityId, AsyncCallback<LicenseAssignmentManagerLicenseAssignment[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entityId", "String", entityId);
+    return wsc.invokeAsync("QueryAssignedLicenses", paras, "LicenseAssignmentManagerLicenseAssignment[]", callback);
+  }
+  public Future<LicenseFeatureInfo[]> querySupportedFeaturesAsync(ManagedObjectReference _this, ManagedObjectReference host)
+  {
+    return querySupportedFeaturesAsync(_this, host, null);
+  }
+  public Future<LicenseFeatureInfo[]> querySupportedFeaturesAsync(ManagedObjectReference _this, ManagedObjectReference host, AsyncCallback<LicenseFeatureInfo[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("QuerySupportedFeatures", paras, "LicenseFeatureInfo[]", callback);
+  }
+  public Future<LicenseAvailabilityInfo[]> queryLicenseSourceAvailabilityAsync(ManagedObjectReference _this, ManagedObjectReference host)
+  {
+    return queryLicenseSourceAvailabilityAsync(_this, host, null);
+  }
+  public Future<LicenseAvailabilityInfo[]> queryLicenseSourceAvailabilityAsync(ManagedObjectReference _this, ManagedObjectReference host, AsyncCallback<LicenseAvailabilityInfo[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("QueryLicenseSourceAvailability", paras, "LicenseAvailabilityInfo[]", callback);
+  }
+  public Future<LicenseUsageInfo> queryLicenseUsageAsync(ManagedObjectReference _this, ManagedObjectReference host)
+  {
+    return queryLicenseUsageAsync(_this, host, null);
+  }
+  public Future<LicenseUsageInfo> queryLicenseUsageAsync(ManagedObjectReference _this, ManagedObjectReference host, AsyncCallback<LicenseUsageInfo> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("QueryLicenseUsage", paras, "LicenseUsageInfo", callback);
+  }
+  public Future<Void> setLicenseEditionAsync(ManagedObjectReference _this, ManagedObjectReference host, String featureKey)
+  {
+    return setLicenseEditionAsync(_this, host, featureKey, null);
+  }
+  public Future<Void> setLicenseEditionAsync(ManagedObjectReference _this, ManagedObjectReference host, String featureKey, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    paras[2] = new Argument("featureKey", "String", featureKey);
+    return wsc.invokeAsync("SetLicenseEdition", paras, null, callback);
+  }
+  public Future<Boolean> checkLicenseFeatureAsync(ManagedObjectReference _this, ManagedObjectReference host, String featureKey)
+  {
+    return checkLicenseFeatureAsync(_this, host, featureKey, null);
+  }
+  public Future<Boolean> checkLicenseFeatureAsync(ManagedObjectReference _this, ManagedObjectReference host, String featureKey, AsyncCallback<Boolean> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    paras[2] = new Argument("featureKey", "String", featureKey);
+    return wsc.invokeAsync("CheckLicenseFeature", paras, "boolean", callback);
+  }
+  public Future<Boolean> enableFeatureAsync(ManagedObjectReference _this, ManagedObjectReference host, String featureKey)
+  {
+    return enableFeatureAsync(_this, host, featureKey, null);
+  }
+  public Future<Boolean> enableFeatureAsync(ManagedObjectReference _this, ManagedObjectReference host, String featureKey, AsyncCallback<Boolean> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    paras[2] = new Argument("featureKey", "String", featureKey);
+    return wsc.invokeAsync("EnableFeature", paras, "boolean", callback);
+  }
+  public Future<Boolean> disableFeatureAsync(ManagedObjectReference _this, ManagedObjectReference host, String featureKey)
+  {
+    return disableFeatureAsync(_this, host, featureKey, null);
+  }
+  public Future<Boolean> disableFeatureAsync(ManagedObjectReference _this, ManagedObjectReference host, String featureKey, AsyncCallback<Boolean> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    paras[2] = new Argument("featureKey", "String", featureKey);
+    return wsc.invokeAsync("DisableFeature", paras, "boolean", callback);
+  }
+  public Future<Void> configureLicenseSourceAsync(ManagedObjectReference _this, ManagedObjectReference host, LicenseSource licenseSource)
+  {
+    return configureLicenseSourceAsync(_this, host, licenseSource, null);
+  }
+  public Future<Void> configureLicenseSourceAsync(ManagedObjectReference _this, ManagedObjectReference host, LicenseSource licenseSource, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    paras[2] = new Argument("licenseSource", "LicenseSource", licenseSource);
+    return wsc.invokeAsync("ConfigureLicenseSource", paras, null, callback);
+  }
+  public Future<LicenseManagerLicenseInfo> updateLicenseAsync(ManagedObjectReference _this, String licenseKey, KeyValue[] labels)
+  {
+    return updateLicenseAsync(_this, licenseKey, labels, null);
+  }
+  public Future<LicenseManagerLicenseInfo> updateLicenseAsync(ManagedObjectReference _this, String licenseKey, KeyValue[] labels, AsyncCallback<LicenseManagerLicenseInfo> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("licenseKey", "String", licenseKey);
+    paras[2] = new Argument("labels", "KeyValue[]", labels);
+    return wsc.invokeAsync("UpdateLicense", paras, "LicenseManagerLicenseInfo", callback);
+  }
+  public Future<LicenseManagerLicenseInfo> addLicenseAsync(ManagedObjectReference _this, String licenseKey, KeyValue[] labels)
+  {
+    return addLicenseAsync(_this, licenseKey, labels, null);
+  }
+  public Future<LicenseManagerLicenseInfo> addLicenseAsync(ManagedObjectReference _this, String licenseKey, KeyValue[] labels, AsyncCallback<LicenseManagerLicenseInfo> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("licenseKey", "String", licenseKey);
+    paras[2] = new Argument("labels", "KeyValue[]", labels);
+    return wsc.invokeAsync("AddLicense", paras, "LicenseManagerLicenseInfo", callback);
+  }
+  public Future<Void> removeLicenseAsync(ManagedObjectReference _this, String licenseKey)
+  {
+    return removeLicenseAsync(_this, licenseKey, null);
+  }
+  public Future<Void> removeLicenseAsync(ManagedObjectReference _this, String licenseKey, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("licenseKey", "String", licenseKey);
+    return wsc.invokeAsync("RemoveLicense", paras, null, callback);
+  }
+  public Future<LicenseManagerLicenseInfo> decodeLicenseAsync(ManagedObjectReference _this, String licenseKey)
+  {
+    return decodeLicenseAsync(_this, licenseKey, null);
+  }
+  public Future<LicenseManagerLicenseInfo> decodeLicenseAsync(ManagedObjectReference _this, String licenseKey, AsyncCallback<LicenseManagerLicenseInfo> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("licenseKey", "String", licenseKey);
+    return wsc.invokeAsync("DecodeLicense", paras, "LicenseManagerLicenseInfo", callback);
+  }
+  public Future<Void> updateLicenseLabelAsync(ManagedObjectReference _this, String licenseKey, String labelKey, String labelValue)
+  {
+    return updateLicenseLabelAsync(_this, licenseKey, labelKey, labelValue, null);
+  }
+  public Future<Void> updateLicenseLabelAsync(ManagedObjectReference _this, String licenseKey, String labelKey, String labelValue, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("licenseKey", "String", licenseKey);
+    paras[2] = new Argument("labelKey", "String", labelKey);
+    paras[3] = new Argument("labelValue", "String", labelValue);
+    return wsc.invokeAsync("UpdateLicenseLabel", paras, null, callback);
+  }
+  public Future<Void> removeLicenseLabelAsync(ManagedObjectReference _this, String licenseKey, String labelKey)
+  {
+    return removeLicenseLabelAsync(_this, licenseKey, labelKey, null);
+  }
+  public Future<Void> removeLicenseLabelAsync(ManagedObjectReference _this, String licenseKey, String labelKey, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("licenseKey", "String", licenseKey);
+    paras[2] = new Argument("labelKey", "String", labelKey);
+    return wsc.invokeAsync("RemoveLicenseLabel", paras, null, callback);
+  }
+  public Future<Void> reloadAsync(ManagedObjectReference _this)
+  {
+    return reloadAsync(_this, null);
+  }
+  public Future<Void> reloadAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("Reload", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> rename_TaskAsync(ManagedObjectReference _this, String newName)
+  {
+    return rename_TaskAsync(_this, newName, null);
+  }
+  public Future<ManagedObjectReference> rename_TaskAsync(ManagedObjectReference _this, String newName, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("newName", "String", newName);
+    return wsc.invokeAsync("Rename_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> destroy_TaskAsync(ManagedObjectReference _this)
+  {
+    return destroy_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> destroy_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("Destroy_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> destroyNetworkAsync(ManagedObjectReference _this)
+  {
+    return destroyNetworkAsync(_this, null);
+  }
+  public Future<Void> destroyNetworkAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("DestroyNetwork", paras, null, callback);
+  }
+  public Future<OvfValidateHostResult> validateHostAsync(ManagedObjectReference _this, String ovfDescriptor, ManagedObjectReference host, OvfValidateHostParams vhp)
+  {
+    return validateHostAsync(_this, ovfDescriptor, host, vhp, null);
+  }
+  public Future<OvfValidateHostResult> validateHostAsync(ManagedObjectReference _this, String ovfDescriptor, ManagedObjectReference host, OvfValidateHostParams vhp, AsyncCallback<OvfValidateHostResult> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("ovfDescriptor", "String", ovfDescriptor);
+    paras[2] = new Argument("host", "ManagedObjectReference", host);
+    paras[3] = new Argument("vhp", "OvfValidateHostParams", vhp);
+    return wsc.invokeAsync("ValidateHost", paras, "OvfValidateHostResult", callback);
+  }
+  public Future<OvfParseDescriptorResult> parseDescriptorAsync(ManagedObjectReference _this, String ovfDescriptor, OvfParseDescriptorParams pdp)
+  {
+    return parseDescriptorAsync(_this, ovfDescriptor, pdp, null);
+  }
+  public Future<OvfParseDescriptorResult> parseDescriptorAsync(ManagedObjectReference _this, String ovfDescriptor, OvfParseDescriptorParams pdp, AsyncCallback<OvfParseDescriptorResult> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("ovfDescriptor", "String", ovfDescriptor);
+    paras[2] = new Argument("pdp", "OvfParseDescriptorParams", pdp);
+    return wsc.invokeAsync("ParseDescriptor", paras, "OvfParseDescriptorResult", callback);
+  }
+  public Future<OvfCreateImportSpecResult> createImportSpecAsync(ManagedObjectReference _this, String ovfDescriptor, ManagedObjectReference resourcePool, ManagedObjectReference datastore, OvfCreateImportSpecParams cisp)
+  {
+    return createImportSpecAsync(_this, ovfDescriptor, resourcePool, datastore, cisp, null);
+  }
+  public Future<OvfCreateImportSpecResult> createImportSpecAsync(ManagedObjectReference _this, String ovfDescriptor, ManagedObjectReference resourcePool, ManagedObjectReference datastore, OvfCreateImportSpecParams cisp, AsyncCallback<OvfCreateImportSpecResult> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("ovfDescriptor", "String", ovfDescriptor);
+    paras[2] = new Argument("resourcePool", "ManagedObjectReference", resourcePool);
+    paras[3] = new Argument("datastore", "ManagedObjectReference", datastore);
+    paras[4] = new Argument("cisp", "OvfCreateImportSpecParams", cisp);
+    return wsc.invokeAsync("CreateImportSpec", paras, "OvfCreateImportSpecResult", callback);
+  }
+  public Future<OvfCreateDescriptorResult> createDescriptorAsync(ManagedObjectReference _this, ManagedObjectReference obj, OvfCreateDescriptorParams cdp)
+  {
+    return createDescriptorAsync(_this, obj, cdp, null);
+  }
+  public Future<OvfCreateDescriptorResult> createDescriptorAsync(ManagedObjectReference _this, ManagedObjectReference obj, OvfCreateDescriptorParams cdp, AsyncCallback<OvfCreateDescriptorResult> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("obj", "ManagedObjectReference", obj);
+    paras[2] = new Argument("cdp", "OvfCreateDescriptorParams", cdp);
+    return wsc.invokeAsync("CreateDescriptor", paras, "OvfCreateDescriptorResult", callback);
+  }
+  public Future<PerfProviderSummary> queryPerfProviderSummaryAsync(ManagedObjectReference _this, ManagedObjectReference entity)
+  {
+    return queryPerfProviderSummaryAsync(_this, entity, null);
+  }
+  public Future<PerfProviderSummary> queryPerfProviderSummaryAsync(ManagedObjectReference _this, ManagedObjectReference entity, AsyncCallback<PerfProviderSummary> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    return wsc.invokeAsync("QueryPerfProviderSummary", paras, "PerfProviderSummary", callback);
+  }
+  public Future<PerfMetricId[]> queryAvailablePerfMetricAsync(ManagedObjectReference _this, ManagedObjectReference entity, Calendar beginTime, Calendar endTime, int intervalId)
+  {
+    return queryAvailablePerfMetricAsync(_this, entity, beginTime, endTime, intervalId, null);
+  }
+  public Future<PerfMetricId[]> queryAvailablePerfMetricAsync(ManagedObjectReference _this, ManagedObjectReference entity, Calendar beginTime, Calendar endTime, int intervalId, AsyncCallback<PerfMetricId[]> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    paras[2] = new Argument("beginTime", "Calendar", beginTime);
+    paras[3] = new Argument("endTime", "Calendar", endTime);
+    paras[4] = new Argument("intervalId", "int", intervalId);
+    return wsc.invokeAsync("QueryAvailablePerfMetric", paras, "PerfMetricId[]", callback);
+  }
+  public Future<PerfCounterInfo[]> queryPerfCounterAsync(ManagedObjectReference _this, int[] counterId)
+  {
+    return queryPerfCounterAsync(_this, counterId, null);
+  }
+  public Future<PerfCounterInfo[]> queryPerfCounterAsync(ManagedObjectReference _this, int[] counterId, AsyncCallback<PerfCounterInfo[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("counterId", "int[]", counterId);
+    return wsc.invokeAsync("QueryPerfCounter", paras, "PerfCounterInfo[]", callback);
+  }
+  public Future<PerfCounterInfo[]> queryPerfCounterByLevelAsync(ManagedObjectReference _this, int level)
+  {
+    return queryPerfCounterByLevelAsync(_this, level, null);
+  }
+  public Future<PerfCounterInfo[]> queryPerfCounterByLevelAsync(ManagedObjectReference _this, int level, AsyncCallback<PerfCounterInfo[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("level", "int", level);
+    return wsc.invokeAsync("QueryPerfCounterByLevel", paras, "PerfCounterInfo[]", callback);
+  }
+  public Future<PerfEntityMetricBase[]> queryPerfAsync(ManagedObjectReference _this, PerfQuerySpec[] querySpec)
+  {
+    return queryPerfAsync(_this, querySpec, null);
+  }
+  public Future<PerfEntityMetricBase[]> queryPerfAsync(ManagedObjectReference _this, PerfQuerySpec[] querySpec, AsyncCallback<PerfEntityMetricBase[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("querySpec", "PerfQuerySpec[]", querySpec);
+    return wsc.invokeAsync("QueryPerf", paras, "PerfEntityMetricBase[]", callback);
+  }
+  public Future<PerfCompositeMetric> queryPerfCompositeAsync(ManagedObjectReference _this, PerfQuerySpec querySpec)
+  {
+    return queryPerfCompositeAsync(_this, querySpec, null);
+  }
+  public Future<PerfCompositeMetric> queryPerfCompositeAsync(ManagedObjectReference _this, PerfQuerySpec querySpec, AsyncCallback<PerfCompositeMetric> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("querySpec", "PerfQuerySpec", querySpec);
+    return wsc.invokeAsync("QueryPerfComposite", paras, "PerfCompositeMetric", callback);
+  }
+  public Future<Void> createPerfIntervalAsync(ManagedObjectReference _this, PerfInterval intervalId)
+  {
+    return createPerfIntervalAsync(_this, intervalId, null);
+  }
+  public Future<Void> createPerfIntervalAsync(ManagedObjectReference _this, PerfInterval intervalId, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("intervalId", "PerfInterval", intervalId);
+    return wsc.invokeAsync("CreatePerfInterval", paras, null, callback);
+  }
+  public Future<Void> removePerfIntervalAsync(ManagedObjectReference _this, int samplePeriod)
+  {
+    return removePerfIntervalAsync(_this, samplePeriod, null);
+  }
+  public Future<Void> removePerfIntervalAsync(ManagedObjectReference _this, int samplePeriod, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("samplePeriod", "int", samplePeriod);
+    return wsc.invokeAsync("RemovePerfInterval", paras, null, callback);
+  }
+  public Future<Void> updatePerfIntervalAsync(ManagedObjectReference _this, PerfInterval interval)
+  {
+    return updatePerfIntervalAsync(_this, interval, null);
+  }
+  public Future<Void> updatePerfIntervalAsync(ManagedObjectReference _this, PerfInterval interval, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("interval", "PerfInterval", interval);
+    return wsc.invokeAsync("UpdatePerfInterval", paras, null, callback);
+  }
+  public Future<DatabaseSizeEstimate> estimateDatabaseSizeAsync(ManagedObjectReference _this, DatabaseSizeParam dbSizeParam)
+  {
+    return estimateDatabaseSizeAsync(_this, dbSizeParam, null);
+  }
+  public Future<DatabaseSizeEstimate> estimateDatabaseSizeAsync(ManagedObjectReference _this, DatabaseSizeParam dbSizeParam, AsyncCallback<DatabaseSizeEstimate> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("dbSizeParam", "DatabaseSizeParam", dbSizeParam);
+    return wsc.invokeAsync("EstimateDatabaseSize", paras, "DatabaseSizeEstimate", callback);
+  }
+  public Future<Void> updateConfigAsync(ManagedObjectReference _this, String name, ResourceConfigSpec config)
+  {
+    return updateConfigAsync(_this, name, config, null);
+  }
+  public Future<Void> updateConfigAsync(ManagedObjectReference _this, String name, ResourceConfigSpec config, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("config", "ResourceConfigSpec", config);
+    return wsc.invokeAsync("UpdateConfig", paras, null, callback);
+  }
+  public Future<Void> moveIntoResourcePoolAsync(ManagedObjectReference _this, ManagedObjectReference[] list)
+  {
+    return moveIntoResourcePoolAsync(_this, list, null);
+  }
+  public Future<Void> moveIntoResourcePoolAsync(ManagedObjectReference _this, ManagedObjectReference[] list, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("list", "ManagedObjectReference[]", list);
+    return wsc.invokeAsync("MoveIntoResourcePool", paras, null, callback);
+  }
+  public Future<Void> updateChildResourceConfigurationAsync(ManagedObjectReference _this, ResourceConfigSpec[] spec)
+  {
+    return updateChildResourceConfigurationAsync(_this, spec, null);
+  }
+  public Future<Void> updateChildResourceConfigurationAsync(ManagedObjectReference _this, ResourceConfigSpec[] spec, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "ResourceConfigSpec[]", spec);
+    return wsc.invokeAsync("UpdateChildResourceConfiguration", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> createResourcePoolAsync(ManagedObjectReference _this, String name, ResourceConfigSpec spec)
+  {
+    return createResourcePoolAsync(_this, name, spec, null);
+  }
+  public Future<ManagedObjectReference> createResourcePoolAsync(ManagedObjectReference _this, String name, ResourceConfigSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("spec", "ResourceConfigSpec", spec);
+    return wsc.invokeAsync("CreateResourcePool", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> destroyChildrenAsync(ManagedObjectReference _this)
+  {
+    return destroyChildrenAsync(_this, null);
+  }
+  public Future<Void> destroyChildrenAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("DestroyChildren", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> createVAppAsync(ManagedObjectReference _this, String name, ResourceConfigSpec resSpec, VAppConfigSpec configSpec, ManagedObjectReference vmFolder)
+  {
+    return createVAppAsync(_this, name, resSpec, configSpec, vmFolder, null);
+  }
+  public Future<ManagedObjectReference> createVAppAsync(ManagedObjectReference _this, String name, ResourceConfigSpec resSpec, VAppConfigSpec configSpec, ManagedObjectReference vmFolder, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("resSpec", "ResourceConfigSpec", resSpec);
+    paras[3] = new Argument("configSpec", "VAppConfigSpec", configSpec);
+    paras[4] = new Argument("vmFolder", "ManagedObjectReference", vmFolder);
+    return wsc.invokeAsync("CreateVApp", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> createChildVM_TaskAsync(ManagedObjectReference _this, VirtualMachineConfigSpec config, ManagedObjectReference host)
+  {
+    return createChildVM_TaskAsync(_this, config, host, null);
+  }
+  public Future<ManagedObjectReference> createChildVM_TaskAsync(ManagedObjectReference _this, VirtualMachineConfigSpec config, ManagedObjectReference host, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("config", "VirtualMachineConfigSpec", config);
+    paras[2] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("CreateChildVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> registerChildVM_TaskAsync(ManagedObjectReference _this, String path, String name, ManagedObjectReference host)
+  {
+    return registerChildVM_TaskAsync(_this, path, name, host, null);
+  }
+  public Future<ManagedObjectReference> registerChildVM_TaskAsync(ManagedObjectReference _this, String path, String name, ManagedObjectReference host, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("path", "String", path);
+    paras[2] = new Argument("name", "String", name);
+    paras[3] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("RegisterChildVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> importVAppAsync(ManagedObjectReference _this, ImportSpec spec, ManagedObjectReference folder, ManagedObjectReference host)
+  {
+    return importVAppAsync(_this, spec, folder, host, null);
+  }
+  public Future<ManagedObjectReference> importVAppAsync(ManagedObjectReference _this, ImportSpec spec, ManagedObjectReference folder, ManagedObjectReference host, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "ImportSpec", spec);
+    paras[2] = new Argument("folder", "ManagedObjectReference", folder);
+    paras[3] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("ImportVApp", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ResourceConfigOption> queryResourceConfigOptionAsync(ManagedObjectReference _this)
+  {
+    return queryResourceConfigOptionAsync(_this, null);
+  }
+  public Future<ResourceConfigOption> queryResourceConfigOptionAsync(ManagedObjectReference _this, AsyncCallback<ResourceConfigOption> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryResourceConfigOption", paras, "ResourceConfigOption", callback);
+  }
+  public Future<Void> refreshRuntimeAsync(ManagedObjectReference _this)
+  {
+    return refreshRuntimeAsync(_this, null);
+  }
+  public Future<Void> refreshRuntimeAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RefreshRuntime", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> findByUuidAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String uuid, boolean vmSearch, Boolean instanceUuid)
+  {
+    return findByUuidAsync(_this, datacenter, uuid, vmSearch, instanceUuid, null);
+  }
+  public Future<ManagedObjectReference> findByUuidAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String uuid, boolean vmSearch, Boolean instanceUuid, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    paras[2] = new Argument("uuid", "String", uuid);
+    paras[3] = new Argument("vmSearch", "boolean", vmSearch);
+    paras[4] = new Argument("instanceUuid", "Boolean", instanceUuid);
+    return wsc.invokeAsync("FindByUuid", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> findByDatastorePathAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String path)
+  {
+    return findByDatastorePathAsync(_this, datacenter, path, null);
+  }
+  public Future<ManagedObjectReference> findByDatastorePathAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String path, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    paras[2] = new Argument("path", "String", path);
+    return wsc.invokeAsync("FindByDatastorePath", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> findByDnsNameAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String dnsName, boolean vmSearch)
+  {
+    return findByDnsNameAsync(_this, datacenter, dnsName, vmSearch, null);
+  }
+  public Future<ManagedObjectReference> findByDnsNameAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String dnsName, boolean vmSearch, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    paras[2] = new Argument("dnsName", "String", dnsName);
+    paras[3] = new Argument("vmSearch", "boolean", vmSearch);
+    return wsc.invokeAsync("FindByDnsName", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> findByIpAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String ip, boolean vmSearch)
+  {
+    return findByIpAsync(_this, datacenter, ip, vmSearch, null);
+  }
+  public Future<ManagedObjectReference> findByIpAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String ip, boolean vmSearch, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    paras[2] = new Argument("ip", "String", ip);
+    paras[3] = new Argument("vmSearch", "boolean", vmSearch);
+    return wsc.invokeAsync("FindByIp", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> findByInventoryPathAsync(ManagedObjectReference _this, String inventoryPath)
+  {
+    return findByInventoryPathAsync(_this, inventoryPath, null);
+  }
+  public Future<ManagedObjectReference> findByInventoryPathAsync(ManagedObjectReference _this, String inventoryPath, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("inventoryPath", "String", inventoryPath);
+    return wsc.invokeAsync("FindByInventoryPath", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> findChildAsync(ManagedObjectReference _this, ManagedObjectReference entity, String name)
+  {
+    return findChildAsync(_this, entity, name, null);
+  }
+  public Future<ManagedObjectReference> findChildAsync(ManagedObjectReference _this, ManagedObjectReference entity, String name, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    paras[2] = new Argument("name", "String", name);
+    return wsc.invokeAsync("FindChild", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference[]> findAllByUuidAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String uuid, boolean vmSearch, Boolean instanceUuid)
+  {
+    return findAllByUuidAsync(_this, datacenter, uuid, vmSearch, instanceUuid, null);
+  }
+  public Future<ManagedObjectReference[]> findAllByUuidAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String uuid, boolean vmSearch, Boolean instanceUuid, AsyncCallback<ManagedObjectReference[]> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    paras[2] = new Argument("uuid", "String", uuid);
+    paras[3] = new Argument("vmSearch", "boolean", vmSearch);
+    paras[4] = new Argument("instanceUuid", "Boolean", instanceUuid);
+    return wsc.invokeAsync("FindAllByUuid", paras, "ManagedObjectReference[]", callback);
+  }
+  public Future<ManagedObjectReference[]> findAllByDnsNameAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String dnsName, boolean vmSearch)
+  {
+    return findAllByDnsNameAsync(_this, datacenter, dnsName, vmSearch, null);
+  }
+  public Future<ManagedObjectReference[]> findAllByDnsNameAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String dnsName, boolean vmSearch, AsyncCallback<ManagedObjectReference[]> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    paras[2] = new Argument("dnsName", "String", dnsName);
+    paras[3] = new Argument("vmSearch", "boolean", vmSearch);
+    return wsc.invokeAsync("FindAllByDnsName", paras, "ManagedObjectReference[]", callback);
+  }
+  public Future<ManagedObjectReference[]> findAllByIpAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String ip, boolean vmSearch)
+  {
+    return findAllByIpAsync(_this, datacenter, ip, vmSearch, null);
+  }
+  public Future<ManagedObjectReference[]> findAllByIpAsync(ManagedObjectReference _this, ManagedObjectReference datacenter, String ip, boolean vmSearch, AsyncCallback<ManagedObjectReference[]> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    paras[2] = new Argument("ip", "String", ip);
+    paras[3] = new Argument("vmSearch", "boolean", vmSearch);
+    return wsc.invokeAsync("FindAllByIp", paras, "ManagedObjectReference[]", callback);
+  }
+  public Future<Calendar> currentTimeAsync(ManagedObjectReference _this)
+  {
+    return currentTimeAsync(_this, null);
+  }
+  public Future<Calendar> currentTimeAsync(ManagedObjectReference _this, AsyncCallback<Calendar> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("CurrentTime", paras, "Calendar", callback);
+  }
+  public Future<ServiceContent> retrieveServiceContentAsync(ManagedObjectReference _this)
+  {
+    return retrieveServiceContentAsync(_this, null);
+  }
+  public Future<ServiceContent> retrieveServiceContentAsync(ManagedObjectReference _this, AsyncCallback<ServiceContent> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RetrieveServiceContent", paras, "ServiceContent", callback);
+  }
+  public Future<Event[]> validateMigrationAsync(ManagedObjectReference _this, ManagedObjectReference[] vm, VirtualMachinePowerState state, String[] testType, ManagedObjectReference pool, ManagedObjectReference host)
+  {
+    return validateMigrationAsync(_this, vm, state, testType, pool, host, null);
+  }
+  public Future<Event[]> validateMigrationAsync(ManagedObjectReference _this, ManagedObjectReference[] vm, VirtualMachinePowerState state, String[] testType, ManagedObjectReference pool, ManagedObjectReference host, AsyncCallback<Event[]> callback)
+  {
+    Argument[] paras = new Argument[6];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vm", "ManagedObjectReference[]", vm);
+    paras[2] = new Argument("state", "VirtualMachinePowerState", state);
+    paras[3] = new Argument("testType", "String[]", testType);
+    paras[4] = new Argument("pool", "ManagedObjectReference", pool);
+    paras[5] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("ValidateMigration", paras, "Event[]", callback);
+  }
+  public Future<HostVMotionCompatibility[]> queryVMotionCompatibilityAsync(ManagedObjectReference _this, ManagedObjectReference vm, ManagedObjectReference[] host, String[] compatibility)
+  {
+    return queryVMotionCompatibilityAsync(_this, vm, host, compatibility, null);
+  }
+  public Future<HostVMotionCompatibility[]> queryVMotionCompatibilityAsync(ManagedObjectReference _this, ManagedObjectReference vm, ManagedObjectReference[] host, String[] compatibility, AsyncCallback<HostVMotionCompatibility[]> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vm", "ManagedObjectReference", vm);
+    paras[2] = new Argument("host", "ManagedObjectReference[]", host);
+    paras[3] = new Argument("compatibility", "String[]", compatibility);
+    return wsc.invokeAsync("QueryVMotionCompatibility", paras, "HostVMotionCompatibility[]", callback);
+  }
+  public Future<ProductComponentInfo[]> retrieveProductComponentsAsync(ManagedObjectReference _this)
+  {
+    return retrieveProductComponentsAsync(_this, null);
+  }
+  public Future<ProductComponentInfo[]> retrieveProductComponentsAsync(ManagedObjectReference _this, AsyncCallback<ProductComponentInfo[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RetrieveProductComponents", paras, "ProductComponentInfo[]", callback);
+  }
+  public Future<Void> updateServiceMessageAsync(ManagedObjectReference _this, String message)
+  {
+    return updateServiceMessageAsync(_this, message, null);
+  }
+  public Future<Void> updateServiceMessageAsync(ManagedObjectReference _this, String message, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("message", "String", message);
+    return wsc.invokeAsync("UpdateServiceMessage", paras, null, callback);
+  }
+  public Future<UserSession> loginAsync(ManagedObjectReference _this, String userName, String password, String locale)
+  {
+    return loginAsync(_this, userName, password, locale, null);
+  }
+  public Future<UserSession> loginAsync(ManagedObjectReference _this, String userName, String password, String locale, AsyncCallback<UserSession> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("userName", "String", userName);
+    paras[2] = new Argument("password", "String", password);
+    paras[3] = new Argument("locale", "String", locale);
+    return wsc.invokeAsync("Login", paras, "UserSession", callback);
+  }
+  public Future<UserSession> loginBySSPIAsync(ManagedObjectReference _this, String base64Token, String locale)
+  {
+    return loginBySSPIAsync(_this, base64Token, locale, null);
+  }
+  public Future<UserSession> loginBySSPIAsync(ManagedObjectReference _this, String base64Token, String locale, AsyncCallback<UserSession> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("base64Token", "String", base64Token);
+    paras[2] = new Argument("locale", "String", locale);
+    return wsc.invokeAsync("LoginBySSPI", paras, "UserSession", callback);
+  }
+  public Future<Void> logoutAsync(ManagedObjectReference _this)
+  {
+    return logoutAsync(_this, null);
+  }
+  public Future<Void> logoutAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("Logout", paras, null, callback);
+  }
+  public Future<SessionManagerLocalTicket> acquireLocalTicketAsync(ManagedObjectReference _this, String userName)
+  {
+    return acquireLocalTicketAsync(_this, userName, null);
+  }
+  public Future<SessionManagerLocalTicket> acquireLocalTicketAsync(ManagedObjectReference _this, String userName, AsyncCallback<SessionManagerLocalTicket> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("userName", "String", userName);
+    return wsc.invokeAsync("AcquireLocalTicket", paras, "SessionManagerLocalTicket", callback);
+  }
+  public Future<Void> terminateSessionAsync(ManagedObjectReference _this, String[] sessionId)
+  {
+    return terminateSessionAsync(_this, sessionId, null);
+  }
+  public Future<Void> terminateSessionAsync(ManagedObjectReference _this, String[] sessionId, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("sessionId", "String[]", sessionId);
+    return wsc.invokeAsync("TerminateSession", paras, null, callback);
+  }
+  public Future<Void> setLocaleAsync(ManagedObjectReference _this, String locale)
+  {
+    return setLocaleAsync(_this, locale, null);
+  }
+  public Future<Void> setLocaleAsync(ManagedObjectReference _this, String locale, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("locale", "String", locale);
+    return wsc.invokeAsync("SetLocale", paras, null, callback);
+  }
+  public Future<UserSession> loginExtensionBySubjectNameAsync(ManagedObjectReference _this, String extensionKey, String locale)
+  {
+    return loginExtensionBySubjectNameAsync(_this, extensionKey, locale, null);
+  }
+  public Future<UserSession> loginExtensionBySubjectNameAsync(ManagedObjectReference _this, String extensionKey, String locale, AsyncCallback<UserSession> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("extensionKey", "String", extensionKey);
+    paras[2] = new Argument("locale", "String", locale);
+    return wsc.invokeAsync("LoginExtensionBySubjectName", paras, "UserSession", callback);
+  }
+  public Future<UserSession> loginExtensionByCertificateAsync(ManagedObjectReference _this, String extensionKey, String locale)
+  {
+    return loginExtensionByCertificateAsync(_this, extensionKey, locale, null);
+  }
+  public Future<UserSession> loginExtensionByCertificateAsync(ManagedObjectReference _this, String extensionKey, String locale, AsyncCallback<UserSession> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("extensionKey", "String", extensionKey);
+    paras[2] = new Argument("locale", "String", locale);
+    return wsc.invokeAsync("LoginExtensionByCertificate", paras, "UserSession", callback);
+  }
+  public Future<UserSession> impersonateUserAsync(ManagedObjectReference _this, String userName, String locale)
+  {
+    return impersonateUserAsync(_this, userName, locale, null);
+  }
+  public Future<UserSession> impersonateUserAsync(ManagedObjectReference _this, String userName, String locale, AsyncCallback<UserSession> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("userName", "String", userName);
+    paras[2] = new Argument("locale", "String", locale);
+    return wsc.invokeAsync("ImpersonateUser", paras, "UserSession", callback);
+  }
+  public Future<Boolean> sessionIsActiveAsync(ManagedObjectReference _this, String sessionID, String userName)
+  {
+    return sessionIsActiveAsync(_this, sessionID, userName, null);
+  }
+  public Future<Boolean> sessionIsActiveAsync(ManagedObjectReference _this, String sessionID, String userName, AsyncCallback<Boolean> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("sessionID", "String", sessionID);
+    paras[2] = new Argument("userName", "String", userName);
+    return wsc.invokeAsync("SessionIsActive", paras, "boolean", callback);
+  }
+  public Future<String> acquireCloneTicketAsync(ManagedObjectReference _this)
+  {
+    return acquireCloneTicketAsync(_this, null);
+  }
+  public Future<String> acquireCloneTicketAsync(ManagedObjectReference _this, AsyncCallback<String> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("AcquireCloneTicket", paras, "String", callback);
+  }
+  public Future<UserSession> cloneSessionAsync(ManagedObjectReference _this, String cloneTicket)
+  {
+    return cloneSessionAsync(_this, cloneTicket, null);
+  }
+  public Future<UserSession> cloneSessionAsync(ManagedObjectReference _this, String cloneTicket, AsyncCallback<UserSession> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("cloneTicket", "String", cloneTicket);
+    return wsc.invokeAsync("CloneSession", paras, "UserSession", callback);
+  }
+  public Future<ManagedObjectReference> configureDatastoreIORM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference datastore, StorageIORMConfigSpec spec)
+  {
+    return configureDatastoreIORM_TaskAsync(_this, datastore, spec, null);
+  }
+  public Future<ManagedObjectReference> configureDatastoreIORM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference datastore, StorageIORMConfigSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datastore", "ManagedObjectReference", datastore);
+    paras[2] = new Argument("spec", "StorageIORMConfigSpec", spec);
+    return wsc.invokeAsync("ConfigureDatastoreIORM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<StorageIORMConfigOption> queryIORMConfigOptionAsync(ManagedObjectReference _this, ManagedObjectReference host)
+  {
+    return queryIORMConfigOptionAsync(_this, host, null);
+  }
+  public Future<StorageIORMConfigOption> queryIORMConfigOptionAsync(ManagedObjectReference _this, ManagedObjectReference host, AsyncCallback<StorageIORMConfigOption> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("QueryIORMConfigOption", paras, "StorageIORMConfigOption", callback);
+  }
+  public Future<Void> cancelTaskAsync(ManagedObjectReference _this)
+  {
+    return cancelTaskAsync(_this, null);
+  }
+  public Future<Void> cancelTaskAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("CancelTask", paras, null, callback);
+  }
+  public Future<Void> updateProgressAsync(ManagedObjectReference _this, int percentDone)
+  {
+    return updateProgressAsync(_this, percentDone, null);
+  }
+  public Future<Void> updateProgressAsync(ManagedObjectReference _this, int percentDone, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("percentDone", "int", percentDone);
+    return wsc.invokeAsync("UpdateProgress", paras, null, callback);
+  }
+  public Future<Void> setTaskStateAsync(ManagedObjectReference _this, TaskInfoState state, Object result, LocalizedMethodFault fault)
+  {
+    return setTaskStateAsync(_this, state, result, fault, null);
+  }
+  public Future<Void> setTaskStateAsync(ManagedObjectReference _this, TaskInfoState state, Object result, LocalizedMethodFault fault, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("state", "TaskInfoState", state);
+    paras[2] = new Argument("result", "Object", result);
+    paras[3] = new Argument("fault", "LocalizedMethodFault", fault);
+    return wsc.invokeAsync("SetTaskState", paras, null, callback);
+  }
+  public Future<Void> setTaskDescriptionAsync(ManagedObjectReference _this, LocalizableMessage description)
+  {
+    return setTaskDescriptionAsync(_this, description, null);
+  }
+  public Future<Void> setTaskDescriptionAsync(ManagedObjectReference _this, LocalizableMessage description, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("description", "LocalizableMessage", description);
+    return wsc.invokeAsync("SetTaskDescription", paras, null, callback);
+  }
+  public Future<TaskInfo[]> readNextTasksAsync(ManagedObjectReference _this, int maxCount)
+  {
+    return readNextTasksAsync(_this, maxCount, null);
+  }
+  public Future<TaskInfo[]> readNextTasksAsync(ManagedObjectReference _this, int maxCount, AsyncCallback<TaskInfo[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("maxCount", "int", maxCount);
+    return wsc.invokeAsync("ReadNextTasks", paras, "TaskInfo[]", callback);
+  }
+  public Future<TaskInfo[]> readPreviousTasksAsync(ManagedObjectReference _this, int maxCount)
+  {
+    return readPreviousTasksAsync(_this, maxCount, null);
+  }
+  public Future<TaskInfo[]> readPreviousTasksAsync(ManagedObjectReference _this, int maxCount, AsyncCallback<TaskInfo[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("maxCount", "int", maxCount);
+    return wsc.invokeAsync("ReadPreviousTasks", paras, "TaskInfo[]", callback);
+  }
+  public Future<ManagedObjectReference> createCollectorForTasksAsync(ManagedObjectReference _this, TaskFilterSpec filter)
+  {
+    return createCollectorForTasksAsync(_this, filter, null);
+  }
+  public Future<ManagedObjectReference> createCollectorForTasksAsync(ManagedObjectReference _this, TaskFilterSpec filter, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("filter", "TaskFilterSpec", filter);
+    return wsc.invokeAsync("CreateCollectorForTasks", paras, "ManagedObjectReference", callback);
+  }
+  public Future<TaskInfo> createTaskAsync(ManagedObjectReference _this, ManagedObjectReference obj, String taskTypeId, String initiatedBy, boolean cancelable, String parentTaskKey)
+  {
+    return createTaskAsync(_this, obj, taskTypeId, initiatedBy, cancelable, parentTaskKey, null);
+  }
+  public Future<TaskInfo> createTaskAsync(ManagedObjectReference _this, ManagedObjectReference obj, String taskTypeId, String initiatedBy, boolean cancelable, String parentTaskKey, AsyncCallback<TaskInfo> callback)
+  {
+    Argument[] paras = new Argument[6];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("obj", "ManagedObjectReference", obj);
+    paras[2] = new Argument("taskTypeId", "String", taskTypeId);
+    paras[3] = new Argument("initiatedBy", "String", initiatedBy);
+    paras[4] = new Argument("cancelable", "boolean", cancelable);
+    paras[5] = new Argument("parentTaskKey", "String", parentTaskKey);
+    return wsc.invokeAsync("CreateTask", paras, "TaskInfo", callback);
+  }
+  public Future<UserSearchResult[]> retrieveUserGroupsAsync(ManagedObjectReference _this, String domain, String searchStr, String belongsToGroup, String belongsToUser, boolean exactMatch, boolean findUsers, boolean findGroups)
+  {
+    return retrieveUserGroupsAsync(_this, domain, searchStr, belongsToGroup, belongsToUser, exactMatch, findUsers, findGroups, null);
+  }
+  public Future<UserSearchResult[]> retrieveUserGroupsAsync(ManagedObjectReference _this, String domain, String searchStr, String belongsToGroup, String belongsToUser, boolean exactMatch, boolean findUsers, boolean findGroups, AsyncCallback<UserSearchResult[]> callback)
+  {
+    Argument[] paras = new Argument[8];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("domain", "String", domain);
+    paras[2] = new Argument("searchStr", "String", searchStr);
+    paras[3] = new Argument("belongsToGroup", "String", belongsToGroup);
+    paras[4] = new Argument("belongsToUser", "String", belongsToUser);
+    paras[5] = new Argument("exactMatch", "boolean", exactMatch);
+    paras[6] = new Argument("findUsers", "boolean", findUsers);
+    paras[7] = new Argument("findGroups", "boolean", findGroups);
+    return wsc.invokeAsync("RetrieveUserGroups", paras, "UserSearchResult[]", callback);
+  }
+  public Future<Void> updateVAppConfigAsync(ManagedObjectReference _this, VAppConfigSpec spec)
+  {
+    return updateVAppConfigAsync(_this, spec, null);
+  }
+  public Future<Void> updateVAppConfigAsync(ManagedObjectReference _this, VAppConfigSpec spec, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "VAppConfigSpec", spec);
+    return wsc.invokeAsync("UpdateVAppConfig", paras, null, callback);
+  }
+  public Future<Void> updateLinkedChildrenAsync(ManagedObjectReference _this, VirtualAppLinkInfo[] addChangeSet, ManagedObjectReference[] removeSet)
+  {
+    return updateLinkedChildrenAsync(_this, addChangeSet, removeSet, null);
+  }
+  public Future<Void> updateLinkedChildrenAsync(ManagedObjectReference _this, VirtualAppLinkInfo[] addChangeSet, ManagedObjectReference[] removeSet, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("addChangeSet", "VirtualAppLinkInfo[]", addChangeSet);
+    paras[2] = new Argument("removeSet", "ManagedObjectReference[]", removeSet);
+    return wsc.invokeAsync("UpdateLinkedChildren", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> cloneVApp_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference target, VAppCloneSpec spec)
+  {
+    return cloneVApp_TaskAsync(_this, name, target, spec, null);
+  }
+  public Future<ManagedObjectReference> cloneVApp_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference target, VAppCloneSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("target", "ManagedObjectReference", target);
+    paras[3] = new Argument("spec", "VAppCloneSpec", spec);
+    return wsc.invokeAsync("CloneVApp_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> exportVAppAsync(ManagedObjectReference _this)
+  {
+    return exportVAppAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> exportVAppAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("ExportVApp", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> powerOnVApp_TaskAsync(ManagedObjectReference _this)
+  {
+    return powerOnVApp_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> powerOnVApp_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("PowerOnVApp_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> powerOffVApp_TaskAsync(ManagedObjectReference _this, boolean force)
+  {
+    return powerOffVApp_TaskAsync(_this, force, null);
+  }
+  public Future<ManagedObjectReference> powerOffVApp_TaskAsync(ManagedObjectReference _this, boolean force, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("force", "boolean", force);
+    return wsc.invokeAsync("PowerOffVApp_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> suspendVApp_TaskAsync(ManagedObjectReference _this)
+  {
+    return suspendVApp_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> suspendVApp_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("SuspendVApp_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> unregisterVApp_TaskAsync(ManagedObjectReference _this)
+  {
+    return unregisterVApp_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> unregisterVApp_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("unregisterVApp_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> createVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, VirtualDiskSpec spec)
+  {
+    return createVirtualDisk_TaskAsync(_this, name, datacenter, spec, null);
+  }
+  public Future<ManagedObjectReference> createVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, VirtualDiskSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    paras[3] = new Argument("spec", "VirtualDiskSpec", spec);
+    return wsc.invokeAsync("CreateVirtualDisk_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> deleteVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter)
+  {
+    return deleteVirtualDisk_TaskAsync(_this, name, datacenter, null);
+  }
+  public Future<ManagedObjectReference> deleteVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    return wsc.invokeAsync("DeleteVirtualDisk_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> moveVirtualDisk_TaskAsync(ManagedObjectReference _this, String sourceName, ManagedObjectReference sourceDatacenter, String destName, ManagedObjectReference destDatacenter, Boolean force)
+  {
+    return moveVirtualDisk_TaskAsync(_this, sourceName, sourceDatacenter, destName, destDatacenter, force, null);
+  }
+  public Future<ManagedObjectReference> moveVirtualDisk_TaskAsync(ManagedObjectReference _this, String sourceName, ManagedObjectReference sourceDatacenter, String destName, ManagedObjectReference destDatacenter, Boolean force, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[6];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("sourceName", "String", sourceName);
+    paras[2] = new Argument("sourceDatacenter", "ManagedObjectReference", sourceDatacenter);
+    paras[3] = new Argument("destName", "String", destName);
+    paras[4] = new Argument("destDatacenter", "ManagedObjectReference", destDatacenter);
+    paras[5] = new Argument("force", "Boolean", force);
+    return wsc.invokeAsync("MoveVirtualDisk_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> copyVirtualDisk_TaskAsync(ManagedObjectReference _this, String sourceName, ManagedObjectReference sourceDatacenter, String destName, ManagedObjectReference destDatacenter, VirtualDiskSpec destSpec, Boolean force)
+  {
+    return copyVirtualDisk_TaskAsync(_this, sourceName, sourceDatacenter, destName, destDatacenter, destSpec, force, null);
+  }
+  public Future<ManagedObjectReference> copyVirtualDisk_TaskAsync(ManagedObjectReference _this, String sourceName, ManagedObjectReference sourceDatacenter, String destName, ManagedObjectReference destDatacenter, VirtualDiskSpec destSpec, Boolean force, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[7];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("sourceName", "String", sourceName);
+    paras[2] = new Argument("sourceDatacenter", "ManagedObjectReference", sourceDatacenter);
+    paras[3] = new Argument("destName", "String", destName);
+    paras[4] = new Argument("destDatacenter", "ManagedObjectReference", destDatacenter);
+    paras[5] = new Argument("destSpec", "VirtualDiskSpec", destSpec);
+    paras[6] = new Argument("force", "Boolean", force);
+    return wsc.invokeAsync("CopyVirtualDisk_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> extendVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, long newCapacityKb, Boolean eagerZero)
+  {
+    return extendVirtualDisk_TaskAsync(_this, name, datacenter, newCapacityKb, eagerZero, null);
+  }
+  public Future<ManagedObjectReference> extendVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, long newCapacityKb, Boolean eagerZero, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    paras[3] = new Argument("newCapacityKb", "long", newCapacityKb);
+    paras[4] = new Argument("eagerZero", "Boolean", eagerZero);
+    return wsc.invokeAsync("ExtendVirtualDisk_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Integer> queryVirtualDiskFragmentationAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter)
+  {
+    return queryVirtualDiskFragmentationAsync(_this, name, datacenter, null);
+  }
+  public Future<Integer> queryVirtualDiskFragmentationAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, AsyncCallback<Integer> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    return wsc.invokeAsync("QueryVirtualDiskFragmentation", paras, "int", callback);
+  }
+  public Future<ManagedObjectReference> defragmentVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter)
+  {
+    return defragmentVirtualDisk_TaskAsync(_this, name, datacenter, null);
+  }
+  public Future<ManagedObjectReference> defragmentVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    return wsc.invokeAsync("DefragmentVirtualDisk_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> shrinkVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, Boolean copy)
+  {
+    return shrinkVirtualDisk_TaskAsync(_this, name, datacenter, copy, null);
+  }
+  public Future<ManagedObjectReference> shrinkVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, Boolean copy, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    paras[3] = new Argument("copy", "Boolean", copy);
+    return wsc.invokeAsync("ShrinkVirtualDisk_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> inflateVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter)
+  {
+    return inflateVirtualDisk_TaskAsync(_this, name, datacenter, null);
+  }
+  public Future<ManagedObjectReference> inflateVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    return wsc.invokeAsync("InflateVirtualDisk_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> eagerZeroVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter)
+  {
+    return eagerZeroVirtualDisk_TaskAsync(_this, name, datacenter, null);
+  }
+  public Future<ManagedObjectReference> eagerZeroVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    return wsc.invokeAsync("EagerZeroVirtualDisk_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> zeroFillVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter)
+  {
+    return zeroFillVirtualDisk_TaskAsync(_this, name, datacenter, null);
+  }
+  public Future<ManagedObjectReference> zeroFillVirtualDisk_TaskAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    return wsc.invokeAsync("ZeroFillVirtualDisk_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> setVirtualDiskUuidAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, String uuid)
+  {
+    return setVirtualDiskUuidAsync(_this, name, datacenter, uuid, null);
+  }
+  public Future<Void> setVirtualDiskUuidAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, String uuid, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    paras[3] = new Argument("uuid", "String", uuid);
+    return wsc.invokeAsync("SetVirtualDiskUuid", paras, null, callback);
+  }
+  public Future<String> queryVirtualDiskUuidAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter)
+  {
+    return queryVirtualDiskUuidAsync(_this, name, datacenter, null);
+  }
+  public Future<String> queryVirtualDiskUuidAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, AsyncCallback<String> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    return wsc.invokeAsync("QueryVirtualDiskUuid", paras, "String", callback);
+  }
+  public Future<HostDiskDimensionsChs> queryVirtualDiskGeometryAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter)
+  {
+    return queryVirtualDiskGeometryAsync(_this, name, datacenter, null);
+  }
+  public Future<HostDiskDimensionsChs> queryVirtualDiskGeometryAsync(ManagedObjectReference _this, String name, ManagedObjectReference datacenter, AsyncCallback<HostDiskDimensionsChs> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("datacenter", "ManagedObjectReference", datacenter);
+    return wsc.invokeAsync("QueryVirtualDiskGeometry", paras, "HostDiskDimensionsChs", callback);
+  }
+  public Future<Void> refreshStorageInfoAsync(ManagedObjectReference _this)
+  {
+    return refreshStorageInfoAsync(_this, null);
+  }
+  public Future<Void> refreshStorageInfoAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RefreshStorageInfo", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> createSnapshot_TaskAsync(ManagedObjectReference _this, String name, String description, boolean memory, boolean quiesce)
+  {
+    return createSnapshot_TaskAsync(_this, name, description, memory, quiesce, null);
+  }
+  public Future<ManagedObjectReference> createSnapshot_TaskAsync(ManagedObjectReference _this, String name, String description, boolean memory, boolean quiesce, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("description", "String", description);
+    paras[3] = new Argument("memory", "boolean", memory);
+    paras[4] = new Argument("quiesce", "boolean", quiesce);
+    return wsc.invokeAsync("CreateSnapshot_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> revertToCurrentSnapshot_TaskAsync(ManagedObjectReference _this, ManagedObjectReference host, Boolean suppressPowerOn)
+  {
+    return revertToCurrentSnapshot_TaskAsync(_this, host, suppressPowerOn, null);
+  }
+  public Future<ManagedObjectReference> revertToCurrentSnapshot_TaskAsync(ManagedObjectReference _this, ManagedObjectReference host, Boolean suppressPowerOn, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    paras[2] = new Argument("suppressPowerOn", "Boolean", suppressPowerOn);
+    return wsc.invokeAsync("RevertToCurrentSnapshot_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> removeAllSnapshots_TaskAsync(ManagedObjectReference _this)
+  {
+    return removeAllSnapshots_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> removeAllSnapshots_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RemoveAllSnapshots_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> reconfigVM_TaskAsync(ManagedObjectReference _this, VirtualMachineConfigSpec spec)
+  {
+    return reconfigVM_TaskAsync(_this, spec, null);
+  }
+  public Future<ManagedObjectReference> reconfigVM_TaskAsync(ManagedObjectReference _this, VirtualMachineConfigSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "VirtualMachineConfigSpec", spec);
+    return wsc.invokeAsync("ReconfigVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> upgradeVM_TaskAsync(ManagedObjectReference _this, String version)
+  {
+    return upgradeVM_TaskAsync(_this, version, null);
+  }
+  public Future<ManagedObjectReference> upgradeVM_TaskAsync(ManagedObjectReference _this, String version, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("version", "String", version);
+    return wsc.invokeAsync("UpgradeVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<String> extractOvfEnvironmentAsync(ManagedObjectReference _this)
+  {
+    return extractOvfEnvironmentAsync(_this, null);
+  }
+  public Future<String> extractOvfEnvironmentAsync(ManagedObjectReference _this, AsyncCallback<String> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("ExtractOvfEnvironment", paras, "String", callback);
+  }
+  public Future<ManagedObjectReference> powerOnVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference host)
+  {
+    return powerOnVM_TaskAsync(_this, host, null);
+  }
+  public Future<ManagedObjectReference> powerOnVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference host, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("PowerOnVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> powerOffVM_TaskAsync(ManagedObjectReference _this)
+  {
+    return powerOffVM_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> powerOffVM_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("PowerOffVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> suspendVM_TaskAsync(ManagedObjectReference _this)
+  {
+    return suspendVM_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> suspendVM_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("SuspendVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> resetVM_TaskAsync(ManagedObjectReference _this)
+  {
+    return resetVM_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> resetVM_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("ResetVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> shutdownGuestAsync(ManagedObjectReference _this)
+  {
+    return shutdownGuestAsync(_this, null);
+  }
+  public Future<Void> shutdownGuestAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("ShutdownGuest", paras, null, callback);
+  }
+  public Future<Void> rebootGuestAsync(ManagedObjectReference _this)
+  {
+    return rebootGuestAsync(_this, null);
+  }
+  public Future<Void> rebootGuestAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RebootGuest", paras, null, callback);
+  }
+  public Future<Void> standbyGuestAsync(ManagedObjectReference _this)
+  {
+    return standbyGuestAsync(_this, null);
+  }
+  public Future<Void> standbyGuestAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("StandbyGuest", paras, null, callback);
+  }
+  public Future<Void> answerVMAsync(ManagedObjectReference _this, String questionId, String answerChoice)
+  {
+    return answerVMAsync(_this, questionId, answerChoice, null);
+  }
+  public Future<Void> answerVMAsync(ManagedObjectReference _this, String questionId, String answerChoice, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("questionId", "String", questionId);
+    paras[2] = new Argument("answerChoice", "String", answerChoice);
+    return wsc.invokeAsync("AnswerVM", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> customizeVM_TaskAsync(ManagedObjectReference _this, CustomizationSpec spec)
+  {
+    return customizeVM_TaskAsync(_this, spec, null);
+  }
+  public Future<ManagedObjectReference> customizeVM_TaskAsync(ManagedObjectReference _this, CustomizationSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "CustomizationSpec", spec);
+    return wsc.invokeAsync("CustomizeVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> checkCustomizationSpecAsync(ManagedObjectReference _this, CustomizationSpec spec)
+  {
+    return checkCustomizationSpecAsync(_this, spec, null);
+  }
+  public Future<Void> checkCustomizationSpecAsync(ManagedObjectReference _this, CustomizationSpec spec, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "CustomizationSpec", spec);
+    return wsc.invokeAsync("CheckCustomizationSpec", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> migrateVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference pool, ManagedObjectReference host, VirtualMachineMovePriority priority, VirtualMachinePowerState state)
+  {
+    return migrateVM_TaskAsync(_this, pool, host, priority, state, null);
+  }
+  public Future<ManagedObjectReference> migrateVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference pool, ManagedObjectReference host, VirtualMachineMovePriority priority, VirtualMachinePowerState state, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("pool", "ManagedObjectReference", pool);
+    paras[2] = new Argument("host", "ManagedObjectReference", host);
+    paras[3] = new Argument("priority", "VirtualMachineMovePriority", priority);
+    paras[4] = new Argument("state", "VirtualMachinePowerState", state);
+    return wsc.invokeAsync("MigrateVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> relocateVM_TaskAsync(ManagedObjectReference _this, VirtualMachineRelocateSpec spec, VirtualMachineMovePriority priority)
+  {
+    return relocateVM_TaskAsync(_this, spec, priority, null);
+  }
+  public Future<ManagedObjectReference> relocateVM_TaskAsync(ManagedObjectReference _this, VirtualMachineRelocateSpec spec, VirtualMachineMovePriority priority, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "VirtualMachineRelocateSpec", spec);
+    paras[2] = new Argument("priority", "VirtualMachineMovePriority", priority);
+    return wsc.invokeAsync("RelocateVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> cloneVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference folder, String name, VirtualMachineCloneSpec spec)
+  {
+    return cloneVM_TaskAsync(_this, folder, name, spec, null);
+  }
+  public Future<ManagedObjectReference> cloneVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference folder, String name, VirtualMachineCloneSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("folder", "ManagedObjectReference", folder);
+    paras[2] = new Argument("name", "String", name);
+    paras[3] = new Argument("spec", "VirtualMachineCloneSpec", spec);
+    return wsc.invokeAsync("CloneVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> exportVmAsync(ManagedObjectReference _this)
+  {
+    return exportVmAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> exportVmAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("ExportVm", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> markAsTemplateAsync(ManagedObjectReference _this)
+  {
+    return markAsTemplateAsync(_this, null);
+  }
+  public Future<Void> markAsTemplateAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("MarkAsTemplate", paras, null, callback);
+  }
+  public Future<Void> markAsVirtualMachineAsync(ManagedObjectReference _this, ManagedObjectReference pool, ManagedObjectReference host)
+  {
+    return markAsVirtualMachineAsync(_this, pool, host, null);
+  }
+  public Future<Void> markAsVirtualMachineAsync(ManagedObjectReference _this, ManagedObjectReference pool, ManagedObjectReference host, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("pool", "ManagedObjectReference", pool);
+    paras[2] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("MarkAsVirtualMachine", paras, null, callback);
+  }
+  public Future<Void> unregisterVMAsync(ManagedObjectReference _this)
+  {
+    return unregisterVMAsync(_this, null);
+  }
+  public Future<Void> unregisterVMAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("UnregisterVM", paras, null, callback);
+  }
+  public Future<Void> resetGuestInformationAsync(ManagedObjectReference _this)
+  {
+    return resetGuestInformationAsync(_this, null);
+  }
+  public Future<Void> resetGuestInformationAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("ResetGuestInformation", paras, null, callback);
+  }
+  public Future<Void> mountToolsInstallerAsync(ManagedObjectReference _this)
+  {
+    return mountToolsInstallerAsync(_this, null);
+  }
+  public Future<Void> mountToolsInstallerAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("MountToolsInstaller", paras, null, callback);
+  }
+  public Future<Void> unmountToolsInstallerAsync(ManagedObjectReference _this)
+  {
+    return unmountToolsInstallerAsync(_this, null);
+  }
+  public Future<Void> unmountToolsInstallerAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("UnmountToolsInstaller", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> upgradeTools_TaskAsync(ManagedObjectReference _this, String installerOptions)
+  {
+    return upgradeTools_TaskAsync(_this, installerOptions, null);
+  }
+  public Future<ManagedObjectReference> upgradeTools_TaskAsync(ManagedObjectReference _this, String installerOptions, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("installerOptions", "String", installerOptions);
+    return wsc.invokeAsync("UpgradeTools_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<VirtualMachineMksTicket> acquireMksTicketAsync(ManagedObjectReference _this)
+  {
+    return acquireMksTicketAsync(_this, null);
+  }
+  public Future<VirtualMachineMksTicket> acquireMksTicketAsync(ManagedObjectReference _this, AsyncCallback<VirtualMachineMksTicket> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("AcquireMksTicket", paras, "VirtualMachineMksTicket", callback);
+  }
+  public Future<VirtualMachineTicket> acquireTicketAsync(ManagedObjectReference _this, String ticketType)
+  {
+    return acquireTicketAsync(_this, ticketType, null);
+  }
+  public Future<VirtualMachineTicket> acquireTicketAsync(ManagedObjectReference _this, String ticketType, AsyncCallback<VirtualMachineTicket> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("ticketType", "String", ticketType);
+    return wsc.invokeAsync("AcquireTicket", paras, "VirtualMachineTicket", callback);
+  }
+  public Future<Void> setScreenResolutionAsync(ManagedObjectReference _this, int width, int height)
+  {
+    return setScreenResolutionAsync(_this, width, height, null);
+  }
+  public Future<Void> setScreenResolutionAsync(ManagedObjectReference _this, int width, int height, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("width", "int", width);
+    paras[2] = new Argument("height", "int", height);
+    return wsc.invokeAsync("SetScreenResolution", paras, null, callback);
+  }
+  public Future<Void> defragmentAllDisksAsync(ManagedObjectReference _this)
+  {
+    return defragmentAllDisksAsync(_this, null);
+  }
+  public Future<Void> defragmentAllDisksAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("DefragmentAllDisks", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> createSecondaryVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference host)
+  {
+    return createSecondaryVM_TaskAsync(_this, host, null);
+  }
+  public Future<ManagedObjectReference> createSecondaryVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference host, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("CreateSecondaryVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> turnOffFaultToleranceForVM_TaskAsync(ManagedObjectReference _this)
+  {
+    return turnOffFaultToleranceForVM_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> turnOffFaultToleranceForVM_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("TurnOffFaultToleranceForVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> makePrimaryVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm)
+  {
+    return makePrimaryVM_TaskAsync(_this, vm, null);
+  }
+  public Future<ManagedObjectReference> makePrimaryVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vm", "ManagedObjectReference", vm);
+    return wsc.invokeAsync("MakePrimaryVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> terminateFaultTolerantVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm)
+  {
+    return terminateFaultTolerantVM_TaskAsync(_this, vm, null);
+  }
+  public Future<ManagedObjectReference> terminateFaultTolerantVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vm", "ManagedObjectReference", vm);
+    return wsc.invokeAsync("TerminateFaultTolerantVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> disableSecondaryVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm)
+  {
+    return disableSecondaryVM_TaskAsync(_this, vm, null);
+  }
+  public Future<ManagedObjectReference> disableSecondaryVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vm", "ManagedObjectReference", vm);
+    return wsc.invokeAsync("DisableSecondaryVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> enableSecondaryVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm, ManagedObjectReference host)
+  {
+    return enableSecondaryVM_TaskAsync(_this, vm, host, null);
+  }
+  public Future<ManagedObjectReference> enableSecondaryVM_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm, ManagedObjectReference host, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vm", "ManagedObjectReference", vm);
+    paras[2] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("EnableSecondaryVM_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> setDisplayTopologyAsync(ManagedObjectReference _this, VirtualMachineDisplayTopology[] displays)
+  {
+    return setDisplayTopologyAsync(_this, displays, null);
+  }
+  public Future<Void> setDisplayTopologyAsync(ManagedObjectReference _this, VirtualMachineDisplayTopology[] displays, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("displays", "VirtualMachineDisplayTopology[]", displays);
+    return wsc.invokeAsync("SetDisplayTopology", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> startRecording_TaskAsync(ManagedObjectReference _this, String name, String description)
+  {
+    return startRecording_TaskAsync(_this, name, description, null);
+  }
+  public Future<ManagedObjectReference> startRecording_TaskAsync(ManagedObjectReference _this, String name, String description, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("description", "String", description);
+    return wsc.invokeAsync("StartRecording_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> stopRecording_TaskAsync(ManagedObjectReference _this)
+  {
+    return stopRecording_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> stopRecording_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("StopRecording_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> startReplaying_TaskAsync(ManagedObjectReference _this, ManagedObjectReference replaySnapshot)
+  {
+    return startReplaying_TaskAsync(_this, replaySnapshot, null);
+  }
+  public Future<ManagedObjectReference> startReplaying_TaskAsync(ManagedObjectReference _this, ManagedObjectReference replaySnapshot, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("replaySnapshot", "ManagedObjectReference", replaySnapshot);
+    return wsc.invokeAsync("StartReplaying_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> stopReplaying_TaskAsync(ManagedObjectReference _this)
+  {
+    return stopReplaying_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> stopReplaying_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("StopReplaying_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> promoteDisks_TaskAsync(ManagedObjectReference _this, boolean unlink, VirtualDisk[] disks)
+  {
+    return promoteDisks_TaskAsync(_this, unlink, disks, null);
+  }
+  public Future<ManagedObjectReference> promoteDisks_TaskAsync(ManagedObjectReference _this, boolean unlink, VirtualDisk[] disks, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("unlink", "boolean", unlink);
+    paras[2] = new Argument("disks", "VirtualDisk[]", disks);
+    return wsc.invokeAsync("PromoteDisks_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> createScreenshot_TaskAsync(ManagedObjectReference _this)
+  {
+    return createScreenshot_TaskAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> createScreenshot_TaskAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("CreateScreenshot_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<DiskChangeInfo> queryChangedDiskAreasAsync(ManagedObjectReference _this, ManagedObjectReference snapshot, int deviceKey, long startOffset, String changeId)
+  {
+    return queryChangedDiskAreasAsync(_this, snapshot, deviceKey, startOffset, changeId, null);
+  }
+  public Future<DiskChangeInfo> queryChangedDiskAreasAsync(ManagedObjectReference _this, ManagedObjectReference snapshot, int deviceKey, long startOffset, String changeId, AsyncCallback<DiskChangeInfo> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("snapshot", "ManagedObjectReference", snapshot);
+    paras[2] = new Argument("deviceKey", "int", deviceKey);
+    paras[3] = new Argument("startOffset", "long", startOffset);
+    paras[4] = new Argument("changeId", "String", changeId);
+    return wsc.invokeAsync("QueryChangedDiskAreas", paras, "DiskChangeInfo", callback);
+  }
+  public Future<String[]> queryUnownedFilesAsync(ManagedObjectReference _this)
+  {
+    return queryUnownedFilesAsync(_this, null);
+  }
+  public Future<String[]> queryUnownedFilesAsync(ManagedObjectReference _this, AsyncCallback<String[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryUnownedFiles", paras, "String[]", callback);
+  }
+  public Future<ManagedObjectReference> reloadVirtualMachineFromPath_TaskAsync(ManagedObjectReference _this, String configurationPath)
+  {
+    return reloadVirtualMachineFromPath_TaskAsync(_this, configurationPath, null);
+  }
+  public Future<ManagedObjectReference> reloadVirtualMachineFromPath_TaskAsync(ManagedObjectReference _this, String configurationPath, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("configurationPath", "String", configurationPath);
+    return wsc.invokeAsync("reloadVirtualMachineFromPath_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<LocalizedMethodFault[]> queryFaultToleranceCompatibilityAsync(ManagedObjectReference _this)
+  {
+    return queryFaultToleranceCompatibilityAsync(_this, null);
+  }
+  public Future<LocalizedMethodFault[]> queryFaultToleranceCompatibilityAsync(ManagedObjectReference _this, AsyncCallback<LocalizedMethodFault[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryFaultToleranceCompatibility", paras, "LocalizedMethodFault[]", callback);
+  }
+  public Future<Void> removeAlarmAsync(ManagedObjectReference _this)
+  {
+    return removeAlarmAsync(_this, null);
+  }
+  public Future<Void> removeAlarmAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RemoveAlarm", paras, null, callback);
+  }
+  public Future<Void> reconfigureAlarmAsync(ManagedObjectReference _this, AlarmSpec spec)
+  {
+    return reconfigureAlarmAsync(_this, spec, null);
+  }
+  public Future<Void> reconfigureAlarmAsync(ManagedObjectReference _this, AlarmSpec spec, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "AlarmSpec", spec);
+    return wsc.invokeAsync("ReconfigureAlarm", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> createAlarmAsync(ManagedObjectReference _this, ManagedObjectReference entity, AlarmSpec spec)
+  {
+    return createAlarmAsync(_this, entity, spec, null);
+  }
+  public Future<ManagedObjectReference> createAlarmAsync(ManagedObjectReference _this, ManagedObjectReference entity, AlarmSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    paras[2] = new Argument("spec", "AlarmSpec", spec);
+    return wsc.invokeAsync("CreateAlarm", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference[]> getAlarmAsync(ManagedObjectReference _this, ManagedObjectReference entity)
+  {
+    return getAlarmAsync(_this, entity, null);
+  }
+  public Future<ManagedObjectReference[]> getAlarmAsync(ManagedObjectReference _this, ManagedObjectReference entity, AsyncCallback<ManagedObjectReference[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    return wsc.invokeAsync("GetAlarm", paras, "ManagedObjectReference[]", callback);
+  }
+  public Future<Boolean> areAlarmActionsEnabledAsync(ManagedObjectReference _this, ManagedObjectReference entity)
+  {
+    return areAlarmActionsEnabledAsync(_this, entity, null);
+  }
+  public Future<Boolean> areAlarmActionsEnabledAsync(ManagedObjectReference _this, ManagedObjectReference entity, AsyncCallback<Boolean> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    return wsc.invokeAsync("AreAlarmActionsEnabled", paras, "boolean", callback);
+  }
+  public Future<Void> enableAlarmActionsAsync(ManagedObjectReference _this, ManagedObjectReference entity, boolean enabled)
+  {
+    return enableAlarmActionsAsync(_this, entity, enabled, null);
+  }
+  public Future<Void> enableAlarmActionsAsync(ManagedObjectReference _this, ManagedObjectReference entity, boolean enabled, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    paras[2] = new Argument("enabled", "boolean", enabled);
+    return wsc.invokeAsync("EnableAlarmActions", paras, null, callback);
+  }
+  public Future<AlarmState[]> getAlarmStateAsync(ManagedObjectReference _this, ManagedObjectReference entity)
+  {
+    return getAlarmStateAsync(_this, entity, null);
+  }
+  public Future<AlarmState[]> getAlarmStateAsync(ManagedObjectReference _this, ManagedObjectReference entity, AsyncCallback<AlarmState[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    return wsc.invokeAsync("GetAlarmState", paras, "AlarmState[]", callback);
+  }
+  public Future<Void> acknowledgeAlarmAsync(ManagedObjectReference _this, ManagedObjectReference alarm, ManagedObjectReference entity)
+  {
+    return acknowledgeAlarmAsync(_this, alarm, entity, null);
+  }
+  public Future<Void> acknowledgeAlarmAsync(ManagedObjectReference _this, ManagedObjectReference alarm, ManagedObjectReference entity, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("alarm", "ManagedObjectReference", alarm);
+    paras[2] = new Argument("entity", "ManagedObjectReference", entity);
+    return wsc.invokeAsync("AcknowledgeAlarm", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> reconfigureDVPortgroup_TaskAsync(ManagedObjectReference _this, DVPortgroupConfigSpec spec)
+  {
+    return reconfigureDVPortgroup_TaskAsync(_this, spec, null);
+  }
+  public Future<ManagedObjectReference> reconfigureDVPortgroup_TaskAsync(ManagedObjectReference _this, DVPortgroupConfigSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "DVPortgroupConfigSpec", spec);
+    return wsc.invokeAsync("ReconfigureDVPortgroup_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<DistributedVirtualSwitchProductSpec[]> queryAvailableDvsSpecAsync(ManagedObjectReference _this)
+  {
+    return queryAvailableDvsSpecAsync(_this, null);
+  }
+  public Future<DistributedVirtualSwitchProductSpec[]> queryAvailableDvsSpecAsync(ManagedObjectReference _this, AsyncCallback<DistributedVirtualSwitchProductSpec[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryAvailableDvsSpec", paras, "DistributedVirtualSwitchProductSpec[]", callback);
+  }
+  public Future<ManagedObjectReference[]> queryCompatibleHostForNewDvsAsync(ManagedObjectReference _this, ManagedObjectReference container, boolean recursive, DistributedVirtualSwitchProductSpec switchProductSpec)
+  {
+    return queryCompatibleHostForNewDvsAsync(_this, container, recursive, switchProductSpec, null);
+  }
+  public Future<ManagedObjectReference[]> queryCompatibleHostForNewDvsAsync(ManagedObjectReference _this, ManagedObjectReference container, boolean recursive, DistributedVirtualSwitchProductSpec switchProductSpec, AsyncCallback<ManagedObjectReference[]> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("container", "ManagedObjectReference", container);
+    paras[2] = new Argument("recursive", "boolean", recursive);
+    paras[3] = new Argument("switchProductSpec", "DistributedVirtualSwitchProductSpec", switchProductSpec);
+    return wsc.invokeAsync("QueryCompatibleHostForNewDvs", paras, "ManagedObjectReference[]", callback);
+  }
+  public Future<ManagedObjectReference[]> queryCompatibleHostForExistingDvsAsync(ManagedObjectReference _this, ManagedObjectReference container, boolean recursive, ManagedObjectReference dvs)
+  {
+    return queryCompatibleHostForExistingDvsAsync(_this, container, recursive, dvs, null);
+  }
+  public Future<ManagedObjectReference[]> queryCompatibleHostForExistingDvsAsync(ManagedObjectReference _this, ManagedObjectReference container, boolean recursive, ManagedObjectReference dvs, AsyncCallback<ManagedObjectReference[]> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("container", "ManagedObjectReference", container);
+    paras[2] = new Argument("recursive", "boolean", recursive);
+    paras[3] = new Argument("dvs", "ManagedObjectReference", dvs);
+    return wsc.invokeAsync("QueryCompatibleHostForExistingDvs", paras, "ManagedObjectReference[]", callback);
+  }
+  public Future<DistributedVirtualSwitchHostProductSpec[]> queryDvsCompatibleHostSpecAsync(ManagedObjectReference _this, DistributedVirtualSwitchProductSpec switchProductSpec)
+  {
+    return queryDvsCompatibleHostSpecAsync(_this, switchProductSpec, null);
+  }
+  public Future<DistributedVirtualSwitchHostProductSpec[]> queryDvsCompatibleHostSpecAsync(ManagedObjectReference _this, DistributedVirtualSwitchProductSpec switchProductSpec, AsyncCallback<DistributedVirtualSwitchHostProductSpec[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("switchProductSpec", "DistributedVirtualSwitchProductSpec", switchProductSpec);
+    return wsc.invokeAsync("QueryDvsCompatibleHostSpec", paras, "DistributedVirtualSwitchHostProductSpec[]", callback);
+  }
+  public Future<DVSFeatureCapability> queryDvsFeatureCapabilityAsync(ManagedObjectReference _this, DistributedVirtualSwitchProductSpec switchProductSpec)
+  {
+    return queryDvsFeatureCapabilityAsync(_this, switchProductSpec, null);
+  }
+  public Future<DVSFeatureCapability> queryDvsFeatureCapabilityAsync(ManagedObjectReference _this, DistributedVirtualSwitchProductSpec switchProductSpec, AsyncCallback<DVSFeatureCapability> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("switchProductSpec", "DistributedVirtualSwitchProductSpec", switchProductSpec);
+    return wsc.invokeAsync("QueryDvsFeatureCapability", paras, "DVSFeatureCapability", callback);
+  }
+  public Future<ManagedObjectReference> queryDvsByUuidAsync(ManagedObjectReference _this, String uuid)
+  {
+    return queryDvsByUuidAsync(_this, uuid, null);
+  }
+  public Future<ManagedObjectReference> queryDvsByUuidAsync(ManagedObjectReference _this, String uuid, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("uuid", "String", uuid);
+    return wsc.invokeAsync("QueryDvsByUuid", paras, "ManagedObjectReference", callback);
+  }
+  public Future<DVSManagerDvsConfigTarget> queryDvsConfigTargetAsync(ManagedObjectReference _this, ManagedObjectReference host, ManagedObjectReference dvs)
+  {
+    return queryDvsConfigTargetAsync(_this, host, dvs, null);
+  }
+  public Future<DVSManagerDvsConfigTarget> queryDvsConfigTargetAsync(ManagedObjectReference _this, ManagedObjectReference host, ManagedObjectReference dvs, AsyncCallback<DVSManagerDvsConfigTarget> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    paras[2] = new Argument("dvs", "ManagedObjectReference", dvs);
+    return wsc.invokeAsync("QueryDvsConfigTarget", paras, "DVSManagerDvsConfigTarget", callback);
+  }
+  public Future<DistributedVirtualSwitchManagerCompatibilityResult[]> queryDvsCheckCompatibilityAsync(ManagedObjectReference _this, DistributedVirtualSwitchManagerHostContainer hostContainer, DistributedVirtualSwitchManagerDvsProductSpec dvsProductSpec, DistributedVirtualSwitchManagerHostDvsFilterSpec[] hostFilterSpec)
+  {
+    return queryDvsCheckCompatibilityAsync(_this, hostContainer, dvsProductSpec, hostFilterSpec, null);
+  }
+  public Future<DistributedVirtualSwitchManagerCompatibilityResult[]> queryDvsCheckCompatibilityAsync(ManagedObjectReference _this, DistributedVirtualSwitchManagerHostContainer hostContainer, DistributedVirtualSwitchManagerDvsProductSpec dvsProductSpec, DistributedVirtualSwitchManagerHostDvsFilterSpec[] hostFilterSpec, AsyncCallback<DistributedVirtualSwitchManagerCompatibilityResult[]> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("hostContainer", "DistributedVirtualSwitchManagerHostContainer", hostContainer);
+    paras[2] = new Argument("dvsProductSpec", "DistributedVirtualSwitchManagerDvsProductSpec", dvsProductSpec);
+    paras[3] = new Argument("hostFilterSpec", "DistributedVirtualSwitchManagerHostDvsFilterSpec[]", hostFilterSpec);
+    return wsc.invokeAsync("QueryDvsCheckCompatibility", paras, "DistributedVirtualSwitchManagerCompatibilityResult[]", callback);
+  }
+  public Future<Event[]> readNextEventsAsync(ManagedObjectReference _this, int maxCount)
+  {
+    return readNextEventsAsync(_this, maxCount, null);
+  }
+  public Future<Event[]> readNextEventsAsync(ManagedObjectReference _this, int maxCount, AsyncCallback<Event[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("maxCount", "int", maxCount);
+    return wsc.invokeAsync("ReadNextEvents", paras, "Event[]", callback);
+  }
+  public Future<Event[]> readPreviousEventsAsync(ManagedObjectReference _this, int maxCount)
+  {
+    return readPreviousEventsAsync(_this, maxCount, null);
+  }
+  public Future<Event[]> readPreviousEventsAsync(ManagedObjectReference _this, int maxCount, AsyncCallback<Event[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("maxCount", "int", maxCount);
+    return wsc.invokeAsync("ReadPreviousEvents", paras, "Event[]", callback);
+  }
+  public Future<EventArgDesc[]> retrieveArgumentDescriptionAsync(ManagedObjectReference _this, String eventTypeId)
+  {
+    return retrieveArgumentDescriptionAsync(_this, eventTypeId, null);
+  }
+  public Future<EventArgDesc[]> retrieveArgumentDescriptionAsync(ManagedObjectReference _this, String eventTypeId, AsyncCallback<EventArgDesc[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("eventTypeId", "String", eventTypeId);
+    return wsc.invokeAsync("RetrieveArgumentDescription", paras, "EventArgDesc[]", callback);
+  }
+  public Future<ManagedObjectReference> createCollectorForEventsAsync(ManagedObjectReference _this, EventFilterSpec filter)
+  {
+    return createCollectorForEventsAsync(_this, filter, null);
+  }
+  public Future<ManagedObjectReference> createCollectorForEventsAsync(ManagedObjectReference _this, EventFilterSpec filter, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("filter", "EventFilterSpec", filter);
+    return wsc.invokeAsync("CreateCollectorForEvents", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> logUserEventAsync(ManagedObjectReference _this, ManagedObjectReference entity, String msg)
+  {
+    return logUserEventAsync(_this, entity, msg, null);
+  }
+  public Future<Void> logUserEventAsync(ManagedObjectReference _this, ManagedObjectReference entity, String msg, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    paras[2] = new Argument("msg", "String", msg);
+    return wsc.invokeAsync("LogUserEvent", paras, null, callback);
+  }
+  public Future<Event[]> queryEventsAsync(ManagedObjectReference _this, EventFilterSpec filter)
+  {
+    return queryEventsAsync(_this, filter, null);
+  }
+  public Future<Event[]> queryEventsAsync(ManagedObjectReference _this, EventFilterSpec filter, AsyncCallback<Event[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("filter", "EventFilterSpec", filter);
+    return wsc.invokeAsync("QueryEvents", paras, "Event[]", callback);
+  }
+  public Future<Void> postEventAsync(ManagedObjectReference _this, Event eventToPost, TaskInfo taskInfo)
+  {
+    return postEventAsync(_this, eventToPost, taskInfo, null);
+  }
+  public Future<Void> postEventAsync(ManagedObjectReference _this, Event eventToPost, TaskInfo taskInfo, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("eventToPost", "Event", eventToPost);
+    paras[2] = new Argument("taskInfo", "TaskInfo", taskInfo);
+    return wsc.invokeAsync("PostEvent", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> joinDomain_TaskAsync(ManagedObjectReference _this, String domainName, String userName, String password)
+  {
+    return joinDomain_TaskAsync(_this, domainName, userName, password, null);
+  }
+  public Future<ManagedObjectReference> joinDomain_TaskAsync(ManagedObjectReference _this, String domainName, String userName, String password, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("domainName", "String", domainName);
+    paras[2] = new Argument("userName", "String", userName);
+    paras[3] = new Argument("password", "String", password);
+    return wsc.invokeAsync("JoinDomain_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> leaveCurrentDomain_TaskAsync(ManagedObjectReference _this, boolean force)
+  {
+    return leaveCurrentDomain_TaskAsync(_this, force, null);
+  }
+  public Future<ManagedObjectReference> leaveCurrentDomain_TaskAsync(ManagedObjectReference _this, boolean force, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("force", "boolean", force);
+    return wsc.invokeAsync("LeaveCurrentDomain_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> reconfigureAutostartAsync(ManagedObjectReference _this, HostAutoStartManagerConfig spec)
+  {
+    return reconfigureAutostartAsync(_this, spec, null);
+  }
+  public Future<Void> reconfigureAutostartAsync(ManagedObjectReference _this, HostAutoStartManagerConfig spec, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "HostAutoStartManagerConfig", spec);
+    return wsc.invokeAsync("ReconfigureAutostart", paras, null, callback);
+  }
+  public Future<Void> autoStartPowerOnAsync(ManagedObjectReference _this)
+  {
+    return autoStartPowerOnAsync(_this, null);
+  }
+  public Future<Void> autoStartPowerOnAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("AutoStartPowerOn", paras, null, callback);
+  }
+  public Future<Void> autoStartPowerOffAsync(ManagedObjectReference _this)
+  {
+    return autoStartPowerOffAsync(_this, null);
+  }
+  public Future<Void> autoStartPowerOffAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("AutoStartPowerOff", paras, null, callback);
+  }
+  public Future<HostBootDeviceInfo> queryBootDevicesAsync(ManagedObjectReference _this)
+  {
+    return queryBootDevicesAsync(_this, null);
+  }
+  public Future<HostBootDeviceInfo> queryBootDevicesAsync(ManagedObjectReference _this, AsyncCallback<HostBootDeviceInfo> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryBootDevices", paras, "HostBootDeviceInfo", callback);
+  }
+  public Future<Void> updateBootDeviceAsync(ManagedObjectReference _this, String key)
+  {
+    return updateBootDeviceAsync(_this, key, null);
+  }
+  public Future<Void> updateBootDeviceAsync(ManagedObjectReference _this, String key, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("key", "String", key);
+    return wsc.invokeAsync("UpdateBootDevice", paras, null, callback);
+  }
+  public Future<Void> enableHyperThreadingAsync(ManagedObjectReference _this)
+  {
+    return enableHyperThreadingAsync(_this, null);
+  }
+  public Future<Void> enableHyperThreadingAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("EnableHyperThreading", paras, null, callback);
+  }
+  public Future<Void> disableHyperThreadingAsync(ManagedObjectReference _this)
+  {
+    return disableHyperThreadingAsync(_this, null);
+  }
+  public Future<Void> disableHyperThreadingAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("DisableHyperThreading", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> searchDatastore_TaskAsync(ManagedObjectReference _this, String datastorePath, HostDatastoreBrowserSearchSpec searchSpec)
+  {
+    return searchDatastore_TaskAsync(_this, datastorePath, searchSpec, null);
+  }
+  public Future<ManagedObjectReference> searchDatastore_TaskAsync(ManagedObjectReference _this, String datastorePath, HostDatastoreBrowserSearchSpec searchSpec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datastorePath", "String", datastorePath);
+    paras[2] = new Argument("searchSpec", "HostDatastoreBrowserSearchSpec", searchSpec);
+    return wsc.invokeAsync("SearchDatastore_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> searchDatastoreSubFolders_TaskAsync(ManagedObjectReference _this, String datastorePath, HostDatastoreBrowserSearchSpec searchSpec)
+  {
+    return searchDatastoreSubFolders_TaskAsync(_this, datastorePath, searchSpec, null);
+  }
+  public Future<ManagedObjectReference> searchDatastoreSubFolders_TaskAsync(ManagedObjectReference _this, String datastorePath, HostDatastoreBrowserSearchSpec searchSpec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datastorePath", "String", datastorePath);
+    paras[2] = new Argument("searchSpec", "HostDatastoreBrowserSearchSpec", searchSpec);
+    return wsc.invokeAsync("SearchDatastoreSubFolders_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> deleteFileAsync(ManagedObjectReference _this, String datastorePath)
+  {
+    return deleteFileAsync(_this, datastorePath, null);
+  }
+  public Future<Void> deleteFileAsync(ManagedObjectReference _this, String datastorePath, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datastorePath", "String", datastorePath);
+    return wsc.invokeAsync("DeleteFile", paras, null, callback);
+  }
+  public Future<Void> updateLocalSwapDatastoreAsync(ManagedObjectReference _this, ManagedObjectReference datastore)
+  {
+    return updateLocalSwapDatastoreAsync(_this, datastore, null);
+  }
+  public Future<Void> updateLocalSwapDatastoreAsync(ManagedObjectReference _this, ManagedObjectReference datastore, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datastore", "ManagedObjectReference", datastore);
+    return wsc.invokeAsync("UpdateLocalSwapDatastore", paras, null, callback);
+  }
+  public Future<HostScsiDisk[]> queryAvailableDisksForVmfsAsync(ManagedObjectReference _this, ManagedObjectReference datastore)
+  {
+    return queryAvailableDisksForVmfsAsync(_this, datastore, null);
+  }
+  public Future<HostScsiDisk[]> queryAvailableDisksForVmfsAsync(ManagedObjectReference _this, ManagedObjectReference datastore, AsyncCallback<HostScsiDisk[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datastore", "ManagedObjectReference", datastore);
+    return wsc.invokeAsync("QueryAvailableDisksForVmfs", paras, "HostScsiDisk[]", callback);
+  }
+  public Future<VmfsDatastoreOption[]> queryVmfsDatastoreCreateOptionsAsync(ManagedObjectReference _this, String devicePath)
+  {
+    return queryVmfsDatastoreCreateOptionsAsync(_this, devicePath, null);
+  }
+  public Future<VmfsDatastoreOption[]> queryVmfsDatastoreCreateOptionsAsync(ManagedObjectReference _this, String devicePath, AsyncCallback<VmfsDatastoreOption[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("devicePath", "String", devicePath);
+    return wsc.invokeAsync("QueryVmfsDatastoreCreateOptions", paras, "VmfsDatastoreOption[]", callback);
+  }
+  public Future<ManagedObjectReference> createVmfsDatastoreAsync(ManagedObjectReference _this, VmfsDatastoreCreateSpec spec)
+  {
+    return createVmfsDatastoreAsync(_this, spec, null);
+  }
+  public Future<ManagedObjectReference> createVmfsDatastoreAsync(ManagedObjectReference _this, VmfsDatastoreCreateSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "VmfsDatastoreCreateSpec", spec);
+    return wsc.invokeAsync("CreateVmfsDatastore", paras, "ManagedObjectReference", callback);
+  }
+  public Future<VmfsDatastoreOption[]> queryVmfsDatastoreExtendOptionsAsync(ManagedObjectReference _this, ManagedObjectReference datastore, String devicePath, Boolean suppressExpandCandidates)
+  {
+    return queryVmfsDatastoreExtendOptionsAsync(_this, datastore, devicePath, suppressExpandCandidates, null);
+  }
+  public Future<VmfsDatastoreOption[]> queryVmfsDatastoreExtendOptionsAsync(ManagedObjectReference _this, ManagedObjectReference datastore, String devicePath, Boolean suppressExpandCandidates, AsyncCallback<VmfsDatastoreOption[]> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datastore", "ManagedObjectReference", datastore);
+    paras[2] = new Argument("devicePath", "String", devicePath);
+    paras[3] = new Argument("suppressExpandCandidates", "Boolean", suppressExpandCandidates);
+    return wsc.invokeAsync("QueryVmfsDatastoreExtendOptions", paras, "VmfsDatastoreOption[]", callback);
+  }
+  public Future<VmfsDatastoreOption[]> queryVmfsDatastoreExpandOptionsAsync(ManagedObjectReference _this, ManagedObjectReference datastore)
+  {
+    return queryVmfsDatastoreExpandOptionsAsync(_this, datastore, null);
+  }
+  public Future<VmfsDatastoreOption[]> queryVmfsDatastoreExpandOptionsAsync(ManagedObjectReference _this, ManagedObjectReference datastore, AsyncCallback<VmfsDatastoreOption[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datastore", "ManagedObjectReference", datastore);
+    return wsc.invokeAsync("QueryVmfsDatastoreExpandOptions", paras, "VmfsDatastoreOption[]", callback);
+  }
+  public Future<ManagedObjectReference> extendVmfsDatastoreAsync(ManagedObjectReference _this, ManagedObjectReference datastore, VmfsDatastoreExtendSpec spec)
+  {
+    return extendVmfsDatastoreAsync(_this, datastore, spec, null);
+  }
+  public Future<ManagedObjectReference> extendVmfsDatastoreAsync(ManagedObjectReference _this, ManagedObjectReference datastore, VmfsDatastoreExtendSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datastore", "ManagedObjectReference", datastore);
+    paras[2] = new Argument("spec", "VmfsDatastoreExtendSpec", spec);
+    return wsc.invokeAsync("ExtendVmfsDatastore", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> expandVmfsDatastoreAsync(ManagedObjectReference _this, ManagedObjectReference datastore, VmfsDatastoreExpandSpec spec)
+  {
+    return expandVmfsDatastoreAsync(_this, datastore, spec, null);
+  }
+  public Future<ManagedObjectReference> expandVmfsDatastoreAsync(ManagedObjectReference _this, ManagedObjectReference datastore, VmfsDatastoreExpandSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datastore", "ManagedObjectReference", datastore);
+    paras[2] = new Argument("spec", "VmfsDatastoreExpandSpec", spec);
+    return wsc.invokeAsync("ExpandVmfsDatastore", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> createNasDatastoreAsync(ManagedObjectReference _this, HostNasVolumeSpec spec)
+  {
+    return createNasDatastoreAsync(_this, spec, null);
+  }
+  public Future<ManagedObjectReference> createNasDatastoreAsync(ManagedObjectReference _this, HostNasVolumeSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "HostNasVolumeSpec", spec);
+    return wsc.invokeAsync("CreateNasDatastore", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> createLocalDatastoreAsync(ManagedObjectReference _this, String name, String path)
+  {
+    return createLocalDatastoreAsync(_this, name, path, null);
+  }
+  public Future<ManagedObjectReference> createLocalDatastoreAsync(ManagedObjectReference _this, String name, String path, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("path", "String", path);
+    return wsc.invokeAsync("CreateLocalDatastore", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> removeDatastoreAsync(ManagedObjectReference _this, ManagedObjectReference datastore)
+  {
+    return removeDatastoreAsync(_this, datastore, null);
+  }
+  public Future<Void> removeDatastoreAsync(ManagedObjectReference _this, ManagedObjectReference datastore, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("datastore", "ManagedObjectReference", datastore);
+    return wsc.invokeAsync("RemoveDatastore", paras, null, callback);
+  }
+  public Future<Void> configureDatastorePrincipalAsync(ManagedObjectReference _this, String userName, String password)
+  {
+    return configureDatastorePrincipalAsync(_this, userName, password, null);
+  }
+  public Future<Void> configureDatastorePrincipalAsync(ManagedObjectReference _this, String userName, String password, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("userName", "String", userName);
+    paras[2] = new Argument("password", "String", password);
+    return wsc.invokeAsync("ConfigureDatastorePrincipal", paras, null, callback);
+  }
+  public Future<HostUnresolvedVmfsVolume[]> queryUnresolvedVmfsVolumesAsync(ManagedObjectReference _this)
+  {
+    return queryUnresolvedVmfsVolumesAsync(_this, null);
+  }
+  public Future<HostUnresolvedVmfsVolume[]> queryUnresolvedVmfsVolumesAsync(ManagedObjectReference _this, AsyncCallback<HostUnresolvedVmfsVolume[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryUnresolvedVmfsVolumes", paras, "HostUnresolvedVmfsVolume[]", callback);
+  }
+  public Future<ManagedObjectReference> resignatureUnresolvedVmfsVolume_TaskAsync(ManagedObjectReference _this, HostUnresolvedVmfsResignatureSpec resolutionSpec)
+  {
+    return resignatureUnresolvedVmfsVolume_TaskAsync(_this, resolutionSpec, null);
+  }
+  public Future<ManagedObjectReference> resignatureUnresolvedVmfsVolume_TaskAsync(ManagedObjectReference _this, HostUnresolvedVmfsResignatureSpec resolutionSpec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("resolutionSpec", "HostUnresolvedVmfsResignatureSpec", resolutionSpec);
+    return wsc.invokeAsync("ResignatureUnresolvedVmfsVolume_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> updateDateTimeConfigAsync(ManagedObjectReference _this, HostDateTimeConfig config)
+  {
+    return updateDateTimeConfigAsync(_this, config, null);
+  }
+  public Future<Void> updateDateTimeConfigAsync(ManagedObjectReference _this, HostDateTimeConfig config, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("config", "HostDateTimeConfig", config);
+    return wsc.invokeAsync("UpdateDateTimeConfig", paras, null, callback);
+  }
+  public Future<HostDateTimeSystemTimeZone[]> queryAvailableTimeZonesAsync(ManagedObjectReference _this)
+  {
+    return queryAvailableTimeZonesAsync(_this, null);
+  }
+  public Future<HostDateTimeSystemTimeZone[]> queryAvailableTimeZonesAsync(ManagedObjectReference _this, AsyncCallback<HostDateTimeSystemTimeZone[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryAvailableTimeZones", paras, "HostDateTimeSystemTimeZone[]", callback);
+  }
+  public Future<Calendar> queryDateTimeAsync(ManagedObjectReference _this)
+  {
+    return queryDateTimeAsync(_this, null);
+  }
+  public Future<Calendar> queryDateTimeAsync(ManagedObjectReference _this, AsyncCallback<Calendar> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryDateTime", paras, "Calendar", callback);
+  }
+  public Future<Void> updateDateTimeAsync(ManagedObjectReference _this, Calendar dateTime)
+  {
+    return updateDateTimeAsync(_this, dateTime, null);
+  }
+  public Future<Void> updateDateTimeAsync(ManagedObjectReference _this, Calendar dateTime, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("dateTime", "Calendar", dateTime);
+    return wsc.invokeAsync("UpdateDateTime", paras, null, callback);
+  }
+  public Future<Void> refreshDateTimeSystemAsync(ManagedObjectReference _this)
+  {
+    return refreshDateTimeSystemAsync(_this, null);
+  }
+  public Future<Void> refreshDateTimeSystemAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RefreshDateTimeSystem", paras, null, callback);
+  }
+  public Future<HostDiagnosticPartition[]> queryAvailablePartitionAsync(ManagedObjectReference _this)
+  {
+    return queryAvailablePartitionAsync(_this, null);
+  }
+  public Future<HostDiagnosticPartition[]> queryAvailablePartitionAsync(ManagedObjectReference _this, AsyncCallback<HostDiagnosticPartition[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryAvailablePartition", paras, "HostDiagnosticPartition[]", callback);
+  }
+  public Future<Void> selectActivePartitionAsync(ManagedObjectReference _this, HostScsiDiskPartition partition)
+  {
+    return selectActivePartitionAsync(_this, partition, null);
+  }
+  public Future<Void> selectActivePartitionAsync(ManagedObjectReference _this, HostScsiDiskPartition partition, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("partition", "HostScsiDiskPartition", partition);
+    return wsc.invokeAsync("SelectActivePartition", paras, null, callback);
+  }
+  public Future<HostDiagnosticPartitionCreateOption[]> queryPartitionCreateOptionsAsync(ManagedObjectReference _this, String storageType, String diagnosticType)
+  {
+    return queryPartitionCreateOptionsAsync(_this, storageType, diagnosticType, null);
+  }
+  public Future<HostDiagnosticPartitionCreateOption[]> queryPartitionCreateOptionsAsync(ManagedObjectReference _this, String storageType, String diagnosticType, AsyncCallback<HostDiagnosticPartitionCreateOption[]> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("storageType", "String", storageType);
+    paras[2] = new Argument("diagnosticType", "String", diagnosticType);
+    return wsc.invokeAsync("QueryPartitionCreateOptions", paras, "HostDiagnosticPartitionCreateOption[]", callback);
+  }
+  public Future<HostDiagnosticPartitionCreateDescription> queryPartitionCreateDescAsync(ManagedObjectReference _this, String diskUuid, String diagnosticType)
+  {
+    return queryPartitionCreateDescAsync(_this, diskUuid, diagnosticType, null);
+  }
+  public Future<HostDiagnosticPartitionCreateDescription> queryPartitionCreateDescAsync(ManagedObjectReference _this, String diskUuid, String diagnosticType, AsyncCallback<HostDiagnosticPartitionCreateDescription> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("diskUuid", "String", diskUuid);
+    paras[2] = new Argument("diagnosticType", "String", diagnosticType);
+    return wsc.invokeAsync("QueryPartitionCreateDesc", paras, "HostDiagnosticPartitionCreateDescription", callback);
+  }
+  public Future<Void> createDiagnosticPartitionAsync(ManagedObjectReference _this, HostDiagnosticPartitionCreateSpec spec)
+  {
+    return createDiagnosticPartitionAsync(_this, spec, null);
+  }
+  public Future<Void> createDiagnosticPartitionAsync(ManagedObjectReference _this, HostDiagnosticPartitionCreateSpec spec, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "HostDiagnosticPartitionCreateSpec", spec);
+    return wsc.invokeAsync("CreateDiagnosticPartition", paras, null, callback);
+  }
+  public Future<Void> updateDefaultPolicyAsync(ManagedObjectReference _this, HostFirewallDefaultPolicy defaultPolicy)
+  {
+    return updateDefaultPolicyAsync(_this, defaultPolicy, null);
+  }
+  public Future<Void> updateDefaultPolicyAsync(ManagedObjectReference _this, HostFirewallDefaultPolicy defaultPolicy, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("defaultPolicy", "HostFirewallDefaultPolicy", defaultPolicy);
+    return wsc.invokeAsync("UpdateDefaultPolicy", paras, null, callback);
+  }
+  public Future<Void> enableRulesetAsync(ManagedObjectReference _this, String id)
+  {
+    return enableRulesetAsync(_this, id, null);
+  }
+  public Future<Void> enableRulesetAsync(ManagedObjectReference _this, String id, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("id", "String", id);
+    return wsc.invokeAsync("EnableRuleset", paras, null, callback);
+  }
+  public Future<Void> disableRulesetAsync(ManagedObjectReference _this, String id)
+  {
+    return disableRulesetAsync(_this, id, null);
+  }
+  public Future<Void> disableRulesetAsync(ManagedObjectReference _this, String id, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("id", "String", id);
+    return wsc.invokeAsync("DisableRuleset", paras, null, callback);
+  }
+  public Future<Void> refreshFirewallAsync(ManagedObjectReference _this)
+  {
+    return refreshFirewallAsync(_this, null);
+  }
+  public Future<Void> refreshFirewallAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RefreshFirewall", paras, null, callback);
+  }
+  public Future<Void> resetFirmwareToFactoryDefaultsAsync(ManagedObjectReference _this)
+  {
+    return resetFirmwareToFactoryDefaultsAsync(_this, null);
+  }
+  public Future<Void> resetFirmwareToFactoryDefaultsAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("ResetFirmwareToFactoryDefaults", paras, null, callback);
+  }
+  public Future<String> backupFirmwareConfigurationAsync(ManagedObjectReference _this)
+  {
+    return backupFirmwareConfigurationAsync(_this, null);
+  }
+  public Future<String> backupFirmwareConfigurationAsync(ManagedObjectReference _this, AsyncCallback<String> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("BackupFirmwareConfiguration", paras, "String", callback);
+  }
+  public Future<String> queryFirmwareConfigUploadURLAsync(ManagedObjectReference _this)
+  {
+    return queryFirmwareConfigUploadURLAsync(_this, null);
+  }
+  public Future<String> queryFirmwareConfigUploadURLAsync(ManagedObjectReference _this, AsyncCallback<String> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryFirmwareConfigUploadURL", paras, "String", callback);
+  }
+  public Future<Void> restoreFirmwareConfigurationAsync(ManagedObjectReference _this, boolean force)
+  {
+    return restoreFirmwareConfigurationAsync(_this, force, null);
+  }
+  public Future<Void> restoreFirmwareConfigurationAsync(ManagedObjectReference _this, boolean force, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("force", "boolean", force);
+    return wsc.invokeAsync("RestoreFirmwareConfiguration", paras, null, callback);
+  }
+  public Future<Void> refreshHealthStatusSystemAsync(ManagedObjectReference _this)
+  {
+    return refreshHealthStatusSystemAsync(_this, null);
+  }
+  public Future<Void> refreshHealthStatusSystemAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RefreshHealthStatusSystem", paras, null, callback);
+  }
+  public Future<Void> resetSystemHealthInfoAsync(ManagedObjectReference _this)
+  {
+    return resetSystemHealthInfoAsync(_this, null);
+  }
+  public Future<Void> resetSystemHealthInfoAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("ResetSystemHealthInfo", paras, null, callback);
+  }
+  public Future<KernelModuleInfo[]> queryModulesAsync(ManagedObjectReference _this)
+  {
+    return queryModulesAsync(_this, null);
+  }
+  public Future<KernelModuleInfo[]> queryModulesAsync(ManagedObjectReference _this, AsyncCallback<KernelModuleInfo[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryModules", paras, "KernelModuleInfo[]", callback);
+  }
+  public Future<Void> updateModuleOptionStringAsync(ManagedObjectReference _this, String name, String options)
+  {
+    return updateModuleOptionStringAsync(_this, name, options, null);
+  }
+  public Future<Void> updateModuleOptionStringAsync(ManagedObjectReference _this, String name, String options, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("options", "String", options);
+    return wsc.invokeAsync("UpdateModuleOptionString", paras, null, callback);
+  }
+  public Future<String> queryConfiguredModuleOptionStringAsync(ManagedObjectReference _this, String name)
+  {
+    return queryConfiguredModuleOptionStringAsync(_this, name, null);
+  }
+  public Future<String> queryConfiguredModuleOptionStringAsync(ManagedObjectReference _this, String name, AsyncCallback<String> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    return wsc.invokeAsync("QueryConfiguredModuleOptionString", paras, "String", callback);
+  }
+  public Future<Void> createUserAsync(ManagedObjectReference _this, HostAccountSpec user)
+  {
+    return createUserAsync(_this, user, null);
+  }
+  public Future<Void> createUserAsync(ManagedObjectReference _this, HostAccountSpec user, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("user", "HostAccountSpec", user);
+    return wsc.invokeAsync("CreateUser", paras, null, callback);
+  }
+  public Future<Void> updateUserAsync(ManagedObjectReference _this, HostAccountSpec user)
+  {
+    return updateUserAsync(_this, user, null);
+  }
+  public Future<Void> updateUserAsync(ManagedObjectReference _this, HostAccountSpec user, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("user", "HostAccountSpec", user);
+    return wsc.invokeAsync("UpdateUser", paras, null, callback);
+  }
+  public Future<Void> createGroupAsync(ManagedObjectReference _this, HostAccountSpec group)
+  {
+    return createGroupAsync(_this, group, null);
+  }
+  public Future<Void> createGroupAsync(ManagedObjectReference _this, HostAccountSpec group, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("group", "HostAccountSpec", group);
+    return wsc.invokeAsync("CreateGroup", paras, null, callback);
+  }
+  public Future<Void> removeUserAsync(ManagedObjectReference _this, String userName)
+  {
+    return removeUserAsync(_this, userName, null);
+  }
+  public Future<Void> removeUserAsync(ManagedObjectReference _this, String userName, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("userName", "String", userName);
+    return wsc.invokeAsync("RemoveUser", paras, null, callback);
+  }
+  public Future<Void> removeGroupAsync(ManagedObjectReference _this, String groupName)
+  {
+    return removeGroupAsync(_this, groupName, null);
+  }
+  public Future<Void> removeGroupAsync(ManagedObjectReference _this, String groupName, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("groupName", "String", groupName);
+    return wsc.invokeAsync("RemoveGroup", paras, null, callback);
+  }
+  public Future<Void> assignUserToGroupAsync(ManagedObjectReference _this, String user, String group)
+  {
+    return assignUserToGroupAsync(_this, user, group, null);
+  }
+  public Future<Void> assignUserToGroupAsync(ManagedObjectReference _this, String user, String group, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("user", "String", user);
+    paras[2] = new Argument("group", "String", group);
+    return wsc.invokeAsync("AssignUserToGroup", paras, null, callback);
+  }
+  public Future<Void> unassignUserFromGroupAsync(ManagedObjectReference _this, String user, String group)
+  {
+    return unassignUserFromGroupAsync(_this, user, group, null);
+  }
+  public Future<Void> unassignUserFromGroupAsync(ManagedObjectReference _this, String user, String group, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("user", "String", user);
+    paras[2] = new Argument("group", "String", group);
+    return wsc.invokeAsync("UnassignUserFromGroup", paras, null, callback);
+  }
+  public Future<Void> reconfigureServiceConsoleReservationAsync(ManagedObjectReference _this, long cfgBytes)
+  {
+    return reconfigureServiceConsoleReservationAsync(_this, cfgBytes, null);
+  }
+  public Future<Void> reconfigureServiceConsoleReservationAsync(ManagedObjectReference _this, long cfgBytes, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("cfgBytes", "long", cfgBytes);
+    return wsc.invokeAsync("ReconfigureServiceConsoleReservation", paras, null, callback);
+  }
+  public Future<Void> reconfigureVirtualMachineReservationAsync(ManagedObjectReference _this, VirtualMachineMemoryReservationSpec spec)
+  {
+    return reconfigureVirtualMachineReservationAsync(_this, spec, null);
+  }
+  public Future<Void> reconfigureVirtualMachineReservationAsync(ManagedObjectReference _this, VirtualMachineMemoryReservationSpec spec, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "VirtualMachineMemoryReservationSpec", spec);
+    return wsc.invokeAsync("ReconfigureVirtualMachineReservation", paras, null, callback);
+  }
+  public Future<HostNetworkConfigResult> updateNetworkConfigAsync(ManagedObjectReference _this, HostNetworkConfig config, String changeMode)
+  {
+    return updateNetworkConfigAsync(_this, config, changeMode, null);
+  }
+  public Future<HostNetworkConfigResult> updateNetworkConfigAsync(ManagedObjectReference _this, HostNetworkConfig config, String changeMode, AsyncCallback<HostNetworkConfigResult> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("config", "HostNetworkConfig", config);
+    paras[2] = new Argument("changeMode", "String", changeMode);
+    return wsc.invokeAsync("UpdateNetworkConfig", paras, "HostNetworkConfigResult", callback);
+  }
+  public Future<Void> updateDnsConfigAsync(ManagedObjectReference _this, HostDnsConfig config)
+  {
+    return updateDnsConfigAsync(_this, config, null);
+  }
+  public Future<Void> updateDnsConfigAsync(ManagedObjectReference _this, HostDnsConfig config, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("config", "HostDnsConfig", config);
+    return wsc.invokeAsync("UpdateDnsConfig", paras, null, callback);
+  }
+  public Future<Void> updateIpRouteConfigAsync(ManagedObjectReference _this, HostIpRouteConfig config)
+  {
+    return updateIpRouteConfigAsync(_this, config, null);
+  }
+  public Future<Void> updateIpRouteConfigAsync(ManagedObjectReference _this, HostIpRouteConfig config, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("config", "HostIpRouteConfig", config);
+    return wsc.invokeAsync("UpdateIpRouteConfig", paras, null, callback);
+  }
+  public Future<Void> updateConsoleIpRouteConfigAsync(ManagedObjectReference _this, HostIpRouteConfig config)
+  {
+    return updateConsoleIpRouteConfigAsync(_this, config, null);
+  }
+  public Future<Void> updateConsoleIpRouteConfigAsync(ManagedObjectReference _this, HostIpRouteConfig config, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("config", "HostIpRouteConfig", config);
+    return wsc.invokeAsync("UpdateConsoleIpRouteConfig", paras, null, callback);
+  }
+  public Future<Void> updateIpRouteTableConfigAsync(ManagedObjectReference _this, HostIpRouteTableConfig config)
+  {
+    return updateIpRouteTableConfigAsync(_this, config, null);
+  }
+  public Future<Void> updateIpRouteTableConfigAsync(ManagedObjectReference _this, HostIpRouteTableConfig config, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("config", "HostIpRouteTableConfig", config);
+    return wsc.invokeAsync("UpdateIpRouteTableConfig", paras, null, callback);
+  }
+  public Future<Void> addVirtualSwitchAsync(ManagedObjectReference _this, String vswitchName, HostVirtualSwitchSpec spec)
+  {
+    return addVirtualSwitchAsync(_this, vswitchName, spec, null);
+  }
+  public Future<Void> addVirtualSwitchAsync(ManagedObjectReference _this, String vswitchName, HostVirtualSwitchSpec spec, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vswitchName", "String", vswitchName);
+    paras[2] = new Argument("spec", "HostVirtualSwitchSpec", spec);
+    return wsc.invokeAsync("AddVirtualSwitch", paras, null, callback);
+  }
+  public Future<Void> removeVirtualSwitchAsync(ManagedObjectReference _this, String vswitchName)
+  {
+    return removeVirtualSwitchAsync(_this, vswitchName, null);
+  }
+  public Future<Void> removeVirtualSwitchAsync(ManagedObjectReference _this, String vswitchName, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vswitchName", "String", vswitchName);
+    return wsc.invokeAsync("RemoveVirtualSwitch", paras, null, callback);
+  }
+  public Future<Void> updateVirtualSwitchAsync(ManagedObjectReference _this, String vswitchName, HostVirtualSwitchSpec spec)
+  {
+    return updateVirtualSwitchAsync(_this, vswitchName, spec, null);
+  }
+  public Future<Void> updateVirtualSwitchAsync(ManagedObjectReference _this, String vswitchName, HostVirtualSwitchSpec spec, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vswitchName", "String", vswitchName);
+    paras[2] = new Argument("spec", "HostVirtualSwitchSpec", spec);
+    return wsc.invokeAsync("UpdateVirtualSwitch", paras, null, callback);
+  }
+  public Future<Void> addPortGroupAsync(ManagedObjectReference _this, HostPortGroupSpec portgrp)
+  {
+    return addPortGroupAsync(_this, portgrp, null);
+  }
+  public Future<Void> addPortGroupAsync(ManagedObjectReference _this, HostPortGroupSpec portgrp, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("portgrp", "HostPortGroupSpec", portgrp);
+    return wsc.invokeAsync("AddPortGroup", paras, null, callback);
+  }
+  public Future<Void> removePortGroupAsync(ManagedObjectReference _this, String pgName)
+  {
+    return removePortGroupAsync(_this, pgName, null);
+  }
+  public Future<Void> removePortGroupAsync(ManagedObjectReference _this, String pgName, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("pgName", "String", pgName);
+    return wsc.invokeAsync("RemovePortGroup", paras, null, callback);
+  }
+  public Future<Void> updatePortGroupAsync(ManagedObjectReference _this, String pgName, HostPortGroupSpec portgrp)
+  {
+    return updatePortGroupAsync(_this, pgName, portgrp, null);
+  }
+  public Future<Void> updatePortGroupAsync(ManagedObjectReference _this, String pgName, HostPortGroupSpec portgrp, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("pgName", "String", pgName);
+    paras[2] = new Argument("portgrp", "HostPortGroupSpec", portgrp);
+    return wsc.invokeAsync("UpdatePortGroup", paras, null, callback);
+  }
+  public Future<Void> updatePhysicalNicLinkSpeedAsync(ManagedObjectReference _this, String device, PhysicalNicLinkInfo linkSpeed)
+  {
+    return updatePhysicalNicLinkSpeedAsync(_this, device, linkSpeed, null);
+  }
+  public Future<Void> updatePhysicalNicLinkSpeedAsync(ManagedObjectReference _this, String device, PhysicalNicLinkInfo linkSpeed, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("device", "String", device);
+    paras[2] = new Argument("linkSpeed", "PhysicalNicLinkInfo", linkSpeed);
+    return wsc.invokeAsync("UpdatePhysicalNicLinkSpeed", paras, null, callback);
+  }
+  public Future<PhysicalNicHintInfo[]> queryNetworkHintAsync(ManagedObjectReference _this, String[] device)
+  {
+    return queryNetworkHintAsync(_this, device, null);
+  }
+  public Future<PhysicalNicHintInfo[]> queryNetworkHintAsync(ManagedObjectReference _this, String[] device, AsyncCallback<PhysicalNicHintInfo[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("device", "String[]", device);
+    return wsc.invokeAsync("QueryNetworkHint", paras, "PhysicalNicHintInfo[]", callback);
+  }
+  public Future<String> addVirtualNicAsync(ManagedObjectReference _this, String portgroup, HostVirtualNicSpec nic)
+  {
+    return addVirtualNicAsync(_this, portgroup, nic, null);
+  }
+  public Future<String> addVirtualNicAsync(ManagedObjectReference _this, String portgroup, HostVirtualNicSpec nic, AsyncCallback<String> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("portgroup", "String", portgroup);
+    paras[2] = new Argument("nic", "HostVirtualNicSpec", nic);
+    return wsc.invokeAsync("AddVirtualNic", paras, "String", callback);
+  }
+  public Future<Void> removeVirtualNicAsync(ManagedObjectReference _this, String device)
+  {
+    return removeVirtualNicAsync(_this, device, null);
+  }
+  public Future<Void> removeVirtualNicAsync(ManagedObjectReference _this, String device, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("device", "String", device);
+    return wsc.invokeAsync("RemoveVirtualNic", paras, null, callback);
+  }
+  public Future<Void> updateVirtualNicAsync(ManagedObjectReference _this, String device, HostVirtualNicSpec nic)
+  {
+    return updateVirtualNicAsync(_this, device, nic, null);
+  }
+  public Future<Void> updateVirtualNicAsync(ManagedObjectReference _this, String device, HostVirtualNicSpec nic, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("device", "String", device);
+    paras[2] = new Argument("nic", "HostVirtualNicSpec", nic);
+    return wsc.invokeAsync("UpdateVirtualNic", paras, null, callback);
+  }
+  public Future<String> addServiceConsoleVirtualNicAsync(ManagedObjectReference _this, String portgroup, HostVirtualNicSpec nic)
+  {
+    return addServiceConsoleVirtualNicAsync(_this, portgroup, nic, null);
+  }
+  public Future<String> addServiceConsoleVirtualNicAsync(ManagedObjectReference _this, String portgroup, HostVirtualNicSpec nic, AsyncCallback<String> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("portgroup", "String", portgroup);
+    paras[2] = new Argument("nic", "HostVirtualNicSpec", nic);
+    return wsc.invokeAsync("AddServiceConsoleVirtualNic", paras, "String", callback);
+  }
+  public Future<Void> removeServiceConsoleVirtualNicAsync(ManagedObjectReference _this, String device)
+  {
+    return removeServiceConsoleVirtualNicAsync(_this, device, null);
+  }
+  public Future<Void> removeServiceConsoleVirtualNicAsync(ManagedObjectReference _this, String device, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("device", "String", device);
+    return wsc.invokeAsync("RemoveServiceConsoleVirtualNic", paras, null, callback);
+  }
+  public Future<Void> updateServiceConsoleVirtualNicAsync(ManagedObjectReference _this, String device, HostVirtualNicSpec nic)
+  {
+    return updateServiceConsoleVirtualNicAsync(_this, device, nic, null);
+  }
+  public Future<Void> updateServiceConsoleVirtualNicAsync(ManagedObjectReference _this, String device, HostVirtualNicSpec nic, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("device", "String", device);
+    paras[2] = new Argument("nic", "HostVirtualNicSpec", nic);
+    return wsc.invokeAsync("UpdateServiceConsoleVirtualNic", paras, null, callback);
+  }
+  public Future<Void> restartServiceConsoleVirtualNicAsync(ManagedObjectReference _this, String device)
+  {
+    return restartServiceConsoleVirtualNicAsync(_this, device, null);
+  }
+  public Future<Void> restartServiceConsoleVirtualNicAsync(ManagedObjectReference _this, String device, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("device", "String", device);
+    return wsc.invokeAsync("RestartServiceConsoleVirtualNic", paras, null, callback);
+  }
+  public Future<Void> refreshNetworkSystemAsync(ManagedObjectReference _this)
+  {
+    return refreshNetworkSystemAsync(_this, null);
+  }
+  public Future<Void> refreshNetworkSystemAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RefreshNetworkSystem", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> checkHostPatch_TaskAsync(ManagedObjectReference _this, String[] metaUrls, String[] bundleUrls, HostPatchManagerPatchManagerOperationSpec spec)
+  {
+    return checkHostPatch_TaskAsync(_this, metaUrls, bundleUrls, spec, null);
+  }
+  public Future<ManagedObjectReference> checkHostPatch_TaskAsync(ManagedObjectReference _this, String[] metaUrls, String[] bundleUrls, HostPatchManagerPatchManagerOperationSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("metaUrls", "String[]", metaUrls);
+    paras[2] = new Argument("bundleUrls", "String[]", bundleUrls);
+    paras[3] = new Argument("spec", "HostPatchManagerPatchManagerOperationSpec", spec);
+    return wsc.invokeAsync("CheckHostPatch_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> scanHostPatch_TaskAsync(ManagedObjectReference _this, HostPatchManagerLocator repository, String[] updateID)
+  {
+    return scanHostPatch_TaskAsync(_this, repository, updateID, null);
+  }
+  public Future<ManagedObjectReference> scanHostPatch_TaskAsync(ManagedObjectReference _this, HostPatchManagerLocator repository, String[] updateID, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("repository", "HostPatchManagerLocator", repository);
+    paras[2] = new Argument("updateID", "String[]", updateID);
+    return wsc.invokeAsync("ScanHostPatch_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> scanHostPatchV2_TaskAsync(ManagedObjectReference _this, String[] metaUrls, String[] bundleUrls, HostPatchManagerPatchManagerOperationSpec spec)
+  {
+    return scanHostPatchV2_TaskAsync(_this, metaUrls, bundleUrls, spec, null);
+  }
+  public Future<ManagedObjectReference> scanHostPatchV2_TaskAsync(ManagedObjectReference _this, String[] metaUrls, String[] bundleUrls, HostPatchManagerPatchManagerOperationSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("metaUrls", "String[]", metaUrls);
+    paras[2] = new Argument("bundleUrls", "String[]", bundleUrls);
+    paras[3] = new Argument("spec", "HostPatchManagerPatchManagerOperationSpec", spec);
+    return wsc.invokeAsync("ScanHostPatchV2_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> stageHostPatch_TaskAsync(ManagedObjectReference _this, String[] metaUrls, String[] bundleUrls, String[] vibUrls, HostPatchManagerPatchManagerOperationSpec spec)
+  {
+    return stageHostPatch_TaskAsync(_this, metaUrls, bundleUrls, vibUrls, spec, null);
+  }
+  public Future<ManagedObjectReference> stageHostPatch_TaskAsync(ManagedObjectReference _this, String[] metaUrls, String[] bundleUrls, String[] vibUrls, HostPatchManagerPatchManagerOperationSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("metaUrls", "String[]", metaUrls);
+    paras[2] = new Argument("bundleUrls", "String[]", bundleUrls);
+    paras[3] = new Argument("vibUrls", "String[]", vibUrls);
+    paras[4] = new Argument("spec", "HostPatchManagerPatchManagerOperationSpec", spec);
+    return wsc.invokeAsync("StageHostPatch_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> installHostPatch_TaskAsync(ManagedObjectReference _this, HostPatchManagerLocator repository, String updateID, Boolean force)
+  {
+    return installHostPatch_TaskAsync(_this, repository, updateID, force, null);
+  }
+  public Future<ManagedObjectReference> installHostPatch_TaskAsync(ManagedObjectReference _this, HostPatchManagerLocator repository, String updateID, Boolean force, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("repository", "HostPatchManagerLocator", repository);
+    paras[2] = new Argument("updateID", "String", updateID);
+    paras[3] = new Argument("force", "Boolean", force);
+    return wsc.invokeAsync("InstallHostPatch_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> installHostPatchV2_TaskAsync(ManagedObjectReference _this, String[] metaUrls, String[] bundleUrls, String[] vibUrls, HostPatchManagerPatchManagerOperationSpec spec)
+  {
+    return installHostPatchV2_TaskAsync(_this, metaUrls, bundleUrls, vibUrls, spec, null);
+  }
+  public Future<ManagedObjectReference> installHostPatchV2_TaskAsync(ManagedObjectReference _this, String[] metaUrls, String[] bundleUrls, String[] vibUrls, HostPatchManagerPatchManagerOperationSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("metaUrls", "String[]", metaUrls);
+    paras[2] = new Argument("bundleUrls", "String[]", bundleUrls);
+    paras[3] = new Argument("vibUrls", "String[]", vibUrls);
+    paras[4] = new Argument("spec", "HostPatchManagerPatchManagerOperationSpec", spec);
+    return wsc.invokeAsync("InstallHostPatchV2_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> uninstallHostPatch_TaskAsync(ManagedObjectReference _this, String[] bulletinIds, HostPatchManagerPatchManagerOperationSpec spec)
+  {
+    return uninstallHostPatch_TaskAsync(_this, bulletinIds, spec, null);
+  }
+  public Future<ManagedObjectReference> uninstallHostPatch_TaskAsync(ManagedObjectReference _this, String[] bulletinIds, HostPatchManagerPatchManagerOperationSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("bulletinIds", "String[]", bulletinIds);
+    paras[2] = new Argument("spec", "HostPatchManagerPatchManagerOperationSpec", spec);
+    return wsc.invokeAsync("UninstallHostPatch_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> queryHostPatch_TaskAsync(ManagedObjectReference _this, HostPatchManagerPatchManagerOperationSpec spec)
+  {
+    return queryHostPatch_TaskAsync(_this, spec, null);
+  }
+  public Future<ManagedObjectReference> queryHostPatch_TaskAsync(ManagedObjectReference _this, HostPatchManagerPatchManagerOperationSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "HostPatchManagerPatchManagerOperationSpec", spec);
+    return wsc.invokeAsync("QueryHostPatch_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> refreshAsync(ManagedObjectReference _this)
+  {
+    return refreshAsync(_this, null);
+  }
+  public Future<Void> refreshAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("Refresh", paras, null, callback);
+  }
+  public Future<Void> updatePassthruConfigAsync(ManagedObjectReference _this, HostPciPassthruConfig[] config)
+  {
+    return updatePassthruConfigAsync(_this, config, null);
+  }
+  public Future<Void> updatePassthruConfigAsync(ManagedObjectReference _this, HostPciPassthruConfig[] config, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("config", "HostPciPassthruConfig[]", config);
+    return wsc.invokeAsync("UpdatePassthruConfig", paras, null, callback);
+  }
+  public Future<Void> configurePowerPolicyAsync(ManagedObjectReference _this, int key)
+  {
+    return configurePowerPolicyAsync(_this, key, null);
+  }
+  public Future<Void> configurePowerPolicyAsync(ManagedObjectReference _this, int key, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("key", "int", key);
+    return wsc.invokeAsync("ConfigurePowerPolicy", paras, null, callback);
+  }
+  public Future<Void> updateServicePolicyAsync(ManagedObjectReference _this, String id, String policy)
+  {
+    return updateServicePolicyAsync(_this, id, policy, null);
+  }
+  public Future<Void> updateServicePolicyAsync(ManagedObjectReference _this, String id, String policy, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("id", "String", id);
+    paras[2] = new Argument("policy", "String", policy);
+    return wsc.invokeAsync("UpdateServicePolicy", paras, null, callback);
+  }
+  public Future<Void> startServiceAsync(ManagedObjectReference _this, String id)
+  {
+    return startServiceAsync(_this, id, null);
+  }
+  public Future<Void> startServiceAsync(ManagedObjectReference _this, String id, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("id", "String", id);
+    return wsc.invokeAsync("StartService", paras, null, callback);
+  }
+  public Future<Void> stopServiceAsync(ManagedObjectReference _this, String id)
+  {
+    return stopServiceAsync(_this, id, null);
+  }
+  public Future<Void> stopServiceAsync(ManagedObjectReference _this, String id, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("id", "String", id);
+    return wsc.invokeAsync("StopService", paras, null, callback);
+  }
+  public Future<Void> restartServiceAsync(ManagedObjectReference _this, String id)
+  {
+    return restartServiceAsync(_this, id, null);
+  }
+  public Future<Void> restartServiceAsync(ManagedObjectReference _this, String id, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("id", "String", id);
+    return wsc.invokeAsync("RestartService", paras, null, callback);
+  }
+  public Future<Void> uninstallServiceAsync(ManagedObjectReference _this, String id)
+  {
+    return uninstallServiceAsync(_this, id, null);
+  }
+  public Future<Void> uninstallServiceAsync(ManagedObjectReference _this, String id, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("id", "String", id);
+    return wsc.invokeAsync("UninstallService", paras, null, callback);
+  }
+  public Future<Void> refreshServicesAsync(ManagedObjectReference _this)
+  {
+    return refreshServicesAsync(_this, null);
+  }
+  public Future<Void> refreshServicesAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RefreshServices", paras, null, callback);
+  }
+  public Future<Void> reconfigureSnmpAgentAsync(ManagedObjectReference _this, HostSnmpConfigSpec spec)
+  {
+    return reconfigureSnmpAgentAsync(_this, spec, null);
+  }
+  public Future<Void> reconfigureSnmpAgentAsync(ManagedObjectReference _this, HostSnmpConfigSpec spec, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "HostSnmpConfigSpec", spec);
+    return wsc.invokeAsync("ReconfigureSnmpAgent", paras, null, callback);
+  }
+  public Future<Void> sendTestNotificationAsync(ManagedObjectReference _this)
+  {
+    return sendTestNotificationAsync(_this, null);
+  }
+  public Future<Void> sendTestNotificationAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("SendTestNotification", paras, null, callback);
+  }
+  public Future<HostDiskPartitionInfo[]> retrieveDiskPartitionInfoAsync(ManagedObjectReference _this, String[] devicePath)
+  {
+    return retrieveDiskPartitionInfoAsync(_this, devicePath, null);
+  }
+  public Future<HostDiskPartitionInfo[]> retrieveDiskPartitionInfoAsync(ManagedObjectReference _this, String[] devicePath, AsyncCallback<HostDiskPartitionInfo[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("devicePath", "String[]", devicePath);
+    return wsc.invokeAsync("RetrieveDiskPartitionInfo", paras, "HostDiskPartitionInfo[]", callback);
+  }
+  public Future<HostDiskPartitionInfo> computeDiskPartitionInfoAsync(ManagedObjectReference _this, String devicePath, HostDiskPartitionLayout layout)
+  {
+    return computeDiskPartitionInfoAsync(_this, devicePath, layout, null);
+  }
+  public Future<HostDiskPartitionInfo> computeDiskPartitionInfoAsync(ManagedObjectReference _this, String devicePath, HostDiskPartitionLayout layout, AsyncCallback<HostDiskPartitionInfo> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("devicePath", "String", devicePath);
+    paras[2] = new Argument("layout", "HostDiskPartitionLayout", layout);
+    return wsc.invokeAsync("ComputeDiskPartitionInfo", paras, "HostDiskPartitionInfo", callback);
+  }
+  public Future<HostDiskPartitionInfo> computeDiskPartitionInfoForResizeAsync(ManagedObjectReference _this, HostScsiDiskPartition partition, HostDiskPartitionBlockRange blockRange)
+  {
+    return computeDiskPartitionInfoForResizeAsync(_this, partition, blockRange, null);
+  }
+  public Future<HostDiskPartitionInfo> computeDiskPartitionInfoForResizeAsync(ManagedObjectReference _this, HostScsiDiskPartition partition, HostDiskPartitionBlockRange blockRange, AsyncCallback<HostDiskPartitionInfo> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("partition", "HostScsiDiskPartition", partition);
+    paras[2] = new Argument("blockRange", "HostDiskPartitionBlockRange", blockRange);
+    return wsc.invokeAsync("ComputeDiskPartitionInfoForResize", paras, "HostDiskPartitionInfo", callback);
+  }
+  public Future<Void> updateDiskPartitionsAsync(ManagedObjectReference _this, String devicePath, HostDiskPartitionSpec spec)
+  {
+    return updateDiskPartitionsAsync(_this, devicePath, spec, null);
+  }
+  public Future<Void> updateDiskPartitionsAsync(ManagedObjectReference _this, String devicePath, HostDiskPartitionSpec spec, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("devicePath", "String", devicePath);
+    paras[2] = new Argument("spec", "HostDiskPartitionSpec", spec);
+    return wsc.invokeAsync("UpdateDiskPartitions", paras, null, callback);
+  }
+  public Future<HostVmfsVolume> formatVmfsAsync(ManagedObjectReference _this, HostVmfsSpec createSpec)
+  {
+    return formatVmfsAsync(_this, createSpec, null);
+  }
+  public Future<HostVmfsVolume> formatVmfsAsync(ManagedObjectReference _this, HostVmfsSpec createSpec, AsyncCallback<HostVmfsVolume> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("createSpec", "HostVmfsSpec", createSpec);
+    return wsc.invokeAsync("FormatVmfs", paras, "HostVmfsVolume", callback);
+  }
+  public Future<Void> rescanVmfsAsync(ManagedObjectReference _this)
+  {
+    return rescanVmfsAsync(_this, null);
+  }
+  public Future<Void> rescanVmfsAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RescanVmfs", paras, null, callback);
+  }
+  public Future<Void> attachVmfsExtentAsync(ManagedObjectReference _this, String vmfsPath, HostScsiDiskPartition extent)
+  {
+    return attachVmfsExtentAsync(_this, vmfsPath, extent, null);
+  }
+  public Future<Void> attachVmfsExtentAsync(ManagedObjectReference _this, String vmfsPath, HostScsiDiskPartition extent, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vmfsPath", "String", vmfsPath);
+    paras[2] = new Argument("extent", "HostScsiDiskPartition", extent);
+    return wsc.invokeAsync("AttachVmfsExtent", paras, null, callback);
+  }
+  public Future<Void> expandVmfsExtentAsync(ManagedObjectReference _this, String vmfsPath, HostScsiDiskPartition extent)
+  {
+    return expandVmfsExtentAsync(_this, vmfsPath, extent, null);
+  }
+  public Future<Void> expandVmfsExtentAsync(ManagedObjectReference _this, String vmfsPath, HostScsiDiskPartition extent, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vmfsPath", "String", vmfsPath);
+    paras[2] = new Argument("extent", "HostScsiDiskPartition", extent);
+    return wsc.invokeAsync("ExpandVmfsExtent", paras, null, callback);
+  }
+  public Future<Void> upgradeVmfsAsync(ManagedObjectReference _this, String vmfsPath)
+  {
+    return upgradeVmfsAsync(_this, vmfsPath, null);
+  }
+  public Future<Void> upgradeVmfsAsync(ManagedObjectReference _this, String vmfsPath, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vmfsPath", "String", vmfsPath);
+    return wsc.invokeAsync("UpgradeVmfs", paras, null, callback);
+  }
+  public Future<Void> upgradeVmLayoutAsync(ManagedObjectReference _this)
+  {
+    return upgradeVmLayoutAsync(_this, null);
+  }
+  public Future<Void> upgradeVmLayoutAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("UpgradeVmLayout", paras, null, callback);
+  }
+  public Future<HostUnresolvedVmfsVolume[]> queryUnresolvedVmfsVolumeAsync(ManagedObjectReference _this)
+  {
+    return queryUnresolvedVmfsVolumeAsync(_this, null);
+  }
+  public Future<HostUnresolvedVmfsVolume[]> queryUnresolvedVmfsVolumeAsync(ManagedObjectReference _this, AsyncCallback<HostUnresolvedVmfsVolume[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryUnresolvedVmfsVolume", paras, "HostUnresolvedVmfsVolume[]", callback);
+  }
+  public Future<HostUnresolvedVmfsResolutionResult[]> resolveMultipleUnresolvedVmfsVolumesAsync(ManagedObjectReference _this, HostUnresolvedVmfsResolutionSpec[] resolutionSpec)
+  {
+    return resolveMultipleUnresolvedVmfsVolumesAsync(_this, resolutionSpec, null);
+  }
+  public Future<HostUnresolvedVmfsResolutionResult[]> resolveMultipleUnresolvedVmfsVolumesAsync(ManagedObjectReference _this, HostUnresolvedVmfsResolutionSpec[] resolutionSpec, AsyncCallback<HostUnresolvedVmfsResolutionResult[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("resolutionSpec", "HostUnresolvedVmfsResolutionSpec[]", resolutionSpec);
+    return wsc.invokeAsync("ResolveMultipleUnresolvedVmfsVolumes", paras, "HostUnresolvedVmfsResolutionResult[]", callback);
+  }
+  public Future<Void> unmountForceMountedVmfsVolumeAsync(ManagedObjectReference _this, String vmfsUuid)
+  {
+    return unmountForceMountedVmfsVolumeAsync(_this, vmfsUuid, null);
+  }
+  public Future<Void> unmountForceMountedVmfsVolumeAsync(ManagedObjectReference _this, String vmfsUuid, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vmfsUuid", "String", vmfsUuid);
+    return wsc.invokeAsync("UnmountForceMountedVmfsVolume", paras, null, callback);
+  }
+  public Future<Void> rescanHbaAsync(ManagedObjectReference _this, String hbaDevice)
+  {
+    return rescanHbaAsync(_this, hbaDevice, null);
+  }
+  public Future<Void> rescanHbaAsync(ManagedObjectReference _this, String hbaDevice, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("hbaDevice", "String", hbaDevice);
+    return wsc.invokeAsync("RescanHba", paras, null, callback);
+  }
+  public Future<Void> rescanAllHbaAsync(ManagedObjectReference _this)
+  {
+    return rescanAllHbaAsync(_this, null);
+  }
+  public Future<Void> rescanAllHbaAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RescanAllHba", paras, null, callback);
+  }
+  public Future<Void> updateSoftwareInternetScsiEnabledAsync(ManagedObjectReference _this, boolean enabled)
+  {
+    return updateSoftwareInternetScsiEnabledAsync(_this, enabled, null);
+  }
+  public Future<Void> updateSoftwareInternetScsiEnabledAsync(ManagedObjectReference _this, boolean enabled, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("enabled", "boolean", enabled);
+    return wsc.invokeAsync("UpdateSoftwareInternetScsiEnabled", paras, null, callback);
+  }
+  public Future<Void> updateInternetScsiDiscoveryPropertiesAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaDiscoveryProperties discoveryProperties)
+  {
+    return updateInternetScsiDiscoveryPropertiesAsync(_this, iScsiHbaDevice, discoveryProperties, null);
+  }
+  public Future<Void> updateInternetScsiDiscoveryPropertiesAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaDiscoveryProperties discoveryProperties, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("iScsiHbaDevice", "String", iScsiHbaDevice);
+    paras[2] = new Argument("discoveryProperties", "HostInternetScsiHbaDiscoveryProperties", discoveryProperties);
+    return wsc.invokeAsync("UpdateInternetScsiDiscoveryProperties", paras, null, callback);
+  }
+  public Future<Void> updateInternetScsiAuthenticationPropertiesAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaAuthenticationProperties authenticationProperties, HostInternetScsiHbaTargetSet targetSet)
+  {
+    return updateInternetScsiAuthenticationPropertiesAsync(_this, iScsiHbaDevice, authenticationProperties, targetSet, null);
+  }
+  public Future<Void> updateInternetScsiAuthenticationPropertiesAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaAuthenticationProperties authenticationProperties, HostInternetScsiHbaTargetSet targetSet, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("iScsiHbaDevice", "String", iScsiHbaDevice);
+    paras[2] = new Argument("authenticationProperties", "HostInternetScsiHbaAuthenticationProperties", authenticationProperties);
+    paras[3] = new Argument("targetSet", "HostInternetScsiHbaTargetSet", targetSet);
+    return wsc.invokeAsync("UpdateInternetScsiAuthenticationProperties", paras, null, callback);
+  }
+  public Future<Void> updateInternetScsiDigestPropertiesAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaTargetSet targetSet, HostInternetScsiHbaDigestProperties digestProperties)
+  {
+    return updateInternetScsiDigestPropertiesAsync(_this, iScsiHbaDevice, targetSet, digestProperties, null);
+  }
+  public Future<Void> updateInternetScsiDigestPropertiesAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaTargetSet targetSet, HostInternetScsiHbaDigestProperties digestProperties, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("iScsiHbaDevice", "String", iScsiHbaDevice);
+    paras[2] = new Argument("targetSet", "HostInternetScsiHbaTargetSet", targetSet);
+    paras[3] = new Argument("digestProperties", "HostInternetScsiHbaDigestProperties", digestProperties);
+    return wsc.invokeAsync("UpdateInternetScsiDigestProperties", paras, null, callback);
+  }
+  public Future<Void> updateInternetScsiAdvancedOptionsAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaTargetSet targetSet, HostInternetScsiHbaParamValue[] options)
+  {
+    return updateInternetScsiAdvancedOptionsAsync(_this, iScsiHbaDevice, targetSet, options, null);
+  }
+  public Future<Void> updateInternetScsiAdvancedOptionsAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaTargetSet targetSet, HostInternetScsiHbaParamValue[] options, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("iScsiHbaDevice", "String", iScsiHbaDevice);
+    paras[2] = new Argument("targetSet", "HostInternetScsiHbaTargetSet", targetSet);
+    paras[3] = new Argument("options", "HostInternetScsiHbaParamValue[]", options);
+    return wsc.invokeAsync("UpdateInternetScsiAdvancedOptions", paras, null, callback);
+  }
+  public Future<Void> updateInternetScsiIPPropertiesAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaIPProperties ipProperties)
+  {
+    return updateInternetScsiIPPropertiesAsync(_this, iScsiHbaDevice, ipProperties, null);
+  }
+  public Future<Void> updateInternetScsiIPPropertiesAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaIPProperties ipProperties, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("iScsiHbaDevice", "String", iScsiHbaDevice);
+    paras[2] = new Argument("ipProperties", "HostInternetScsiHbaIPProperties", ipProperties);
+    return wsc.invokeAsync("UpdateInternetScsiIPProperties", paras, null, callback);
+  }
+  public Future<Void> updateInternetScsiNameAsync(ManagedObjectReference _this, String iScsiHbaDevice, String iScsiName)
+  {
+    return updateInternetScsiNameAsync(_this, iScsiHbaDevice, iScsiName, null);
+  }
+  public Future<Void> updateInternetScsiNameAsync(ManagedObjectReference _this, String iScsiHbaDevice, String iScsiName, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("iScsiHbaDevice", "String", iScsiHbaDevice);
+    paras[2] = new Argument("iScsiName", "String", iScsiName);
+    return wsc.invokeAsync("UpdateInternetScsiName", paras, null, callback);
+  }
+  public Future<Void> updateInternetScsiAliasAsync(ManagedObjectReference _this, String iScsiHbaDevice, String iScsiAlias)
+  {
+    return updateInternetScsiAliasAsync(_this, iScsiHbaDevice, iScsiAlias, null);
+  }
+  public Future<Void> updateInternetScsiAliasAsync(ManagedObjectReference _this, String iScsiHbaDevice, String iScsiAlias, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("iScsiHbaDevice", "String", iScsiHbaDevice);
+    paras[2] = new Argument("iScsiAlias", "String", iScsiAlias);
+    return wsc.invokeAsync("UpdateInternetScsiAlias", paras, null, callback);
+  }
+  public Future<Void> addInternetScsiSendTargetsAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaSendTarget[] targets)
+  {
+    return addInternetScsiSendTargetsAsync(_this, iScsiHbaDevice, targets, null);
+  }
+  public Future<Void> addInternetScsiSendTargetsAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaSendTarget[] targets, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("iScsiHbaDevice", "String", iScsiHbaDevice);
+    paras[2] = new Argument("targets", "HostInternetScsiHbaSendTarget[]", targets);
+    return wsc.invokeAsync("AddInternetScsiSendTargets", paras, null, callback);
+  }
+  public Future<Void> removeInternetScsiSendTargetsAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaSendTarget[] targets)
+  {
+    return removeInternetScsiSendTargetsAsync(_this, iScsiHbaDevice, targets, null);
+  }
+  public Future<Void> removeInternetScsiSendTargetsAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaSendTarget[] targets, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("iScsiHbaDevice", "String", iScsiHbaDevice);
+    paras[2] = new Argument("targets", "HostInternetScsiHbaSendTarget[]", targets);
+    return wsc.invokeAsync("RemoveInternetScsiSendTargets", paras, null, callback);
+  }
+  public Future<Void> addInternetScsiStaticTargetsAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaStaticTarget[] targets)
+  {
+    return addInternetScsiStaticTargetsAsync(_this, iScsiHbaDevice, targets, null);
+  }
+  public Future<Void> addInternetScsiStaticTargetsAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaStaticTarget[] targets, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("iScsiHbaDevice", "String", iScsiHbaDevice);
+    paras[2] = new Argument("targets", "HostInternetScsiHbaStaticTarget[]", targets);
+    return wsc.invokeAsync("AddInternetScsiStaticTargets", paras, null, callback);
+  }
+  public Future<Void> removeInternetScsiStaticTargetsAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaStaticTarget[] targets)
+  {
+    return removeInternetScsiStaticTargetsAsync(_this, iScsiHbaDevice, targets, null);
+  }
+  public Future<Void> removeInternetScsiStaticTargetsAsync(ManagedObjectReference _this, String iScsiHbaDevice, HostInternetScsiHbaStaticTarget[] targets, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("iScsiHbaDevice", "String", iScsiHbaDevice);
+    paras[2] = new Argument("targets", "HostInternetScsiHbaStaticTarget[]", targets);
+    return wsc.invokeAsync("RemoveInternetScsiStaticTargets", paras, null, callback);
+  }
+  public Future<Void> enableMultipathPathAsync(ManagedObjectReference _this, String pathName)
+  {
+    return enableMultipathPathAsync(_this, pathName, null);
+  }
+  public Future<Void> enableMultipathPathAsync(ManagedObjectReference _this, String pathName, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("pathName", "String", pathName);
+    return wsc.invokeAsync("EnableMultipathPath", paras, null, callback);
+  }
+  public Future<Void> disableMultipathPathAsync(ManagedObjectReference _this, String pathName)
+  {
+    return disableMultipathPathAsync(_this, pathName, null);
+  }
+  public Future<Void> disableMultipathPathAsync(ManagedObjectReference _this, String pathName, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("pathName", "String", pathName);
+    return wsc.invokeAsync("DisableMultipathPath", paras, null, callback);
+  }
+  public Future<Void> setMultipathLunPolicyAsync(ManagedObjectReference _this, String lunId, HostMultipathInfoLogicalUnitPolicy policy)
+  {
+    return setMultipathLunPolicyAsync(_this, lunId, policy, null);
+  }
+  public Future<Void> setMultipathLunPolicyAsync(ManagedObjectReference _this, String lunId, HostMultipathInfoLogicalUnitPolicy policy, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("lunId", "String", lunId);
+    paras[2] = new Argument("policy", "HostMultipathInfoLogicalUnitPolicy", policy);
+    return wsc.invokeAsync("SetMultipathLunPolicy", paras, null, callback);
+  }
+  public Future<HostPathSelectionPolicyOption[]> queryPathSelectionPolicyOptionsAsync(ManagedObjectReference _this)
+  {
+    return queryPathSelectionPolicyOptionsAsync(_this, null);
+  }
+  public Future<HostPathSelectionPolicyOption[]> queryPathSelectionPolicyOptionsAsync(ManagedObjectReference _this, AsyncCallback<HostPathSelectionPolicyOption[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryPathSelectionPolicyOptions", paras, "HostPathSelectionPolicyOption[]", callback);
+  }
+  public Future<HostStorageArrayTypePolicyOption[]> queryStorageArrayTypePolicyOptionsAsync(ManagedObjectReference _this)
+  {
+    return queryStorageArrayTypePolicyOptionsAsync(_this, null);
+  }
+  public Future<HostStorageArrayTypePolicyOption[]> queryStorageArrayTypePolicyOptionsAsync(ManagedObjectReference _this, AsyncCallback<HostStorageArrayTypePolicyOption[]> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("QueryStorageArrayTypePolicyOptions", paras, "HostStorageArrayTypePolicyOption[]", callback);
+  }
+  public Future<Void> updateScsiLunDisplayNameAsync(ManagedObjectReference _this, String lunUuid, String displayName)
+  {
+    return updateScsiLunDisplayNameAsync(_this, lunUuid, displayName, null);
+  }
+  public Future<Void> updateScsiLunDisplayNameAsync(ManagedObjectReference _this, String lunUuid, String displayName, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("lunUuid", "String", lunUuid);
+    paras[2] = new Argument("displayName", "String", displayName);
+    return wsc.invokeAsync("UpdateScsiLunDisplayName", paras, null, callback);
+  }
+  public Future<Void> refreshStorageSystemAsync(ManagedObjectReference _this)
+  {
+    return refreshStorageSystemAsync(_this, null);
+  }
+  public Future<Void> refreshStorageSystemAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RefreshStorageSystem", paras, null, callback);
+  }
+  public Future<Void> updateIpConfigAsync(ManagedObjectReference _this, HostIpConfig ipConfig)
+  {
+    return updateIpConfigAsync(_this, ipConfig, null);
+  }
+  public Future<Void> updateIpConfigAsync(ManagedObjectReference _this, HostIpConfig ipConfig, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("ipConfig", "HostIpConfig", ipConfig);
+    return wsc.invokeAsync("UpdateIpConfig", paras, null, callback);
+  }
+  public Future<Void> selectVnicAsync(ManagedObjectReference _this, String device)
+  {
+    return selectVnicAsync(_this, device, null);
+  }
+  public Future<Void> selectVnicAsync(ManagedObjectReference _this, String device, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("device", "String", device);
+    return wsc.invokeAsync("SelectVnic", paras, null, callback);
+  }
+  public Future<Void> deselectVnicAsync(ManagedObjectReference _this)
+  {
+    return deselectVnicAsync(_this, null);
+  }
+  public Future<Void> deselectVnicAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("DeselectVnic", paras, null, callback);
+  }
+  public Future<VirtualNicManagerNetConfig> queryNetConfigAsync(ManagedObjectReference _this, String nicType)
+  {
+    return queryNetConfigAsync(_this, nicType, null);
+  }
+  public Future<VirtualNicManagerNetConfig> queryNetConfigAsync(ManagedObjectReference _this, String nicType, AsyncCallback<VirtualNicManagerNetConfig> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("nicType", "String", nicType);
+    return wsc.invokeAsync("QueryNetConfig", paras, "VirtualNicManagerNetConfig", callback);
+  }
+  public Future<Void> selectVnicForNicTypeAsync(ManagedObjectReference _this, String nicType, String device)
+  {
+    return selectVnicForNicTypeAsync(_this, nicType, device, null);
+  }
+  public Future<Void> selectVnicForNicTypeAsync(ManagedObjectReference _this, String nicType, String device, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("nicType", "String", nicType);
+    paras[2] = new Argument("device", "String", device);
+    return wsc.invokeAsync("SelectVnicForNicType", paras, null, callback);
+  }
+  public Future<Void> deselectVnicForNicTypeAsync(ManagedObjectReference _this, String nicType, String device)
+  {
+    return deselectVnicForNicTypeAsync(_this, nicType, device, null);
+  }
+  public Future<Void> deselectVnicForNicTypeAsync(ManagedObjectReference _this, String nicType, String device, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("nicType", "String", nicType);
+    paras[2] = new Argument("device", "String", device);
+    return wsc.invokeAsync("DeselectVnicForNicType", paras, null, callback);
+  }
+  public Future<OptionValue[]> queryOptionsAsync(ManagedObjectReference _this, String name)
+  {
+    return queryOptionsAsync(_this, name, null);
+  }
+  public Future<OptionValue[]> queryOptionsAsync(ManagedObjectReference _this, String name, AsyncCallback<OptionValue[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    return wsc.invokeAsync("QueryOptions", paras, "OptionValue[]", callback);
+  }
+  public Future<Void> updateOptionsAsync(ManagedObjectReference _this, OptionValue[] changedValue)
+  {
+    return updateOptionsAsync(_this, changedValue, null);
+  }
+  public Future<Void> updateOptionsAsync(ManagedObjectReference _this, OptionValue[] changedValue, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("changedValue", "OptionValue[]", changedValue);
+    return wsc.invokeAsync("UpdateOptions", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> checkCompliance_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] profile, ManagedObjectReference[] entity)
+  {
+    return checkCompliance_TaskAsync(_this, profile, entity, null);
+  }
+  public Future<ManagedObjectReference> checkCompliance_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] profile, ManagedObjectReference[] entity, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("profile", "ManagedObjectReference[]", profile);
+    paras[2] = new Argument("entity", "ManagedObjectReference[]", entity);
+    return wsc.invokeAsync("CheckCompliance_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ComplianceResult[]> queryComplianceStatusAsync(ManagedObjectReference _this, ManagedObjectReference[] profile, ManagedObjectReference[] entity)
+  {
+    return queryComplianceStatusAsync(_this, profile, entity, null);
+  }
+  public Future<ComplianceResult[]> queryComplianceStatusAsync(ManagedObjectReference _this, ManagedObjectReference[] profile, ManagedObjectReference[] entity, AsyncCallback<ComplianceResult[]> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("profile", "ManagedObjectReference[]", profile);
+    paras[2] = new Argument("entity", "ManagedObjectReference[]", entity);
+    return wsc.invokeAsync("QueryComplianceStatus", paras, "ComplianceResult[]", callback);
+  }
+  public Future<Void> clearComplianceStatusAsync(ManagedObjectReference _this, ManagedObjectReference[] profile, ManagedObjectReference[] entity)
+  {
+    return clearComplianceStatusAsync(_this, profile, entity, null);
+  }
+  public Future<Void> clearComplianceStatusAsync(ManagedObjectReference _this, ManagedObjectReference[] profile, ManagedObjectReference[] entity, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("profile", "ManagedObjectReference[]", profile);
+    paras[2] = new Argument("entity", "ManagedObjectReference[]", entity);
+    return wsc.invokeAsync("ClearComplianceStatus", paras, null, callback);
+  }
+  public Future<ProfileExpressionMetadata[]> queryExpressionMetadataAsync(ManagedObjectReference _this, String[] expressionName)
+  {
+    return queryExpressionMetadataAsync(_this, expressionName, null);
+  }
+  public Future<ProfileExpressionMetadata[]> queryExpressionMetadataAsync(ManagedObjectReference _this, String[] expressionName, AsyncCallback<ProfileExpressionMetadata[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("expressionName", "String[]", expressionName);
+    return wsc.invokeAsync("QueryExpressionMetadata", paras, "ProfileExpressionMetadata[]", callback);
+  }
+  public Future<Void> destroyProfileAsync(ManagedObjectReference _this)
+  {
+    return destroyProfileAsync(_this, null);
+  }
+  public Future<Void> destroyProfileAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("DestroyProfile", paras, null, callback);
+  }
+  public Future<Void> associateProfileAsync(ManagedObjectReference _this, ManagedObjectReference[] entity)
+  {
+    return associateProfileAsync(_this, entity, null);
+  }
+  public Future<Void> associateProfileAsync(ManagedObjectReference _this, ManagedObjectReference[] entity, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference[]", entity);
+    return wsc.invokeAsync("AssociateProfile", paras, null, callback);
+  }
+  public Future<Void> dissociateProfileAsync(ManagedObjectReference _this, ManagedObjectReference[] entity)
+  {
+    return dissociateProfileAsync(_this, entity, null);
+  }
+  public Future<Void> dissociateProfileAsync(ManagedObjectReference _this, ManagedObjectReference[] entity, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference[]", entity);
+    return wsc.invokeAsync("DissociateProfile", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> checkProfileCompliance_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] entity)
+  {
+    return checkProfileCompliance_TaskAsync(_this, entity, null);
+  }
+  public Future<ManagedObjectReference> checkProfileCompliance_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] entity, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference[]", entity);
+    return wsc.invokeAsync("CheckProfileCompliance_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<String> exportProfileAsync(ManagedObjectReference _this)
+  {
+    return exportProfileAsync(_this, null);
+  }
+  public Future<String> exportProfileAsync(ManagedObjectReference _this, AsyncCallback<String> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("ExportProfile", paras, "String", callback);
+  }
+  public Future<ManagedObjectReference> createProfileAsync(ManagedObjectReference _this, ProfileCreateSpec createSpec)
+  {
+    return createProfileAsync(_this, createSpec, null);
+  }
+  public Future<ManagedObjectReference> createProfileAsync(ManagedObjectReference _this, ProfileCreateSpec createSpec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("createSpec", "ProfileCreateSpec", createSpec);
+    return wsc.invokeAsync("CreateProfile", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ProfilePolicyMetadata[]> queryPolicyMetadataAsync(ManagedObjectReference _this, String[] policyName)
+  {
+    return queryPolicyMetadataAsync(_this, policyName, null);
+  }
+  public Future<ProfilePolicyMetadata[]> queryPolicyMetadataAsync(ManagedObjectReference _this, String[] policyName, AsyncCallback<ProfilePolicyMetadata[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("policyName", "String[]", policyName);
+    return wsc.invokeAsync("QueryPolicyMetadata", paras, "ProfilePolicyMetadata[]", callback);
+  }
+  public Future<ManagedObjectReference[]> findAssociatedProfileAsync(ManagedObjectReference _this, ManagedObjectReference entity)
+  {
+    return findAssociatedProfileAsync(_this, entity, null);
+  }
+  public Future<ManagedObjectReference[]> findAssociatedProfileAsync(ManagedObjectReference _this, ManagedObjectReference entity, AsyncCallback<ManagedObjectReference[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    return wsc.invokeAsync("FindAssociatedProfile", paras, "ManagedObjectReference[]", callback);
+  }
+  public Future<Void> updateClusterProfileAsync(ManagedObjectReference _this, ClusterProfileConfigSpec config)
+  {
+    return updateClusterProfileAsync(_this, config, null);
+  }
+  public Future<Void> updateClusterProfileAsync(ManagedObjectReference _this, ClusterProfileConfigSpec config, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("config", "ClusterProfileConfigSpec", config);
+    return wsc.invokeAsync("UpdateClusterProfile", paras, null, callback);
+  }
+  public Future<Void> updateReferenceHostAsync(ManagedObjectReference _this, ManagedObjectReference host)
+  {
+    return updateReferenceHostAsync(_this, host, null);
+  }
+  public Future<Void> updateReferenceHostAsync(ManagedObjectReference _this, ManagedObjectReference host, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("UpdateReferenceHost", paras, null, callback);
+  }
+  public Future<Void> updateHostProfileAsync(ManagedObjectReference _this, HostProfileConfigSpec config)
+  {
+    return updateHostProfileAsync(_this, config, null);
+  }
+  public Future<Void> updateHostProfileAsync(ManagedObjectReference _this, HostProfileConfigSpec config, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("config", "HostProfileConfigSpec", config);
+    return wsc.invokeAsync("UpdateHostProfile", paras, null, callback);
+  }
+  public Future<ProfileExecuteResult> executeHostProfileAsync(ManagedObjectReference _this, ManagedObjectReference host, ProfileDeferredPolicyOptionParameter[] deferredParam)
+  {
+    return executeHostProfileAsync(_this, host, deferredParam, null);
+  }
+  public Future<ProfileExecuteResult> executeHostProfileAsync(ManagedObjectReference _this, ManagedObjectReference host, ProfileDeferredPolicyOptionParameter[] deferredParam, AsyncCallback<ProfileExecuteResult> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    paras[2] = new Argument("deferredParam", "ProfileDeferredPolicyOptionParameter[]", deferredParam);
+    return wsc.invokeAsync("ExecuteHostProfile", paras, "ProfileExecuteResult", callback);
+  }
+  public Future<ManagedObjectReference> applyHostConfig_TaskAsync(ManagedObjectReference _this, ManagedObjectReference host, HostConfigSpec configSpec)
+  {
+    return applyHostConfig_TaskAsync(_this, host, configSpec, null);
+  }
+  public Future<ManagedObjectReference> applyHostConfig_TaskAsync(ManagedObjectReference _this, ManagedObjectReference host, HostConfigSpec configSpec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    paras[2] = new Argument("configSpec", "HostConfigSpec", configSpec);
+    return wsc.invokeAsync("ApplyHostConfig_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<HostProfileManagerConfigTaskList> generateConfigTaskListAsync(ManagedObjectReference _this, HostConfigSpec configSpec, ManagedObjectReference host)
+  {
+    return generateConfigTaskListAsync(_this, configSpec, host, null);
+  }
+  public Future<HostProfileManagerConfigTaskList> generateConfigTaskListAsync(ManagedObjectReference _this, HostConfigSpec configSpec, ManagedObjectReference host, AsyncCallback<HostProfileManagerConfigTaskList> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("configSpec", "HostConfigSpec", configSpec);
+    paras[2] = new Argument("host", "ManagedObjectReference", host);
+    return wsc.invokeAsync("GenerateConfigTaskList", paras, "HostProfileManagerConfigTaskList", callback);
+  }
+  public Future<ProfileMetadata[]> queryHostProfileMetadataAsync(ManagedObjectReference _this, String[] profileName)
+  {
+    return queryHostProfileMetadataAsync(_this, profileName, null);
+  }
+  public Future<ProfileMetadata[]> queryHostProfileMetadataAsync(ManagedObjectReference _this, String[] profileName, AsyncCallback<ProfileMetadata[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("profileName", "String[]", profileName);
+    return wsc.invokeAsync("QueryHostProfileMetadata", paras, "ProfileMetadata[]", callback);
+  }
+  public Future<ApplyProfile> createDefaultProfileAsync(ManagedObjectReference _this, String profileType)
+  {
+    return createDefaultProfileAsync(_this, profileType, null);
+  }
+  public Future<ApplyProfile> createDefaultProfileAsync(ManagedObjectReference _this, String profileType, AsyncCallback<ApplyProfile> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("profileType", "String", profileType);
+    return wsc.invokeAsync("CreateDefaultProfile", paras, "ApplyProfile", callback);
+  }
+  public Future<Void> removeScheduledTaskAsync(ManagedObjectReference _this)
+  {
+    return removeScheduledTaskAsync(_this, null);
+  }
+  public Future<Void> removeScheduledTaskAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RemoveScheduledTask", paras, null, callback);
+  }
+  public Future<Void> reconfigureScheduledTaskAsync(ManagedObjectReference _this, ScheduledTaskSpec spec)
+  {
+    return reconfigureScheduledTaskAsync(_this, spec, null);
+  }
+  public Future<Void> reconfigureScheduledTaskAsync(ManagedObjectReference _this, ScheduledTaskSpec spec, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("spec", "ScheduledTaskSpec", spec);
+    return wsc.invokeAsync("ReconfigureScheduledTask", paras, null, callback);
+  }
+  public Future<Void> runScheduledTaskAsync(ManagedObjectReference _this)
+  {
+    return runScheduledTaskAsync(_this, null);
+  }
+  public Future<Void> runScheduledTaskAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("RunScheduledTask", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> createScheduledTaskAsync(ManagedObjectReference _this, ManagedObjectReference entity, ScheduledTaskSpec spec)
+  {
+    return createScheduledTaskAsync(_this, entity, spec, null);
+  }
+  public Future<ManagedObjectReference> createScheduledTaskAsync(ManagedObjectReference _this, ManagedObjectReference entity, ScheduledTaskSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    paras[2] = new Argument("spec", "ScheduledTaskSpec", spec);
+    return wsc.invokeAsync("CreateScheduledTask", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference[]> retrieveEntityScheduledTaskAsync(ManagedObjectReference _this, ManagedObjectReference entity)
+  {
+    return retrieveEntityScheduledTaskAsync(_this, entity, null);
+  }
+  public Future<ManagedObjectReference[]> retrieveEntityScheduledTaskAsync(ManagedObjectReference _this, ManagedObjectReference entity, AsyncCallback<ManagedObjectReference[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference", entity);
+    return wsc.invokeAsync("RetrieveEntityScheduledTask", paras, "ManagedObjectReference[]", callback);
+  }
+  public Future<ManagedObjectReference> createObjectScheduledTaskAsync(ManagedObjectReference _this, ManagedObjectReference obj, ScheduledTaskSpec spec)
+  {
+    return createObjectScheduledTaskAsync(_this, obj, spec, null);
+  }
+  public Future<ManagedObjectReference> createObjectScheduledTaskAsync(ManagedObjectReference _this, ManagedObjectReference obj, ScheduledTaskSpec spec, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("obj", "ManagedObjectReference", obj);
+    paras[2] = new Argument("spec", "ScheduledTaskSpec", spec);
+    return wsc.invokeAsync("CreateObjectScheduledTask", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference[]> retrieveObjectScheduledTaskAsync(ManagedObjectReference _this, ManagedObjectReference obj)
+  {
+    return retrieveObjectScheduledTaskAsync(_this, obj, null);
+  }
+  public Future<ManagedObjectReference[]> retrieveObjectScheduledTaskAsync(ManagedObjectReference _this, ManagedObjectReference obj, AsyncCallback<ManagedObjectReference[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("obj", "ManagedObjectReference", obj);
+    return wsc.invokeAsync("RetrieveObjectScheduledTask", paras, "ManagedObjectReference[]", callback);
+  }
+  public Future<ManagedObjectReference[]> openInventoryViewFolderAsync(ManagedObjectReference _this, ManagedObjectReference[] entity)
+  {
+    return openInventoryViewFolderAsync(_this, entity, null);
+  }
+  public Future<ManagedObjectReference[]> openInventoryViewFolderAsync(ManagedObjectReference _this, ManagedObjectReference[] entity, AsyncCallback<ManagedObjectReference[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference[]", entity);
+    return wsc.invokeAsync("OpenInventoryViewFolder", paras, "ManagedObjectReference[]", callback);
+  }
+  public Future<ManagedObjectReference[]> closeInventoryViewFolderAsync(ManagedObjectReference _this, ManagedObjectReference[] entity)
+  {
+    return closeInventoryViewFolderAsync(_this, entity, null);
+  }
+  public Future<ManagedObjectReference[]> closeInventoryViewFolderAsync(ManagedObjectReference _this, ManagedObjectReference[] entity, AsyncCallback<ManagedObjectReference[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("entity", "ManagedObjectReference[]", entity);
+    return wsc.invokeAsync("CloseInventoryViewFolder", paras, "ManagedObjectReference[]", callback);
+  }
+  public Future<ManagedObjectReference[]> modifyListViewAsync(ManagedObjectReference _this, ManagedObjectReference[] add, ManagedObjectReference[] remove)
+  {
+    return modifyListViewAsync(_this, add, remove, null);
+  }
+  public Future<ManagedObjectReference[]> modifyListViewAsync(ManagedObjectReference _this, ManagedObjectReference[] add, ManagedObjectReference[] remove, AsyncCallback<ManagedObjectReference[]> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("add", "ManagedObjectReference[]", add);
+    paras[2] = new Argument("remove", "ManagedObjectReference[]", remove);
+    return wsc.invokeAsync("ModifyListView", paras, "ManagedObjectReference[]", callback);
+  }
+  public Future<ManagedObjectReference[]> resetListViewAsync(ManagedObjectReference _this, ManagedObjectReference[] obj)
+  {
+    return resetListViewAsync(_this, obj, null);
+  }
+  public Future<ManagedObjectReference[]> resetListViewAsync(ManagedObjectReference _this, ManagedObjectReference[] obj, AsyncCallback<ManagedObjectReference[]> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("obj", "ManagedObjectReference[]", obj);
+    return wsc.invokeAsync("ResetListView", paras, "ManagedObjectReference[]", callback);
+  }
+  public Future<Void> resetListViewFromViewAsync(ManagedObjectReference _this, ManagedObjectReference view)
+  {
+    return resetListViewFromViewAsync(_this, view, null);
+  }
+  public Future<Void> resetListViewFromViewAsync(ManagedObjectReference _this, ManagedObjectReference view, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("view", "ManagedObjectReference", view);
+    return wsc.invokeAsync("ResetListViewFromView", paras, null, callback);
+  }
+  public Future<Void> destroyViewAsync(ManagedObjectReference _this)
+  {
+    return destroyViewAsync(_this, null);
+  }
+  public Future<Void> destroyViewAsync(ManagedObjectReference _this, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("DestroyView", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> createInventoryViewAsync(ManagedObjectReference _this)
+  {
+    return createInventoryViewAsync(_this, null);
+  }
+  public Future<ManagedObjectReference> createInventoryViewAsync(ManagedObjectReference _this, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[1];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    return wsc.invokeAsync("CreateInventoryView", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> createContainerViewAsync(ManagedObjectReference _this, ManagedObjectReference container, String[] type, boolean recursive)
+  {
+    return createContainerViewAsync(_this, container, type, recursive, null);
+  }
+  public Future<ManagedObjectReference> createContainerViewAsync(ManagedObjectReference _this, ManagedObjectReference container, String[] type, boolean recursive, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("container", "ManagedObjectReference", container);
+    paras[2] = new Argument("type", "String[]", type);
+    paras[3] = new Argument("recursive", "boolean", recursive);
+    return wsc.invokeAsync("CreateContainerView", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> createListViewAsync(ManagedObjectReference _this, ManagedObjectReference[] obj)
+  {
+    return createListViewAsync(_this, obj, null);
+  }
+  public Future<ManagedObjectReference> createListViewAsync(ManagedObjectReference _this, ManagedObjectReference[] obj, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("obj", "ManagedObjectReference[]", obj);
+    return wsc.invokeAsync("CreateListView", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> createListViewFromViewAsync(ManagedObjectReference _this, ManagedObjectReference view)
+  {
+    return createListViewFromViewAsync(_this, view, null);
+  }
+  public Future<ManagedObjectReference> createListViewFromViewAsync(ManagedObjectReference _this, ManagedObjectReference view, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("view", "ManagedObjectReference", view);
+    return wsc.invokeAsync("CreateListViewFromView", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> revertToSnapshot_TaskAsync(ManagedObjectReference _this, ManagedObjectReference host, Boolean suppressPowerOn)
+  {
+    return revertToSnapshot_TaskAsync(_this, host, suppressPowerOn, null);
+  }
+  public Future<ManagedObjectReference> revertToSnapshot_TaskAsync(ManagedObjectReference _this, ManagedObjectReference host, Boolean suppressPowerOn, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("host", "ManagedObjectReference", host);
+    paras[2] = new Argument("suppressPowerOn", "Boolean", suppressPowerOn);
+    return wsc.invokeAsync("RevertToSnapshot_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> removeSnapshot_TaskAsync(ManagedObjectReference _this, boolean removeChildren)
+  {
+    return removeSnapshot_TaskAsync(_this, removeChildren, null);
+  }
+  public Future<ManagedObjectReference> removeSnapshot_TaskAsync(ManagedObjectReference _this, boolean removeChildren, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[2];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("removeChildren", "boolean", removeChildren);
+    return wsc.invokeAsync("RemoveSnapshot_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<Void> renameSnapshotAsync(ManagedObjectReference _this, String name, String description)
+  {
+    return renameSnapshotAsync(_this, name, description, null);
+  }
+  public Future<Void> renameSnapshotAsync(ManagedObjectReference _this, String name, String description, AsyncCallback<Void> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("name", "String", name);
+    paras[2] = new Argument("description", "String", description);
+    return wsc.invokeAsync("RenameSnapshot", paras, null, callback);
+  }
+  public Future<ManagedObjectReference> checkCompatibility_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm, ManagedObjectReference host, ManagedObjectReference pool, String[] testType)
+  {
+    return checkCompatibility_TaskAsync(_this, vm, host, pool, testType, null);
+  }
+  public Future<ManagedObjectReference> checkCompatibility_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm, ManagedObjectReference host, ManagedObjectReference pool, String[] testType, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[5];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vm", "ManagedObjectReference", vm);
+    paras[2] = new Argument("host", "ManagedObjectReference", host);
+    paras[3] = new Argument("pool", "ManagedObjectReference", pool);
+    paras[4] = new Argument("testType", "String[]", testType);
+    return wsc.invokeAsync("CheckCompatibility_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> queryVMotionCompatibilityEx_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] vm, ManagedObjectReference[] host)
+  {
+    return queryVMotionCompatibilityEx_TaskAsync(_this, vm, host, null);
+  }
+  public Future<ManagedObjectReference> queryVMotionCompatibilityEx_TaskAsync(ManagedObjectReference _this, ManagedObjectReference[] vm, ManagedObjectReference[] host, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[3];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vm", "ManagedObjectReference[]", vm);
+    paras[2] = new Argument("host", "ManagedObjectReference[]", host);
+    return wsc.invokeAsync("QueryVMotionCompatibilityEx_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> checkMigrate_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm, ManagedObjectReference host, ManagedObjectReference pool, VirtualMachinePowerState state, String[] testType)
+  {
+    return checkMigrate_TaskAsync(_this, vm, host, pool, state, testType, null);
+  }
+  public Future<ManagedObjectReference> checkMigrate_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm, ManagedObjectReference host, ManagedObjectReference pool, VirtualMachinePowerState state, String[] testType, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[6];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vm", "ManagedObjectReference", vm);
+    paras[2] = new Argument("host", "ManagedObjectReference", host);
+    paras[3] = new Argument("pool", "ManagedObjectReference", pool);
+    paras[4] = new Argument("state", "VirtualMachinePowerState", state);
+    paras[5] = new Argument("testType", "String[]", testType);
+    return wsc.invokeAsync("CheckMigrate_Task", paras, "ManagedObjectReference", callback);
+  }
+  public Future<ManagedObjectReference> checkRelocate_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm, VirtualMachineRelocateSpec spec, String[] testType)
+  {
+    return checkRelocate_TaskAsync(_this, vm, spec, testType, null);
+  }
+  public Future<ManagedObjectReference> checkRelocate_TaskAsync(ManagedObjectReference _this, ManagedObjectReference vm, VirtualMachineRelocateSpec spec, String[] testType, AsyncCallback<ManagedObjectReference> callback)
+  {
+    Argument[] paras = new Argument[4];
+    paras[0] = new Argument("_this", "ManagedObjectReference", _this);
+    paras[1] = new Argument("vm", "ManagedObjectReference", vm);
+    paras[2] = new Argument("spec", "VirtualMachineRelocateSpec", spec);
+    paras[3] = new Argument("testType", "String[]", testType);
+    return wsc.invokeAsync("CheckRelocate_Task", paras, "ManagedObjectReference", callback);
+  }
+
+}
@@ -0,0 +1,2503 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.ws;
+
+/**
+ * The index of all the data object and enum types in com.vmware.vim25, 
+ * generated together with the types. It's used to pre-load the types into 
+ * the XmlGen type registry.
+@author Steve Jin (sjin@vmware.com)
+*/
+
+final class VimTypeIndex
+{
+  final static String[] TYPES = new String[] 
+  {
+    "AboutInfo",
+    "AccountCreatedEvent",
+    "AccountRemovedEvent",
+    "AccountUpdatedEvent",
+    "Action",
+    "ActionParameter",
+    "ActionType",
+    "ActiveDirectoryFault",
+    "ActiveDirectoryProfile",
+    "AdminDisabled",
+    "AdminNotDisabled",
+    "AdminPasswordNotChangedEvent",
+    "AffinityConfigured",
+    "AffinityType",
+    "AfterStartupTaskScheduler",
+    "AgentInstallFailed",
+    "AgentInstallFailedReason",
+    "AlarmAction",
+    "AlarmActionTriggeredEvent",
+    "AlarmCreatedEvent",
+    "AlarmDescription",
+    "AlarmEmailCompletedEvent",
+    "AlarmEmailFailedEvent",
+    "AlarmEvent",
+    "AlarmEventArgument",
+    "AlarmExpression",
+    "AlarmInfo",
+    "AlarmReconfiguredEvent",
+    "AlarmRemovedEvent",
+    "AlarmScriptCompleteEvent",
+    "AlarmScriptFailedEvent",
+    "AlarmSetting",
+    "AlarmSnmpCompletedEvent",
+    "AlarmSnmpFailedEvent",
+    "AlarmSpec",
+    "AlarmState",
+    "AlarmStatusChangedEvent",
+    "AlarmTriggeringAction",
+    "AlarmTriggeringActionTransitionSpec",
+    "AllVirtualMachinesLicensedEvent",
+    "AlreadyAuthenticatedSessionEvent",
+    "AlreadyBeingManaged",
+    "AlreadyConnected",
+    "AlreadyExists",
+    "AlreadyUpgraded",
+    "AndAlarmExpression",
+    "ApplicationQuiesceFault",
+    "ApplyProfile",
+    "ArrayOfAlarmAction",
+    "ArrayOfAlarmExpression",
+    "ArrayOfAlarmState",
+    "ArrayOfAlarmTriggeringActionTransitionSpec",
+    "ArrayOfAnyType",
+    "ArrayOfAuthorizationPrivilege",
+    "ArrayOfAuthorizationRole",
+    "ArrayOfAutoStartPowerInfo",
+    "ArrayOfBoolean",
+    "ArrayOfByte",
+    "ArrayOfCheckResult",
+    "ArrayOfClusterAction",
+    "ArrayOfClusterActionHistory",
+    "ArrayOfClusterAttemptedVmInfo",
+    "ArrayOfClusterDasAamNodeState",
+    "ArrayOfClusterDasFailoverLevelAdvancedRuntimeInfoHostSlots",
+    "ArrayOfClusterDasVmConfigInfo",
+    "ArrayOfClusterDasVmConfigSpec",
+    "ArrayOfClusterDpmHostConfigInfo",
+    "ArrayOfClusterDpmHostConfigSpec",
+    "ArrayOfClusterDrsFaults",
+    "ArrayOfClusterDrsFaultsFaultsByVm",
+    "ArrayOfClusterDrsMigration",
+    "ArrayOfClusterDrsRecommendation",
+    "ArrayOfClusterDrsVmConfigInfo",
+    "ArrayOfClusterDrsVmConfigSpec",
+    "ArrayOfClusterFailoverHostAdmissionControlInfoHostStatus",
+    "ArrayOfClusterGroupInfo",
+    "ArrayOfClusterGroupSpec",
+    "ArrayOfClusterHostRecommendation",
+    "ArrayOfClusterNotAttemptedVmInfo",
+    "ArrayOfClusterRecommendation",
+    "ArrayOfClusterRuleInfo",
+    "ArrayOfClusterRuleSpec",
+    "ArrayOfComplianceFailure",
+    "ArrayOfComplianceLocator",
+    "ArrayOfComplianceResult",
+    "ArrayOfCustomFieldDef",
+    "ArrayOfCustomFieldValue",
+    "ArrayOfCustomizationAdapterMapping",
+    "ArrayOfCustomizationIpV6Generator",
+    "ArrayOfCustomizationSpecInfo",
+    "ArrayOfDVPortConfigSpec",
+    "ArrayOfDVPortgroupConfigSpec",
+    "ArrayOfDVSNetworkResourcePool",
+    "ArrayOfDVSNetworkResourcePoolConfigSpec",
+    "ArrayOfDatacenterMismatchArgument",
+    "ArrayOfDatastoreHostMount",
+    "ArrayOfDatastoreMountPathDatastorePair",
+    "ArrayOfDiagnosticManagerBundleInfo",
+    "ArrayOfDiagnosticManagerLogDescriptor",
+    "ArrayOfDiskChangeExtent",
+    "ArrayOfDistributedVirtualPort",
+    "ArrayOfDistributedVirtualPortgroupInfo",
+    "ArrayOfDistributedVirtualSwitchHostMember",
+    "ArrayOfDistributedVirtualSwitchHostMemberConfigSpec",
+    "ArrayOfDistributedVirtualSwitchHostMemberPnicSpec",
+    "ArrayOfDistributedVirtualSwitchHostProductSpec",
+    "ArrayOfDistributedVirtualSwitchInfo",
+    "ArrayOfDistributedVirtualSwitchKeyedOpaqueBlob",
+    "ArrayOfDistributedVirtualSwitchManagerCompatibilityResult",
+    "ArrayOfDistributedVirtualSwitchManagerHostDvsFilterSpec",
+    "ArrayOfDistributedVirtualSwitchProductSpec",
+    "ArrayOfDvsHostVNicProfile",
+    "ArrayOfDvsOperationBulkFaultFaultOnHost",
+    "ArrayOfDvsOutOfSyncHostArgument",
+    "ArrayOfDvsProfile",
+    "ArrayOfDvsServiceConsoleVNicProfile",
+    "ArrayOfDynamicProperty",
+    "ArrayOfEVCMode",
+    "ArrayOfElementDescription",
+    "ArrayOfEnumDescription",
+    "ArrayOfEvent",
+    "ArrayOfEventAlarmExpressionComparison",
+    "ArrayOfEventArgDesc",
+    "ArrayOfEventDescriptionEventDetail",
+    "ArrayOfExtendedEventPair",
+    "ArrayOfExtension",
+    "ArrayOfExtensionClientInfo",
+    "ArrayOfExtensionEventTypeInfo",
+    "ArrayOfExtensionFaultTypeInfo",
+    "ArrayOfExtensionPrivilegeInfo",
+    "ArrayOfExtensionResourceInfo",
+    "ArrayOfExtensionServerInfo",
+    "ArrayOfExtensionTaskTypeInfo",
+    "ArrayOfFileInfo",
+    "ArrayOfFileQuery",
+    "ArrayOfFirewallProfileRulesetProfile",
+    "ArrayOfGuestDiskInfo",
+    "ArrayOfGuestNicInfo",
+    "ArrayOfGuestOsDescriptor",
+    "ArrayOfGuestStackInfo",
+    "ArrayOfHardwareISCSIInitiatorProfile",
+    "ArrayOfHostAccountSpec",
+    "ArrayOfHostActiveDirectory",
+    "ArrayOfHostAuthenticationStoreInfo",
+    "ArrayOfHostBootDevice",
+    "ArrayOfHostConnectInfoNetworkInfo",
+    "ArrayOfHostCpuIdInfo",
+    "ArrayOfHostCpuPackage",
+    "ArrayOfHostDatastoreBrowserSearchResults",
+    "ArrayOfHostDatastoreConnectInfo",
+    "ArrayOfHostDateTimeSystemTimeZone",
+    "ArrayOfHostDhcpService",
+    "ArrayOfHostDhcpServiceConfig",
+    "ArrayOfHostDiagnosticPartition",
+    "ArrayOfHostDiagnosticPartitionCreateOption",
+    "ArrayOfHostDiskMappingPartitionOption",
+    "ArrayOfHostDiskPartitionAttributes",
+    "ArrayOfHostDiskPartitionBlockRange",
+    "ArrayOfHostDiskPartitionInfo",
+    "ArrayOfHostEventArgument",
+    "ArrayOfHostFeatureVersionInfo",
+    "ArrayOfHostFileSystemMountInfo",
+    "ArrayOfHostFirewallConfigRuleSetConfig",
+    "ArrayOfHostFirewallRule",
+    "ArrayOfHostFirewallRuleset",
+    "ArrayOfHostHardwareElementInfo",
+    "ArrayOfHostHostBusAdapter",
+    "ArrayOfHostInternetScsiHbaParamValue",
+    "ArrayOfHostInternetScsiHbaSendTarget",
+    "ArrayOfHostInternetScsiHbaStaticTarget",
+    "ArrayOfHostIpConfigIpV6Address",
+    "ArrayOfHostIpRouteEntry",
+    "ArrayOfHostIpRouteOp",
+    "ArrayOfHostMultipathInfoLogicalUnit",
+    "ArrayOfHostMultipathInfoPath",
+    "ArrayOfHostMultipathStateInfoPath",
+    "ArrayOfHostNasVolumeConfig",
+    "ArrayOfHostNatService",
+    "ArrayOfHostNatServiceConfig",
+    "ArrayOfHostNatServicePortForwardSpec",
+    "ArrayOfHostNumaNode",
+    "ArrayOfHostNumericSensorInfo",
+    "ArrayOfHostPatchManagerStatus",
+    "ArrayOfHostPatchManagerStatusPrerequisitePatch",
+    "ArrayOfHostPathSelectionPolicyOption",
+    "ArrayOfHostPciDevice",
+    "ArrayOfHostPciPassthruConfig",
+    "ArrayOfHostPciPassthruInfo",
+    "ArrayOfHostPlugStoreTopologyAdapter",
+    "ArrayOfHostPlugStoreTopologyDevice",
+    "ArrayOfHostPlugStoreTopologyPath",
+    "ArrayOfHostPlugStoreTopologyPlugin",
+    "ArrayOfHostPlugStoreTopologyTarget",
+    "ArrayOfHostPortGroup",
+    "ArrayOfHostPortGroupConfig",
+    "ArrayOfHostPortGroupPort",
+    "ArrayOfHostPortGroupProfile",
+    "ArrayOfHostPowerPolicy",
+    "ArrayOfHostProxySwitch",
+    "ArrayOfHostProxySwitchConfig",
+    "ArrayOfHostScsiDisk",
+    "ArrayOfHostScsiDiskPartition",
+    "ArrayOfHostScsiTopologyInterface",
+    "ArrayOfHostScsiTopologyLun",
+    "ArrayOfHostScsiTopologyTarget",
+    "ArrayOfHostService",
+    "ArrayOfHostServiceConfig",
+    "ArrayOfHostSnmpDestination",
+    "ArrayOfHostStorageArrayTypePolicyOption",
+    "ArrayOfHostStorageElementInfo",
+    "ArrayOfHostStorageOperationalInfo",
+    "ArrayOfHostSystemIdentificationInfo",
+    "ArrayOfHostSystemResourceInfo",
+    "ArrayOfHostTpmDigestInfo",
+    "ArrayOfHostUnresolvedVmfsExtent",
+    "ArrayOfHostUnresolvedVmfsResolutionResult",
+    "ArrayOfHostUnresolvedVmfsResolutionSpec",
+    "ArrayOfHostUnresolvedVmfsVolume",
+    "ArrayOfHostVMotionCompatibility",
+    "ArrayOfHostVirtualNic",
+    "ArrayOfHostVirtualNicConfig",
+    "ArrayOfHostVirtualNicManagerNicTypeSelection",
+    "ArrayOfHostVirtualSwitch",
+    "ArrayOfHostVirtualSwitchConfig",
+    "ArrayOfHostVmfsRescanResult",
+    "ArrayOfHttpNfcLeaseDatastoreLeaseInfo",
+    "ArrayOfHttpNfcLeaseDeviceUrl",
+    "ArrayOfHttpNfcLeaseHostInfo",
+    "ArrayOfHttpNfcLeaseManifestEntry",
+    "ArrayOfImportSpec",
+    "ArrayOfInt",
+    "ArrayOfIpPool",
+    "ArrayOfIpPoolAssociation",
+    "ArrayOfKernelModuleInfo",
+    "ArrayOfKeyAnyValue",
+    "ArrayOfKeyValue",
+    "ArrayOfLicenseAssignmentManagerEntityFeaturePair",
+    "ArrayOfLicenseAssignmentManagerFeatureLicenseAvailability",
+    "ArrayOfLicenseAssignmentManagerLicenseAssignment",
+    "ArrayOfLicenseAvailabilityInfo",
+    "ArrayOfLicenseFeatureInfo",
+    "ArrayOfLicenseManagerLicenseInfo",
+    "ArrayOfLicenseReservationInfo",
+    "ArrayOfLocalizableMessage",
+    "ArrayOfLocalizationManagerMessageCatalog",
+    "ArrayOfLong",
+    "ArrayOfManagedObjectReference",
+    "ArrayOfMethodActionArgument",
+    "ArrayOfMethodFault",
+    "ArrayOfMissingObject",
+    "ArrayOfMissingProperty",
+    "ArrayOfMultipleCertificatesVerifyFaultThumbprintData",
+    "ArrayOfNasStorageProfile",
+    "ArrayOfNetIpConfigInfoIpAddress",
+    "ArrayOfNetIpConfigSpecIpAddressSpec",
+    "ArrayOfNetIpRouteConfigInfoIpRoute",
+    "ArrayOfNetIpRouteConfigSpecIpRouteSpec",
+    "ArrayOfNetIpStackInfoDefaultRouter",
+    "ArrayOfNetIpStackInfoNetToMedia",
+    "ArrayOfNumericRange",
+    "ArrayOfObjectContent",
+    "ArrayOfObjectSpec",
+    "ArrayOfObjectUpdate",
+    "ArrayOfOptionDef",
+    "ArrayOfOptionProfile",
+    "ArrayOfOptionValue",
+    "ArrayOfOvfDeploymentOption",
+    "ArrayOfOvfFile",
+    "ArrayOfOvfFileItem",
+    "ArrayOfOvfNetworkInfo",
+    "ArrayOfOvfNetworkMapping",
+    "ArrayOfOvfResourceMap",
+    "ArrayOfPerfCounterInfo",
+    "ArrayOfPerfEntityMetricBase",
+    "ArrayOfPerfEntityMetricCSV",
+    "ArrayOfPerfInterval",
+    "ArrayOfPerfMetricId",
+    "ArrayOfPerfMetricSeries",
+    "ArrayOfPerfMetricSeriesCSV",
+    "ArrayOfPerfQuerySpec",
+    "ArrayOfPerfSampleInfo",
+    "ArrayOfPermission",
+    "ArrayOfPermissionProfile",
+    "ArrayOfPhysicalNic",
+    "ArrayOfPhysicalNicConfig",
+    "ArrayOfPhysicalNicHintInfo",
+    "ArrayOfPhysicalNicIpHint",
+    "ArrayOfPhysicalNicLinkInfo",
+    "ArrayOfPhysicalNicNameHint",
+    "ArrayOfPhysicalNicProfile",
+    "ArrayOfPnicUplinkProfile",
+    "ArrayOfPolicyOption",
+    "ArrayOfProductComponentInfo",
+    "ArrayOfProfileDeferredPolicyOptionParameter",
+    "ArrayOfProfileDescriptionSection",
+    "ArrayOfProfileExecuteError",
+    "ArrayOfProfileExpression",
+    "ArrayOfProfileExpressionMetadata",
+    "ArrayOfProfileMetadata",
+    "ArrayOfProfileParameterMetadata",
+    "ArrayOfProfilePolicy",
+    "ArrayOfProfilePolicyMetadata",
+    "ArrayOfProfilePolicyOptionMetadata",
+    "ArrayOfProfileUpdateFailedUpdateFailure",
+    "ArrayOfPropertyChange",
+    "ArrayOfPropertyFilterSpec",
+    "ArrayOfPropertyFilterUpdate",
+    "ArrayOfPropertySpec",
+    "ArrayOfResourceConfigSpec",
+    "ArrayOfScheduledTaskDetail",
+    "ArrayOfScsiLun",
+    "ArrayOfScsiLunDescriptor",
+    "ArrayOfScsiLunDurableName",
+    "ArrayOfSelectionSpec",
+    "ArrayOfSendTargetProfile",
+    "ArrayOfServiceConsolePortGroupProfile",
+    "ArrayOfServiceProfile",
+    "ArrayOfShort",
+    "ArrayOfSoftwareISCSIInitiatorProfile",
+    "ArrayOfStaticRouteProfile",
+    "ArrayOfStaticTargetProfile",
+    "ArrayOfString",
+    "ArrayOfTag",
+    "ArrayOfTaskInfo",
+    "ArrayOfTaskInfoState",
+    "ArrayOfTypeDescription",
+    "ArrayOfUpdateVirtualMachineFilesResultFailedVmFileInfo",
+    "ArrayOfUserGroupProfile",
+    "ArrayOfUserProfile",
+    "ArrayOfUserSearchResult",
+    "ArrayOfUserSession",
+    "ArrayOfVAppCloneSpecNetworkMappingPair",
+    "ArrayOfVAppCloneSpecResourceMap",
+    "ArrayOfVAppEntityConfigInfo",
+    "ArrayOfVAppOvfSectionInfo",
+    "ArrayOfVAppOvfSectionSpec",
+    "ArrayOfVAppProductInfo",
+    "ArrayOfVAppProductSpec",
+    "ArrayOfVAppPropertyInfo",
+    "ArrayOfVAppPropertySpec",
+    "ArrayOfVMwareDVSPvlanConfigSpec",
+    "ArrayOfVMwareDVSPvlanMapEntry",
+    "ArrayOfVirtualAppLinkInfo",
+    "ArrayOfVirtualDevice",
+    "ArrayOfVirtualDeviceBackingOption",
+    "ArrayOfVirtualDeviceConfigSpec",
+    "ArrayOfVirtualDeviceOption",
+    "ArrayOfVirtualDisk",
+    "ArrayOfVirtualMachineCdromInfo",
+    "ArrayOfVirtualMachineConfigInfoDatastoreUrlPair",
+    "ArrayOfVirtualMachineConfigOptionDescriptor",
+    "ArrayOfVirtualMachineCpuIdInfoSpec",
+    "ArrayOfVirtualMachineDatastoreInfo",
+    "ArrayOfVirtualMachineDatastoreVolumeOption",
+    "ArrayOfVirtualMachineDeviceRuntimeInfo",
+    "ArrayOfVirtualMachineDisplayTopology",
+    "ArrayOfVirtualMachineFileLayoutDiskLayout",
+    "ArrayOfVirtualMachineFileLayoutExDiskLayout",
+    "ArrayOfVirtualMachineFileLayoutExDiskUnit",
+    "ArrayOfVirtualMachineFileLayoutExFileInfo",
+    "ArrayOfVirtualMachineFileLayoutExSnapshotLayout",
+    "ArrayOfVirtualMachineFileLayoutSnapshotLayout",
+    "ArrayOfVirtualMachineFloppyInfo",
+    "ArrayOfVirtualMachineIdeDiskDeviceInfo",
+    "ArrayOfVirtualMachineIdeDiskDevicePartitionInfo",
+    "ArrayOfVirtualMachineLegacyNetworkSwitchInfo",
+    "ArrayOfVirtualMachineMessage",
+    "ArrayOfVirtualMachineNetworkInfo",
+    "ArrayOfVirtualMachineParallelInfo",
+    "ArrayOfVirtualMachinePciPassthroughInfo",
+    "ArrayOfVirtualMachineRelocateSpecDiskLocator",
+    "ArrayOfVirtualMachineScsiDiskDeviceInfo",
+    "ArrayOfVirtualMachineScsiPassthroughInfo",
+    "ArrayOfVirtualMachineSerialInfo",
+    "ArrayOfVirtualMachineSnapshotTree",
+    "ArrayOfVirtualMachineSoundInfo",
+    "ArrayOfVirtualMachineSummary",
+    "ArrayOfVirtualMachineUsageOnDatastore",
+    "ArrayOfVirtualMachineUsbInfo",
+    "ArrayOfVirtualNicManagerNetConfig",
+    "ArrayOfVirtualSCSISharing",
+    "ArrayOfVirtualSwitchProfile",
+    "ArrayOfVmEventArgument",
+    "ArrayOfVmPortGroupProfile",
+    "ArrayOfVmfsDatastoreOption",
+    "ArrayOfVnicPortArgument",
+    "ArrayUpdateOperation",
+    "ArrayUpdateSpec",
+    "AuthMinimumAdminPermission",
+    "AuthenticationProfile",
+    "AuthorizationDescription",
+    "AuthorizationEvent",
+    "AuthorizationPrivilege",
+    "AuthorizationRole",
+    "AutoStartAction",
+    "AutoStartDefaults",
+    "AutoStartPowerInfo",
+    "AutoStartWaitHeartbeatSetting",
+    "BadUsernameSessionEvent",
+    "BlockedByFirewall",
+    "BoolOption",
+    "BoolPolicy",
+    "CHAPProfile",
+    "CanceledHostOperationEvent",
+    "CannotAccessFile",
+    "CannotAccessLocalSource",
+    "CannotAccessNetwork",
+    "CannotAccessVmComponent",
+    "CannotAccessVmConfig",
+    "CannotAccessVmDevice",
+    "CannotAccessVmDisk",
+    "CannotAddHostWithFTVmAsStandalone",
+    "CannotAddHostWithFTVmToDifferentCluster",
+    "CannotAddHostWithFTVmToNonHACluster",
+    "CannotChangeDrsBehaviorForFtSecondary",
+    "CannotChangeHaSettingsForFtSecondary",
+    "CannotCreateFile",
+    "CannotDecryptPasswords",
+    "CannotDeleteFile",
+    "CannotDisableDrsOnClustersWithVApps",
+    "CannotDisableSnapshot",
+    "CannotDisconnectHostWithFaultToleranceVm",
+    "CannotModifyConfigCpuRequirements",
+    "CannotMoveFaultToleranceVm",
+    "CannotMoveFaultToleranceVmMoveType",
+    "CannotMoveHostWithFaultToleranceVm",
+    "Capability",
+    "CheckResult",
+    "CheckTestType",
+    "ChoiceOption",
+    "ClockSkew",
+    "CloneFromSnapshotNotSupported",
+    "ClusterAction",
+    "ClusterActionHistory",
+    "ClusterAffinityRuleSpec",
+    "ClusterAntiAffinityRuleSpec",
+    "ClusterAttemptedVmInfo",
+    "ClusterComplianceCheckedEvent",
+    "ClusterComputeResourceSummary",
+    "ClusterConfigInfo",
+    "ClusterConfigInfoEx",
+    "ClusterConfigSpec",
+    "ClusterConfigSpecEx",
+    "ClusterCreatedEvent",
+    "ClusterDasAamHostInfo",
+    "ClusterDasAamNodeState",
+    "ClusterDasAamNodeStateDasState",
+    "ClusterDasAdmissionControlInfo",
+    "ClusterDasAdmissionControlPolicy",
+    "ClusterDasAdvancedRuntimeInfo",
+    "ClusterDasConfigInfo",
+    "ClusterDasConfigInfoServiceState",
+    "ClusterDasConfigInfoVmMonitoringState",
+    "ClusterDasFailoverLevelAdvancedRuntimeInfo",
+    "ClusterDasFailoverLevelAdvancedRuntimeInfoHostSlots",
+    "ClusterDasFailoverLevelAdvancedRuntimeInfoSlotInfo",
+    "ClusterDasHostInfo",
+    "ClusterDasHostRecommendation",
+    "ClusterDasVmConfigInfo",
+    "ClusterDasVmConfigSpec",
+    "ClusterDasVmSettings",
+    "ClusterDasVmSettingsIsolationResponse",
+    "ClusterDasVmSettingsRestartPriority",
+    "ClusterDestroyedEvent",
+    "ClusterDpmConfigInfo",
+    "ClusterDpmHostConfigInfo",
+    "ClusterDpmHostConfigSpec",
+    "ClusterDrsConfigInfo",
+    "ClusterDrsFaults",
+    "ClusterDrsFaultsFaultsByVm",
+    "ClusterDrsMigration",
+    "ClusterDrsRecommendation",
+    "ClusterDrsVmConfigInfo",
+    "ClusterDrsVmConfigSpec",
+    "ClusterEvent",
+    "ClusterFailoverHostAdmissionControlInfo",
+    "ClusterFailoverHostAdmissionControlInfoHostStatus",
+    "ClusterFailoverHostAdmissionControlPolicy",
+    "ClusterFailoverLevelAdmissionControlInfo",
+    "ClusterFailoverLevelAdmissionControlPolicy",
+    "ClusterFailoverResourcesAdmissionControlInfo",
+    "ClusterFailoverResourcesAdmissionControlPolicy",
+    "ClusterGroupInfo",
+    "ClusterGroupSpec",
+    "ClusterHostGroup",
+    "ClusterHostPowerAction",
+    "ClusterHostRecommendation",
+    "ClusterInitialPlacementAction",
+    "ClusterMigrationAction",
+    "ClusterNotAttemptedVmInfo",
+    "ClusterOvercommittedEvent",
+    "ClusterPowerOnVmOption",
+    "ClusterPowerOnVmResult",
+    "ClusterProfileCompleteConfigSpec",
+    "ClusterProfileConfigInfo",
+    "ClusterProfileConfigServiceCreateSpec",
+    "ClusterProfileConfigSpec",
+    "ClusterProfileCreateSpec",
+    "ClusterProfileServiceType",
+    "ClusterRecommendation",
+    "ClusterReconfiguredEvent",
+    "ClusterRuleInfo",
+    "ClusterRuleSpec",
+    "ClusterStatusChangedEvent",
+    "ClusterVmGroup",
+    "ClusterVmHostRuleInfo",
+    "ClusterVmToolsMonitoringSettings",
+    "ComplianceFailure",
+    "ComplianceLocator",
+    "ComplianceProfile",
+    "ComplianceResult",
+    "ComplianceResultStatus",
+    "CompositePolicyOption",
+    "ComputeResourceConfigInfo",
+    "ComputeResourceConfigSpec",
+    "ComputeResourceEventArgument",
+    "ComputeResourceSummary",
+    "ConcurrentAccess",
+    "ConfigSpecOperation",
+    "ConfigTarget",
+    "ConnectedIso",
+    "CpuCompatibilityUnknown",
+    "CpuHotPlugNotSupported",
+    "CpuIncompatible",
+    "CpuIncompatible1ECX",
+    "CpuIncompatible81EDX",
+    "CreateTaskAction",
+    "CustomFieldDef",
+    "CustomFieldDefAddedEvent",
+    "CustomFieldDefEvent",
+    "CustomFieldDefRemovedEvent",
+    "CustomFieldDefRenamedEvent",
+    "CustomFieldEvent",
+    "CustomFieldStringValue",
+    "CustomFieldValue",
+    "CustomFieldValueChangedEvent",
+    "CustomizationAdapterMapping",
+    "CustomizationAutoIpV6Generator",
+    "CustomizationCustomIpGenerator",
+    "CustomizationCustomIpV6Generator",
+    "CustomizationCustomName",
+    "CustomizationDhcpIpGenerator",
+    "CustomizationDhcpIpV6Generator",
+    "CustomizationEvent",
+    "CustomizationFailed",
+    "CustomizationFault",
+    "CustomizationFixedIp",
+    "CustomizationFixedIpV6",
+    "CustomizationFixedName",
+    "CustomizationGlobalIPSettings",
+    "CustomizationGuiRunOnce",
+    "CustomizationGuiUnattended",
+    "CustomizationIPSettings",
+    "CustomizationIPSettingsIpV6AddressSpec",
+    "CustomizationIdentification",
+    "CustomizationIdentitySettings",
+    "CustomizationIpGenerator",
+    "CustomizationIpV6Generator",
+    "CustomizationLicenseDataMode",
+    "CustomizationLicenseFilePrintData",
+    "CustomizationLinuxIdentityFailed",
+    "CustomizationLinuxOptions",
+    "CustomizationLinuxPrep",
+    "CustomizationName",
+    "CustomizationNetBIOSMode",
+    "CustomizationNetworkSetupFailed",
+    "CustomizationOptions",
+    "CustomizationPassword",
+    "CustomizationPending",
+    "CustomizationPrefixName",
+    "CustomizationSpec",
+    "CustomizationSpecInfo",
+    "CustomizationSpecItem",
+    "CustomizationStartedEvent",
+    "CustomizationStatelessIpV6Generator",
+    "CustomizationSucceeded",
+    "CustomizationSysprep",
+    "CustomizationSysprepFailed",
+    "CustomizationSysprepRebootOption",
+    "CustomizationSysprepText",
+    "CustomizationUnknownFailure",
+    "CustomizationUnknownIpGenerator",
+    "CustomizationUnknownIpV6Generator",
+    "CustomizationUnknownName",
+    "CustomizationUserData",
+    "CustomizationVirtualMachineName",
+    "CustomizationWinOptions",
+    "DVPortConfigInfo",
+    "DVPortConfigSpec",
+    "DVPortNotSupported",
+    "DVPortSetting",
+    "DVPortState",
+    "DVPortStatus",
+    "DVPortStatusVmDirectPathGen2InactiveReasonNetwork",
+    "DVPortStatusVmDirectPathGen2InactiveReasonOther",
+    "DVPortgroupConfigInfo",
+    "DVPortgroupConfigSpec",
+    "DVPortgroupCreatedEvent",
+    "DVPortgroupDestroyedEvent",
+    "DVPortgroupEvent",
+    "DVPortgroupPolicy",
+    "DVPortgroupReconfiguredEvent",
+    "DVPortgroupRenamedEvent",
+    "DVSCapability",
+    "DVSConfigInfo",
+    "DVSConfigSpec",
+    "DVSContactInfo",
+    "DVSCreateSpec",
+    "DVSFailureCriteria",
+    "DVSFeatureCapability",
+    "DVSManagerDvsConfigTarget",
+    "DVSNameArrayUplinkPortPolicy",
+    "DVSNetworkResourcePool",
+    "DVSNetworkResourcePoolAllocationInfo",
+    "DVSNetworkResourcePoolConfigSpec",
+    "DVSPolicy",
+    "DVSSecurityPolicy",
+    "DVSSummary",
+    "DVSTrafficShapingPolicy",
+    "DVSUplinkPortPolicy",
+    "DVSVendorSpecificConfig",
+    "DailyTaskScheduler",
+    "DasAdmissionControlDisabledEvent",
+    "DasAdmissionControlEnabledEvent",
+    "DasAgentFoundEvent",
+    "DasAgentUnavailableEvent",
+    "DasClusterIsolatedEvent",
+    "DasConfigFault",
+    "DasConfigFaultDasConfigFaultReason",
+    "DasDisabledEvent",
+    "DasEnabledEvent",
+    "DasHostFailedEvent",
+    "DasHostIsolatedEvent",
+    "DasVmPriority",
+    "DatabaseError",
+    "DatabaseSizeEstimate",
+    "DatabaseSizeParam",
+    "DatacenterCreatedEvent",
+    "DatacenterEvent",
+    "DatacenterEventArgument",
+    "DatacenterMismatch",
+    "DatacenterMismatchArgument",
+    "DatacenterRenamedEvent",
+    "DatastoreAccessible",
+    "DatastoreCapability",
+    "DatastoreCapacityIncreasedEvent",
+    "DatastoreDestroyedEvent",
+    "DatastoreDiscoveredEvent",
+    "DatastoreDuplicatedEvent",
+    "DatastoreEvent",
+    "DatastoreEventArgument",
+    "DatastoreFileCopiedEvent",
+    "DatastoreFileDeletedEvent",
+    "DatastoreFileEvent",
+    "DatastoreFileMovedEvent",
+    "DatastoreHostMount",
+    "DatastoreIORMReconfiguredEvent",
+    "DatastoreInfo",
+    "DatastoreMountPathDatastorePair",
+    "DatastoreNotWritableOnHost",
+    "DatastoreOption",
+    "DatastorePrincipalConfigured",
+    "DatastoreRemovedOnHostEvent",
+    "DatastoreRenamedEvent",
+    "DatastoreRenamedOnHostEvent",
+    "DatastoreSummary",
+    "DateTimeProfile",
+    "DayOfWeek",
+    "Description",
+    "DestinationSwitchFull",
+    "DeviceBackedVirtualDiskSpec",
+    "DeviceBackingNotSupported",
+    "DeviceControllerNotSupported",
+    "DeviceHotPlugNotSupported",
+    "DeviceNotFound",
+    "DeviceNotSupported",
+    "DeviceNotSupportedReason",
+    "DeviceUnsupportedForVmPlatform",
+    "DeviceUnsupportedForVmVersion",
+    "DiagnosticManagerBundleInfo",
+    "DiagnosticManagerLogCreator",
+    "DiagnosticManagerLogDescriptor",
+    "DiagnosticManagerLogFormat",
+    "DiagnosticManagerLogHeader",
+    "DiagnosticPartitionStorageType",
+    "DiagnosticPartitionType",
+    "DisableAdminNotSupported",
+    "DisallowedDiskModeChange",
+    "DisallowedMigrationDeviceAttached",
+    "DisallowedOperationOnFailoverHost",
+    "DiskChangeExtent",
+    "DiskChangeInfo",
+    "DiskMoveTypeNotSupported",
+    "DiskNotSupported",
+    "DistributedVirtualPort",
+    "DistributedVirtualPortgroupInfo",
+    "DistributedVirtualPortgroupMetaTagName",
+    "DistributedVirtualPortgroupPortgroupType",
+    "DistributedVirtualSwitchHostMember",
+    "DistributedVirtualSwitchHostMemberBacking",
+    "DistributedVirtualSwitchHostMemberConfigInfo",
+    "DistributedVirtualSwitchHostMemberConfigSpec",
+    "DistributedVirtualSwitchHostMemberHostComponentState",
+    "DistributedVirtualSwitchHostMemberPnicBacking",
+    "DistributedVirtualSwitchHostMemberPnicSpec",
+    "DistributedVirtualSwitchHostProductSpec",
+    "DistributedVirtualSwitchInfo",
+    "DistributedVirtualSwitchKeyedOpaqueBlob",
+    "DistributedVirtualSwitchManagerCompatibilityResult",
+    "DistributedVirtualSwitchManagerDvsProductSpec",
+    "DistributedVirtualSwitchManagerHostArrayFilter",
+    "DistributedVirtualSwitchManagerHostContainer",
+    "DistributedVirtualSwitchManagerHostContainerFilter",
+    "DistributedVirtualSwitchManagerHostDvsFilterSpec",
+    "DistributedVirtualSwitchManagerHostDvsMembershipFilter",
+    "DistributedVirtualSwitchNicTeamingPolicyMode",
+    "DistributedVirtualSwitchPortConnectee",
+    "DistributedVirtualSwitchPortConnecteeConnecteeType",
+    "DistributedVirtualSwitchPortConnection",
+    "DistributedVirtualSwitchPortCriteria",
+    "DistributedVirtualSwitchPortStatistics",
+    "DistributedVirtualSwitchProductSpec",
+    "DistributedVirtualSwitchProductSpecOperationType",
+    "DomainNotFound",
+    "DpmBehavior",
+    "DrsBehavior",
+    "DrsDisabledEvent",
+    "DrsDisabledOnVm",
+    "DrsEnabledEvent",
+    "DrsEnteredStandbyModeEvent",
+    "DrsEnteringStandbyModeEvent",
+    "DrsExitStandbyModeFailedEvent",
+    "DrsExitedStandbyModeEvent",
+    "DrsExitingStandbyModeEvent",
+    "DrsInvocationFailedEvent",
+    "DrsRecommendationReasonCode",
+    "DrsRecoveredFromFailureEvent",
+    "DrsResourceConfigureFailedEvent",
+    "DrsResourceConfigureSyncedEvent",
+    "DrsRuleComplianceEvent",
+    "DrsRuleViolationEvent",
+    "DrsVmMigratedEvent",
+    "DrsVmPoweredOnEvent",
+    "DrsVmotionIncompatibleFault",
+    "DuplicateIpDetectedEvent",
+    "DuplicateName",
+    "DvsCreatedEvent",
+    "DvsDestroyedEvent",
+    "DvsEvent",
+    "DvsEventArgument",
+    "DvsFault",
+    "DvsHostBackInSyncEvent",
+    "DvsHostJoinedEvent",
+    "DvsHostLeftEvent",
+    "DvsHostStatusUpdated",
+    "DvsHostVNicProfile",
+    "DvsHostWentOutOfSyncEvent",
+    "DvsMergedEvent",
+    "DvsNotAuthorized",
+    "DvsOperationBulkFault",
+    "DvsOperationBulkFaultFaultOnHost",
+    "DvsOutOfSyncHostArgument",
+    "DvsPortBlockedEvent",
+    "DvsPortConnectedEvent",
+    "DvsPortCreatedEvent",
+    "DvsPortDeletedEvent",
+    "DvsPortDisconnectedEvent",
+    "DvsPortEnteredPassthruEvent",
+    "DvsPortExitedPassthruEvent",
+    "DvsPortJoinPortgroupEvent",
+    "DvsPortLeavePortgroupEvent",
+    "DvsPortLinkDownEvent",
+    "DvsPortLinkUpEvent",
+    "DvsPortReconfiguredEvent",
+    "DvsPortUnblockedEvent",
+    "DvsProfile",
+    "DvsReconfiguredEvent",
+    "DvsRenamedEvent",
+    "DvsScopeViolated",
+    "DvsServiceConsoleVNicProfile",
+    "DvsUpgradeAvailableEvent",
+    "DvsUpgradeInProgressEvent",
+    "DvsUpgradeRejectedEvent",
+    "DvsUpgradedEvent",
+    "DvsVNicProfile",
+    "DynamicArray",
+    "DynamicData",
+    "DynamicProperty",
+    "EVCAdmissionFailed",
+    "EVCAdmissionFailedCPUFeaturesForMode",
+    "EVCAdmissionFailedCPUModel",
+    "EVCAdmissionFailedCPUModelForMode",
+    "EVCAdmissionFailedCPUVendor",
+    "EVCAdmissionFailedCPUVendorUnknown",
+    "EVCAdmissionFailedHostDisconnected",
+    "EVCAdmissionFailedHostSoftware",
+    "EVCAdmissionFailedHostSoftwareForMode",
+    "EVCAdmissionFailedVmActive",
+    "EVCMode",
+    "EightHostLimitViolated",
+    "ElementDescription",
+    "EnteredMaintenanceModeEvent",
+    "EnteredStandbyModeEvent",
+    "EnteringMaintenanceModeEvent",
+    "EnteringStandbyModeEvent",
+    "EntityEventArgument",
+    "EnumDescription",
+    "ErrorUpgradeEvent",
+    "EvaluationLicenseSource",
+    "Event",
+    "EventAlarmExpression",
+    "EventAlarmExpressionComparison",
+    "EventAlarmExpressionComparisonOperator",
+    "EventArgDesc",
+    "EventArgument",
+    "EventCategory",
+    "EventDescription",
+    "EventDescriptionEventDetail",
+    "EventEventSeverity",
+    "EventEx",
+    "EventFilterSpec",
+    "EventFilterSpecByEntity",
+    "EventFilterSpecByTime",
+    "EventFilterSpecByUsername",
+    "EventFilterSpecRecursionOption",
+    "ExitMaintenanceModeEvent",
+    "ExitStandbyModeFailedEvent",
+    "ExitedStandbyModeEvent",
+    "ExitingStandbyModeEvent",
+    "ExpiredAddonLicense",
+    "ExpiredEditionLicense",
+    "ExpiredFeatureLicense",
+    "ExtendedDescription",
+    "ExtendedElementDescription",
+    "ExtendedEvent",
+    "ExtendedEventPair",
+    "ExtendedFault",
+    "Extension",
+    "ExtensionClientInfo",
+    "ExtensionEventTypeInfo",
+    "ExtensionFaultTypeInfo",
+    "ExtensionHealthInfo",
+    "ExtensionPrivilegeInfo",
+    "ExtensionResourceInfo",
+    "ExtensionServerInfo",
+    "ExtensionTaskTypeInfo",
+    "FailToLockFaultToleranceVMs",
+    "FailoverLevelRestored",
+    "FaultToleranceAntiAffinityViolated",
+    "FaultToleranceCannotEditMem",
+    "FaultToleranceConfigInfo",
+    "FaultToleranceCpuIncompatible",
+    "FaultToleranceNeedsThickDisk",
+    "FaultToleranceNotLicensed",
+    "FaultToleranceNotSameBuild",
+    "FaultTolerancePrimaryConfigInfo",
+    "FaultTolerancePrimaryPowerOnNotAttempted",
+    "FaultToleranceSecondaryConfigInfo",
+    "FaultToleranceSecondaryOpResult",
+    "FibreChannelPortType",
+    "FileAlreadyExists",
+    "FileBackedPortNotSupported",
+    "FileBackedVirtualDiskSpec",
+    "FileFault",
+    "FileInfo",
+    "FileLocked",
+    "FileManagerFileType",
+    "FileNotFound",
+    "FileNotWritable",
+    "FileQuery",
+    "FileQueryFlags",
+    "FileSystemMountInfoVStorageSupportStatus",
+    "FileTooLarge",
+    "FilesystemQuiesceFault",
+    "FirewallProfile",
+    "FirewallProfileRulesetProfile",
+    "FloatOption",
+    "FloppyImageFileInfo",
+    "FloppyImageFileQuery",
+    "FolderEventArgument",
+    "FolderFileInfo",
+    "FolderFileQuery",
+    "FtIssuesOnHost",
+    "FtIssuesOnHostHostSelectionType",
+    "FullStorageVMotionNotSupported",
+    "GeneralEvent",
+    "GeneralHostErrorEvent",
+    "GeneralHostInfoEvent",
+    "GeneralHostWarningEvent",
+    "GeneralUserEvent",
+    "GeneralVmErrorEvent",
+    "GeneralVmInfoEvent",
+    "GeneralVmWarningEvent",
+    "GenericDrsFault",
+    "GenericVmConfigFault",
+    "GhostDvsProxySwitchDetectedEvent",
+    "GhostDvsProxySwitchRemovedEvent",
+    "GlobalMessageChangedEvent",
+    "GroupAlarmAction",
+    "GuestDiskInfo",
+    "GuestInfo",
+    "GuestNicInfo",
+    "GuestOsDescriptor",
+    "GuestScreenInfo",
+    "GuestStackInfo",
+    "HAErrorsAtDest",
+    "HardwareISCSIInitiatorProfile",
+    "HealthStatusChangedEvent",
+    "HealthSystemRuntime",
+    "HostAccountSpec",
+    "HostActiveDirectory",
+    "HostActiveDirectoryInfo",
+    "HostActiveDirectoryInfoDomainMembershipStatus",
+    "HostActiveDirectorySpec",
+    "HostAddFailedEvent",
+    "HostAddedEvent",
+    "HostAdminDisableEvent",
+    "HostAdminEnableEvent",
+    "HostApplyProfile",
+    "HostAuthenticationManagerInfo",
+    "HostAuthenticationStoreInfo",
+    "HostAutoStartManagerConfig",
+    "HostBIOSInfo",
+    "HostBlockAdapterTargetTransport",
+    "HostBlockHba",
+    "HostBootDevice",
+    "HostBootDeviceInfo",
+    "HostCapability",
+    "HostCapabilityFtUnsupportedReason",
+    "HostCapabilityVmDirectPathGen2UnsupportedReason",
+    "HostCnxFailedAccountFailedEvent",
+    "HostCnxFailedAlreadyManagedEvent",
+    "HostCnxFailedBadCcagentEvent",
+    "HostCnxFailedBadUsernameEvent",
+    "HostCnxFailedBadVersionEvent",
+    "HostCnxFailedCcagentUpgradeEvent",
+    "HostCnxFailedEvent",
+    "HostCnxFailedNetworkErrorEvent",
+    "HostCnxFailedNoAccessEvent",
+    "HostCnxFailedNoConnectionEvent",
+    "HostCnxFailedNoLicenseEvent",
+    "HostCnxFailedNotFoundEvent",
+    "HostCnxFailedTimeoutEvent",
+    "HostCommunication",
+    "HostComplianceCheckedEvent",
+    "HostCompliantEvent",
+    "HostConfigAppliedEvent",
+    "HostConfigChange",
+    "HostConfigChangeMode",
+    "HostConfigChangeOperation",
+    "HostConfigFailed",
+    "HostConfigFault",
+    "HostConfigInfo",
+    "HostConfigManager",
+    "HostConfigSpec",
+    "HostConfigSummary",
+    "HostConnectFault",
+    "HostConnectInfo",
+    "HostConnectInfoNetworkInfo",
+    "HostConnectSpec",
+    "HostConnectedEvent",
+    "HostConnectionLostEvent",
+    "HostCpuIdInfo",
+    "HostCpuInfo",
+    "HostCpuPackage",
+    "HostCpuPackageVendor",
+    "HostCpuPowerManagementInfo",
+    "HostCpuPowerManagementInfoPolicyType",
+    "HostDasDisabledEvent",
+    "HostDasDisablingEvent",
+    "HostDasEnabledEvent",
+    "HostDasEnablingEvent",
+    "HostDasErrorEvent",
+    "HostDasErrorEventHostDasErrorReason",
+    "HostDasEvent",
+    "HostDasOkEvent",
+    "HostDatastoreBrowserSearchResults",
+    "HostDatastoreBrowserSearchSpec",
+    "HostDatastoreConnectInfo",
+    "HostDatastoreExistsConnectInfo",
+    "HostDatastoreNameConflictConnectInfo",
+    "HostDatastoreSystemCapabilities",
+    "HostDateTimeConfig",
+    "HostDateTimeInfo",
+    "HostDateTimeSystemTimeZone",
+    "HostDevice",
+    "HostDhcpService",
+    "HostDhcpServiceConfig",
+    "HostDhcpServiceSpec",
+    "HostDiagnosticPartition",
+    "HostDiagnosticPartitionCreateDescription",
+    "HostDiagnosticPartitionCreateOption",
+    "HostDiagnosticPartitionCreateSpec",
+    "HostDigestInfo",
+    "HostDigestInfoDigestMethodType",
+    "HostDirectoryStoreInfo",
+    "HostDisconnectedEvent",
+    "HostDisconnectedEventReasonCode",
+    "HostDiskDimensions",
+    "HostDiskDimensionsChs",
+    "HostDiskDimensionsLba",
+    "HostDiskMappingInfo",
+    "HostDiskMappingOption",
+    "HostDiskMappingPartitionInfo",
+    "HostDiskMappingPartitionOption",
+    "HostDiskPartitionAttributes",
+    "HostDiskPartitionBlockRange",
+    "HostDiskPartitionInfo",
+    "HostDiskPartitionInfoType",
+    "HostDiskPartitionLayout",
+    "HostDiskPartitionSpec",
+    "HostDistributedVirtualSwitchManagerNetworkResourcePoolKey",
+    "HostDnsConfig",
+    "HostDnsConfigSpec",
+    "HostEnableAdminFailedEvent",
+    "HostEvent",
+    "HostEventArgument",
+    "HostExtraNetworksEvent",
+    "HostFeatureVersionInfo",
+    "HostFeatureVersionKey",
+    "HostFibreChannelHba",
+    "HostFibreChannelTargetTransport",
+    "HostFileAccess",
+    "HostFileSystemMountInfo",
+    "HostFileSystemVolume",
+    "HostFileSystemVolumeInfo",
+    "HostFirewallConfig",
+    "HostFirewallConfigRuleSetConfig",
+    "HostFirewallDefaultPolicy",
+    "HostFirewallInfo",
+    "HostFirewallRule",
+    "HostFirewallRuleDirection",
+    "HostFirewallRuleProtocol",
+    "HostFirewallRuleset",
+    "HostFlagInfo",
+    "HostForceMountedInfo",
+    "HostGetShortNameFailedEvent",
+    "HostHardwareElementInfo",
+    "HostHardwareElementStatus",
+    "HostHardwareInfo",
+    "HostHardwareStatusInfo",
+    "HostHardwareSummary",
+    "HostHostBusAdapter",
+    "HostHyperThreadScheduleInfo",
+    "HostInDomain",
+    "HostIncompatibleForFaultTolerance",
+    "HostIncompatibleForFaultToleranceReason",
+    "HostIncompatibleForRecordReplay",
+    "HostIncompatibleForRecordReplayReason",
+    "HostInternetScsiHba",
+    "HostInternetScsiHbaAuthenticationCapabilities",
+    "HostInternetScsiHbaAuthenticationProperties",
+    "HostInternetScsiHbaChapAuthenticationType",
+    "HostInternetScsiHbaDigestCapabilities",
+    "HostInternetScsiHbaDigestProperties",
+    "HostInternetScsiHbaDigestType",
+    "HostInternetScsiHbaDiscoveryCapabilities",
+    "HostInternetScsiHbaDiscoveryProperties",
+    "HostInternetScsiHbaIPCapabilities",
+    "HostInternetScsiHbaIPProperties",
+    "HostInternetScsiHbaParamValue",
+    "HostInternetScsiHbaSendTarget",
+    "HostInternetScsiHbaStaticTarget",
+    "HostInternetScsiHbaTargetSet",
+    "HostInternetScsiTargetTransport",
+    "HostInventoryFull",
+    "HostInventoryFullEvent",
+    "HostInventoryUnreadableEvent",
+    "HostIpChangedEvent",
+    "HostIpConfig",
+    "HostIpConfigIpV6Address",
+    "HostIpConfigIpV6AddressConfigType",
+    "HostIpConfigIpV6AddressConfiguration",
+    "HostIpConfigIpV6AddressStatus",
+    "HostIpInconsistentEvent",
+    "HostIpRouteConfig",
+    "HostIpRouteConfigSpec",
+    "HostIpRouteEntry",
+    "HostIpRouteOp",
+    "HostIpRouteTableConfig",
+    "HostIpRouteTableInfo",
+    "HostIpToShortNameFailedEvent",
+    "HostIpmiInfo",
+    "HostIsolationIpPingFailedEvent",
+    "HostLicenseConnectInfo",
+    "HostLicenseExpiredEvent",
+    "HostLicenseSpec",
+    "HostListSummary",
+    "HostListSummaryQuickStats",
+    "HostLocalAuthenticationInfo",
+    "HostLocalFileSystemVolume",
+    "HostLocalFileSystemVolumeSpec",
+    "HostLowLevelProvisioningManagerReloadTarget",
+    "HostMemoryProfile",
+    "HostMemorySpec",
+    "HostMissingNetworksEvent",
+    "HostMonitoringStateChangedEvent",
+    "HostMountInfo",
+    "HostMountMode",
+    "HostMultipathInfo",
+    "HostMultipathInfoFixedLogicalUnitPolicy",
+    "HostMultipathInfoLogicalUnit",
+    "HostMultipathInfoLogicalUnitPolicy",
+    "HostMultipathInfoLogicalUnitStorageArrayTypePolicy",
+    "HostMultipathInfoPath",
+    "HostMultipathStateInfo",
+    "HostMultipathStateInfoPath",
+    "HostNasVolume",
+    "HostNasVolumeConfig",
+    "HostNasVolumeSpec",
+    "HostNatService",
+    "HostNatServiceConfig",
+    "HostNatServiceNameServiceSpec",
+    "HostNatServicePortForwardSpec",
+    "HostNatServiceSpec",
+    "HostNetCapabilities",
+    "HostNetOffloadCapabilities",
+    "HostNetworkConfig",
+    "HostNetworkConfigResult",
+    "HostNetworkInfo",
+    "HostNetworkPolicy",
+    "HostNetworkSecurityPolicy",
+    "HostNetworkTrafficShapingPolicy",
+    "HostNewNetworkConnectInfo",
+    "HostNicFailureCriteria",
+    "HostNicOrderPolicy",
+    "HostNicTeamingPolicy",
+    "HostNoAvailableNetworksEvent",
+    "HostNoHAEnabledPortGroupsEvent",
+    "HostNoRedundantManagementNetworkEvent",
+    "HostNonCompliantEvent",
+    "HostNotConnected",
+    "HostNotInClusterEvent",
+    "HostNotReachable",
+    "HostNtpConfig",
+    "HostNumaInfo",
+    "HostNumaNode",
+    "HostNumericSensorHealthState",
+    "HostNumericSensorInfo",
+    "HostNumericSensorType",
+    "HostOvercommittedEvent",
+    "HostParallelScsiHba",
+    "HostParallelScsiTargetTransport",
+    "HostPatchManagerInstallState",
+    "HostPatchManagerIntegrityStatus",
+    "HostPatchManagerLocator",
+    "HostPatchManagerPatchManagerOperationSpec",
+    "HostPatchManagerReason",
+    "HostPatchManagerResult",
+    "HostPatchManagerStatus",
+    "HostPatchManagerStatusPrerequisitePatch",
+    "HostPathSelectionPolicyOption",
+    "HostPciDevice",
+    "HostPciPassthruConfig",
+    "HostPciPassthruInfo",
+    "HostPlugStoreTopology",
+    "HostPlugStoreTopologyAdapter",
+    "HostPlugStoreTopologyDevice",
+    "HostPlugStoreTopologyPath",
+    "HostPlugStoreTopologyPlugin",
+    "HostPlugStoreTopologyTarget",
+    "HostPortGroup",
+    "HostPortGroupConfig",
+    "HostPortGroupPort",
+    "HostPortGroupProfile",
+    "HostPortGroupSpec",
+    "HostPosixAccountSpec",
+    "HostPowerOpFailed",
+    "HostPowerOperationType",
+    "HostPowerPolicy",
+    "HostPrimaryAgentNotShortNameEvent",
+    "HostProfileAppliedEvent",
+    "HostProfileCompleteConfigSpec",
+    "HostProfileConfigInfo",
+    "HostProfileConfigSpec",
+    "HostProfileHostBasedConfigSpec",
+    "HostProfileManagerConfigTaskList",
+    "HostProxySwitch",
+    "HostProxySwitchConfig",
+    "HostProxySwitchSpec",
+    "HostReconnectionFailedEvent",
+    "HostRemovedEvent",
+    "HostReplayUnsupportedReason",
+    "HostResignatureRescanResult",
+    "HostRuntimeInfo",
+    "HostScsiDisk",
+    "HostScsiDiskPartition",
+    "HostScsiTopology",
+    "HostScsiTopologyInterface",
+    "HostScsiTopologyLun",
+    "HostScsiTopologyTarget",
+    "HostSecuritySpec",
+    "HostService",
+    "HostServiceConfig",
+    "HostServiceInfo",
+    "HostServicePolicy",
+    "HostServiceTicket",
+    "HostShortNameInconsistentEvent",
+    "HostShortNameToIpFailedEvent",
+    "HostShutdownEvent",
+    "HostSnmpAgentCapability",
+    "HostSnmpConfigSpec",
+    "HostSnmpDestination",
+    "HostSnmpSystemAgentLimits",
+    "HostSslThumbprintInfo",
+    "HostStandbyMode",
+    "HostStatusChangedEvent",
+    "HostStorageArrayTypePolicyOption",
+    "HostStorageDeviceInfo",
+    "HostStorageElementInfo",
+    "HostStorageOperationalInfo",
+    "HostSyncFailedEvent",
+    "HostSystemConnectionState",
+    "HostSystemHealthInfo",
+    "HostSystemIdentificationInfo",
+    "HostSystemIdentificationInfoIdentifier",
+    "HostSystemInfo",
+    "HostSystemPowerState",
+    "HostSystemResourceInfo",
+    "HostTargetTransport",
+    "HostTpmDigestInfo",
+    "HostUnresolvedVmfsExtent",
+    "HostUnresolvedVmfsExtentUnresolvedReason",
+    "HostUnresolvedVmfsResignatureSpec",
+    "HostUnresolvedVmfsResolutionResult",
+    "HostUnresolvedVmfsResolutionSpec",
+    "HostUnresolvedVmfsResolutionSpecVmfsUuidResolution",
+    "HostUnresolvedVmfsVolume",
+    "HostUnresolvedVmfsVolumeResolveStatus",
+    "HostUpgradeFailedEvent",
+    "HostUserWorldSwapNotEnabledEvent",
+    "HostVMotionCompatibility",
+    "HostVMotionConfig",
+    "HostVMotionInfo",
+    "HostVMotionNetConfig",
+    "HostVirtualNic",
+    "HostVirtualNicConfig",
+    "HostVirtualNicConnection",
+    "HostVirtualNicManagerInfo",
+    "HostVirtualNicManagerNicType",
+    "HostVirtualNicManagerNicTypeSelection",
+    "HostVirtualNicSpec",
+    "HostVirtualSwitch",
+    "HostVirtualSwitchAutoBridge",
+    "HostVirtualSwitchBeaconConfig",
+    "HostVirtualSwitchBondBridge",
+    "HostVirtualSwitchBridge",
+    "HostVirtualSwitchConfig",
+    "HostVirtualSwitchSimpleBridge",
+    "HostVirtualSwitchSpec",
+    "HostVmfsRescanResult",
+    "HostVmfsSpec",
+    "HostVmfsVolume",
+    "HostVnicConnectedToCustomizedDVPortEvent",
+    "HostWwnChangedEvent",
+    "HostWwnConflictEvent",
+    "HotSnapshotMoveNotSupported",
+    "HourlyTaskScheduler",
+    "HttpNfcLeaseDatastoreLeaseInfo",
+    "HttpNfcLeaseDeviceUrl",
+    "HttpNfcLeaseHostInfo",
+    "HttpNfcLeaseInfo",
+    "HttpNfcLeaseManifestEntry",
+    "HttpNfcLeaseState",
+    "IDEDiskNotSupported",
+    "IORMNotSupportedHostOnDatastore",
+    "ISCSIInitiatorAdvancedConfigurationProfile",
+    "ISCSIInitiatorCHAPProfile",
+    "ISCSIInitiatorProfile",
+    "ISCSIStorageProfile",
+    "ISCSITargetCHAPProfile",
+    "ISCSITargetProfile",
+    "IScsiBootFailureEvent",
+    "ImportSpec",
+    "InUseFeatureManipulationDisallowed",
+    "InaccessibleDatastore",
+    "IncompatibleDefaultDevice",
+    "IncompatibleHostForFtSecondary",
+    "IncompatibleSetting",
+    "IncorrectFileType",
+    "IncorrectHostInformation",
+    "IncorrectHostInformationEvent",
+    "IndependentDiskVMotionNotSupported",
+    "InfoUpgradeEvent",
+    "InheritablePolicy",
+    "InsufficientCpuResourcesFault",
+    "InsufficientFailoverResourcesEvent",
+    "InsufficientFailoverResourcesFault",
+    "InsufficientHostCapacityFault",
+    "InsufficientHostCpuCapacityFault",
+    "InsufficientHostMemoryCapacityFault",
+    "InsufficientMemoryResourcesFault",
+    "InsufficientPerCpuCapacity",
+    "InsufficientResourcesFault",
+    "InsufficientStandbyCpuResource",
+    "InsufficientStandbyMemoryResource",
+    "InsufficientStandbyResource",
+    "IntOption",
+    "IntPolicy",
+    "InternetScsiSnsDiscoveryMethod",
+    "InvalidAffinitySettingFault",
+    "InvalidArgument",
+    "InvalidBmcRole",
+    "InvalidBundle",
+    "InvalidClientCertificate",
+    "InvalidCollectorVersion",
+    "InvalidController",
+    "InvalidDasRestartPriorityForFtVm",
+    "InvalidDatastore",
+    "InvalidDatastorePath",
+    "InvalidDeviceBacking",
+    "InvalidDeviceOperation",
+    "InvalidDeviceSpec",
+    "InvalidDiskFormat",
+    "InvalidDrsBehaviorForFtVm",
+    "InvalidEditionEvent",
+    "InvalidEditionLicense",
+    "InvalidEvent",
+    "InvalidFolder",
+    "InvalidFormat",
+    "InvalidHostName",
+    "InvalidHostState",
+    "InvalidIndexArgument",
+    "InvalidIpmiLoginInfo",
+    "InvalidIpmiMacAddress",
+    "InvalidLicense",
+    "InvalidLocale",
+    "InvalidLogin",
+    "InvalidName",
+    "InvalidNasCredentials",
+    "InvalidNetworkInType",
+    "InvalidNetworkResource",
+    "InvalidOperationOnSecondaryVm",
+    "InvalidPowerState",
+    "InvalidPrivilege",
+    "InvalidProperty",
+    "InvalidPropertyType",
+    "InvalidPropertyValue",
+    "InvalidRequest",
+    "InvalidResourcePoolStructureFault",
+    "InvalidSnapshotFormat",
+    "InvalidState",
+    "InvalidType",
+    "InvalidVmConfig",
+    "InventoryDescription",
+    "InventoryHasStandardAloneHosts",
+    "IpAddressProfile",
+    "IpHostnameGeneratorError",
+    "IpPool",
+    "IpPoolAssociation",
+    "IpPoolIpPoolConfigInfo",
+    "IpRouteProfile",
+    "IsoImageFileInfo",
+    "IsoImageFileQuery",
+    "KernelModuleInfo",
+    "KernelModuleSectionInfo",
+    "KeyAnyValue",
+    "KeyValue",
+    "LegacyNetworkInterfaceInUse",
+    "LicenseAssignmentFailed",
+    "LicenseAssignmentFailedReason",
+    "LicenseAssignmentManagerEntityFeaturePair",
+    "LicenseAssignmentManagerFeatureLicenseAvailability",
+    "LicenseAssignmentManagerLicenseAssignment",
+    "LicenseAvailabilityInfo",
+    "LicenseDiagnostics",
+    "LicenseDowngradeDisallowed",
+    "LicenseEntityNotFound",
+    "LicenseEvent",
+    "LicenseExpired",
+    "LicenseExpiredEvent",
+    "LicenseFeatureInfo",
+    "LicenseFeatureInfoSourceRestriction",
+    "LicenseFeatureInfoState",
+    "LicenseFeatureInfoUnit",
+    "LicenseKeyEntityMismatch",
+    "LicenseManagerEvaluationInfo",
+    "LicenseManagerLicenseInfo",
+    "LicenseManagerLicenseKey",
+    "LicenseManagerState",
+    "LicenseNonComplianceEvent",
+    "LicenseReservationInfo",
+    "LicenseReservationInfoState",
+    "LicenseRestricted",
+    "LicenseRestrictedEvent",
+    "LicenseServerAvailableEvent",
+    "LicenseServerSource",
+    "LicenseServerUnavailable",
+    "LicenseServerUnavailableEvent",
+    "LicenseSource",
+    "LicenseSourceUnavailable",
+    "LicenseUsageInfo",
+    "LimitExceeded",
+    "LinkDiscoveryProtocolConfig",
+    "LinkDiscoveryProtocolConfigOperationType",
+    "LinkDiscoveryProtocolConfigProtocolType",
+    "LinkProfile",
+    "LinuxVolumeNotClean",
+    "LocalDatastoreCreatedEvent",
+    "LocalDatastoreInfo",
+    "LocalLicenseSource",
+    "LocalTSMEnabledEvent",
+    "LocalizableMessage",
+    "LocalizationManagerMessageCatalog",
+    "LocalizedMethodFault",
+    "LockerMisconfiguredEvent",
+    "LockerReconfiguredEvent",
+    "LogBundlingFailed",
+    "LongOption",
+    "LongPolicy",
+    "MaintenanceModeFileMove",
+    "ManagedEntityEventArgument",
+    "ManagedEntityStatus",
+    "ManagedObjectNotFound",
+    "ManagedObjectReference",
+    "MemoryHotPlugNotSupported",
+    "MemorySizeNotRecommended",
+    "MemorySizeNotSupported",
+    "MemorySnapshotOnIndependentDisk",
+    "MethodAction",
+    "MethodActionArgument",
+    "MethodAlreadyDisabledFault",
+    "MethodDescription",
+    "MethodDisabled",
+    "MethodFault",
+    "MethodNotFound",
+    "MetricAlarmExpression",
+    "MetricAlarmOperator",
+    "MigrationDisabled",
+    "MigrationErrorEvent",
+    "MigrationEvent",
+    "MigrationFault",
+    "MigrationFeatureNotSupported",
+    "MigrationHostErrorEvent",
+    "MigrationHostWarningEvent",
+    "MigrationNotReady",
+    "MigrationResourceErrorEvent",
+    "MigrationResourceWarningEvent",
+    "MigrationWarningEvent",
+    "MismatchedBundle",
+    "MismatchedNetworkPolicies",
+    "MismatchedVMotionNetworkNames",
+    "MissingBmcSupport",
+    "MissingController",
+    "MissingLinuxCustResources",
+    "MissingNetworkIpConfig",
+    "MissingObject",
+    "MissingPowerOffConfiguration",
+    "MissingPowerOnConfiguration",
+    "MissingProperty",
+    "MissingWindowsCustResources",
+    "ModeInfo",
+    "MonthlyByDayTaskScheduler",
+    "MonthlyByWeekdayTaskScheduler",
+    "MonthlyTaskScheduler",
+    "MountError",
+    "MultipathState",
+    "MultipleCertificatesVerifyFault",
+    "MultipleCertificatesVerifyFaultThumbprintData",
+    "MultipleSnapshotsNotSupported",
+    "NASDatastoreCreatedEvent",
+    "NasConfigFault",
+    "NasConnectionLimitReached",
+    "NasDatastoreInfo",
+    "NasSessionCredentialConflict",
+    "NasStorageProfile",
+    "NasVolumeNotMounted",
+    "NetBIOSConfigInfo",
+    "NetBIOSConfigInfoMode",
+    "NetDhcpConfigInfo",
+    "NetDhcpConfigInfoDhcpOptions",
+    "NetDhcpConfigSpec",
+    "NetDhcpConfigSpecDhcpOptionsSpec",
+    "NetDnsConfigInfo",
+    "NetDnsConfigSpec",
+    "NetIpConfigInfo",
+    "NetIpConfigInfoIpAddress",
+    "NetIpConfigInfoIpAddressOrigin",
+    "NetIpConfigInfoIpAddressStatus",
+    "NetIpConfigSpec",
+    "NetIpConfigSpecIpAddressSpec",
+    "NetIpRouteConfigInfo",
+    "NetIpRouteConfigInfoGateway",
+    "NetIpRouteConfigInfoIpRoute",
+    "NetIpRouteConfigSpec",
+    "NetIpRouteConfigSpecGatewaySpec",
+    "NetIpRouteConfigSpecIpRouteSpec",
+    "NetIpStackInfo",
+    "NetIpStackInfoDefaultRouter",
+    "NetIpStackInfoEntryType",
+    "NetIpStackInfoNetToMedia",
+    "NetIpStackInfoPreference",
+    "NetworkCopyFault",
+    "NetworkEventArgument",
+    "NetworkInaccessible",
+    "NetworkPolicyProfile",
+    "NetworkProfile",
+    "NetworkProfileDnsConfigProfile",
+    "NetworkSummary",
+    "NetworksMayNotBeTheSame",
+    "NicSettingMismatch",
+    "NoAccessUserEvent",
+    "NoActiveHostInCluster",
+    "NoAvailableIp",
+    "NoClientCertificate",
+    "NoCompatibleHardAffinityHost",
+    "NoCompatibleHost",
+    "NoCompatibleHostWithAccessToDevice",
+    "NoCompatibleSoftAffinityHost",
+    "NoDatastoresConfiguredEvent",
+    "NoDiskFound",
+    "NoDiskSpace",
+    "NoDisksToCustomize",
+    "NoGateway",
+    "NoGuestHeartbeat",
+    "NoHost",
+    "NoHostSuitableForFtSecondary",
+    "NoLicenseEvent",
+    "NoLicenseServerConfigured",
+    "NoMaintenanceModeDrsRecommendationForVM",
+    "NoPeerHostFound",
+    "NoPermission",
+    "NoPermissionOnAD",
+    "NoPermissionOnHost",
+    "NoPermissionOnNasVolume",
+    "NoSubjectName",
+    "NoVcManagedIpConfigured",
+    "NoVirtualNic",
+    "NoVmInVApp",
+    "NonADUserRequired",
+    "NonHomeRDMVMotionNotSupported",
+    "NonPersistentDisksNotSupported",
+    "NonVIWorkloadDetectedOnDatastoreEvent",
+    "NotAuthenticated",
+    "NotEnoughCpus",
+    "NotEnoughLicenses",
+    "NotEnoughLogicalCpus",
+    "NotEnoughResourcesToStartVmEvent",
+    "NotFound",
+    "NotImplemented",
+    "NotSupported",
+    "NotSupportedDeviceForFT",
+    "NotSupportedDeviceForFTDeviceType",
+    "NotSupportedHost",
+    "NotSupportedHostInCluster",
+    "NotSupportedHostInDvs",
+    "NotUserConfigurableProperty",
+    "NumPortsProfile",
+    "NumVirtualCpusExceedsLimit",
+    "NumVirtualCpusIncompatible",
+    "NumVirtualCpusIncompatibleReason",
+    "NumVirtualCpusNotSupported",
+    "NumericRange",
+    "ObjectContent",
+    "ObjectSpec",
+    "ObjectUpdate",
+    "ObjectUpdateKind",
+    "OnceTaskScheduler",
+    "OptionDef",
+    "OptionProfile",
+    "OptionType",
+    "OptionValue",
+    "OrAlarmExpression",
+    "OutOfBounds",
+    "OutOfSyncDvsHost",
+    "OvfAttribute",
+    "OvfConnectedDevice",
+    "OvfConnectedDeviceFloppy",
+    "OvfConnectedDeviceIso",
+    "OvfConstraint",
+    "OvfCreateDescriptorParams",
+    "OvfCreateDescriptorResult",
+    "OvfCreateImportSpecParams",
+    "OvfCreateImportSpecParamsDiskModeType",
+    "OvfCreateImportSpecParamsDiskProvisioningType",
+    "OvfCreateImportSpecResult",
+    "OvfDeploymentOption",
+    "OvfDiskMappingNotFound",
+    "OvfDiskOrderConstraint",
+    "OvfDuplicateElement",
+    "OvfDuplicatedElementBoundary",
+    "OvfElement",
+    "OvfElementInvalidValue",
+    "OvfExport",
+    "OvfExportFailed",
+    "OvfFault",
+    "OvfFile",
+    "OvfFileItem",
+    "OvfHardwareCheck",
+    "OvfHardwareExport",
+    "OvfHostResourceConstraint",
+    "OvfHostValueNotParsed",
+    "OvfImport",
+    "OvfImportFailed",
+    "OvfInternalError",
+    "OvfInvalidPackage",
+    "OvfInvalidValue",
+    "OvfInvalidValueConfiguration",
+    "OvfInvalidValueEmpty",
+    "OvfInvalidValueFormatMalformed",
+    "OvfInvalidValueReference",
+    "OvfInvalidVmName",
+    "OvfManagerCommonParams",
+    "OvfMappedOsId",
+    "OvfMissingAttribute",
+    "OvfMissingElement",
+    "OvfMissingElementNormalBoundary",
+    "OvfMissingHardware",
+    "OvfNetworkInfo",
+    "OvfNetworkMapping",
+    "OvfNoHostNic",
+    "OvfNoSupportedHardwareFamily",
+    "OvfParseDescriptorParams",
+    "OvfParseDescriptorResult",
+    "OvfProperty",
+    "OvfPropertyExport",
+    "OvfPropertyNetwork",
+    "OvfPropertyQualifier",
+    "OvfPropertyQualifierDuplicate",
+    "OvfPropertyQualifierIgnored",
+    "OvfPropertyType",
+    "OvfPropertyValue",
+    "OvfResourceMap",
+    "OvfSystemFault",
+    "OvfToXmlUnsupportedElement",
+    "OvfUnableToExportDisk",
+    "OvfUnexpectedElement",
+    "OvfUnknownDevice",
+    "OvfUnknownDeviceBacking",
+    "OvfUnknownEntity",
+    "OvfUnsupportedAttribute",
+    "OvfUnsupportedAttributeValue",
+    "OvfUnsupportedDeviceBackingInfo",
+    "OvfUnsupportedDeviceBackingOption",
+    "OvfUnsupportedDeviceExport",
+    "OvfUnsupportedDiskMode",
+    "OvfUnsupportedDiskProvisioning",
+    "OvfUnsupportedElement",
+    "OvfUnsupportedElementValue",
+    "OvfUnsupportedPackage",
+    "OvfUnsupportedSection",
+    "OvfUnsupportedSubType",
+    "OvfUnsupportedType",
+    "OvfValidateHostParams",
+    "OvfValidateHostResult",
+    "OvfWrongElement",
+    "OvfWrongNamespace",
+    "OvfXmlFormat",
+    "ParaVirtualSCSIController",
+    "ParaVirtualSCSIControllerOption",
+    "PasswordField",
+    "PatchAlreadyInstalled",
+    "PatchBinariesNotFound",
+    "PatchInstallFailed",
+    "PatchIntegrityError",
+    "PatchMetadataCorrupted",
+    "PatchMetadataInvalid",
+    "PatchMetadataNotFound",
+    "PatchMissingDependencies",
+    "PatchNotApplicable",
+    "PatchSuperseded",
+    "PerfCompositeMetric",
+    "PerfCounterInfo",
+    "PerfEntityMetric",
+    "PerfEntityMetricBase",
+    "PerfEntityMetricCSV",
+    "PerfFormat",
+    "PerfInterval",
+    "PerfMetricId",
+    "PerfMetricIntSeries",
+    "PerfMetricSeries",
+    "PerfMetricSeriesCSV",
+    "PerfProviderSummary",
+    "PerfQuerySpec",
+    "PerfSampleInfo",
+    "PerfStatsType",
+    "PerfSummaryType",
+    "PerformanceDescription",
+    "PerformanceManagerUnit",
+    "PerformanceStatisticsDescription",
+    "Permission",
+    "PermissionAddedEvent",
+    "PermissionEvent",
+    "PermissionProfile",
+    "PermissionRemovedEvent",
+    "PermissionUpdatedEvent",
+    "PhysCompatRDMNotSupported",
+    "PhysicalNic",
+    "PhysicalNicCdpDeviceCapability",
+    "PhysicalNicCdpInfo",
+    "PhysicalNicConfig",
+    "PhysicalNicHint",
+    "PhysicalNicHintInfo",
+    "PhysicalNicIpHint",
+    "PhysicalNicLinkInfo",
+    "PhysicalNicNameHint",
+    "PhysicalNicProfile",
+    "PhysicalNicResourcePoolSchedulerDisallowedReason",
+    "PhysicalNicSpec",
+    "PhysicalNicVmDirectPathGen2SupportedMode",
+    "PlatformConfigFault",
+    "PnicUplinkProfile",
+    "PolicyOption",
+    "PortGroupConnecteeType",
+    "PortGroupProfile",
+    "PosixUserSearchResult",
+    "PowerOnFtSecondaryFailed",
+    "PowerOnFtSecondaryTimedout",
+    "PowerSystemCapability",
+    "PowerSystemInfo",
+    "PrivilegePolicyDef",
+    "ProductComponentInfo",
+    "ProfileAssociatedEvent",
+    "ProfileChangedEvent",
+    "ProfileCompositeExpression",
+    "ProfileCompositePolicyOptionMetadata",
+    "ProfileConfigInfo",
+    "ProfileCreateSpec",
+    "ProfileCreatedEvent",
+    "ProfileDeferredPolicyOptionParameter",
+    "ProfileDescription",
+    "ProfileDescriptionSection",
+    "ProfileDissociatedEvent",
+    "ProfileEvent",
+    "ProfileEventArgument",
+    "ProfileExecuteError",
+    "ProfileExecuteResult",
+    "ProfileExecuteResultStatus",
+    "ProfileExpression",
+    "ProfileExpressionMetadata",
+    "ProfileMetadata",
+    "ProfileNumericComparator",
+    "ProfileParameterMetadata",
+    "ProfilePolicy",
+    "ProfilePolicyMetadata",
+    "ProfilePolicyOptionMetadata",
+    "ProfilePropertyPath",
+    "ProfileReferenceHostChangedEvent",
+    "ProfileRemovedEvent",
+    "ProfileSerializedCreateSpec",
+    "ProfileSimpleExpression",
+    "ProfileUpdateFailed",
+    "ProfileUpdateFailedUpdateFailure",
+    "PropertyChange",
+    "PropertyChangeOp",
+    "PropertyFilterSpec",
+    "PropertyFilterUpdate",
+    "PropertySpec",
+    "ProxyServiceAccessMode",
+    "QuestionPending",
+    "RDMConversionNotSupported",
+    "RDMNotPreserved",
+    "RDMNotSupported",
+    "RDMNotSupportedOnDatastore",
+    "RDMPointsToInaccessibleDisk",
+    "RawDiskNotSupported",
+    "ReadOnlyDisksWithLegacyDestination",
+    "RebootRequired",
+    "RecommendationReasonCode",
+    "RecommendationType",
+    "RecordReplayDisabled",
+    "RecurrentTaskScheduler",
+    "RemoteDeviceNotSupported",
+    "RemoteTSMEnabledEvent",
+    "RemoveFailed",
+    "RequestCanceled",
+    "ResourceAllocationInfo",
+    "ResourceAllocationOption",
+    "ResourceConfigOption",
+    "ResourceConfigSpec",
+    "ResourceInUse",
+    "ResourceNotAvailable",
+    "ResourcePoolCreatedEvent",
+    "ResourcePoolDestroyedEvent",
+    "ResourcePoolEvent",
+    "ResourcePoolEventArgument",
+    "ResourcePoolMovedEvent",
+    "ResourcePoolQuickStats",
+    "ResourcePoolReconfiguredEvent",
+    "ResourcePoolResourceUsage",
+    "ResourcePoolRuntimeInfo",
+    "ResourcePoolSummary",
+    "ResourceViolatedEvent",
+    "RestrictedVersion",
+    "RetrieveOptions",
+    "RetrieveResult",
+    "RoleAddedEvent",
+    "RoleEvent",
+    "RoleEventArgument",
+    "RoleRemovedEvent",
+    "RoleUpdatedEvent",
+    "RuleViolation",
+    "RunScriptAction",
+    "RuntimeFault",
+    "SSLDisabledFault",
+    "SSLVerifyFault",
+    "SSPIChallenge",
+    "ScheduledTaskCompletedEvent",
+    "ScheduledTaskCreatedEvent",
+    "ScheduledTaskDescription",
+    "ScheduledTaskDetail",
+    "ScheduledTaskEmailCompletedEvent",
+    "ScheduledTaskEmailFailedEvent",
+    "ScheduledTaskEvent",
+    "ScheduledTaskEventArgument",
+    "ScheduledTaskFailedEvent",
+    "ScheduledTaskInfo",
+    "ScheduledTaskReconfiguredEvent",
+    "ScheduledTaskRemovedEvent",
+    "ScheduledTaskSpec",
+    "ScheduledTaskStartedEvent",
+    "ScsiLun",
+    "ScsiLunCapabilities",
+    "ScsiLunDescriptor",
+    "ScsiLunDescriptorQuality",
+    "ScsiLunDurableName",
+    "ScsiLunState",
+    "ScsiLunType",
+    "ScsiLunVStorageSupportStatus",
+    "SecondaryVmAlreadyDisabled",
+    "SecondaryVmAlreadyEnabled",
+    "SecondaryVmAlreadyRegistered",
+    "SecondaryVmNotRegistered",
+    "SecurityError",
+    "SecurityProfile",
+    "SelectionSpec",
+    "SendEmailAction",
+    "SendSNMPAction",
+    "SendTargetProfile",
+    "ServerLicenseExpiredEvent",
+    "ServerStartedSessionEvent",
+    "ServiceConsolePortGroupProfile",
+    "ServiceConsoleReservationInfo",
+    "ServiceContent",
+    "ServiceProfile",
+    "SessionEvent",
+    "SessionManagerLocalTicket",
+    "SessionTerminatedEvent",
+    "SharedBusControllerNotSupported",
+    "SharesInfo",
+    "SharesLevel",
+    "SharesOption",
+    "SimpleCommandEncoding",
+    "SlpDiscoveryMethod",
+    "SnapshotCloneNotSupported",
+    "SnapshotCopyNotSupported",
+    "SnapshotDisabled",
+    "SnapshotFault",
+    "SnapshotIncompatibleDeviceInVm",
+    "SnapshotLocked",
+    "SnapshotMoveFromNonHomeNotSupported",
+    "SnapshotMoveNotSupported",
+    "SnapshotMoveToNonHomeNotSupported",
+    "SnapshotNoChange",
+    "SnapshotRevertIssue",
+    "SoftRuleVioCorrectionDisallowed",
+    "SoftRuleVioCorrectionImpact",
+    "SoftwareISCSIInitiatorProfile",
+    "StateAlarmExpression",
+    "StateAlarmOperator",
+    "StaticRouteProfile",
+    "StaticTargetProfile",
+    "StorageIOAllocationInfo",
+    "StorageIOAllocationOption",
+    "StorageIORMConfigOption",
+    "StorageIORMConfigSpec",
+    "StorageIORMInfo",
+    "StorageProfile",
+    "StorageVMotionNotSupported",
+    "StringOption",
+    "StringPolicy",
+    "SuspendedRelocateNotSupported",
+    "SwapDatastoreNotWritableOnHost",
+    "SwapDatastoreUnset",
+    "SwapPlacementOverrideNotSupported",
+    "SwitchNotInUpgradeMode",
+    "SystemError",
+    "Tag",
+    "TaskDescription",
+    "TaskEvent",
+    "TaskFilterSpec",
+    "TaskFilterSpecByEntity",
+    "TaskFilterSpecByTime",
+    "TaskFilterSpecByUsername",
+    "TaskFilterSpecRecursionOption",
+    "TaskFilterSpecTimeOption",
+    "TaskInProgress",
+    "TaskInfo",
+    "TaskInfoState",
+    "TaskReason",
+    "TaskReasonAlarm",
+    "TaskReasonSchedule",
+    "TaskReasonSystem",
+    "TaskReasonUser",
+    "TaskScheduler",
+    "TaskTimeoutEvent",
+    "TemplateBeingUpgradedEvent",
+    "TemplateConfigFileInfo",
+    "TemplateConfigFileQuery",
+    "TemplateUpgradeEvent",
+    "TemplateUpgradeFailedEvent",
+    "TemplateUpgradedEvent",
+    "TimedOutHostOperationEvent",
+    "Timedout",
+    "TooManyConsecutiveOverrides",
+    "TooManyDevices",
+    "TooManyDisksOnLegacyHost",
+    "TooManyHosts",
+    "TooManySnapshotLevels",
+    "ToolsAlreadyUpgraded",
+    "ToolsAutoUpgradeNotSupported",
+    "ToolsConfigInfo",
+    "ToolsImageNotAvailable",
+    "ToolsImageSignatureCheckFailed",
+    "ToolsInstallationInProgress",
+    "ToolsUnavailable",
+    "ToolsUpgradeCancelled",
+    "TraversalSpec",
+    "TypeDescription",
+    "UncommittedUndoableDisk",
+    "UnconfiguredPropertyValue",
+    "UncustomizableGuest",
+    "UnexpectedCustomizationFault",
+    "UnexpectedFault",
+    "UnlicensedVirtualMachinesEvent",
+    "UnlicensedVirtualMachinesFoundEvent",
+    "UnrecognizedHost",
+    "UnsharedSwapVMotionNotSupported",
+    "UnsupportedDatastore",
+    "UnsupportedGuest",
+    "UnsupportedVimApiVersion",
+    "UnsupportedVmxLocation",
+    "UnusedVirtualDiskBlocksNotScrubbed",
+    "UpdateSet",
+    "UpdateVirtualMachineFilesResult",
+    "UpdateVirtualMachineFilesResultFailedVmFileInfo",
+    "UpdatedAgentBeingRestartedEvent",
+    "UpgradeEvent",
+    "UpgradePolicy",
+    "UserAssignedToGroup",
+    "UserGroupProfile",
+    "UserInputRequiredParameterMetadata",
+    "UserLoginSessionEvent",
+    "UserLogoutSessionEvent",
+    "UserNotFound",
+    "UserPasswordChanged",
+    "UserProfile",
+    "UserSearchResult",
+    "UserSession",
+    "UserUnassignedFromGroup",
+    "UserUpgradeEvent",
+    "VAppAutoStartAction",
+    "VAppCloneSpec",
+    "VAppCloneSpecNetworkMappingPair",
+    "VAppCloneSpecProvisioningType",
+    "VAppCloneSpecResourceMap",
+    "VAppConfigFault",
+    "VAppConfigInfo",
+    "VAppConfigSpec",
+    "VAppEntityConfigInfo",
+    "VAppIPAssignmentInfo",
+    "VAppIPAssignmentInfoAllocationSchemes",
+    "VAppIPAssignmentInfoIpAllocationPolicy",
+    "VAppIPAssignmentInfoProtocols",
+    "VAppNotRunning",
+    "VAppOvfSectionInfo",
+    "VAppOvfSectionSpec",
+    "VAppProductInfo",
+    "VAppProductSpec",
+    "VAppPropertyFault",
+    "VAppPropertyInfo",
+    "VAppPropertySpec",
+    "VAppTaskInProgress",
+    "VMFSDatastoreCreatedEvent",
+    "VMFSDatastoreExpandedEvent",
+    "VMFSDatastoreExtendedEvent",
+    "VMINotSupported",
+    "VMOnConflictDVPort",
+    "VMOnVirtualIntranet",
+    "VMotionCompatibilityType",
+    "VMotionInterfaceIssue",
+    "VMotionLicenseExpiredEvent",
+    "VMotionLinkCapacityLow",
+    "VMotionLinkDown",
+    "VMotionNotConfigured",
+    "VMotionNotLicensed",
+    "VMotionNotSupported",
+    "VMotionProtocolIncompatible",
+    "VMwareDVSConfigInfo",
+    "VMwareDVSConfigSpec",
+    "VMwareDVSFeatureCapability",
+    "VMwareDVSPortSetting",
+    "VMwareDVSPortgroupPolicy",
+    "VMwareDVSPvlanConfigSpec",
+    "VMwareDVSPvlanMapEntry",
+    "VMwareUplinkPortOrderPolicy",
+    "ValidateMigrationTestType",
+    "VcAgentUninstallFailedEvent",
+    "VcAgentUninstalledEvent",
+    "VcAgentUpgradeFailedEvent",
+    "VcAgentUpgradedEvent",
+    "VimAccountPasswordChangedEvent",
+    "VimFault",
+    "VirtualAppImportSpec",
+    "VirtualAppLinkInfo",
+    "VirtualAppSummary",
+    "VirtualAppVAppState",
+    "VirtualBusLogicController",
+    "VirtualBusLogicControllerOption",
+    "VirtualCdrom",
+    "VirtualCdromAtapiBackingInfo",
+    "VirtualCdromAtapiBackingOption",
+    "VirtualCdromIsoBackingInfo",
+    "VirtualCdromIsoBackingOption",
+    "VirtualCdromOption",
+    "VirtualCdromPassthroughBackingInfo",
+    "VirtualCdromPassthroughBackingOption",
+    "VirtualCdromRemoteAtapiBackingInfo",
+    "VirtualCdromRemoteAtapiBackingOption",
+    "VirtualCdromRemotePassthroughBackingInfo",
+    "VirtualCdromRemotePassthroughBackingOption",
+    "VirtualController",
+    "VirtualControllerOption",
+    "VirtualDevice",
+    "VirtualDeviceBackingInfo",
+    "VirtualDeviceBackingOption",
+    "VirtualDeviceConfigSpec",
+    "VirtualDeviceConfigSpecFileOperation",
+    "VirtualDeviceConfigSpecOperation",
+    "VirtualDeviceConnectInfo",
+    "VirtualDeviceConnectInfoStatus",
+    "VirtualDeviceConnectOption",
+    "VirtualDeviceDeviceBackingInfo",
+    "VirtualDeviceDeviceBackingOption",
+    "VirtualDeviceFileBackingInfo",
+    "VirtualDeviceFileBackingOption",
+    "VirtualDeviceFileExtension",
+    "VirtualDeviceOption",
+    "VirtualDevicePipeBackingInfo",
+    "VirtualDevicePipeBackingOption",
+    "VirtualDeviceRemoteDeviceBackingInfo",
+    "VirtualDeviceRemoteDeviceBackingOption",
+    "VirtualDeviceURIBackingInfo",
+    "VirtualDeviceURIBackingOption",
+    "VirtualDeviceURIBackingOptionDirection",
+    "VirtualDisk",
+    "VirtualDiskAdapterType",
+    "VirtualDiskBlocksNotFullyProvisioned",
+    "VirtualDiskCompatibilityMode",
+    "VirtualDiskFlatVer1BackingInfo",
+    "VirtualDiskFlatVer1BackingOption",
+    "VirtualDiskFlatVer2BackingInfo",
+    "VirtualDiskFlatVer2BackingOption",
+    "VirtualDiskMode",
+    "VirtualDiskModeNotSupported",
+    "VirtualDiskOption",
+    "VirtualDiskPartitionedRawDiskVer2BackingInfo",
+    "VirtualDiskPartitionedRawDiskVer2BackingOption",
+    "VirtualDiskRawDiskMappingVer1BackingInfo",
+    "VirtualDiskRawDiskMappingVer1BackingOption",
+    "VirtualDiskRawDiskVer2BackingInfo",
+    "VirtualDiskRawDiskVer2BackingOption",
+    "VirtualDiskSparseVer1BackingInfo",
+    "VirtualDiskSparseVer1BackingOption",
+    "VirtualDiskSparseVer2BackingInfo",
+    "VirtualDiskSparseVer2BackingOption",
+    "VirtualDiskSpec",
+    "VirtualDiskType",
+    "VirtualE1000",
+    "VirtualE1000Option",
+    "VirtualEnsoniq1371",
+    "VirtualEnsoniq1371Option",
+    "VirtualEthernetCard",
+    "VirtualEthernetCardDVPortBackingOption",
+    "VirtualEthernetCardDistributedVirtualPortBackingInfo",
+    "VirtualEthernetCardLegacyNetworkBackingInfo",
+    "VirtualEthernetCardLegacyNetworkBackingOption",
+    "VirtualEthernetCardLegacyNetworkDeviceName",
+    "VirtualEthernetCardMacType",
+    "VirtualEthernetCardNetworkBackingInfo",
+    "VirtualEthernetCardNetworkBackingOption",
+    "VirtualEthernetCardNotSupported",
+    "VirtualEthernetCardOption",
+    "VirtualFloppy",
+    "VirtualFloppyDeviceBackingInfo",
+    "VirtualFloppyDeviceBackingOption",
+    "VirtualFloppyImageBackingInfo",
+    "VirtualFloppyImageBackingOption",
+    "VirtualFloppyOption",
+    "VirtualFloppyRemoteDeviceBackingInfo",
+    "VirtualFloppyRemoteDeviceBackingOption",
+    "VirtualHardware",
+    "VirtualHardwareCompatibilityIssue",
+    "VirtualHardwareOption",
+    "VirtualHardwareVersionNotSupported",
+    "VirtualIDEController",
+    "VirtualIDEControllerOption",
+    "VirtualKeyboard",
+    "VirtualKeyboardOption",
+    "VirtualLsiLogicController",
+    "VirtualLsiLogicControllerOption",
+    "VirtualLsiLogicSASController",
+    "VirtualLsiLogicSASControllerOption",
+    "VirtualMachineAffinityInfo",
+    "VirtualMachineAppHeartbeatStatusType",
+    "VirtualMachineBootOptions",
+    "VirtualMachineCapability",
+    "VirtualMachineCdromInfo",
+    "VirtualMachineCloneSpec",
+    "VirtualMachineConfigInfo",
+    "VirtualMachineConfigInfoDatastoreUrlPair",
+    "VirtualMachineConfigInfoNpivWwnType",
+    "VirtualMachineConfigInfoSwapPlacementType",
+    "VirtualMachineConfigOption",
+    "VirtualMachineConfigOptionDescriptor",
+    "VirtualMachineConfigSpec",
+    "VirtualMachineConfigSpecNpivWwnOp",
+    "VirtualMachineConfigSummary",
+    "VirtualMachineConnectionState",
+    "VirtualMachineConsolePreferences",
+    "VirtualMachineCpuIdInfoSpec",
+    "VirtualMachineDatastoreInfo",
+    "VirtualMachineDatastoreVolumeOption",
+    "VirtualMachineDefaultPowerOpInfo",
+    "VirtualMachineDeviceRuntimeInfo",
+    "VirtualMachineDeviceRuntimeInfoDeviceRuntimeState",
+    "VirtualMachineDeviceRuntimeInfoVirtualEthernetCardRuntimeState",
+    "VirtualMachineDeviceRuntimeInfoVirtualEthernetCardRuntimeStateVmDirectPathGen2InactiveReasonOther",
+    "VirtualMachineDeviceRuntimeInfoVirtualEthernetCardRuntimeStateVmDirectPathGen2InactiveReasonVm",
+    "VirtualMachineDiskDeviceInfo",
+    "VirtualMachineDisplayTopology",
+    "VirtualMachineFaultToleranceState",
+    "VirtualMachineFileInfo",
+    "VirtualMachineFileLayout",
+    "VirtualMachineFileLayoutDiskLayout",
+    "VirtualMachineFileLayoutEx",
+    "VirtualMachineFileLayoutExDiskLayout",
+    "VirtualMachineFileLayoutExDiskUnit",
+    "VirtualMachineFileLayoutExFileInfo",
+    "VirtualMachineFileLayoutExFileType",
+    "VirtualMachineFileLayoutExSnapshotLayout",
+    "VirtualMachineFileLayoutSnapshotLayout",
+    "VirtualMachineFlagInfo",
+    "VirtualMachineFlagInfoMonitorType",
+    "VirtualMachineFlagInfoVirtualExecUsage",
+    "VirtualMachineFlagInfoVirtualMmuUsage",
+    "VirtualMachineFloppyInfo",
+    "VirtualMachineGuestOsFamily",
+    "VirtualMachineGuestOsIdentifier",
+    "VirtualMachineGuestState",
+    "VirtualMachineGuestSummary",
+    "VirtualMachineHtSharing",
+    "VirtualMachineIdeDiskDeviceInfo",
+    "VirtualMachineIdeDiskDevicePartitionInfo",
+    "VirtualMachineImportSpec",
+    "VirtualMachineLegacyNetworkSwitchInfo",
+    "VirtualMachineMemoryAllocationPolicy",
+    "VirtualMachineMemoryReservationInfo",
+    "VirtualMachineMemoryReservationSpec",
+    "VirtualMachineMessage",
+    "VirtualMachineMksTicket",
+    "VirtualMachineMovePriority",
+    "VirtualMachineNeedSecondaryReason",
+    "VirtualMachineNetworkInfo",
+    "VirtualMachineNetworkShaperInfo",
+    "VirtualMachineParallelInfo",
+    "VirtualMachinePciPassthroughInfo",
+    "VirtualMachinePowerOffBehavior",
+    "VirtualMachinePowerOpType",
+    "VirtualMachinePowerState",
+    "VirtualMachineQuestionInfo",
+    "VirtualMachineQuickStats",
+    "VirtualMachineRecordReplayState",
+    "VirtualMachineRelocateDiskMoveOptions",
+    "VirtualMachineRelocateSpec",
+    "VirtualMachineRelocateSpecDiskLocator",
+    "VirtualMachineRelocateTransformation",
+    "VirtualMachineRuntimeInfo",
+    "VirtualMachineScsiDiskDeviceInfo",
+    "VirtualMachineScsiPassthroughInfo",
+    "VirtualMachineScsiPassthroughType",
+    "VirtualMachineSerialInfo",
+    "VirtualMachineSnapshotInfo",
+    "VirtualMachineSnapshotTree",
+    "VirtualMachineSoundInfo",
+    "VirtualMachineStandbyActionType",
+    "VirtualMachineStorageInfo",
+    "VirtualMachineStorageSummary",
+    "VirtualMachineSummary",
+    "VirtualMachineTargetInfo",
+    "VirtualMachineTargetInfoConfigurationTag",
+    "VirtualMachineTicket",
+    "VirtualMachineTicketType",
+    "VirtualMachineToolsRunningStatus",
+    "VirtualMachineToolsStatus",
+    "VirtualMachineToolsVersionStatus",
+    "VirtualMachineUsageOnDatastore",
+    "VirtualMachineUsbInfo",
+    "VirtualMachineUsbInfoFamily",
+    "VirtualMachineUsbInfoSpeed",
+    "VirtualMachineVMCIDevice",
+    "VirtualMachineVMCIDeviceOption",
+    "VirtualMachineVMIROM",
+    "VirtualMachineVideoCard",
+    "VirtualNicManagerNetConfig",
+    "VirtualPCIController",
+    "VirtualPCIControllerOption",
+    "VirtualPCIPassthrough",
+    "VirtualPCIPassthroughDeviceBackingInfo",
+    "VirtualPCIPassthroughDeviceBackingOption",
+    "VirtualPCIPassthroughOption",
+    "VirtualPCNet32",
+    "VirtualPCNet32Option",
+    "VirtualPS2Controller",
+    "VirtualPS2ControllerOption",
+    "VirtualParallelPort",
+    "VirtualParallelPortDeviceBackingInfo",
+    "VirtualParallelPortDeviceBackingOption",
+    "VirtualParallelPortFileBackingInfo",
+    "VirtualParallelPortFileBackingOption",
+    "VirtualParallelPortOption",
+    "VirtualPointingDevice",
+    "VirtualPointingDeviceBackingOption",
+    "VirtualPointingDeviceDeviceBackingInfo",
+    "VirtualPointingDeviceHostChoice",
+    "VirtualPointingDeviceOption",
+    "VirtualSCSIController",
+    "VirtualSCSIControllerOption",
+    "VirtualSCSIPassthrough",
+    "VirtualSCSIPassthroughDeviceBackingInfo",
+    "VirtualSCSIPassthroughDeviceBackingOption",
+    "VirtualSCSIPassthroughOption",
+    "VirtualSCSISharing",
+    "VirtualSIOController",
+    "VirtualSIOControllerOption",
+    "VirtualSerialPort",
+    "VirtualSerialPortDeviceBackingInfo",
+    "VirtualSerialPortDeviceBackingOption",
+    "VirtualSerialPortEndPoint",
+    "VirtualSerialPortFileBackingInfo",
+    "VirtualSerialPortFileBackingOption",
+    "VirtualSerialPortOption",
+    "VirtualSerialPortPipeBackingInfo",
+    "VirtualSerialPortPipeBackingOption",
+    "VirtualSerialPortURIBackingInfo",
+    "VirtualSerialPortURIBackingOption",
+    "VirtualSoundBlaster16",
+    "VirtualSoundBlaster16Option",
+    "VirtualSoundCard",
+    "VirtualSoundCardDeviceBackingInfo",
+    "VirtualSoundCardDeviceBackingOption",
+    "VirtualSoundCardOption",
+    "VirtualSwitchProfile",
+    "VirtualSwitchSelectionProfile",
+    "VirtualUSB",
+    "VirtualUSBController",
+    "VirtualUSBControllerOption",
+    "VirtualUSBOption",
+    "VirtualUSBRemoteHostBackingInfo",
+    "VirtualUSBRemoteHostBackingOption",
+    "VirtualUSBUSBBackingInfo",
+    "VirtualUSBUSBBackingOption",
+    "VirtualVMIROMOption",
+    "VirtualVideoCardOption",
+    "VirtualVmxnet",
+    "VirtualVmxnet2",
+    "VirtualVmxnet2Option",
+    "VirtualVmxnet3",
+    "VirtualVmxnet3Option",
+    "VirtualVmxnetOption",
+    "VirtualizationManagerCollectionKey",
+    "VirtualizationManagerCredentialKey",
+    "VirtualizationManagerEntityType",
+    "VirtualizationManagerHealthValue",
+    "VlanProfile",
+    "VmAcquiredMksTicketEvent",
+    "VmAcquiredTicketEvent",
+    "VmAlreadyExistsInDatacenter",
+    "VmAutoRenameEvent",
+    "VmBeingClonedEvent",
+    "VmBeingClonedNoFolderEvent",
+    "VmBeingCreatedEvent",
+    "VmBeingDeployedEvent",
+    "VmBeingHotMigratedEvent",
+    "VmBeingMigratedEvent",
+    "VmBeingRelocatedEvent",
+    "VmCloneEvent",
+    "VmCloneFailedEvent",
+    "VmClonedEvent",
+    "VmConfigFault",
+    "VmConfigFileInfo",
+    "VmConfigFileQuery",
+    "VmConfigFileQueryFilter",
+    "VmConfigFileQueryFlags",
+    "VmConfigIncompatibleForFaultTolerance",
+    "VmConfigIncompatibleForRecordReplay",
+    "VmConfigInfo",
+    "VmConfigMissingEvent",
+    "VmConfigSpec",
+    "VmConnectedEvent",
+    "VmCreatedEvent",
+    "VmDasBeingResetEvent",
+    "VmDasBeingResetEventReasonCode",
+    "VmDasBeingResetWithScreenshotEvent",
+    "VmDasResetFailedEvent",
+    "VmDasUpdateErrorEvent",
+    "VmDasUpdateOkEvent",
+    "VmDateRolledBackEvent",
+    "VmDeployFailedEvent",
+    "VmDeployedEvent",
+    "VmDisconnectedEvent",
+    "VmDiscoveredEvent",
+    "VmDiskFailedEvent",
+    "VmDiskFileInfo",
+    "VmDiskFileQuery",
+    "VmDiskFileQueryFilter",
+    "VmDiskFileQueryFlags",
+    "VmEmigratingEvent",
+    "VmEndRecordingEvent",
+    "VmEndReplayingEvent",
+    "VmEvent",
+    "VmEventArgument",
+    "VmFailedMigrateEvent",
+    "VmFailedRelayoutEvent",
+    "VmFailedRelayoutOnVmfs2DatastoreEvent",
+    "VmFailedStartingSecondaryEvent",
+    "VmFailedStartingSecondaryEventFailureReason",
+    "VmFailedToPowerOffEvent",
+    "VmFailedToPowerOnEvent",
+    "VmFailedToRebootGuestEvent",
+    "VmFailedToResetEvent",
+    "VmFailedToShutdownGuestEvent",
+    "VmFailedToStandbyGuestEvent",
+    "VmFailedToSuspendEvent",
+    "VmFailedUpdatingSecondaryConfig",
+    "VmFailoverFailed",
+    "VmFaultToleranceConfigIssue",
+    "VmFaultToleranceConfigIssueReasonForIssue",
+    "VmFaultToleranceConfigIssueWrapper",
+    "VmFaultToleranceInvalidFileBacking",
+    "VmFaultToleranceInvalidFileBackingDeviceType",
+    "VmFaultToleranceIssue",
+    "VmFaultToleranceOpIssuesList",
+    "VmFaultToleranceStateChangedEvent",
+    "VmFaultToleranceTooManyVMsOnHost",
+    "VmFaultToleranceTurnedOffEvent",
+    "VmFaultToleranceVmTerminatedEvent",
+    "VmGuestRebootEvent",
+    "VmGuestShutdownEvent",
+    "VmGuestStandbyEvent",
+    "VmHealthMonitoringStateChangedEvent",
+    "VmHostAffinityRuleViolation",
+    "VmInstanceUuidAssignedEvent",
+    "VmInstanceUuidChangedEvent",
+    "VmInstanceUuidConflictEvent",
+    "VmLimitLicense",
+    "VmLogFileInfo",
+    "VmLogFileQuery",
+    "VmMacAssignedEvent",
+    "VmMacChangedEvent",
+    "VmMacConflictEvent",
+    "VmMaxFTRestartCountReached",
+    "VmMaxRestartCountReached",
+    "VmMessageErrorEvent",
+    "VmMessageEvent",
+    "VmMessageWarningEvent",
+    "VmMigratedEvent",
+    "VmMonitorIncompatibleForFaultTolerance",
+    "VmNoCompatibleHostForSecondaryEvent",
+    "VmNoNetworkAccessEvent",
+    "VmNvramFileInfo",
+    "VmNvramFileQuery",
+    "VmOrphanedEvent",
+    "VmPortGroupProfile",
+    "VmPowerOffOnIsolationEvent",
+    "VmPowerOnDisabled",
+    "VmPoweredOffEvent",
+    "VmPoweredOnEvent",
+    "VmPoweringOnWithCustomizedDVPortEvent",
+    "VmPrimaryFailoverEvent",
+    "VmReconfiguredEvent",
+    "VmRegisteredEvent",
+    "VmRelayoutSuccessfulEvent",
+    "VmRelayoutUpToDateEvent",
+    "VmReloadFromPathEvent",
+    "VmReloadFromPathFailedEvent",
+    "VmRelocateFailedEvent",
+    "VmRelocateSpecEvent",
+    "VmRelocatedEvent",
+    "VmRemoteConsoleConnectedEvent",
+    "VmRemoteConsoleDisconnectedEvent",
+    "VmRemovedEvent",
+    "VmRenamedEvent",
+    "VmResettingEvent",
+    "VmResourcePoolMovedEvent",
+    "VmResourceReallocatedEvent",
+    "VmRestartedOnAlternateHostEvent",
+    "VmResumingEvent",
+    "VmSecondaryAddedEvent",
+    "VmSecondaryDisabledBySystemEvent",
+    "VmSecondaryDisabledEvent",
+    "VmSecondaryEnabledEvent",
+    "VmSecondaryStartedEvent",
+    "VmShutdownOnIsolationEvent",
+    "VmShutdownOnIsolationEventOperation",
+    "VmSnapshotFileInfo",
+    "VmSnapshotFileQuery",
+    "VmStartRecordingEvent",
+    "VmStartReplayingEvent",
+    "VmStartingEvent",
+    "VmStartingSecondaryEvent",
+    "VmStaticMacConflictEvent",
+    "VmStoppingEvent",
+    "VmSuspendedEvent",
+    "VmSuspendingEvent",
+    "VmTimedoutStartingSecondaryEvent",
+    "VmToolsUpgradeFault",
+    "VmUnsupportedStartingEvent",
+    "VmUpgradeCompleteEvent",
+    "VmUpgradeFailedEvent",
+    "VmUpgradingEvent",
+    "VmUuidAssignedEvent",
+    "VmUuidChangedEvent",
+    "VmUuidConflictEvent",
+    "VmValidateMaxDevice",
+    "VmWwnAssignedEvent",
+    "VmWwnChangedEvent",
+    "VmWwnConflict",
+    "VmWwnConflictEvent",
+    "VmfsAlreadyMounted",
+    "VmfsAmbiguousMount",
+    "VmfsDatastoreAllExtentOption",
+    "VmfsDatastoreBaseOption",
+    "VmfsDatastoreCreateSpec",
+    "VmfsDatastoreExpandSpec",
+    "VmfsDatastoreExtendSpec",
+    "VmfsDatastoreInfo",
+    "VmfsDatastoreMultipleExtentOption",
+    "VmfsDatastoreOption",
+    "VmfsDatastoreSingleExtentOption",
+    "VmfsDatastoreSpec",
+    "VmfsMountFault",
+    "VmotionInterfaceNotEnabled",
+    "VmwareDistributedVirtualSwitchPvlanPortType",
+    "VmwareDistributedVirtualSwitchPvlanSpec",
+    "VmwareDistributedVirtualSwitchTrunkVlanSpec",
+    "VmwareDistributedVirtualSwitchVlanIdSpec",
+    "VmwareDistributedVirtualSwitchVlanSpec",
+    "VmwareUplinkPortTeamingPolicy",
+    "VnicPortArgument",
+    "VolumeEditorError",
+    "WaitOptions",
+    "WakeOnLanNotSupported",
+    "WakeOnLanNotSupportedByVmotionNIC",
+    "WarningUpgradeEvent",
+    "WeekOfMonth",
+    "WeeklyTaskScheduler",
+    "WillModifyConfigCpuRequirements",
+    "WinNetBIOSConfigInfo"
+  };
+}
@@ -30,19 +30,34 @@ POSSIBILITY OF SUCH DAMAGE.
 package com.vmware.vim25.ws;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.net.HttpURLConnection;
+import java.io.PushbackInputStream;
 import java.net.MalformedURLException;
-import java.net.ProtocolException;
 import java.net.URL;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -68,9 +83,13 @@ public final class WSClient
 {
   private final static String SOAP_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><soapenv:Envelope xmlns:soapenc=\"http://schemas.xmlsoap.org/soap/encoding/\" xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"><soapenv:Body>"; 
   private final static String SOAP_END = "</soapenv:Body></soapenv:Envelope>";
+  private final static byte[] SOAP_HEADER_BYTES = XmlTag.getBytes(SOAP_HEADER);
+  private final static byte[] SOAP_END_BYTES = XmlTag.getBytes(SOAP_END);
   private final static String SOAP_ACTION_HEADER = "SOAPAction";
   private final static String SOAP_ACTION_V40 = "urn:vim25/4.0";
   private final static String SOAP_ACTION_V41 = "urn:vim25/4.1";
+  /** requests smaller than this are not worth compressing */
+  private final static int MIN_COMPRESS_SIZE = 1024;
   
   private URL baseUrl = null;
   private String cookie = null;
@@ -78,6 +97,17 @@ public final class WSClient
   private String soapAction = SOAP_ACTION_V40;
   private int connectTimeout = 0;
   private int readTimeout = 0;
+  private boolean streamParsing = false;
+  private SoapTransport transport = new UrlConnectionTransport();
+  private int maxAsyncRequests = 10;
+  private boolean acceptCompressed = false;
+  private boolean compressRequests = false;
+  private final AtomicLong wireBytesSent = new AtomicLong();
+  private final AtomicLong payloadBytesSent = new AtomicLong();
+  private final AtomicLong wireBytesReceived = new AtomicLong();
+  private final AtomicLong payloadBytesReceived = new AtomicLong();
+  private ExecutorService asyncExecutor = null;
+  private MorInterner morInterner = null;
   
   public WSClient(String serverUrl) throws MalformedURLException 
   {
@@ -120,6 +150,11 @@ public final class WSClient
 
   public Object invoke(String methodName, Argument[] paras, String returnType) throws RemoteException
   {
+    if(streamParsing)
+    {
+      return invokeStreaming(methodName, paras, returnType);
+    }
+    
     Element root = invoke(methodName, paras);
     Element body = (Element) root.elements().get(0);
     Element resp = (Element) body.elements().get(0);
@@ -148,6 +183,7 @@ public final class WSClient
     {
       if(returnType!=null)
       {
+        MorInterner previous = XmlGen.setMorInterner(morInterner);
         try 
         {
           return XmlGen.fromXML(returnType, resp);
@@ -156,6 +192,10 @@ public final class WSClient
         {
           throw new RemoteException("Exception in WSClient.invoke:", e);
         }
+        finally
+        {
+          XmlGen.setMorInterner(previous);
+        }
       }
       else
       {
@@ -164,15 +204,83 @@ public final class WSClient
     }
   }
   
-  public Element invoke(String methodName, Argument[] paras) throws RemoteException
+  /**
+   * Send the request from a pooled thread and return at once. At most 
+   * maxAsyncRequests requests are in flight; the others wait in a queue.
+   * @param callback notified when the invocation ends, can be null
+   */
+  public <T> Future<T> invokeAsync(final String methodName, final Argument[] paras, final String returnType, 
+      final AsyncCallback<T> callback)
   {
-    String soapMsg = createSoapMessage(methodName, paras);
+    Callable<T> call = new Callable<T>()
+    {
+      @SuppressWarnings("unchecked")
+      public T call() throws RemoteException
+      {
+        return (T) invoke(methodName, paras, returnType);
+      }
+    };
+    
+    FutureTask<T> task = new FutureTask<T>(call)
+    {
+      protected void done()
+      {
+        if(callback==null)
+        {
+          return;
+        }
+        try
+        {
+          callback.completed(get());
+        }
+        catch(ExecutionException ee)
+        {
+          callback.failed(ee.getCause());
+        }
+        catch(CancellationException ce)
+        {
+          callback.failed(ce);
+        }
+        catch(InterruptedException ie)
+        { // not possible as the task is done
+          callback.failed(ie);
+        }
+      }
+    };
+    getAsyncExecutor().execute(task);
+    return task;
+  }
+  
+  private synchronized ExecutorService getAsyncExecutor()
+  {
+    if(asyncExecutor==null)
+    {
+      ThreadFactory tf = new ThreadFactory()
+      {
+        private int count = 0;
+        
+        public synchronized Thread newThread(Runnable r)
+        {
+          Thread t = new Thread(r, "WSClient-async-" + (++count));
+          t.setDaemon(true);
+          return t;
+        }
+      };
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(maxAsyncRequests, maxAsyncRequests, 
+          60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), tf);
+      executor.allowCoreThreadTimeOut(true);
+      asyncExecutor = executor;
+    }
+    return asyncExecutor;
+  }
 
+  public Element invoke(String methodName, Argument[] paras) throws RemoteException
+  {
     Element root = null;
     InputStream is = null;
     try 
     {
-      is = post(soapMsg);
+      is = post(methodName, paras);
       SAXReader reader = new SAXReader();
       Document doc = reader.read(is);
 	    root = doc.getRootElement();
@@ -189,13 +297,39 @@ public final class WSClient
     return root;
   }
   
+  /**
+   * Bind the response straight from the HTTP stream with StaxXmlGen
+   * instead of reading it into a dom4j Document first.
+   */
+  private Object invokeStreaming(String methodName, Argument[] paras, String returnType) throws RemoteException
+  {
+    InputStream is = null;
+    try 
+    {
+      is = post(methodName, paras);
+    } catch (Exception e) 
+    {
+      throw new RemoteException("VI SDK invoke exception:" + e);
+    }
+    
+    MorInterner previous = XmlGen.setMorInterner(morInterner);
+    try
+    {
+      return StaxXmlGen.fromSoapResponse(is, returnType);
+    }
+    finally
+    {
+      XmlGen.setMorInterner(previous);
+      if(is!=null) 
+        try { is.close(); } catch(IOException ioe) {}
+    }
+  }
+  
   public StringBuffer invokeAsString(String methodName, Argument[] paras) throws RemoteException
   {
-    String soapMsg = createSoapMessage(methodName, paras);
-
     try 
     {
-      InputStream is = post(soapMsg);
+      InputStream is = post(methodName, paras);
       return readStream(is);
     } catch (Exception e) 
     {
@@ -203,71 +337,128 @@ public final class WSClient
     }
   }
 
-  private String createSoapMessage(String methodName, Argument[] paras)
+  /**
+   * Serialize the request into the UTF-8 buffer of the current thread and 
+   * send it. The buffer is reused by the next request of the thread.
+   */
+  private InputStream post(String methodName, Argument[] paras) throws IOException
   {
-    StringBuffer sb = new StringBuffer();
-    sb.append(SOAP_HEADER);
-
-    sb.append("<" + methodName + vimNameSpace);
-		
-    for(int i=0; i<paras.length; i++)
-    {
-      String key = paras[i].getName();
-      String type = paras[i].getType();
-      Object obj = paras[i].getValue();
-      sb.append(XmlGen.toXML(key, type, obj)); //, null));
+    Utf8Buffer buf = Utf8Buffer.acquire();
+    try
+    {
+      buf.append(SOAP_HEADER_BYTES);
+      buf.appendAscii('<').append(methodName).append(String.valueOf(vimNameSpace));
+      for(int i=0; i<paras.length; i++)
+      {
+        XmlGen.toXML(buf, paras[i].getName(), paras[i].getType(), paras[i].getValue());
+      }
+      buf.append(XmlTag.of(methodName).close);
+      buf.append(SOAP_END_BYTES);
+      return post(buf.getBytes(), buf.size());
+    }
+    finally
+    {
+      buf.release();
     }
-
-    sb.append("</" + methodName + ">");
-    sb.append(SOAP_END);
-    return sb.toString();
   }
   
   public InputStream post(String soapMsg) throws IOException
   {
-    HttpURLConnection postCon = (HttpURLConnection) baseUrl.openConnection();
-    
-    if(connectTimeout > 0)
-      postCon.setConnectTimeout(connectTimeout);
-    if(readTimeout > 0)
-      postCon.setReadTimeout(readTimeout);
-    
-    try {
-        postCon.setRequestMethod("POST");
-    } catch (ProtocolException e) 
+    byte[] body = soapMsg.getBytes("UTF-8");
+    return post(body, body.length);
+  }
+  
+  private InputStream post(byte[] body, int length) throws IOException
+  {
+    Map<String, String> headers = new LinkedHashMap<String, String>();
+    headers.put("Content-Type", "text/xml; charset=utf-8");
+    headers.put(SOAP_ACTION_HEADER, soapAction);
+    if(cookie!=null)
     {
-        e.printStackTrace();
+      headers.put("Cookie", cookie);
     }
-    postCon.setDoOutput(true);
-    postCon.setDoInput(true);
-    postCon.setRequestProperty(SOAP_ACTION_HEADER, soapAction);
-    if(cookie!=null)
+    if(acceptCompressed)
     {
-      postCon.setRequestProperty("Cookie", cookie);
+      headers.put("Accept-Encoding", "gzip, deflate");
     }
+    
+    payloadBytesSent.addAndGet(length);
+    if(compressRequests && length >= MIN_COMPRESS_SIZE)
+    {
+      ByteArrayOutputStream bos = new ByteArrayOutputStream(length / 4);
+      GZIPOutputStream gzos = new GZIPOutputStream(bos);
+      gzos.write(body, 0, length);
+      gzos.close();
+      body = bos.toByteArray();
+      length = body.length;
+      headers.put("Content-Encoding", "gzip");
+    }
+    wireBytesSent.addAndGet(length);
 
-    OutputStream os = postCon.getOutputStream();
-    OutputStreamWriter out = new OutputStreamWriter(os);
-
-    out.write(soapMsg);
-    out.close();
-
-    InputStream is;
+    SoapResponse resp = transport.post(baseUrl, headers, body, length, connectTimeout, readTimeout);
     
-    try
+    if(cookie==null)
     {
-    	is = postCon.getInputStream();
-    } 
-    catch(IOException ioe)
+      cookie = resp.getHeader("Set-Cookie");
+    }
+    return decode(resp);
+  }
+  
+  /**
+   * @return the response body, decompressed on the fly if the server compressed it
+   */
+  private InputStream decode(SoapResponse resp) throws IOException
+  {
+    InputStream is = resp.getInputStream();
+    String encoding = resp.getHeader("Content-Encoding");
+    if(encoding==null || encoding.length()==0 || "identity".equalsIgnoreCase(encoding))
     {
-    	is = postCon.getErrorStream();
+      return new CountingInputStream(is, wireBytesReceived, payloadBytesReceived);
     }
     
-    if(cookie==null)
+    is = new CountingInputStream(is, wireBytesReceived, null);
+    try
     {
-      cookie = postCon.getHeaderField("Set-Cookie");
+      if("gzip".equalsIgnoreCase(encoding) || "x-gzip".equalsIgnoreCase(encoding))
+      {
+        is = new GZIPInputStream(is, 8192);
+      }
+      else if("deflate".equalsIgnoreCase(encoding))
+      {
+        // should be zlib wrapped, but some servers send raw deflate data
+        PushbackInputStream pis = new PushbackInputStream(is, 2);
+        int cmf = pis.read();
+        int flg = pis.read();
+        if(flg != -1)
+        {
+          pis.unread(flg);
+        }
+        if(cmf != -1)
+        {
+          pis.unread(cmf);
+        }
+        boolean zlib = (cmf & 0x0f) == 8 && flg != -1 && ((cmf << 8) + flg) % 31 == 0;
+        final Inflater inflater = new Inflater(!zlib);
+        is = new InflaterInputStream(pis, inflater, 8192)
+        {
+          public void close() throws IOException
+          {
+            super.close();
+            inflater.end();
+          }
+        };
+      }
+      else
+      {
+        throw new IOException("Unsupported Content-Encoding: " + encoding);
+      }
     }
-    return is;
+    catch(IOException ioe)
+    {
+      is.close();
+      throw ioe;
+    }
+    return new CountingInputStream(is, payloadBytesReceived, null);
   }
   
   public URL getBaseUrl()
@@ -320,6 +511,151 @@ public final class WSClient
     return this.readTimeout;
   }
   
+  /**
+   * Switch between the two ways to de-serialize the responses. The default
+   * reads each response into a dom4j Document, while the streaming mode binds
+   * the data objects directly from the HTTP stream with a pull parser, which
+   * keeps the memory footprint low for large responses like RetrieveProperties.
+   * @param streamParsing true to use the streaming mode
+   */
+  public void setStreamParsing(boolean streamParsing)
+  {
+    this.streamParsing = streamParsing;
+  }
+  
+  public boolean isStreamParsing()
+  {
+    return this.streamParsing;
+  }
+  
+  /**
+   * Set how SOAP requests are sent over HTTP. The default is a transport 
+   * based on HttpURLConnection.
+   */
+  public void setTransport(SoapTransport transport)
+  {
+    if(transport==null)
+    {
+      throw new IllegalArgumentException("transport must not be null.");
+    }
+    this.transport = transport;
+  }
+  
+  public SoapTransport getTransport()
+  {
+    return this.transport;
+  }
+  
+  /**
+   * Make the ManagedObjectReferences of the responses canonical instances 
+   * kept by the interner, which are shared and must not be changed.
+   * @param morInterner the interner, or null to create a new instance for each
+   */
+  public void setMorInterner(MorInterner morInterner)
+  {
+    this.morInterner = morInterner;
+  }
+  
+  public MorInterner getMorInterner()
+  {
+    return this.morInterner;
+  }
+  
+  /**
+   * Ask the server to compress the responses with gzip or deflate. They are
+   * decompressed as they are parsed.
+   */
+  public void setAcceptCompressed(boolean acceptCompressed)
+  {
+    this.acceptCompressed = acceptCompressed;
+  }
+  
+  public boolean isAcceptCompressed()
+  {
+    return this.acceptCompressed;
+  }
+  
+  /**
+   * Compress the requests of 1KB or more with gzip. Only use it with a server 
+   * known to accept compressed requests.
+   */
+  public void setCompressRequests(boolean compressRequests)
+  {
+    this.compressRequests = compressRequests;
+  }
+  
+  public boolean isCompressRequests()
+  {
+    return this.compressRequests;
+  }
+  
+  /** @return the bytes of the request bodies as sent, compressed or not */
+  public long getWireBytesSent()
+  {
+    return wireBytesSent.get();
+  }
+  
+  /** @return the bytes of the request bodies before any compression */
+  public long getPayloadBytesSent()
+  {
+    return payloadBytesSent.get();
+  }
+  
+  /** @return the bytes of the response bodies as received, compressed or not */
+  public long getWireBytesReceived()
+  {
+    return wireBytesReceived.get();
+  }
+  
+  /** @return the bytes of the response bodies after decompression */
+  public long getPayloadBytesReceived()
+  {
+    return payloadBytesReceived.get();
+  }
+  
+  public void resetByteCounters()
+  {
+    wireBytesSent.set(0);
+    payloadBytesSent.set(0);
+    wireBytesReceived.set(0);
+    payloadBytesReceived.set(0);
+  }
+  
+  /**
+   * Set how many asynchronous requests can be in flight at the same time. 
+   * It takes effect before the first invokeAsync call.
+   */
+  public synchronized void setMaxAsyncRequests(int maxAsyncRequests)
+  {
+    if(maxAsyncRequests <= 0)
+    {
+      throw new IllegalArgumentException("maxAsyncRequests must be positive.");
+    }
+    this.maxAsyncRequests = maxAsyncRequests;
+  }
+  
+  public synchronized int getMaxAsyncRequests()
+  {
+    return this.maxAsyncRequests;
+  }
+  
+  /**
+   * Stop the threads of the asynchronous requests and close the transport.
+   * The requests still queued are not sent.
+   */
+  public void close()
+  {
+    synchronized(this)
+    {
+      if(asyncExecutor!=null)
+      {
+        asyncExecutor.shutdownNow();
+        asyncExecutor = null;
+      }
+    }
+    transport.close();
+  }
+  
 /*===============================================
    * API versions *   
   "2.0.0"    VI 3.0
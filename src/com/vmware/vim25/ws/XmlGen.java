@@ -31,13 +31,12 @@ package com.vmware.vim25.ws;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.DatatypeConverter;
 
@@ -46,6 +45,7 @@ import org.dom4j.Namespace;
 import org.dom4j.QName;
 
 import com.vmware.vim25.ManagedObjectReference;
+import com.vmware.vim25.ws.TypeBinding.FieldBinding;
 
 /** 
  * The XML serialization/de-serialization engine.
@@ -57,7 +57,6 @@ public final class XmlGen
   private static String PACKAGE_NAME = "com.vmware.vim25";
   private static Namespace XSI = new Namespace("xsi", "http://www.w3.org/2001/XMLSchema-instance");
   private static QName XSI_TYPE = new QName("type", XSI);
-  private static String[] BASIC_TYPES = new String[] {"String", "int", "short", "long", "byte", "boolean", "Boolean", "Calendar"};
 
   public static SoapFaultException parseSoapFault(Element root) throws Exception
   {
@@ -141,17 +140,16 @@ public final class XmlGen
     }
   }
   
-  private static boolean isBasicType(String type)
+  static boolean isBasicType(String type)
   {
-    for(int i=0; i<BASIC_TYPES.length; i++)
+    if(type.endsWith("[]"))
     {
-      if(type.startsWith(BASIC_TYPES[i]))
-        return true;
+      type = type.substring(0, type.length()-2);
     }
-    return false;
+    return BasicType.of(type) != null;
   }
   
-  private final static Set<String> PRIMITIVE_DATA_TYPES = new HashSet<String>();
+  final static Set<String> PRIMITIVE_DATA_TYPES = new HashSet<String>();
   static
   {
 	  PRIMITIVE_DATA_TYPES.add("int");
@@ -161,43 +159,62 @@ public final class XmlGen
 	  PRIMITIVE_DATA_TYPES.add("long");
   }
   
-  private final static Map<String, Class> VimClasses = new HashMap<String, Class>();
+  /** The type registry shared by all the threads. Lookups don't lock. */
+  private final static ConcurrentMap<String, Class> VimClasses = new ConcurrentHashMap<String, Class>();
+  /** the MorInterner of the connection whose response the thread reads */
+  private final static ThreadLocal<MorInterner> MOR_INTERNER = new ThreadLocal<MorInterner>();
   
-  private final static Class getVimClass(String type) 
+  final static Class getVimClass(String type) 
   {
-  	if(VimClasses.containsKey(type))
-  	{
-  		return VimClasses.get(type);
-  	}
-  	else
-  	{
-  		try
-  		{
-  			Class clazz = null;
-      	if(! type.endsWith("[]"))
-      	{
-      	  clazz = Class.forName(PACKAGE_NAME + "." + type);
-      	}
-      	else
-      	{
-      		String compType = type.substring(0, type.length()-2);
-      		clazz = Array.newInstance(getVimClass(compType), 0).getClass();
-      	}
-  			VimClasses.put(type, clazz);
-  			return clazz;
-  		} catch (ClassNotFoundException cnfe)
-  		{
-  			cnfe.printStackTrace();
-  			return null;
-  		}
-  	}
+    Class clazz = VimClasses.get(type);
+    if(clazz != null)
+    {
+      return clazz;
+    }
+    
+    try
+    {
+      if(! type.endsWith("[]"))
+      {
+        clazz = Class.forName(PACKAGE_NAME + "." + type);
+      }
+      else
+      {
+        String compType = type.substring(0, type.length()-2);
+        clazz = Array.newInstance(getVimClass(compType), 0).getClass();
+      }
+      Class existing = VimClasses.putIfAbsent(type, clazz);
+      return existing != null ? existing : clazz;
+    } catch (ClassNotFoundException cnfe)
+    {
+      cnfe.printStackTrace();
+      return null;
+    }
   }
   
-  private final static Package VIM_PKG = ManagedObjectReference.class.getPackage();
+  /**
+   * Load all the data object and enum types into the type registry, and 
+   * build their binding tables, so that no class loading or reflection
+   * happens when the first responses are de-serialized. It's optional 
+   * and can be called at application start up.
+   */
+  public static void preloadVimClasses()
+  {
+    String[] types = VimTypeIndex.TYPES;
+    for(int i=0; i<types.length; i++)
+    {
+      Class clazz = getVimClass(types[i]);
+      if(clazz != null)
+      {
+        TypeBinding.of(clazz);
+      }
+    }
+  }
   
   /** Handle single VIM Data Object except MOR */
   private static Object fromXml(Class clazz, Element node) throws Exception
   {
+    TypeBinding tb = TypeBinding.of(clazz);
     Object obj = clazz.newInstance();
     
     List<Element> subNodes = node.elements();
@@ -208,32 +225,22 @@ public final class XmlGen
       Element e = subNodes.get(i);
       String tagName = e.getName();
       
-      Field field = null;
-      if(PRIMITIVE_DATA_TYPES.contains(tagName))
-      {
-        field = clazz.getField("_" + tagName);
-      }
-      else
-      {
-        field = clazz.getField(tagName);
-      }
-      
-      Class fType = field.getType();
-      boolean isFieldArray = fType.isArray();
-      //if field is an array, adjust it to the component type
-      if(isFieldArray)
-      {
-    	  fType = fType.getComponentType();
-      }
+      FieldBinding fb = tb.getField(tagName);
+      Field field = fb.field;
+      Class fType = fb.type;
+      boolean isFieldArray = fb.isArray;
 
       Class fRealType = fType;
+      int kind = fb.kind;
       String xsiType = e.attributeValue(XSI_TYPE);
       if(xsiType!=null && (!xsiType.startsWith("xsd:")))
       {
-        fRealType = getVimClass(xsiType);
+        TypeBinding realTb = TypeBinding.of(getVimClass(xsiType));
+        fRealType = realTb.clazz;
+        kind = realTb.kind;
       }
       
-      if(fRealType == ManagedObjectReference.class)
+      if(kind == TypeBinding.KIND_MOR)
       { // MOR
         if(isFieldArray)
         {
@@ -252,7 +259,7 @@ public final class XmlGen
           field.set(obj, createMOR(e.attributeValue("type"), e.getText()));
         }
       }
-      else if(fRealType.isEnum())
+      else if(kind == TypeBinding.KIND_ENUM)
       { // Enum type
       	if(!isFieldArray)
       	{
@@ -272,20 +279,18 @@ public final class XmlGen
 	        i = i + sizeOfFieldArray -1;
       	}
       }
-      else if( fRealType.getPackage() == VIM_PKG)
+      else if(kind == TypeBinding.KIND_VIM)
       { //VIM type
         if(isFieldArray)
         {
           int sizeOfFieldArray = getNumberOfSameTags(subNodes, sizeOfSubNodes, i, tagName);
-         // arrayTypeName = arrayTypeName.substring(0, arrayTypeName.length()-2);
           Object ao = Array.newInstance(fType, sizeOfFieldArray);
-          String fGenericType = fType.getSimpleName();
           for(int j=0; j<sizeOfFieldArray; j++)
           {
             Element elem = (Element) subNodes.get(j+i);
             String elemXsiType = elem.attributeValue(XSI_TYPE);
-            String elemType = elemXsiType!=null? elemXsiType : fGenericType;
-            Object o = fromXml(getVimClass(elemType), elem);
+            Class elemClass = elemXsiType!=null? getVimClass(elemXsiType) : fType;
+            Object o = fromXml(elemClass, elem);
             Array.set(ao, j, o);
           }
           field.set(obj, ao);
@@ -299,6 +304,7 @@ public final class XmlGen
       }
       else
       { //basic data type
+        BasicType bt = xsiType!=null ? BasicType.of(xsiType.substring("xsd:".length())) : fb.basicType;
         if(isFieldArray)
         {
           int sizeOfFieldArray = getNumberOfSameTags(subNodes, sizeOfSubNodes, i, tagName);
@@ -308,34 +314,12 @@ public final class XmlGen
           {
             values[j] = ((Element)subNodes.get(j+i)).getText();
           }
-
-          String fTrueType = null;
-          if(xsiType!=null)
-          {
-            fTrueType = xsiType.substring("xsd:".length()) + "[]";
-          }
-          else
-          {
-            fTrueType = fRealType.getSimpleName();
-            if(!fTrueType.endsWith("[]"))
-            {
-              fTrueType = fTrueType + "[]";
-            }
-          }
-          setArrayFieldValue(field, obj, fTrueType, values);
+          setArrayFieldValue(field, obj, bt, values);
           i = i + sizeOfFieldArray -1;
         }
         else
         {
-          if(xsiType!=null)
-          {
-            xsiType = xsiType.substring("xsd:".length());
-            setFieldValue(field, obj, xsiType, e.getText());
-          }
-          else
-          {
-            setFieldValue(field, obj, fRealType.getSimpleName(), e.getText());
-          }
+          setFieldValue(field, obj, bt, e.getText());
         }
       }
     }
@@ -359,212 +343,57 @@ public final class XmlGen
 		return numOfTags;
   }
 
-  private static ManagedObjectReference createMOR(String type, String value)
+  static ManagedObjectReference createMOR(String type, String value)
   {
+    MorInterner interner = MOR_INTERNER.get();
+    if(interner != null)
+    {
+      return interner.intern(type, value);
+    }
     ManagedObjectReference mor = new ManagedObjectReference();
     mor.val = value;
-    mor.type = type;
+    mor.type = MorInterner.internType(type);
     return mor;
   }
   
-  private static byte[] parseByteArray(String[] values)
+  /**
+   * Set the interner of the references deserialized by the current thread.
+   * @return the interner set before
+   */
+  static MorInterner setMorInterner(MorInterner interner)
   {
-    byte[] bs = new byte[values.length];
-    for(int i=0; i< bs.length; i++)
-    {
-      bs[i] = Byte.parseByte(values[i]);
-    }
-    return bs;
-  }
-
-  private static long[] parseLongArray(String[] values)
-  {
-	  long[] ls = new long[values.length];
-	  for(int i=0; i< ls.length; i++)
-	  {
-	    ls[i] = Long.parseLong(values[i]);
-	  }
-	  return ls;
-  }
-
-  private static short[] parseShortArray(String[] values)
-  { 
-	  short[] ss = new short[values.length];
-	  for(int i=0; i< ss.length; i++)
-	  {
-	    ss[i] = Short.parseShort(values[i]);
-	  }
-	  return ss;
-  }
-
-  private static int[] parseIntArray(String[] values)
-  { 
-	  int[] is = new int[values.length];
-	  for(int i=0; i<is.length; i++)
-	  {
-	    is[i] = Integer.parseInt(values[i]);
-	  }
-	  return is;
-  }
-
-  private static boolean[] parseBooleanArray(String[] values)
-  { 
-  	boolean[] bs = new boolean[values.length];
-	  for(int i=0; i< bs.length; i++)
-	  {
-	    bs[i] = Boolean.parseBoolean(values[i]);
-	  }
-	  return bs;
+    MorInterner previous = MOR_INTERNER.get();
+    MOR_INTERNER.set(interner);
+    return previous;
   }
   
-  private static Object parseValue(String type, String[] values) 
+  static Object parseValue(String type, String[] values) 
   {
-    if("String".equals(type) || "string".equals(type))
-    {
-      return values[0];
-    }
-    else if("String[]".equals(type))
-    {
-      return values;
-    }
-    else if("int".equals(type))
-    {
-      return new Integer(values[0]);
-    }
-    else if("int[]".equals(type))
-    {
-      return parseIntArray(values);
-    }
-    else if("short".equals(type))
-    {
-      return new Short(values[0]);
-    }
-    else if("short[]".equals(type))
-    {
-      return parseShortArray(values);
-    }
-    else if("byte".equals(type))
-    {
-      return new Byte(values[0]);
-    }
-    else if("byte[]".equals(type))
-    {
-      return parseByteArray(values);
-    }
-    else if("long".equals(type))
-    {
-      return new Long(values[0]);
-    }
-    else if("long[]".equals(type))
-    {
-      return parseLongArray(values);
-    }
-    else if("boolean".equals(type))
-    {
-      return new Boolean(values[0]);
-    }
-    else if("boolean[]".equals(type))
-    {
-      return parseBooleanArray(values);
-    }
-    else if("Calendar".equals(type)  || "dateTime".equals(type))
-    {
-      Calendar cal = DatatypeConverter.parseTime(values[0]);
-      return cal;
-    }
-    else
+    boolean isArray = type.endsWith("[]");
+    BasicType bt = BasicType.of(isArray ? type.substring(0, type.length()-2) : type);
+    if(bt == null)
     {
       throw new RuntimeException("Unexpected Type@setField: " + type + values[0]);
     }
+    return isArray ? bt.parseArray(values) : bt.parse(values[0]);
   }
   
-  private final static void setFieldValue(Field f, Object obj, String type, String value) throws IllegalArgumentException, IllegalAccessException 
+  final static void setFieldValue(Field f, Object obj, BasicType type, String value) throws IllegalArgumentException, IllegalAccessException 
   {
-    if("String".equals(type) || "string".equals(type))
-    {
-      f.set(obj, value);
-    }
-    else if("int".equals(type))
-    {
-      f.set(obj, Integer.parseInt(value));
-    }
-    else if("Integer".equals(type))
-    {
-      f.set(obj, new Integer(value));
-    }
-    else if("short".equals(type))
-    {
-      f.set(obj, Short.parseShort(value));
-    }
-    else if("Short".equals(type))
-    {
-      f.set(obj, new Short(value));
-    }
-    else if("byte".equals(type))
-    {
-      f.set(obj, Byte.parseByte(value));
-    }
-    else if("Byte".equals(type))
-    {
-      f.set(obj, new Byte(value));
-    }
-    else if("long".equals(type))
-    {
-      f.set(obj, Long.parseLong(value));
-    }
-    else if("Long".equals(type))
-    {
-      f.set(obj, new Long(value));
-    }
-    else if("boolean".equals(type))
-    {
-      f.set(obj, Boolean.parseBoolean(value));
-    }
-    else if("Boolean".equals(type))
-    {
-      f.set(obj, new Boolean(value));
-    }
-    else if("Calendar".equals(type) || "dateTime".equals(type))
-    {
-      Calendar cal = DatatypeConverter.parseTime(value);
-      f.set(obj, cal);
-    }
-    else
+    if(type == null)
     {
       throw new RuntimeException("Unexpected Type@setField: " + f.getType().getCanonicalName() + f.getName());
     }
+    f.set(obj, type.parse(value));
   }
 
-  private static void setArrayFieldValue(Field f, Object obj, String type, String[] values) throws IllegalArgumentException, IllegalAccessException 
+  static void setArrayFieldValue(Field f, Object obj, BasicType type, String[] values) throws IllegalArgumentException, IllegalAccessException 
   {
-    if("String[]".equals(type) || "string[]".equals(type))
-    {
-      f.set(obj, values);
-    }
-    else if("int[]".equals(type))
-    {
-      f.set(obj, parseIntArray(values));
-    }
-    else if("short[]".equals(type))
-    {
-      f.set(obj, parseShortArray(values));
-    }
-    else if("byte[]".equals(type))
-    {
-      f.set(obj, parseByteArray(values));
-    }
-    else if("long[]".equals(type))
-    {
-      f.set(obj, parseLongArray(values));
-    }
-    else if("boolean[]".equals(type))
-    {
-      f.set(obj, parseBooleanArray(values));
-    }
-    else
+    if(type == null || type == BasicType.CALENDAR)
     {
       throw new RuntimeException("Unexpected Type@setField: " + f.getType().getCanonicalName() + f.getName());
     }
+    f.set(obj, type.parseArray(values));
   }
   
   public static String toXML(String tag, String type, Object obj)
@@ -573,25 +402,43 @@ public final class XmlGen
     {
     	return "";
     }
-    StringBuffer sb = new StringBuffer();
+    Utf8Buffer buf = new Utf8Buffer(256);
+    toXML(buf, tag, type, obj);
+    return buf.toString();
+  }
+
+  /**
+   * Serialize straight into UTF-8 bytes, as WSClient does for the requests.
+   */
+  static void toXML(Utf8Buffer buf, String tag, String type, Object obj)
+  {
+    if(obj==null)
+    {
+    	return;
+    }
     if(isBasicType(type))
     {
-    	toXML(sb, tag, obj.getClass(), obj);
+    	toXML(buf, XmlTag.of(tag), obj.getClass(), obj);
     }
     else
     {
     	Class clazz = getVimClass(type);
-    	toXML(sb, tag, clazz, obj);
+    	toXML(buf, XmlTag.of(tag), clazz, obj);
     }
-    return sb.toString();
   }
 
   final static Class INT_ARRAY_CLASS = new int[]{}.getClass();
   final static Class BYTE_ARRAY_CLASS = new byte[]{}.getClass();
   final static Class LONG_ARRAY_CLASS = new long[]{}.getClass();
-  private static void toXML(StringBuffer sb, String tagName, Class type, Object obj)
+  private final static byte[] TYPE_ATTR = XmlTag.getBytes(" type=\"");
+  private final static byte[] XSI_TYPE_ATTR = XmlTag.getBytes(" xsi:type=\"");
+  private final static byte[] ATTR_END = XmlTag.getBytes("\">");
+  private final static byte[] XSI_DATETIME_ATTR = XmlTag.getBytes(" xsi:type=\"xsd:dateTime\">");
+  
+  private static void toXML(Utf8Buffer buf, XmlTag tag, Class type, Object obj)
   {
   	Class<?> clazz = obj.getClass();
+  	TypeBinding tb = TypeBinding.of(clazz);
   	
 	  if(clazz.isArray())
 	  {
@@ -600,9 +447,9 @@ public final class XmlGen
 	  		int[] objs = (int[]) obj;
 	  		for(int i=0; i<objs.length; i++)
 	  		{
-	  			sb.append("<" + tagName +">");
-	  	  	sb.append(objs[i]);
-	  	  	sb.append("</" + tagName + ">");
+	  			buf.append(tag.open);
+	  	  	buf.append(objs[i]);
+	  	  	buf.append(tag.close);
 	  		}
 	  	}
 	  	else if(obj.getClass()== BYTE_ARRAY_CLASS)
@@ -610,9 +457,9 @@ public final class XmlGen
 	  	  byte[] objs = (byte[]) obj;
         for(int i=0; i<objs.length; i++)
         {
-          sb.append("<" + tagName +">");
-          sb.append(objs[i]);
-          sb.append("</" + tagName + ">");
+          buf.append(tag.open);
+          buf.append(objs[i]);
+          buf.append(tag.close);
         }
 	  	}
 	  	else if(obj.getClass() == LONG_ARRAY_CLASS)
@@ -620,9 +467,9 @@ public final class XmlGen
 	  	  long[] objs = (long[]) obj;
         for(int i=0; i<objs.length; i++)
         {
-          sb.append("<" + tagName +">");
-          sb.append(objs[i]);
-          sb.append("</" + tagName + ">");
+          buf.append(tag.open);
+          buf.append(objs[i]);
+          buf.append(tag.close);
         }
 	  	}
 	  	else
@@ -630,58 +477,63 @@ public final class XmlGen
 		    Object[] objs = (Object[]) obj;
 		    for(int i=0; i<objs.length; i++)
 		    {
-		      toXML(sb, tagName, type.getComponentType(), objs[i]);
+		      toXML(buf, tag, type.getComponentType(), objs[i]);
 		    }
 	  	}
 	  }
 	  
 	  // from now on, no array type
-	  else if(clazz == ManagedObjectReference.class)
+	  else if(tb.kind == TypeBinding.KIND_MOR)
 	  { //MOR]
 	  	ManagedObjectReference mor = (ManagedObjectReference) obj;
-	    sb.append("<" + tagName + " type=\"" + mor.type + "\">");
-	    sb.append(mor.val);
-	    sb.append("</" + tagName + ">");
+	    buf.append(tag.start).append(TYPE_ATTR).append(String.valueOf(mor.type)).append(ATTR_END);
+	    buf.append(String.valueOf(mor.val));
+	    buf.append(tag.close);
 	  }
-	  else if(clazz.getCanonicalName().startsWith("java.lang")) //basic data type
+	  else if(tb.kind == TypeBinding.KIND_BASIC) //basic data type
 	  {
 	  	if(clazz!=type)
 	  	{
-	  		sb.append("<" + tagName + " xsi:type=\"" + getXSIType(obj) + "\">");
+	  		buf.append(tag.start).append(XSI_TYPE_ATTR).append(getXSIType(obj)).append(ATTR_END);
 	  	}
 	  	else
 	  	{
-	  		sb.append("<" + tagName +">");
+	  		buf.append(tag.open);
+	  	}
+	  	if(clazz==Integer.class || clazz==Long.class || clazz==Short.class || clazz==Byte.class)
+	  	{
+	  	  buf.append(((Number) obj).longValue());
 	  	}
-	  	sb.append(obj);
-	  	sb.append("</" + tagName + ">");
+	  	else
+	  	{
+	  	  buf.append(obj.toString());
+	  	}
+	  	buf.append(tag.close);
 	  }
-	  else if(clazz.isEnum()) //enum data type
+	  else if(tb.kind == TypeBinding.KIND_ENUM) //enum data type
     {
-	    sb.append("<" + tagName +">" + obj + "</" + tagName + ">");
+	    buf.append(tag.open).append(obj.toString()).append(tag.close);
 	  }
-	  else if (obj instanceof Calendar) 
+	  else if (tb.kind == TypeBinding.KIND_CALENDAR) 
 	  {
-	    sb.append("<" + tagName + " xsi:type=\"xsd:dateTime\">" + DatatypeConverter.printDateTime((Calendar)obj) + "</" + tagName + ">");
+	    buf.append(tag.start).append(XSI_DATETIME_ATTR).append(DatatypeConverter.printDateTime((Calendar)obj)).append(tag.close);
 	  }
 	  else
 	  { // VIM type
 	    if(clazz==type)
 	    {
-	    	sb.append("<" + tagName + ">");
+	    	buf.append(tag.open);
 	    }
 	    else
 	    {
-	    	String nameSpaceType = clazz.getSimpleName();
-	    	sb.append("<" + tagName + " xsi:type=\"" + nameSpaceType + "\">");
+	    	buf.append(tag.start).append(XSI_TYPE_ATTR).append(clazz.getSimpleName()).append(ATTR_END);
 	    }
 	    
-	    Field[] fields = getAllFields(clazz);
+	    FieldBinding[] fields = tb.fields;
 	    
 	    for(int i=0; i<fields.length; i++)
 	    {
-	      Field f = fields[i];
-	      String fName = f.getName();
+	      Field f = fields[i].field;
 	      
 	      Object value  = null;
 	      try
@@ -697,9 +549,9 @@ public final class XmlGen
 	      }
 	
 	      Class<?> fType = f.getType();
-	      toXML(sb, fName, fType, value);
+	      toXML(buf, fields[i].tag, fType, value);
 	    }
-	    sb.append("</" + tagName + ">");
+	    buf.append(tag.close);
 	  }
   }
   
@@ -743,29 +595,5 @@ public final class XmlGen
 		  throw new RuntimeException("Unknow data type during serialization:" + type);
 	  }
   }
-
-  private static Field[] getAllFields(Class<?> c)
-  {
-    Field[] fields = null;
-    ArrayList<Field> al = new ArrayList<Field>();
-    getAllFields(c, al);
-    fields = new Field[al.size()];
-    al.toArray(fields);
-    return fields;
-  }
-  
-  private static void getAllFields(Class<?> clazz, ArrayList<Field> al)
-  {
-    Class<?> supClazz = clazz.getSuperclass();
-    if(supClazz!=null)
-    {
-      getAllFields(supClazz, al);
-    }
-    Field[] fs = clazz.getDeclaredFields(); 
-    for(int i=0; i<fs.length; i++)
-    {
-      al.add(fs[i]);
-    }
-  }
   
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+/*================================================================================
+Copyright (c) 2009 VMware, Inc. All Rights Reserved.
+
+Redistribution and use in source and binary forms, with or without modification, 
+are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, 
+this list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice, 
+this list of conditions and the following disclaimer in the documentation 
+and/or other materials provided with the distribution.
+
+* Neither the name of VMware, Inc. nor the names of its contributors may be used
+to endorse or promote products derived from this software without specific prior 
+written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+IN NO EVENT SHALL VMWARE, INC. OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, 
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT 
+LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+POSSIBILITY OF SUCH DAMAGE.
+================================================================================*/
+
+package com.vmware.vim25.ws;
+
+import java.io.UnsupportedEncodingException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/** 
+ * The UTF-8 bytes of an element's tags, computed once per tag name.
+ * @author Steve Jin (sjin@vmware.com)
+*/ 
+
+final class XmlTag
+{
+  private final static ConcurrentMap<String, XmlTag> TAGS = new ConcurrentHashMap<String, XmlTag>();
+  
+  /** &lt;name&gt; */
+  final byte[] open;
+  /** &lt;name followed by attributes */
+  final byte[] start;
+  /** &lt;/name&gt; */
+  final byte[] close;
+  
+  static XmlTag of(String name)
+  {
+    XmlTag tag = TAGS.get(name);
+    if(tag == null)
+    {
+      tag = new XmlTag(name);
+      XmlTag existing = TAGS.putIfAbsent(name, tag);
+      if(existing != null)
+      {
+        tag = existing;
+      }
+    }
+    return tag;
+  }
+  
+  private XmlTag(String name)
+  {
+    open = getBytes("<" + name + ">");
+    start = getBytes("<" + name);
+    close = getBytes("</" + name + ">");
+  }
+  
+  static byte[] getBytes(String str)
+  {
+    try
+    {
+      return str.getBytes("UTF-8");
+    } 
+    catch (UnsupportedEncodingException uee)
+    {
+      throw new RuntimeException(uee);
+    }
+  }
+}